@@ -0,0 +1,87 @@
+#!/usr/bin/env python3
+"""Compare JMH JSON results (-rf json) against the baselines and flag regressions.
+
+    python3 compare.py current.json                       # against baselines/*.json
+    python3 compare.py current.json --baseline old.json --threshold 15
+
+A benchmark regresses when it is worse than the baseline by more than --threshold
+percent *and* the difference is larger than the two scores' error margins combined
+(when JMH reported them). "Worse" means slower for avgt/sample/ss modes and lower
+for thrpt. Exits with 1 if anything regressed, so it can gate a CI step.
+"""
+
+import argparse
+import glob
+import json
+import math
+import os
+import sys
+
+LOWER_IS_BETTER = {"avgt", "sample", "ss"}
+
+
+def load(paths):
+    results = {}
+    for path in paths:
+        with open(path, encoding="utf-8") as f:
+            for run in json.load(f):
+                params = run.get("params") or {}
+                key = ".".join(run["benchmark"].split(".")[-2:])
+                if params:
+                    key += " [" + ", ".join(f"{k}={v}" for k, v in sorted(params.items())) + "]"
+                metric = run["primaryMetric"]
+                results[key] = {
+                    "mode": run["mode"],
+                    "score": metric["score"],
+                    "error": metric.get("scoreError"),
+                    "unit": metric["scoreUnit"],
+                }
+    return results
+
+
+def margin(value):
+    return 0.0 if value is None or value == "NaN" or math.isnan(float(value)) else float(value)
+
+
+def main():
+    here = os.path.dirname(os.path.abspath(__file__))
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("current", nargs="+", help="JMH JSON result file(s) of the new run")
+    parser.add_argument("--baseline", nargs="+", default=sorted(glob.glob(os.path.join(here, "baselines", "*.json"))),
+                        help="baseline JSON file(s), default: baselines/*.json")
+    parser.add_argument("--threshold", type=float, default=10.0, help="allowed slowdown in percent (default 10)")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+    regressions = 0
+
+    print(f"{'benchmark':<72} {'baseline':>12} {'current':>12} {'change':>8}  unit")
+    for key in sorted(current):
+        new = current[key]
+        old = baseline.get(key)
+        if old is None:
+            print(f"{key:<72} {'-':>12} {new['score']:>12.3f} {'new':>8}  {new['unit']}")
+            continue
+        if old["unit"] != new["unit"] or old["mode"] != new["mode"]:
+            print(f"{key:<72} unit/mode changed ({old['mode']} {old['unit']} -> {new['mode']} {new['unit']}), skipped")
+            continue
+        change = (new["score"] - old["score"]) * 100.0 / old["score"] if old["score"] else 0.0
+        worse = change if new["mode"] in LOWER_IS_BETTER else -change
+        significant = abs(new["score"] - old["score"]) > margin(old["error"]) + margin(new["error"])
+        flag = ""
+        if worse > args.threshold and significant:
+            flag = "  REGRESSION"
+            regressions += 1
+        elif worse < -args.threshold and significant:
+            flag = "  improved"
+        print(f"{key:<72} {old['score']:>12.3f} {new['score']:>12.3f} {change:>+7.1f}%  {new['unit']}{flag}")
+
+    if regressions:
+        print(f"\n{regressions} benchmark(s) regressed by more than {args.threshold:.0f}%")
+        return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,244 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.enums.ItemCategory;
+import com.example.demo.model.Order;
+import com.example.demo.model.OrderItem;
+import com.example.demo.model.Product;
+import com.example.demo.model.User;
+import com.example.demo.service.SalesSummaryAggregate;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bir yıllık sentetik sipariş (365 gün x ~150 sipariş, ~300 ürün, 25 garson) üzerinde özet toplamı:
+ * HashMap<Long, ...> tabanlı eski SalesSummaryAggregate (HashMapSummaryAggregate) ile LongKeyedAccumulator
+ * tabanlı güncel hali. İki senaryo ölçülür: tüm yılın tek seferde toplanması ve yıllık özetin günlük
+ * parçalardan merge ile üretilmesi (DailySalesSummaryJobService'in yaptığı gibi).
+ *
+ * Asıl fark tahsiste (allocation) görülür; -prof gc ile gc.alloc.rate.norm (B/op) ve gc.count okunur,
+ * JFR kaydı için -prof jfr kullanılabilir (bkz. README).
+ *
+ * Setup, ölçümden önce iki yolun aynı sonucu verdiğini (toplamlar, kategori, ürün sırası ve garson
+ * sıralaması dahil) rastgele veri kümeleri ve yıllık veri üzerinde doğrular; fark varsa IllegalStateException.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class AggregationMapBenchmark {
+
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+    private static final int DAYS = 365;
+
+    private List<List<Order>> days;
+    private List<Order> year;
+    // Sipariş id -> müşteri anahtarı; string üretimi ölçüme karışmasın diye önceden hazırlanır
+    private String[] customerKeys;
+
+    @Setup
+    public void setup() {
+        verifyEquivalence();
+        Random random = new Random(42);
+        days = randomDays(random, DAYS, 150, 300, 25);
+        year = new ArrayList<>();
+        days.forEach(year::addAll);
+        customerKeys = customerKeys(random, year.size());
+        compare("year", HashMapSummaryAggregate.of(year, this::customerKey), SalesSummaryAggregate.of(year, this::customerKey));
+    }
+
+    @Benchmark
+    public HashMapSummaryAggregate hashMapYear() {
+        return HashMapSummaryAggregate.of(year, this::customerKey);
+    }
+
+    @Benchmark
+    public SalesSummaryAggregate accumulatorYear() {
+        return SalesSummaryAggregate.of(year, this::customerKey);
+    }
+
+    @Benchmark
+    public HashMapSummaryAggregate hashMapDailyMerge() {
+        HashMapSummaryAggregate total = new HashMapSummaryAggregate();
+        for (List<Order> day : days) {
+            total.merge(HashMapSummaryAggregate.of(day, this::customerKey));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public SalesSummaryAggregate accumulatorDailyMerge() {
+        SalesSummaryAggregate total = new SalesSummaryAggregate();
+        for (List<Order> day : days) {
+            total.merge(SalesSummaryAggregate.of(day, this::customerKey));
+        }
+        return total;
+    }
+
+    private String customerKey(Order order) {
+        return customerKeys[(int) (order.getId() - 1)];
+    }
+
+    // ==================== Eşdeğerlik kontrolü ====================
+
+    private static void verifyEquivalence() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            List<List<Order>> sample = randomDays(random, 1 + random.nextInt(10), 1 + random.nextInt(80),
+                    1 + random.nextInt(200), 1 + random.nextInt(20));
+            List<Order> all = new ArrayList<>();
+            sample.forEach(all::addAll);
+            String[] keys = customerKeys(random, all.size());
+
+            HashMapSummaryAggregate expected = HashMapSummaryAggregate.of(all, order -> keys[(int) (order.getId() - 1)]);
+            SalesSummaryAggregate whole = SalesSummaryAggregate.of(all, order -> keys[(int) (order.getId() - 1)]);
+            SalesSummaryAggregate merged = new SalesSummaryAggregate();
+            for (List<Order> day : sample) {
+                merged.merge(SalesSummaryAggregate.of(day, order -> keys[(int) (order.getId() - 1)]));
+            }
+            compare("round " + round, expected, whole);
+            compare("round " + round + " (merged)", expected, merged);
+        }
+        if (new SalesSummaryAggregate().getMostPopularProductId().isPresent()) {
+            throw new IllegalStateException("empty aggregate has a most popular product");
+        }
+    }
+
+    private static void compare(String where, HashMapSummaryAggregate expected, SalesSummaryAggregate actual) {
+        check(where, "totalRevenueCents", expected.getTotalRevenueCents(), actual.getTotalRevenueCents());
+        check(where, "totalOrders", expected.getTotalOrders(), actual.getTotalOrders());
+        check(where, "totalCustomers", expected.getTotalCustomers(), actual.getTotalCustomers());
+        check(where, "distinctProducts", expected.getDistinctProductCount(), actual.getDistinctProductCount());
+
+        Map<ItemCategory, BigDecimal> categories = actual.getSalesByCategory();
+        check(where, "categories", expected.getSalesByCategory().keySet(), categories.keySet());
+        expected.getSalesByCategory().forEach((category, amount) ->
+                check(where, "category " + category, 0, amount.compareTo(categories.get(category))));
+
+        List<HashMapSummaryAggregate.ProductTotals> expectedProducts = expected.getTopProducts(Integer.MAX_VALUE);
+        List<SalesSummaryAggregate.ProductTotals> products = actual.getTopProducts(Integer.MAX_VALUE);
+        for (int i = 0; i < expectedProducts.size(); i++) {
+            HashMapSummaryAggregate.ProductTotals e = expectedProducts.get(i);
+            SalesSummaryAggregate.ProductTotals a = products.get(i);
+            // Eşit miktarlı ürünlerin sırası iki yapıda farklı olabilir; miktar sırası aynı olmalı
+            check(where, "product quantity #" + i, e.getTotalQuantity(), a.getTotalQuantity());
+        }
+        Map<Long, SalesSummaryAggregate.ProductTotals> productsById = new HashMap<>();
+        products.forEach(product -> productsById.put(product.getProductId(), product));
+        for (HashMapSummaryAggregate.ProductTotals e : expectedProducts) {
+            SalesSummaryAggregate.ProductTotals a = productsById.get(e.getProductId());
+            check(where, "product " + e.getProductId(), e.getProductName(), a.getProductName());
+            check(where, "product quantity " + e.getProductId(), e.getTotalQuantity(), a.getTotalQuantity());
+            check(where, "product orders " + e.getProductId(), e.getOrderCount(), a.getOrderCount());
+            check(where, "product revenue " + e.getProductId(), e.getTotalRevenue(), a.getTotalRevenue());
+        }
+        // Eşitlikte seçilen ürün HashMap sırasına bağlıydı; seçilen ürünün miktarı aynı olmalı
+        check(where, "mostPopular", quantity(productsById, expected.getMostPopularProductId()),
+                quantity(productsById, actual.getMostPopularProductId()));
+        check(where, "leastPopular", quantity(productsById, expected.getLeastPopularProductId()),
+                quantity(productsById, actual.getLeastPopularProductId()));
+
+        List<HashMapSummaryAggregate.EmployeeTotals> expectedEmployees = expected.getEmployeesByRevenue();
+        List<SalesSummaryAggregate.EmployeeTotals> employees = actual.getEmployeesByRevenue();
+        check(where, "employees", expectedEmployees.size(), employees.size());
+        for (int i = 0; i < expectedEmployees.size(); i++) {
+            HashMapSummaryAggregate.EmployeeTotals e = expectedEmployees.get(i);
+            SalesSummaryAggregate.EmployeeTotals a = employees.get(i);
+            check(where, "employee revenue #" + i, e.getTotalRevenueCents(), a.getTotalRevenueCents());
+        }
+        Map<Long, SalesSummaryAggregate.EmployeeTotals> employeesById = new HashMap<>();
+        employees.forEach(employee -> employeesById.put(employee.getEmployeeId(), employee));
+        for (HashMapSummaryAggregate.EmployeeTotals e : expectedEmployees) {
+            SalesSummaryAggregate.EmployeeTotals a = employeesById.get(e.getEmployeeId());
+            check(where, "employee " + e.getEmployeeId(), e.getEmployeeName(), a.getEmployeeName());
+            check(where, "employee orders " + e.getEmployeeId(), e.getTotalOrders(), a.getTotalOrders());
+            check(where, "employee items " + e.getEmployeeId(), e.getTotalItemsSold(), a.getTotalItemsSold());
+        }
+    }
+
+    private static Integer quantity(Map<Long, SalesSummaryAggregate.ProductTotals> productsById, Optional<Long> productId) {
+        return productId.map(id -> productsById.get(id).getTotalQuantity()).orElse(null);
+    }
+
+    private static void check(String where, String what, Object expected, Object actual) {
+        if (!Objects.equals(expected, actual)) {
+            throw new IllegalStateException(where + ": " + what + " expected " + expected + " but was " + actual);
+        }
+    }
+
+    // ==================== Veri ====================
+
+    private static String[] customerKeys(Random random, int orderCount) {
+        // Müşterilerin bir kısmı tekrar gelir (HyperLogLog tahmini iki yolda aynı girdiyi görmeli)
+        String[] keys = new String[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            keys[i] = "customer:" + random.nextInt(Math.max(1, orderCount / 3));
+        }
+        return keys;
+    }
+
+    /**
+     * Gün gün siparişler; ürün ve garson nesneleri günler arasında paylaşılır, sipariş id'leri 1'den ardışıktır.
+     */
+    private static List<List<Order>> randomDays(Random random, int dayCount, int ordersPerDay, int productCount, int waiterCount) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            Product product = new Product();
+            product.setId(1_000L + i * 7L);
+            product.setName("Ürün " + (i + 1));
+            // Kategorisiz ürünler de olur (kategori toplamında null anahtar)
+            product.setCategory(random.nextInt(40) == 0 ? null : CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            product.setPrice(BigDecimal.valueOf(500 + random.nextInt(120_000), 2));
+            products.add(product);
+        }
+        List<User> waiters = new ArrayList<>();
+        for (int i = 0; i < waiterCount; i++) {
+            User waiter = new User();
+            waiter.setId((long) i + 1);
+            waiter.setName("Garson " + (i + 1));
+            waiters.add(waiter);
+        }
+
+        List<List<Order>> result = new ArrayList<>(dayCount);
+        long orderId = 1;
+        for (int d = 0; d < dayCount; d++) {
+            int count = Math.max(1, ordersPerDay - ordersPerDay / 5 + random.nextInt(ordersPerDay / 5 * 2 + 1));
+            List<Order> day = new ArrayList<>(count);
+            for (int o = 0; o < count; o++) {
+                Order order = new Order();
+                order.setId(orderId++);
+                order.setUser(waiters.get(random.nextInt(waiters.size())));
+                BigDecimal total = BigDecimal.ZERO;
+                int lines = 1 + random.nextInt(8);
+                for (int l = 0; l < lines; l++) {
+                    // Menünün ilk üçte biri siparişlerin yarısını alır
+                    Product product = products.get(random.nextBoolean()
+                            ? random.nextInt(Math.max(1, products.size() / 3))
+                            : random.nextInt(products.size()));
+                    OrderItem item = new OrderItem();
+                    item.setOrder(order);
+                    item.setProduct(product);
+                    item.setQuantity(1 + random.nextInt(4));
+                    item.setUnitPrice(product.getPrice());
+                    item.setTotalPrice(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+                    order.getItems().add(item);
+                    total = total.add(item.getTotalPrice());
+                }
+                order.setTotalPrice(total);
+                day.add(order);
+            }
+            result.add(day);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.utils.BDH;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BDH yardımcıları, sipariş tamamlanırken stok düşümündeki kullanım şekliyle: kalem başına
+ * mult(birim miktar, adet), lessThan(stok, gereken), subtract ve -adet ile hareket kaydı.
+ * Bir ölçüm 64 reçete satırıdır (ortalama bir akşam siparişinin ~8 kalem x 8 malzemesi).
+ * divide ayrıca ölçülür; analitikteki ortalama hesaplarında kullanılır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BdhBenchmark {
+
+    private static final int LINES = 64;
+
+    private final BigDecimal[] perUnit = new BigDecimal[LINES];
+    private final BigDecimal[] stock = new BigDecimal[LINES];
+    private final int[] quantity = new int[LINES];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < LINES; i++) {
+            perUnit[i] = BigDecimal.valueOf(50 + random.nextInt(4_950), 4);
+            stock[i] = BigDecimal.valueOf(10_000 + random.nextInt(500_000), 4);
+            quantity[i] = 1 + random.nextInt(4);
+        }
+    }
+
+    @Benchmark
+    public void stockDeduction(Blackhole bh) {
+        for (int i = 0; i < LINES; i++) {
+            BigDecimal required = BDH.mult(perUnit[i], quantity[i]);
+            if (BDH.lessThan(stock[i], required)) {
+                bh.consume(required);
+                continue;
+            }
+            bh.consume(BDH.subtract(stock[i], required));
+            bh.consume(BDH.mult(perUnit[i], -quantity[i]));
+        }
+    }
+
+    @Benchmark
+    public void divide(Blackhole bh) {
+        for (int i = 0; i < LINES; i++) {
+            bh.consume(BDH.divide(stock[i], perUnit[i]));
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.enums.ItemCategory;
+import com.example.demo.model.Order;
+import com.example.demo.model.OrderItem;
+import com.example.demo.model.Product;
+import com.example.demo.model.User;
+import com.example.demo.utils.HyperLogLog;
+import com.example.demo.utils.MoneyCents;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * AggregationMapBenchmark için karşılaştırma kopyası: SalesSummaryAggregate'in LongKeyedAccumulator'dan önceki
+ * hali (HashMap<Long, ProductTotals>, HashMap<Long, EmployeeTotals>, HashMap<ItemCategory, long[]>;
+ * merge'de satır başına copy()). Hesaplar birebir aynıdır, yalnızca veri yapıları farklıdır.
+ */
+final class HashMapSummaryAggregate {
+
+    private long totalRevenueCents;
+    private int totalOrders;
+    private int totalReservations;
+    private final HyperLogLog customers = new HyperLogLog();
+    private final Map<Long, ProductTotals> products = new HashMap<>();
+    // Kategori başına tek elemanlı kuruş sayacı: merge sırasında kutulama (boxing) yok
+    private final Map<ItemCategory, long[]> salesByCategory = new HashMap<>();
+    private final Map<Long, EmployeeTotals> employees = new HashMap<>();
+
+    /**
+     * @param customerKey siparişin müşteri kimliği (bkz. CustomerIdentityResolver)
+     */
+    public static HashMapSummaryAggregate of(List<Order> orders, Function<Order, String> customerKey) {
+        HashMapSummaryAggregate aggregate = new HashMapSummaryAggregate();
+        orders.forEach(order -> aggregate.addOrder(order, customerKey.apply(order)));
+        return aggregate;
+    }
+
+    public void addOrder(Order order, String customerKey) {
+        customers.add(customerKey);
+        long orderCents = MoneyCents.of(order.getTotalAmount());
+        totalRevenueCents = MoneyCents.add(totalRevenueCents, orderCents);
+        totalOrders++;
+
+        int itemsInOrder = 0;
+        for (OrderItem item : order.getItems()) {
+            Product product = item.getProduct();
+            itemsInOrder += item.getQuantity();
+
+            ProductTotals totals = products.computeIfAbsent(product.getId(),
+                    id -> new ProductTotals(id, product.getName()));
+            totals.totalQuantity += item.getQuantity();
+            totals.totalRevenueCents = MoneyCents.add(totals.totalRevenueCents, MoneyCents.of(item.getTotalPrice()));
+            totals.orderCount++;
+
+            // Kategori satışları ürünün güncel fiyatı üzerinden hesaplanır (mevcut rapor davranışı)
+            long[] category = salesByCategory.computeIfAbsent(product.getCategory(), c -> new long[1]);
+            category[0] = MoneyCents.add(category[0], MoneyCents.times(MoneyCents.of(product.getPrice()), item.getQuantity()));
+        }
+
+        User user = order.getUser();
+        if (user != null) {
+            EmployeeTotals employee = employees.computeIfAbsent(user.getId(),
+                    id -> new EmployeeTotals(id, user.getName()));
+            employee.totalOrders++;
+            employee.totalRevenueCents = MoneyCents.add(employee.totalRevenueCents, orderCents);
+            employee.totalItemsSold += itemsInOrder;
+        }
+    }
+
+    public void addReservations(int count) {
+        totalReservations += count;
+    }
+
+    /**
+     * Başka bir parçayı bu toplama ekler. İşlem birleşme sırasından bağımsızdır.
+     */
+    public HashMapSummaryAggregate merge(HashMapSummaryAggregate other) {
+        totalRevenueCents = MoneyCents.add(totalRevenueCents, other.totalRevenueCents);
+        totalOrders += other.totalOrders;
+        totalReservations += other.totalReservations;
+        customers.merge(other.customers);
+        other.products.forEach((id, p) -> products.merge(id, p.copy(), ProductTotals::add));
+        other.salesByCategory.forEach((category, cents) -> {
+            long[] target = salesByCategory.computeIfAbsent(category, c -> new long[1]);
+            target[0] = MoneyCents.add(target[0], cents[0]);
+        });
+        other.employees.forEach((id, e) -> employees.merge(id, e.copy(), EmployeeTotals::add));
+        return this;
+    }
+
+    public boolean hasOrders() {
+        return totalOrders > 0;
+    }
+
+    public BigDecimal getTotalRevenue() { return MoneyCents.toBigDecimal(totalRevenueCents); }
+    public long getTotalRevenueCents() { return totalRevenueCents; }
+    public int getTotalOrders() { return totalOrders; }
+    public int getTotalReservations() { return totalReservations; }
+    public int getTotalCustomers() { return (int) customers.estimate(); }
+    public byte[] getCustomerSketch() { return customers.toBytes(); }
+    public int getDistinctProductCount() { return products.size(); }
+
+    public Map<ItemCategory, BigDecimal> getSalesByCategory() {
+        Map<ItemCategory, BigDecimal> result = new HashMap<>();
+        salesByCategory.forEach((category, cents) -> result.put(category, MoneyCents.toBigDecimal(cents[0])));
+        return result;
+    }
+
+    public Optional<Long> getMostPopularProductId() {
+        return products.values().stream()
+                .max(Comparator.comparingInt(ProductTotals::getTotalQuantity))
+                .map(ProductTotals::getProductId);
+    }
+
+    public Optional<Long> getLeastPopularProductId() {
+        return products.values().stream()
+                .min(Comparator.comparingInt(ProductTotals::getTotalQuantity))
+                .map(ProductTotals::getProductId);
+    }
+
+    /**
+     * Miktara göre azalan sırada ilk N ürün
+     */
+    public List<ProductTotals> getTopProducts(int limit) {
+        return products.values().stream()
+                .sorted((a, b) -> Integer.compare(b.getTotalQuantity(), a.getTotalQuantity()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gelire göre azalan sırada çalışan istatistikleri
+     */
+    public List<EmployeeTotals> getEmployeesByRevenue() {
+        return employees.values().stream()
+                .sorted((a, b) -> Long.compare(b.totalRevenueCents, a.totalRevenueCents))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Ürün bazlı toplamlar (top products JSON formatıyla birebir aynı alanlar)
+     */
+    public static class ProductTotals {
+        private final Long productId;
+        private final String productName;
+        private int totalQuantity;
+        private long totalRevenueCents;
+        private int orderCount;
+
+        ProductTotals(Long productId, String productName) {
+            this.productId = productId;
+            this.productName = productName;
+        }
+
+        ProductTotals copy() {
+            ProductTotals copy = new ProductTotals(productId, productName);
+            copy.totalQuantity = totalQuantity;
+            copy.totalRevenueCents = totalRevenueCents;
+            copy.orderCount = orderCount;
+            return copy;
+        }
+
+        ProductTotals add(ProductTotals other) {
+            totalQuantity += other.totalQuantity;
+            totalRevenueCents = MoneyCents.add(totalRevenueCents, other.totalRevenueCents);
+            orderCount += other.orderCount;
+            return this;
+        }
+
+        public Long getProductId() { return productId; }
+        public String getProductName() { return productName; }
+        public int getTotalQuantity() { return totalQuantity; }
+        public BigDecimal getTotalRevenue() { return MoneyCents.toBigDecimal(totalRevenueCents); }
+        public int getOrderCount() { return orderCount; }
+    }
+
+    /**
+     * Çalışan (garson) bazlı toplamlar
+     */
+    public static class EmployeeTotals {
+        private final Long employeeId;
+        private final String employeeName;
+        private int totalOrders;
+        private long totalRevenueCents;
+        private int totalItemsSold;
+
+        EmployeeTotals(Long employeeId, String employeeName) {
+            this.employeeId = employeeId;
+            this.employeeName = employeeName;
+        }
+
+        EmployeeTotals copy() {
+            EmployeeTotals copy = new EmployeeTotals(employeeId, employeeName);
+            copy.totalOrders = totalOrders;
+            copy.totalRevenueCents = totalRevenueCents;
+            copy.totalItemsSold = totalItemsSold;
+            return copy;
+        }
+
+        EmployeeTotals add(EmployeeTotals other) {
+            totalOrders += other.totalOrders;
+            totalRevenueCents = MoneyCents.add(totalRevenueCents, other.totalRevenueCents);
+            totalItemsSold += other.totalItemsSold;
+            return this;
+        }
+
+        public Long getEmployeeId() { return employeeId; }
+        public String getEmployeeName() { return employeeName; }
+        public int getTotalOrders() { return totalOrders; }
+        public BigDecimal getTotalRevenue() { return MoneyCents.toBigDecimal(totalRevenueCents); }
+        public long getTotalRevenueCents() { return totalRevenueCents; }
+        public int getTotalItemsSold() { return totalItemsSold; }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil: JwtAuthenticationFilter her istekte extractUsername + validateToken çağırır; ikisi de token'ı
+ * baştan parse edip imzayı doğrular. generateToken login başına bir kez çalışır.
+ * Secret ve süre application.properties'teki değerlerle aynıdır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil();
+        PrivateAccess.setField(jwtUtil, "secretKey", "MySuperSecureJwtSecretKey1234567890!!!");
+        PrivateAccess.setField(jwtUtil, "jwtExpirationMs", 86_400_000);
+        userDetails = new User("waiter01@restoran.local", "x", List.of(new SimpleGrantedAuthority("ROLE_WAITER")));
+        token = jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    /**
+     * Filtrenin istek başına yaptığı iş: kullanıcı adını çıkar, sonra doğrula.
+     */
+    @Benchmark
+    public boolean authenticateRequest() {
+        String username = jwtUtil.extractUsername(token);
+        return username != null && jwtUtil.validateToken(token, userDetails);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.demo.dto.request.ReservationRequestDTO;
+import com.example.demo.logging.SamplingTurboFilter;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tek bir rezervasyon isteğinin loglama maliyeti (~15 satır), 4 eşzamanlı istek thread'iyle:
+ * <ul>
+ *   <li>LEGACY_STDOUT: eski hal; System.out.println + string birleştirme, seviye kontrolü yok</li>
+ *   <li>SYNC_DEBUG: SLF4J ama eski ayarlar; DEBUG açık, senkron konsol appender</li>
+ *   <li>ASYNC_SAMPLED: yeni hal; INFO, logback-spring.xml'deki AsyncAppender + SamplingTurboFilter, MDC request id</li>
+ * </ul>
+ * Çıktı /dev/null'a yazılır; gerçek terminal veya dosyada senkron yolların farkı daha da büyür.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    public enum Mode { LEGACY_STDOUT, SYNC_DEBUG, ASYNC_SAMPLED }
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%X{requestId:-}] [%t] %logger{39} : %m%n";
+
+    @Param({"LEGACY_STDOUT", "SYNC_DEBUG", "ASYNC_SAMPLED"})
+    public Mode mode;
+
+    private final AtomicLong requestSequence = new AtomicLong();
+
+    private LoggerContext context;
+    private OutputStream sink;
+    private PrintStream legacyOut;
+    private Logger controllerLog;
+    private Logger serviceLog;
+    private ReservationRequestDTO request;
+
+    @Setup
+    public void setup() throws FileNotFoundException {
+        File devNull = new File("/dev/null");
+        sink = devNull.exists() ? new FileOutputStream(devNull) : OutputStream.nullOutputStream();
+        legacyOut = new PrintStream(sink, true);
+
+        request = new ReservationRequestDTO();
+        request.setCustomerName("Ayşe Yılmaz");
+        request.setCustomerPhone("05551234567");
+        request.setReservationDate(LocalDate.of(2026, 5, 14));
+        request.setReservationTime(LocalTime.of(19, 30));
+        request.setTableId(12);
+        request.setEmail("ayse@example.com");
+        request.setSpecialRequests("Pencere kenarı");
+
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> console = new OutputStreamAppender<>();
+        console.setContext(context);
+        console.setName("CONSOLE");
+        console.setEncoder(encoder);
+        console.setOutputStream(sink);
+        console.start();
+
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        Appender<ILoggingEvent> target = console;
+        if (mode == Mode.ASYNC_SAMPLED) {
+            SamplingTurboFilter sampling = new SamplingTurboFilter();
+            sampling.setContext(context);
+            sampling.addRule(rule("com.example.demo.controller", "INFO", 1, 100));
+            sampling.addRule(rule("com.example.demo.service", "INFO", 1, 200));
+            sampling.start();
+            context.addTurboFilter(sampling);
+
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1024);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(console);
+            async.start();
+            target = async;
+            root.setLevel(Level.INFO);
+        } else {
+            root.setLevel(Level.DEBUG);
+        }
+        root.addAppender(target);
+
+        controllerLog = LoggerFactory.getLogger("com.example.demo.controller.ReservationController");
+        serviceLog = LoggerFactory.getLogger("com.example.demo.service.ReservationService");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        context.stop();
+        legacyOut.flush();
+        sink.close();
+    }
+
+    @Benchmark
+    public void request() {
+        if (mode == Mode.LEGACY_STDOUT) {
+            legacyRequest();
+        } else {
+            structuredRequest();
+        }
+    }
+
+    // Dönüşüm öncesi ReservationController/Service'teki System.out satırlarının karşılığı
+    private void legacyRequest() {
+        long id = requestSequence.incrementAndGet();
+        legacyOut.println("=== DEBUG: createReservation called ===");
+        legacyOut.println("=== DEBUG: Request DTO: " + request);
+        legacyOut.println("=== DEBUG: Customer name: " + request.getCustomerName());
+        legacyOut.println("=== DEBUG: Customer phone: " + request.getCustomerPhone());
+        legacyOut.println("=== DEBUG: Email: " + request.getEmail());
+        legacyOut.println("=== DEBUG: Reservation date: " + request.getReservationDate());
+        legacyOut.println("=== DEBUG: Reservation time: " + request.getReservationTime());
+        legacyOut.println("=== DEBUG: Table ID: " + request.getTableId());
+        legacyOut.println("=== DEBUG: Special requests: " + request.getSpecialRequests());
+        legacyOut.println("=== DEBUG: Validating reservation ===");
+        legacyOut.println("=== DEBUG: Table found: " + request.getTableId());
+        legacyOut.println("=== DEBUG: Checking conflicts for " + request.getReservationDate() + " " + request.getReservationTime());
+        legacyOut.println("=== DEBUG: Saving reservation ===");
+        legacyOut.println("=== DEBUG: Reservation saved with id: " + id);
+        legacyOut.println("Rezervasyon oluşturuldu: id=" + id + ", masa=" + request.getTableId());
+    }
+
+    private void structuredRequest() {
+        long id = requestSequence.incrementAndGet();
+        MDC.put("requestId", Long.toHexString(id));
+        try {
+            controllerLog.debug("createReservation called");
+            controllerLog.debug("Request DTO: {}", request);
+            controllerLog.debug("Customer name: {}", request.getCustomerName());
+            controllerLog.debug("Customer phone: {}", request.getCustomerPhone());
+            controllerLog.debug("Email: {}", request.getEmail());
+            controllerLog.debug("Reservation date: {}", request.getReservationDate());
+            controllerLog.debug("Reservation time: {}", request.getReservationTime());
+            controllerLog.debug("Table ID: {}", request.getTableId());
+            controllerLog.debug("Special requests: {}", request.getSpecialRequests());
+            serviceLog.debug("Validating reservation");
+            serviceLog.debug("Table found: {}", request.getTableId());
+            serviceLog.debug("Checking conflicts for {} {}", request.getReservationDate(), request.getReservationTime());
+            serviceLog.debug("Saving reservation");
+            serviceLog.debug("Reservation saved with id: {}", id);
+            serviceLog.info("Rezervasyon oluşturuldu: id={}, masa={}", id, request.getTableId());
+        } finally {
+            MDC.remove("requestId");
+        }
+    }
+
+    private static SamplingTurboFilter.Rule rule(String logger, String level, int sampleRate, int ratePerSecond) {
+        SamplingTurboFilter.Rule rule = new SamplingTurboFilter.Rule();
+        rule.setLogger(logger);
+        rule.setLevel(level);
+        rule.setSampleRate(sampleRate);
+        rule.setRatePerSecond(ratePerSecond);
+        return rule;
+    }
+}
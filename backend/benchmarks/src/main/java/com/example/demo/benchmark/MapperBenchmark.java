@@ -0,0 +1,197 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.response.DiningTableResponseDto;
+import com.example.demo.dto.response.OrderItemResponseDTO;
+import com.example.demo.dto.response.OrderResponseDTO;
+import com.example.demo.mapper.DiningTableMapper;
+import com.example.demo.mapper.DiningTableMapperImpl;
+import com.example.demo.mapper.OrderMapper;
+import com.example.demo.mapper.OrderMapperImpl;
+import com.example.demo.model.DiningTable;
+import com.example.demo.model.Order;
+import com.example.demo.model.OrderItem;
+import com.example.demo.model.Product;
+import com.example.demo.model.TableStatus;
+import com.example.demo.model.User;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sipariş ve masa listelerinin DTO'ya çevrilmesi: ModelMapper (eski yol), elle yazılmış kopya
+ * (OrderService.buildOrderResponseDTO'nun MapStruct öncesi hali) ve MapStruct'ın ürettiği mapper'lar.
+ * Liste boyutları /api/orders ve /api/dining-tables uçlarının gerçekçi yüklerine göre seçildi.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"50", "500"})
+    public int orderCount;
+
+    @Param({"5"})
+    public int itemsPerOrder;
+
+    private List<Order> orders;
+    private List<DiningTable> tables;
+
+    private ModelMapper modelMapper;
+    private OrderMapper orderMapper;
+    private DiningTableMapper diningTableMapper;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        modelMapper = new ModelMapper();
+        orderMapper = new OrderMapperImpl();
+        diningTableMapper = new DiningTableMapperImpl();
+
+        TableStatus available = new TableStatus();
+        available.setId(1L);
+        available.setName("AVAILABLE");
+
+        List<User> waiters = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setName("Garson " + i);
+            waiters.add(user);
+        }
+        List<Product> products = new ArrayList<>();
+        for (long i = 1; i <= 60; i++) {
+            Product product = new Product();
+            product.setId(i);
+            product.setName("Ürün " + i);
+            product.setPrice(BigDecimal.valueOf(50 + random.nextInt(400)));
+            products.add(product);
+        }
+
+        int tableCount = Math.max(10, orderCount / 5);
+        tables = new ArrayList<>(tableCount);
+        for (int i = 0; i < tableCount; i++) {
+            DiningTable table = new DiningTable();
+            table.setId((long) i + 1);
+            table.setTableNumber(i + 1);
+            table.setCapacity(2 + random.nextInt(6));
+            table.setStatus(available);
+            tables.add(table);
+        }
+
+        orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            DiningTable table = tables.get(i % tableCount);
+            Order order = new Order();
+            order.setId((long) i + 1);
+            order.setUser(waiters.get(random.nextInt(waiters.size())));
+            order.setTable(table);
+            order.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(i));
+            order.setCompleted(random.nextBoolean());
+            BigDecimal total = BigDecimal.ZERO;
+            for (int j = 0; j < itemsPerOrder; j++) {
+                Product product = products.get(random.nextInt(products.size()));
+                OrderItem item = new OrderItem();
+                item.setId((long) i * itemsPerOrder + j + 1);
+                item.setOrder(order);
+                item.setProduct(product);
+                item.setQuantity(1 + random.nextInt(3));
+                item.setUnitPrice(product.getPrice());
+                item.setTotalPrice(product.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+                item.setNote(j == 0 ? "Az pişmiş" : null);
+                order.getItems().add(item);
+                total = total.add(item.getTotalPrice());
+            }
+            order.setTotalPrice(total);
+            table.getOrders().add(order);
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public List<OrderResponseDTO> ordersModelMapper() {
+        List<OrderResponseDTO> result = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            result.add(modelMapper.map(order, OrderResponseDTO.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<OrderResponseDTO> ordersHandWritten() {
+        List<OrderResponseDTO> result = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            result.add(handWritten(order));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<OrderResponseDTO> ordersGenerated() {
+        List<OrderResponseDTO> result = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            result.add(orderMapper.toResponseDTO(order));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<DiningTableResponseDto> tablesModelMapper() {
+        List<DiningTableResponseDto> result = new ArrayList<>(tables.size());
+        for (DiningTable table : tables) {
+            DiningTableResponseDto dto = modelMapper.map(table, DiningTableResponseDto.class);
+            dto.setHasActiveOrder(table.hasActiveOrder());
+            dto.setActiveOrderItemsCount(table.getActiveOrderItemsCount());
+            dto.setHasCompletedOrder(table.hasCompletedOrder());
+            dto.setRealStatus(DiningTableMapper.realStatus(dto.isHasActiveOrder(), dto.getActiveOrderItemsCount(),
+                    dto.isHasCompletedOrder(), dto.getStatusName()));
+            result.add(dto);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<DiningTableResponseDto> tablesGenerated() {
+        List<DiningTableResponseDto> result = new ArrayList<>(tables.size());
+        for (DiningTable table : tables) {
+            result.add(diningTableMapper.toResponseDto(table));
+        }
+        return result;
+    }
+
+    // OrderService.buildOrderResponseDTO'nun MapStruct'a geçmeden önceki gövdesi (log satırı hariç)
+    private static OrderResponseDTO handWritten(Order order) {
+        OrderResponseDTO dto = new OrderResponseDTO();
+        dto.setOrderId(order.getId());
+        dto.setUserId(order.getUser().getId());
+        dto.setWaiterName(order.getUser().getName());
+        dto.setTableId(order.getTable().getId());
+        dto.setTableNumber(order.getTable().getTableNumber());
+        dto.setCreatedAt(order.getCreatedAt());
+        dto.setTotalPrice(order.getTotalPrice());
+        dto.setCompleted(order.isCompleted());
+
+        List<OrderItemResponseDTO> itemResponses = order.getItems().stream()
+                .map(item -> {
+                    OrderItemResponseDTO res = new OrderItemResponseDTO();
+                    res.setProductId(item.getProduct().getId());
+                    res.setProductName(item.getProduct().getName());
+                    res.setQuantity(item.getQuantity());
+                    res.setUnitPrice(item.getUnitPrice());
+                    res.setTotalPrice(item.getTotalPrice());
+                    res.setNote(item.getNote());
+                    return res;
+                })
+                .toList();
+        dto.setItems(itemResponses);
+        return dto;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.enums.ItemCategory;
+import com.example.demo.model.Order;
+import com.example.demo.model.OrderItem;
+import com.example.demo.model.Product;
+import com.example.demo.model.User;
+import com.example.demo.service.SalesSummaryAggregate;
+import com.example.demo.utils.MoneyCents;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Özet üretimindeki para toplamları: eski BigDecimal yolu (sipariş/kalem başına add, kategori için
+ * fiyat x adet multiply) ile MoneyCents (long kuruş) yolu aynı döngü yapısıyla ölçülür; ayrıca
+ * SalesSummaryAggregate.of uçtan uca (HyperLogLog ve ürün haritası dahil) ölçülür.
+ *
+ * Yalnızca süre ölçer; iki yolun aynı sonucu verdiği MoneyCentsTest ve SalesSummaryAggregateTest'te doğrulanır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyAggregationBenchmark {
+
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    /**
+     * Bir günlük (1 000) ve bir aylık (20 000) sipariş
+     */
+    @Param({"1000", "20000"})
+    public int orderCount;
+
+    private List<Order> orders;
+
+    @Setup
+    public void setup() {
+        orders = randomOrders(new Random(42), orderCount, 120, 12);
+    }
+
+    @Benchmark
+    public Object bigDecimalTotals() {
+        return BigDecimalTotals.of(orders);
+    }
+
+    @Benchmark
+    public Object centsTotals() {
+        return CentsTotals.of(orders);
+    }
+
+    @Benchmark
+    public SalesSummaryAggregate salesSummaryAggregate() {
+        return SalesSummaryAggregate.of(orders, order -> "user:" + order.getUser().getId());
+    }
+
+    // ==================== Veri ====================
+
+    private static List<Order> randomOrders(Random random, int count, int productCount, int waiterCount) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            Product product = new Product();
+            product.setId((long) i + 1);
+            product.setName("Ürün " + (i + 1));
+            product.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            product.setPrice(BigDecimal.valueOf(500 + random.nextInt(120_000), 2));
+            products.add(product);
+        }
+        List<User> waiters = new ArrayList<>();
+        for (int i = 0; i < waiterCount; i++) {
+            User waiter = new User();
+            waiter.setId((long) i + 1);
+            waiter.setName("Garson " + (i + 1));
+            waiters.add(waiter);
+        }
+
+        List<Order> result = new ArrayList<>(count);
+        for (int o = 0; o < count; o++) {
+            Order order = new Order();
+            order.setId((long) o + 1);
+            order.setUser(waiters.get(random.nextInt(waiters.size())));
+            BigDecimal total = BigDecimal.ZERO;
+            int lines = 1 + random.nextInt(8);
+            for (int l = 0; l < lines; l++) {
+                Product product = products.get(random.nextInt(products.size()));
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProduct(product);
+                item.setQuantity(1 + random.nextInt(4));
+                // Fiyat snapshot'ı: ürün fiyatı sonradan değişmiş olabilir (kategori toplamı güncel fiyattan)
+                item.setUnitPrice(random.nextInt(10) == 0
+                        ? product.getPrice().add(BigDecimal.valueOf(random.nextInt(2_000), 2))
+                        : product.getPrice());
+                item.setTotalPrice(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+                order.getItems().add(item);
+                total = total.add(item.getTotalPrice());
+            }
+            order.setTotalPrice(total);
+            result.add(order);
+        }
+        return result;
+    }
+
+    // ==================== Karşılaştırılan yollar ====================
+
+    /**
+     * Değişiklik öncesi SalesSummaryAggregate'in para hesapları (BigDecimal)
+     */
+    static final class BigDecimalTotals {
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        int totalOrders;
+        final Map<Long, BigDecimal> productRevenue = new HashMap<>();
+        final Map<ItemCategory, BigDecimal> salesByCategory = new HashMap<>();
+        final Map<Long, BigDecimal> employeeRevenue = new HashMap<>();
+
+        static BigDecimalTotals of(List<Order> orders) {
+            BigDecimalTotals totals = new BigDecimalTotals();
+            for (Order order : orders) {
+                BigDecimal orderAmount = order.getTotalAmount();
+                totals.totalRevenue = totals.totalRevenue.add(orderAmount);
+                totals.totalOrders++;
+                for (OrderItem item : order.getItems()) {
+                    Product product = item.getProduct();
+                    totals.productRevenue.merge(product.getId(), item.getTotalPrice(), BigDecimal::add);
+                    BigDecimal categoryTotal = product.getPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+                    totals.salesByCategory.merge(product.getCategory(), categoryTotal, BigDecimal::add);
+                }
+                totals.employeeRevenue.merge(order.getUser().getId(), orderAmount, BigDecimal::add);
+            }
+            return totals;
+        }
+    }
+
+    /**
+     * Aynı hesaplar MoneyCents ile (SalesSummaryAggregate'in şimdiki yolu)
+     */
+    static final class CentsTotals {
+        long totalRevenue;
+        int totalOrders;
+        final Map<Long, long[]> productRevenue = new HashMap<>();
+        final Map<ItemCategory, long[]> salesByCategory = new HashMap<>();
+        final Map<Long, long[]> employeeRevenue = new HashMap<>();
+
+        static CentsTotals of(List<Order> orders) {
+            CentsTotals totals = new CentsTotals();
+            for (Order order : orders) {
+                long orderCents = MoneyCents.of(order.getTotalAmount());
+                totals.totalRevenue = MoneyCents.add(totals.totalRevenue, orderCents);
+                totals.totalOrders++;
+                for (OrderItem item : order.getItems()) {
+                    Product product = item.getProduct();
+                    long[] productCents = totals.productRevenue.computeIfAbsent(product.getId(), id -> new long[1]);
+                    productCents[0] = MoneyCents.add(productCents[0], MoneyCents.of(item.getTotalPrice()));
+                    long[] categoryCents = totals.salesByCategory.computeIfAbsent(product.getCategory(), c -> new long[1]);
+                    categoryCents[0] = MoneyCents.add(categoryCents[0],
+                            MoneyCents.times(MoneyCents.of(product.getPrice()), item.getQuantity()));
+                }
+                long[] employeeCents = totals.employeeRevenue.computeIfAbsent(order.getUser().getId(), id -> new long[1]);
+                employeeCents[0] = MoneyCents.add(employeeCents[0], orderCents);
+            }
+            return totals;
+        }
+    }
+}
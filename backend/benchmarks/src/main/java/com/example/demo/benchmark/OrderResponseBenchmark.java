@@ -0,0 +1,78 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.response.OrderResponseDTO;
+import com.example.demo.mapper.OrderMapperImpl;
+import com.example.demo.model.DiningTable;
+import com.example.demo.model.Order;
+import com.example.demo.model.OrderItem;
+import com.example.demo.model.Product;
+import com.example.demo.model.User;
+import com.example.demo.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderService.buildOrderResponseDTO: her upsert-sync yanıtında tek bir sipariş DTO'ya çevrilir.
+ * MapperBenchmark liste boyutlarını ölçer; bu benchmark servisin kendi yolunu (mapper seçimi dahil)
+ * garsonun tipik sepet boyutlarıyla ölçer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderResponseBenchmark {
+
+    @Param({"3", "15"})
+    public int itemCount;
+
+    private Order order;
+    private MethodHandle buildOrderResponseDTO;
+
+    @Setup
+    public void setup() {
+        OrderService orderService = new OrderService(null, null, null, null, null, null, null, null, null,
+                new OrderMapperImpl());
+        buildOrderResponseDTO = PrivateAccess.method(orderService, "buildOrderResponseDTO", Order.class);
+
+        User waiter = new User();
+        waiter.setId(7L);
+        waiter.setName("Garson 7");
+        DiningTable table = new DiningTable();
+        table.setId(12L);
+        table.setTableNumber(12);
+
+        order = new Order();
+        order.setId(1001L);
+        order.setUser(waiter);
+        order.setTable(table);
+        order.setCreatedAt(LocalDateTime.of(2025, 1, 1, 19, 30));
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            Product product = new Product();
+            product.setId((long) i + 1);
+            product.setName("Ürün " + (i + 1));
+            product.setPrice(BigDecimal.valueOf(85 + 15L * i));
+            OrderItem item = new OrderItem();
+            item.setId((long) i + 1);
+            item.setOrder(order);
+            item.setProduct(product);
+            item.setQuantity(1 + i % 3);
+            item.setUnitPrice(product.getPrice());
+            item.setTotalPrice(product.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+            order.getItems().add(item);
+            total = total.add(item.getTotalPrice());
+        }
+        order.setTotalPrice(total);
+    }
+
+    @Benchmark
+    public OrderResponseDTO buildOrderResponse() throws Throwable {
+        return (OrderResponseDTO) buildOrderResponseDTO.invokeExact(order);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Servislerdeki private yardımcıları benchmark'tan çağırmak için. Kodun kopyasını değil, servisteki
+ * güncel hali ölçülsün diye görünürlük değiştirilmeden MethodHandle ile erişilir.
+ */
+final class PrivateAccess {
+
+    private PrivateAccess() {
+    }
+
+    /**
+     * Instance metodları için handle alıcıya bağlanır; çağrı tipi metodun kendi imzasıdır.
+     */
+    static MethodHandle method(Object receiverOrClass, String name, Class<?>... parameterTypes) {
+        Class<?> owner = receiverOrClass instanceof Class<?> c ? c : receiverOrClass.getClass();
+        try {
+            Method method = owner.getDeclaredMethod(name, parameterTypes);
+            MethodHandle handle = MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                return handle;
+            }
+            return handle.bindTo(receiverOrClass)
+                    .asType(MethodType.methodType(method.getReturnType(), parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot access " + owner.getSimpleName() + "." + name, e);
+        }
+    }
+
+    /**
+     * Spring'in @Value ile dolduracağı alanları elle set eder.
+     */
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + target.getClass().getSimpleName() + "." + name, e);
+        }
+    }
+}
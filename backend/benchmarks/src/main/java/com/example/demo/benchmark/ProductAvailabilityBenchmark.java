@@ -0,0 +1,74 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductIngredient;
+import com.example.demo.model.Stock;
+import com.example.demo.service.ProductService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductService.getAvailable: bir ürünün reçetesindeki her malzeme için (stok - min stok) / birim miktar
+ * BigDecimal bölmesi ve minimumu. /api/products/available-quantities tüm menü için bunu çağırır;
+ * ölçüm bir menü turudur. Stoklar birim miktarın 10-2000 katı arasında, ölçekler DB ile aynı (10,4).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductAvailabilityBenchmark {
+
+    @Param({"36", "200"})
+    public int productCount;
+
+    @Param({"3", "8"})
+    public int ingredientsPerProduct;
+
+    private List<List<ProductIngredient>> recipes;
+    private MethodHandle getAvailable;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        getAvailable = PrivateAccess.method(ProductService.class, "getAvailable", List.class);
+
+        List<Stock> stocks = new ArrayList<>();
+        for (long i = 1; i <= 40; i++) {
+            Stock stock = new Stock();
+            stock.setId(i);
+            stock.setName("Malzeme " + i);
+            stock.setQuantity(BigDecimal.valueOf(5_000 + random.nextInt(200_000), 2));
+            stock.setMinQuantity(BigDecimal.valueOf(random.nextInt(2_000), 2));
+            stocks.add(stock);
+        }
+
+        recipes = new ArrayList<>(productCount);
+        for (long p = 1; p <= productCount; p++) {
+            Product product = new Product();
+            product.setId(p);
+            List<ProductIngredient> recipe = new ArrayList<>(ingredientsPerProduct);
+            for (int i = 0; i < ingredientsPerProduct; i++) {
+                Stock stock = stocks.get(random.nextInt(stocks.size()));
+                BigDecimal perUnit = BigDecimal.valueOf(50 + random.nextInt(4_950), 4);
+                recipe.add(new ProductIngredient(product, stock, perUnit));
+            }
+            recipes.add(recipe);
+        }
+    }
+
+    @Benchmark
+    public void menuAvailability(Blackhole bh) throws Throwable {
+        for (List<ProductIngredient> recipe : recipes) {
+            bh.consume((long) getAvailable.invokeExact(recipe));
+        }
+    }
+}
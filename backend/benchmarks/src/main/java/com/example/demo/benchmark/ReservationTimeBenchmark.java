@@ -0,0 +1,46 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.service.ReservationService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReservationService.normalizeReservationTimeString: her rezervasyon oluşturma/güncellemede tarih + saat
+ * birleşimi bu metottan geçer (unicode boşluk/tire temizliği, regex ile boşluk sıkıştırma, sıfır doldurma).
+ * Girdiler frontend'den gelen biçimlerin karışımıdır; bir ölçüm hepsinin bir turudur.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationTimeBenchmark {
+
+    private static final String[] INPUTS = {
+            "2025-12-21 19:30",
+            "2025-12-21\u00A019:30",
+            "2025.12.21  19:30",
+            "2025/1/5 9:05",
+            " 2025\u201312\u201321\u202F20:15 ",
+            "2025-06-01 12:00",
+    };
+
+    private MethodHandle normalize;
+
+    @Setup
+    public void setup() {
+        ReservationService reservationService = new ReservationService(null, null, null, null, null, null, null);
+        normalize = PrivateAccess.method(reservationService, "normalizeReservationTimeString", String.class);
+    }
+
+    @Benchmark
+    public void normalizeMixedInputs(Blackhole bh) throws Throwable {
+        for (String input : INPUTS) {
+            bh.consume((String) normalize.invokeExact(input));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.JacksonConfig;
+import com.example.demo.dto.response.TopProductDTO;
+import com.example.demo.service.AnalyticsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AnalyticsService'in daily_sales_summary JSON kolonlarını okuma/yazma maliyeti. Parse'lar servisin
+ * kendi private metodlarıyla yapılır (parseTopProductsJson çağrı başına yeni ObjectMapper kurar);
+ * yazma, artımlı güncellemedeki writeValueAsString çağrısıyla aynıdır. Bloblar 20 ürünlük top products,
+ * 6 kategori ve 12 garsonluk performans özetidir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SummaryJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private List<TopProductDTO> topProducts;
+    private String topProductsJson;
+    private String categorySalesJson;
+    private String employeePerformanceJson;
+
+    private MethodHandle parseTopProductsJson;
+    private MethodHandle parseCategorySalesJson;
+    private MethodHandle parseEmployeePerformanceJson;
+
+    @Setup
+    public void setup() throws Exception {
+        Random random = new Random(42);
+        objectMapper = new JacksonConfig().objectMapper();
+        AnalyticsService analyticsService = new AnalyticsService(null, null, null, null, null, null, null, objectMapper, null);
+        parseTopProductsJson = PrivateAccess.method(analyticsService, "parseTopProductsJson", String.class);
+        parseCategorySalesJson = PrivateAccess.method(analyticsService, "parseCategorySalesJson", String.class);
+        parseEmployeePerformanceJson = PrivateAccess.method(analyticsService, "parseEmployeePerformanceJson", String.class);
+
+        topProducts = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            long quantity = 400 - i * 15 + random.nextInt(10);
+            topProducts.add(new TopProductDTO(i, "Ürün " + i, quantity, quantity * 3 / 4,
+                    BigDecimal.valueOf(quantity * (90 + random.nextInt(200))).setScale(2)));
+        }
+        topProductsJson = objectMapper.writeValueAsString(topProducts);
+
+        Map<String, String> categorySales = new LinkedHashMap<>();
+        for (String category : List.of("Ana Yemek", "Başlangıç", "İçecek", "Tatlı", "Salata", "Kahvaltı")) {
+            categorySales.put(category, BigDecimal.valueOf(random.nextInt(5_000_000), 2).toString());
+        }
+        categorySalesJson = objectMapper.writeValueAsString(categorySales);
+
+        List<Map<String, Object>> employees = new ArrayList<>();
+        for (long i = 1; i <= 12; i++) {
+            Map<String, Object> employee = new HashMap<>();
+            employee.put("employeeId", i);
+            employee.put("employeeName", "Garson " + i);
+            employee.put("totalOrders", 40 + random.nextInt(200));
+            employee.put("totalRevenue", BigDecimal.valueOf(random.nextInt(9_000_000), 2).toString());
+            employee.put("averageOrderValue", BigDecimal.valueOf(20_000 + random.nextInt(30_000), 2).toString());
+            employee.put("totalItemsSold", 100 + random.nextInt(800));
+            employees.add(employee);
+        }
+        Map<String, Object> employeePerformance = new HashMap<>();
+        employeePerformance.put("employees", employees);
+        employeePerformance.put("topPerformer", employees.get(0));
+        employeePerformance.put("totalEmployees", employees.size());
+        employeePerformanceJson = objectMapper.writeValueAsString(employeePerformance);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<TopProductDTO> parseTopProducts() throws Throwable {
+        return (List<TopProductDTO>) parseTopProductsJson.invokeExact(topProductsJson);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, String> parseCategorySales() throws Throwable {
+        return (Map<String, String>) parseCategorySalesJson.invokeExact(categorySalesJson);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> parseEmployeePerformance() throws Throwable {
+        return (Map<String, Object>) parseEmployeePerformanceJson.invokeExact(employeePerformanceJson);
+    }
+
+    @Benchmark
+    public String writeTopProducts() throws Exception {
+        return objectMapper.writeValueAsString(topProducts);
+    }
+}
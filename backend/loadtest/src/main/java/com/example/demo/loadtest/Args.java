@@ -0,0 +1,56 @@
+package com.example.demo.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * --key=value biçimindeki komut satırı seçenekleri. Bilinmeyen anahtarlar okunmadıkça yok sayılır.
+ */
+final class Args {
+
+    private final Map<String, String> values;
+
+    private Args(Map<String, String> values) {
+        this.values = values;
+    }
+
+    static Args parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return new Args(values);
+    }
+
+    String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    long getLong(String key, long defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    double getDouble(String key, double defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.loadtest;
+
+import org.postgresql.PGConnection;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Bir tablonun satırlarını geçici bir CSV dosyasında biriktirir ve load() ile tek bir
+ * COPY ... FROM STDIN (FORMAT csv) olarak yükler. Bir bağlantıda aynı anda tek COPY açık olabildiği için
+ * birden fazla tablo paralel doldurulur, FK sırasına göre tek tek yüklenir.
+ * null değer boş (tırnaksız) alan olarak yazılır, metinler her zaman tırnaklanır.
+ */
+final class CopyBuffer implements AutoCloseable {
+
+    private final String table;
+    private final String columns;
+    private final Path file;
+    private final Writer out;
+    private final StringBuilder row = new StringBuilder(256);
+    private boolean firstColumn = true;
+    private long rows;
+
+    CopyBuffer(String table, String columns) throws IOException {
+        this.table = table;
+        this.columns = columns;
+        this.file = Files.createTempFile("loadtest-" + table + "-", ".csv");
+        this.out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    CopyBuffer add(Object value) {
+        if (!firstColumn) {
+            row.append(',');
+        }
+        firstColumn = false;
+        if (value == null) {
+            return this;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            row.append(value);
+        } else {
+            String text = value.toString();
+            row.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    row.append('"');
+                }
+                row.append(c);
+            }
+            row.append('"');
+        }
+        return this;
+    }
+
+    void endRow() throws IOException {
+        row.append('\n');
+        out.write(row.toString());
+        row.setLength(0);
+        firstColumn = true;
+        rows++;
+    }
+
+    /**
+     * Biriken satırları COPY ile yükler ve tablo bazında süreyi yazdırır.
+     */
+    void load(Connection connection) throws IOException, SQLException {
+        out.close();
+        long start = System.nanoTime();
+        String sql = "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, reader, 1 << 16);
+        }
+        System.out.printf(Locale.ROOT, "  %-20s %,10d rows  %6.2f s%n", table, rows, (System.nanoTime() - start) / 1e9);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+        Files.deleteIfExists(file);
+    }
+}
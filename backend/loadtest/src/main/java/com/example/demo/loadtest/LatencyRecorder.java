@@ -0,0 +1,75 @@
+package com.example.demo.loadtest;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uç nokta bazında gecikme örnekleri (mikrosaniye) ve durum kodu sayıları.
+ * Gecikme isteğin planlanan başlangıcından ölçülür; sunucu yavaşladığında bekleyen istekler de
+ * sayıma girer (coordinated omission düzeltmesi).
+ */
+final class LatencyRecorder {
+
+    static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyMicros, int status) {
+        series.computeIfAbsent(endpoint, k -> new Series()).add(latencyMicros, status);
+    }
+
+    void recordSkipped(String endpoint) {
+        series.computeIfAbsent(endpoint, k -> new Series()).skipped();
+    }
+
+    List<Summary> summarize(double measuredSeconds) {
+        List<Summary> result = new ArrayList<>();
+        for (Map.Entry<String, Series> e : new TreeMap<>(series).entrySet()) {
+            result.add(e.getValue().summarize(e.getKey(), measuredSeconds));
+        }
+        return result;
+    }
+
+    record Summary(String endpoint, long count, long errors, long skipped, double throughput,
+                   double[] percentilesMs, double maxMs, Map<Integer, Long> statuses) { }
+
+    private static final class Series {
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+        private long skipped;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        synchronized void add(long micros, int status) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = micros;
+            statuses.merge(status, 1L, Long::sum);
+            if (status < 200 || status >= 400) {
+                errors++;
+            }
+        }
+
+        synchronized void skipped() {
+            skipped++;
+        }
+
+        synchronized Summary summarize(String endpoint, double measuredSeconds) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            double[] percentiles = new double[PERCENTILES.length];
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                percentiles[i] = size == 0 ? 0 : sorted[index(PERCENTILES[i], size)] / 1000.0;
+            }
+            double max = size == 0 ? 0 : sorted[size - 1] / 1000.0;
+            return new Summary(endpoint, size, errors, skipped, size / Math.max(measuredSeconds, 1e-9),
+                    percentiles, max, new TreeMap<>(statuses));
+        }
+
+        private static int index(double percentile, int size) {
+            int rank = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            return Math.max(0, Math.min(size - 1, rank));
+        }
+    }
+}
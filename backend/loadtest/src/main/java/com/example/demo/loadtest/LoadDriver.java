@@ -0,0 +1,451 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Açık döngülü (open-loop) yük sürücüsü. Dört senaryo sabit hızlarda, birbirinden bağımsız çalışır:
+ * <ul>
+ *   <li>waiter: masaya ürün ekleyen garson dokunuşları (POST /api/orders/upsert-sync, sepetin tamamı gönderilir)</li>
+ *   <li>cashier: birkaç dokunuştan sonra hesabı istenen masaların ödemesi (POST /api/payments)</li>
+ *   <li>host: gelecek tarihli rezervasyonlar (POST /api/reservations, çakışma 4xx'leri beklenen sonuçtur)</li>
+ *   <li>dashboard: panel, aktif masa, masa listesi ve performans metrikleri yoklaması</li>
+ * </ul>
+ * İstekler planlanan zamanda gönderilir, yanıtı beklemez; gecikme planlanan zamandan ölçülür.
+ * Isınma süresindeki istekler sonuçlara girmez.
+ */
+final class LoadDriver {
+
+    private static final String UPSERT = "POST /api/orders/upsert-sync";
+    private static final String PAYMENT = "POST /api/payments";
+    private static final String RESERVATION = "POST /api/reservations";
+    private static final String[] DASHBOARD = {
+            "GET /api/dashboard", "GET /api/orders/active-table-ids", "GET /api/dining-tables",
+            "GET /api/analytics/performance-metrics"};
+
+    record Config(String baseUrl, int durationSeconds, int warmupSeconds, double waiterTapsPerSecond,
+                  double paymentsPerSecond, double reservationsPerSecond, double dashboardPollsPerSecond,
+                  int waiters, int cashiers, String password, boolean insecure, long seed, int timeoutMs,
+                  String out, String baseline) {
+
+        static Config from(Args args) {
+            return new Config(
+                    args.get("base-url", "https://localhost:8080"),
+                    args.getInt("duration", 60),
+                    args.getInt("warmup", 10),
+                    args.getDouble("waiter-rate", 20),
+                    args.getDouble("payment-rate", 3),
+                    args.getDouble("reservation-rate", 0.5),
+                    args.getDouble("dashboard-rate", 4),
+                    args.getInt("waiters", 12),
+                    args.getInt("cashiers", 3),
+                    args.get("password", "loadtest123"),
+                    args.getBoolean("insecure", true),
+                    args.getLong("seed", 42),
+                    args.getInt("timeout-ms", 10_000),
+                    args.get("out", null),
+                    args.get("baseline", null));
+        }
+    }
+
+    private record Account(long userId, String token) { }
+
+    /**
+     * Bir masanın istemci tarafı sepeti. busy, masada uçuşta bir istek olduğunu veya hesabın beklendiğini gösterir.
+     */
+    private static final class TableSession {
+        final long tableId;
+        final Account waiter;
+        final Map<Long, Integer> items = new LinkedHashMap<>();
+        final AtomicBoolean busy = new AtomicBoolean();
+        int tapsLeft;
+        long orderId;
+        BigDecimal total = BigDecimal.ZERO;
+
+        TableSession(long tableId, Account waiter, int tapsLeft) {
+            this.tableId = tableId;
+            this.waiter = waiter;
+            this.tapsLeft = tapsLeft;
+        }
+    }
+
+    private final Config config;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Queue<TableSession> awaitingPayment = new ConcurrentLinkedQueue<>();
+    private HttpClient client;
+    private Account admin;
+    private List<Account> waiterAccounts;
+    private List<Account> cashierAccounts;
+    private List<TableSession> sessions;
+    private List<Long> tableIds;
+    private long[] productIds;
+    private double[] productPopularity;
+    private long measureStartNanos;
+
+    LoadDriver(Config config) {
+        this.config = config;
+    }
+
+    int run() throws Exception {
+        client = buildClient();
+        admin = login("admin@" + WorkloadGenerator.EMAIL_DOMAIN);
+        waiterAccounts = new ArrayList<>();
+        for (int i = 1; i <= config.waiters(); i++) {
+            waiterAccounts.add(login(String.format("waiter%02d@%s", i, WorkloadGenerator.EMAIL_DOMAIN)));
+        }
+        cashierAccounts = new ArrayList<>();
+        for (int i = 1; i <= config.cashiers(); i++) {
+            cashierAccounts.add(login(String.format("cashier%02d@%s", i, WorkloadGenerator.EMAIL_DOMAIN)));
+        }
+        loadCatalog();
+
+        System.out.printf(Locale.ROOT, "Driving %s for %ds (+%ds warmup): waiter %.1f/s, payment %.1f/s, reservation %.1f/s, dashboard %.1f/s%n",
+                config.baseUrl(), config.durationSeconds(), config.warmupSeconds(), config.waiterTapsPerSecond(),
+                config.paymentsPerSecond(), config.reservationsPerSecond(), config.dashboardPollsPerSecond());
+
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+        measureStartNanos = start + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long end = measureStartNanos + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+
+        SplittableRandom seeds = new SplittableRandom(config.seed());
+        List<Thread> schedulers = new ArrayList<>();
+        schedulers.add(schedule("waiter", config.waiterTapsPerSecond(), start, end, seeds.split(), this::waiterTap));
+        schedulers.add(schedule("cashier", config.paymentsPerSecond(), start, end, seeds.split(), this::cashierPayment));
+        schedulers.add(schedule("host", config.reservationsPerSecond(), start, end, seeds.split(), this::hostReservation));
+        schedulers.add(schedule("dashboard", config.dashboardPollsPerSecond(), start, end, seeds.split(), this::dashboardPoll));
+        for (Thread scheduler : schedulers) {
+            if (scheduler != null) {
+                scheduler.join();
+            }
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(config.timeoutMs() + 5_000L, TimeUnit.MILLISECONDS)) {
+            workers.shutdownNow();
+        }
+
+        List<LatencyRecorder.Summary> summaries = recorder.summarize(config.durationSeconds());
+        print(summaries);
+        if (config.out() != null) {
+            writeJson(summaries, new File(config.out()));
+            System.out.println("Results written to " + config.out());
+        }
+        if (config.baseline() != null) {
+            compare(summaries, mapper.readTree(new File(config.baseline())));
+        }
+        return 0;
+    }
+
+    /**
+     * Sabit aralıklı varış zamanları üreten zamanlayıcı thread'i. Her varış için ayrı bir seed türetilir;
+     * seçimler (masa, ürün, tarih) aynı seed ile aynı sırada tekrarlanır.
+     */
+    private Thread schedule(String name, double ratePerSecond, long start, long end, SplittableRandom random, Task task) {
+        if (ratePerSecond <= 0) {
+            return null;
+        }
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        return Thread.ofPlatform().name("loadtest-" + name).start(() -> {
+            long next = start;
+            while (next < end) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intended = next;
+                long seed = random.nextLong();
+                workers.submit(() -> task.run(intended, new SplittableRandom(seed)));
+                next += interval;
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run(long intendedStart, SplittableRandom random);
+    }
+
+    private void waiterTap(long intendedStart, SplittableRandom random) {
+        TableSession session = null;
+        int offset = random.nextInt(sessions.size());
+        for (int i = 0; i < sessions.size() && session == null; i++) {
+            TableSession candidate = sessions.get((offset + i) % sessions.size());
+            if (candidate.busy.compareAndSet(false, true)) {
+                session = candidate;
+            }
+        }
+        if (session == null) {
+            skip(UPSERT, intendedStart);
+            return;
+        }
+        boolean keepBusy = false;
+        try {
+            session.items.merge(productIds[sample(productPopularity, random)], 1, Integer::sum);
+            ObjectNode body = mapper.createObjectNode();
+            body.put("userId", session.waiter.userId());
+            body.put("tableId", session.tableId);
+            ArrayNode items = body.putArray("items");
+            session.items.forEach((productId, quantity) -> items.addObject().put("productId", productId).put("quantity", quantity));
+
+            JsonNode response = send(UPSERT, post("/api/orders/upsert-sync", session.waiter, body), intendedStart);
+            if (response != null) {
+                session.orderId = response.path("orderId").asLong();
+                session.total = new BigDecimal(response.path("totalPrice").asText("0"));
+                if (--session.tapsLeft <= 0) {
+                    awaitingPayment.add(session);
+                    keepBusy = true;
+                }
+            }
+        } finally {
+            if (!keepBusy) {
+                session.busy.set(false);
+            }
+        }
+    }
+
+    private void cashierPayment(long intendedStart, SplittableRandom random) {
+        TableSession session = awaitingPayment.poll();
+        if (session == null) {
+            skip(PAYMENT, intendedStart);
+            return;
+        }
+        try {
+            Account cashier = cashierAccounts.get(random.nextInt(cashierAccounts.size()));
+            ObjectNode body = mapper.createObjectNode();
+            body.put("orderId", session.orderId);
+            body.put("cashierId", cashier.userId());
+            body.put("amount", session.total);
+            body.put("method", random.nextInt(100) < 35 ? "CASH" : "POS");
+            send(PAYMENT, post("/api/payments", cashier, body), intendedStart);
+        } finally {
+            // Ödeme başarısız olsa da masa yeni bir siparişle devam eder
+            session.items.clear();
+            session.orderId = 0;
+            session.total = BigDecimal.ZERO;
+            session.tapsLeft = 3 + random.nextInt(6);
+            session.busy.set(false);
+        }
+    }
+
+    private void hostReservation(long intendedStart, SplittableRandom random) {
+        int minute = 12 * 60 + random.nextInt(39) * 15;
+        ObjectNode body = mapper.createObjectNode();
+        body.put("tableId", tableIds.get(random.nextInt(tableIds.size())));
+        body.put("customerName", "Yük Testi " + random.nextInt(100_000));
+        body.put("customerPhone", "05" + (30 + random.nextInt(30)) + String.format("%07d", random.nextInt(10_000_000)));
+        body.put("reservationDate", LocalDate.now().plusDays(1 + random.nextInt(30)).toString());
+        body.put("reservationTime", String.format("%02d:%02d", minute / 60, minute % 60));
+        send(RESERVATION, post("/api/reservations", admin, body), intendedStart);
+    }
+
+    private void dashboardPoll(long intendedStart, SplittableRandom random) {
+        String endpoint = DASHBOARD[random.nextInt(DASHBOARD.length)];
+        Account account = endpoint.endsWith("performance-metrics") ? admin : waiterAccounts.get(random.nextInt(waiterAccounts.size()));
+        send(endpoint, get(endpoint.substring(4), account), intendedStart);
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request, long intendedStart) {
+        int status = 0;
+        JsonNode body = null;
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            if (status >= 200 && status < 300 && !response.body().isEmpty()) {
+                body = mapper.readTree(response.body());
+            }
+        } catch (IOException e) {
+            // status 0: bağlantı hatası veya zaman aşımı
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (intendedStart >= measureStartNanos) {
+            recorder.record(endpoint, (System.nanoTime() - intendedStart) / 1000, status);
+        }
+        return status >= 200 && status < 300 ? (body != null ? body : mapper.createObjectNode()) : null;
+    }
+
+    private void skip(String endpoint, long intendedStart) {
+        if (intendedStart >= measureStartNanos) {
+            recorder.recordSkipped(endpoint);
+        }
+    }
+
+    private Account login(String email) throws IOException, InterruptedException {
+        ObjectNode body = mapper.createObjectNode().put("email", email).put("password", config.password());
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.baseUrl() + "/api/auth/login"))
+                .timeout(Duration.ofMillis(config.timeoutMs()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        JsonNode json = mapper.readTree(response.body());
+        if (response.statusCode() != 200 || !json.path("success").asBoolean()) {
+            throw new IllegalStateException("Login failed for " + email + " (HTTP " + response.statusCode()
+                    + "); was the database loaded with 'generate'?");
+        }
+        return new Account(json.path("userId").asLong(), json.path("token").asText());
+    }
+
+    private void loadCatalog() throws IOException, InterruptedException {
+        JsonNode tables = mapper.readTree(client.send(get("/api/dining-tables", admin), HttpResponse.BodyHandlers.ofString()).body());
+        tableIds = new ArrayList<>();
+        sessions = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(config.seed());
+        for (JsonNode table : tables) {
+            long id = table.path("id").asLong();
+            tableIds.add(id);
+            sessions.add(new TableSession(id, waiterAccounts.get(sessions.size() % waiterAccounts.size()), 3 + random.nextInt(6)));
+        }
+        List<Long> products = new ArrayList<>();
+        for (JsonNode product : mapper.readTree(client.send(get("/api/products", admin), HttpResponse.BodyHandlers.ofString()).body())) {
+            if (product.path("isActive").asBoolean(true)) {
+                products.add(product.path("id").asLong());
+            }
+        }
+        if (tableIds.isEmpty() || products.isEmpty()) {
+            throw new IllegalStateException("No tables or products found; load the database with 'generate' first");
+        }
+        productIds = products.stream().mapToLong(Long::longValue).toArray();
+        productPopularity = new double[productIds.length];
+        double sum = 0;
+        for (int i = 0; i < productIds.length; i++) {
+            sum += 1.0 / Math.pow(i + 1, 1.1);
+            productPopularity[i] = sum;
+        }
+        for (int i = 0; i < productIds.length; i++) {
+            productPopularity[i] /= sum;
+        }
+    }
+
+    private static int sample(double[] cumulative, SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+    }
+
+    private HttpRequest get(String path, Account account) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .timeout(Duration.ofMillis(config.timeoutMs()))
+                .header("Authorization", "Bearer " + account.token())
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Account account, JsonNode body) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .timeout(Duration.ofMillis(config.timeoutMs()))
+                .header("Authorization", "Bearer " + account.token())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+    }
+
+    private HttpClient buildClient() throws GeneralSecurityException {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(config.timeoutMs()))
+                .executor(workers);
+        if (config.insecure()) {
+            // Yerel geliştirme sertifikası (keystore.p12) self-signed
+            System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+            TrustManager[] trustAll = {new X509TrustManager() {
+                @Override
+                public void checkClientTrusted(X509Certificate[] chain, String authType) { }
+
+                @Override
+                public void checkServerTrusted(X509Certificate[] chain, String authType) { }
+
+                @Override
+                public X509Certificate[] getAcceptedIssuers() {
+                    return new X509Certificate[0];
+                }
+            }};
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, trustAll, null);
+            builder.sslContext(context);
+        }
+        return builder.build();
+    }
+
+    private void print(List<LatencyRecorder.Summary> summaries) {
+        System.out.printf(Locale.ROOT, "%n%-42s %8s %7s %7s %8s %8s %8s %8s %8s %8s %8s%n", "endpoint", "count", "errors",
+                "skipped", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (LatencyRecorder.Summary s : summaries) {
+            double[] p = s.percentilesMs();
+            System.out.printf(Locale.ROOT, "%-42s %8d %7d %7d %8.1f %8.1f %8.1f %8.1f %8.1f %8.1f %8.1f%n", s.endpoint(),
+                    s.count(), s.errors(), s.skipped(), s.throughput(), p[0], p[1], p[2], p[3], p[4], s.maxMs());
+        }
+        for (LatencyRecorder.Summary s : summaries) {
+            if (s.errors() > 0) {
+                System.out.println("  " + s.endpoint() + " status codes: " + s.statuses());
+            }
+        }
+    }
+
+    private void writeJson(List<LatencyRecorder.Summary> summaries, File file) throws IOException {
+        ObjectNode root = mapper.createObjectNode();
+        root.set("config", mapper.valueToTree(config));
+        ArrayNode endpoints = root.putArray("endpoints");
+        for (LatencyRecorder.Summary s : summaries) {
+            ObjectNode node = endpoints.addObject();
+            node.put("endpoint", s.endpoint());
+            node.put("count", s.count());
+            node.put("errors", s.errors());
+            node.put("skipped", s.skipped());
+            node.put("throughput", s.throughput());
+            for (int i = 0; i < LatencyRecorder.PERCENTILES.length; i++) {
+                node.put("p" + String.valueOf(LatencyRecorder.PERCENTILES[i]).replace(".0", "").replace(".", "_") + "Ms",
+                        s.percentilesMs()[i]);
+            }
+            node.put("maxMs", s.maxMs());
+            ObjectNode statuses = node.putObject("statuses");
+            s.statuses().forEach((code, count) -> statuses.put(String.valueOf(code), count));
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file, root);
+    }
+
+    /**
+     * Önceki bir çalıştırmanın JSON çıktısına göre p50/p99 değişimini yazdırır.
+     */
+    private void compare(List<LatencyRecorder.Summary> summaries, JsonNode baseline) {
+        Map<String, JsonNode> previous = new HashMap<>();
+        baseline.path("endpoints").forEach(node -> previous.put(node.path("endpoint").asText(), node));
+        System.out.printf(Locale.ROOT, "%n%-42s %18s %18s%n", "vs baseline", "p50 ms", "p99 ms");
+        for (LatencyRecorder.Summary s : summaries) {
+            JsonNode old = previous.get(s.endpoint());
+            if (old == null) {
+                System.out.printf(Locale.ROOT, "%-42s %18s%n", s.endpoint(), "(new)");
+                continue;
+            }
+            System.out.printf(Locale.ROOT, "%-42s %18s %18s%n", s.endpoint(),
+                    delta(old.path("p50Ms").asDouble(), s.percentilesMs()[0]),
+                    delta(old.path("p99Ms").asDouble(), s.percentilesMs()[3]));
+        }
+    }
+
+    private static String delta(double before, double after) {
+        double change = before == 0 ? 0 : (after - before) * 100 / before;
+        return String.format(Locale.ROOT, "%.1f→%.1f (%+.0f%%)", before, after, change);
+    }
+}
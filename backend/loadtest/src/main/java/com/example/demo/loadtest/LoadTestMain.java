@@ -0,0 +1,36 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Giriş noktası:
+ * <pre>
+ * java -jar loadtest.jar generate --jdbc-url=... [--seed=42 --months=6 ...]
+ * java -jar loadtest.jar drive --base-url=https://localhost:8080 [--duration=60 ...]
+ * </pre>
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            System.exit(2);
+        }
+        Args options = Args.parse(Arrays.copyOfRange(args, 1, args.length));
+        switch (args[0]) {
+            case "generate" -> new WorkloadGenerator(WorkloadGenerator.Config.from(options)).run();
+            case "drive" -> System.exit(new LoadDriver(LoadDriver.Config.from(options)).run());
+            default -> {
+                usage();
+                System.exit(2);
+            }
+        }
+    }
+
+    private static void usage() {
+        System.err.println("usage: java -jar loadtest.jar generate|drive [--key=value ...]  (see README.md)");
+    }
+}
@@ -0,0 +1,532 @@
+package com.example.demo.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Deterministik restoran veri seti üreticisi.
+ * Aynı seed + anchor-date + boyut parametreleri her çalıştırmada birebir aynı satırları üretir:
+ * salonlar, masalar, reçeteli menü, stoklar, garson/kasiyer/admin kullanıcıları ve anchor-date'ten
+ * geriye doğru months ay boyunca sipariş, sipariş kalemi, ödeme, rezervasyon ve stok hareketleri.
+ * Sipariş saatleri öğle ve akşam yoğunluğuna göre, gün sayıları haftanın gününe göre dağıtılır.
+ * Her tablo tek bir COPY akışıyla yüklenir; id'ler açıkça yazılır ve sonunda identity sequence'ları ileri alınır.
+ */
+final class WorkloadGenerator {
+
+    static final String EMAIL_DOMAIN = "loadtest.local";
+
+    // Reservation status id'leri (ReservationStatusConstants)
+    private static final int CONFIRMED = 1;
+    private static final int CANCELLED = 2;
+    private static final int COMPLETED = 3;
+    private static final int NO_SHOW = 4;
+    private static final int PENDING = 5;
+    private static final int AVAILABLE_STATUS_ID = 1;
+    private static final int SLOT_MINUTES = 120;
+
+    private static final LocalTime OPEN = LocalTime.of(10, 0);
+    private static final LocalTime CLOSE = LocalTime.of(23, 30);
+
+    private static final double[] DAY_WEIGHTS = {0.80, 0.85, 0.90, 1.00, 1.30, 1.45, 1.20}; // Pzt..Paz
+
+    private static final String[] TRUNCATE_TABLES = {
+            "payments", "order_items", "orders", "reservations", "stock_movements", "stock_movement_summary",
+            "product_ingredients", "products", "stocks", "dining_tables", "salons", "daily_sales_summary",
+            "summary_backfill_checkpoints", "activity_logs", "password_reset_token", "reset_tokens",
+            "user_roles", "users"
+    };
+
+    private static final String[] FIRST_NAMES = {"Ahmet", "Mehmet", "Ayşe", "Fatma", "Emre", "Zeynep", "Can", "Elif",
+            "Burak", "Selin", "Mert", "Deniz", "İsmail", "Işıl", "Gökhan", "Şule", "Onur", "Ece", "Kerem", "Öykü"};
+    private static final String[] LAST_NAMES = {"Yılmaz", "Kaya", "Demir", "Şahin", "Çelik", "Yıldız", "Öztürk",
+            "Aydın", "Arslan", "Doğan", "Kılıç", "Aslan", "Çetin", "Koç", "Kurt", "Özdemir"};
+    private static final String[] SPECIAL_REQUESTS = {"Pencere kenarı", "Doğum günü pastası", "Bebek sandalyesi",
+            "Sessiz bir köşe", "Glutensiz menü", "Balkon tarafı"};
+
+    private static final String[][] STOCKS = {
+            {"Un", "KG"}, {"Pirinç", "KG"}, {"Bulgur", "KG"}, {"Dana kıyma", "KG"}, {"Kuzu eti", "KG"},
+            {"Tavuk göğsü", "KG"}, {"Levrek", "KG"}, {"Domates", "KG"}, {"Biber", "KG"}, {"Soğan", "KG"},
+            {"Patates", "KG"}, {"Patlıcan", "KG"}, {"Marul", "KG"}, {"Kaşar peyniri", "KG"}, {"Beyaz peynir", "KG"},
+            {"Tereyağı", "KG"}, {"Yoğurt", "KG"}, {"Zeytinyağı", "L"}, {"Süt", "L"}, {"Şeker", "KG"},
+            {"Ceviz", "KG"}, {"Yumurta", "ADET"}, {"Ekmek", "ADET"}, {"Lavaş", "ADET"}, {"Çay", "KG"},
+            {"Kahve", "KG"}, {"Limon", "ADET"}, {"Kola", "ADET"}, {"Ayran", "ADET"}, {"Maden suyu", "ADET"}
+    };
+
+    // name, category (ItemCategory değeri), fiyat, reçete: stok adı=birim başına miktar
+    private static final Object[][] MENU = {
+            {"Mercimek Çorbası", "aparitifler", 85, "Bulgur=0.05,Soğan=0.02,Tereyağı=0.01"},
+            {"Ezogelin Çorbası", "aparitifler", 85, "Bulgur=0.05,Domates=0.03,Soğan=0.02"},
+            {"Humus", "aparitifler", 110, "Zeytinyağı=0.02,Limon=0.5"},
+            {"Haydari", "aparitifler", 95, "Yoğurt=0.15,Zeytinyağı=0.01"},
+            {"Patlıcan Salatası", "aparitifler", 105, "Patlıcan=0.25,Zeytinyağı=0.02,Biber=0.03"},
+            {"Çoban Salata", "aparitifler", 90, "Domates=0.15,Biber=0.05,Soğan=0.03,Zeytinyağı=0.02"},
+            {"Sigara Böreği", "aparitifler", 120, "Un=0.08,Beyaz peynir=0.06,Zeytinyağı=0.03"},
+            {"Adana Kebap", "izgaralar", 360, "Dana kıyma=0.2,Lavaş=1,Biber=0.03"},
+            {"Urfa Kebap", "izgaralar", 360, "Dana kıyma=0.2,Lavaş=1,Soğan=0.03"},
+            {"Kuzu Şiş", "izgaralar", 420, "Kuzu eti=0.22,Biber=0.04,Pirinç=0.08"},
+            {"Tavuk Şiş", "izgaralar", 290, "Tavuk göğsü=0.22,Pirinç=0.08,Biber=0.03"},
+            {"Izgara Köfte", "izgaralar", 310, "Dana kıyma=0.2,Patates=0.15,Soğan=0.02"},
+            {"Karışık Izgara", "izgaralar", 540, "Dana kıyma=0.15,Kuzu eti=0.12,Tavuk göğsü=0.12,Pirinç=0.1"},
+            {"Levrek Izgara", "izgaralar", 480, "Levrek=0.35,Marul=0.05,Limon=0.5"},
+            {"İskender", "ana_yemek", 390, "Dana kıyma=0.18,Ekmek=1,Yoğurt=0.1,Tereyağı=0.03,Domates=0.05"},
+            {"Hünkar Beğendi", "ana_yemek", 410, "Kuzu eti=0.2,Patlıcan=0.25,Süt=0.1,Kaşar peyniri=0.03"},
+            {"Karnıyarık", "ana_yemek", 280, "Patlıcan=0.3,Dana kıyma=0.1,Domates=0.05,Pirinç=0.08"},
+            {"Tavuk Sote", "ana_yemek", 270, "Tavuk göğsü=0.2,Biber=0.05,Domates=0.05,Pirinç=0.08"},
+            {"Etli Kuru Fasulye", "ana_yemek", 240, "Kuzu eti=0.08,Pirinç=0.1,Soğan=0.02"},
+            {"Lahmacun", "firin", 130, "Un=0.12,Dana kıyma=0.06,Domates=0.03,Soğan=0.02"},
+            {"Kıymalı Pide", "firin", 230, "Un=0.2,Dana kıyma=0.12,Tereyağı=0.02"},
+            {"Kaşarlı Pide", "firin", 210, "Un=0.2,Kaşar peyniri=0.12,Tereyağı=0.02"},
+            {"Kuşbaşılı Pide", "firin", 270, "Un=0.2,Kuzu eti=0.12,Biber=0.03"},
+            {"Serpme Kahvaltı", "kahvaltiliklar", 650, "Yumurta=4,Beyaz peynir=0.15,Kaşar peyniri=0.1,Domates=0.1,Ekmek=2,Tereyağı=0.04"},
+            {"Menemen", "kahvaltiliklar", 180, "Yumurta=3,Domates=0.15,Biber=0.08,Tereyağı=0.02"},
+            {"Sucuklu Yumurta", "kahvaltiliklar", 200, "Yumurta=3,Tereyağı=0.02,Ekmek=1"},
+            {"Künefe", "tatlilar", 220, "Kaşar peyniri=0.1,Tereyağı=0.05,Şeker=0.08"},
+            {"Baklava", "tatlilar", 240, "Un=0.06,Ceviz=0.06,Tereyağı=0.05,Şeker=0.08"},
+            {"Sütlaç", "tatlilar", 120, "Süt=0.25,Pirinç=0.03,Şeker=0.04"},
+            {"Kazandibi", "tatlilar", 130, "Süt=0.25,Şeker=0.05,Un=0.02"},
+            {"Çay", "icecekler", 25, "Çay=0.003,Şeker=0.01"},
+            {"Türk Kahvesi", "icecekler", 75, "Kahve=0.008,Şeker=0.005"},
+            {"Ayran", "icecekler", 45, "Ayran=1"},
+            {"Kola", "icecekler", 60, "Kola=1"},
+            {"Maden Suyu", "icecekler", 35, "Maden suyu=1"},
+            {"Limonata", "icecekler", 80, "Limon=2,Şeker=0.04"}
+    };
+
+    record Config(String jdbcUrl, String user, String password, long seed, LocalDate anchorDate, int months,
+                  int salons, int tablesPerSalon, int waiters, int cashiers, int ordersPerDay,
+                  int reservationsPerDay, int futureDays, String userPassword, boolean reset) {
+
+        static Config from(Args args) {
+            return new Config(
+                    args.get("jdbc-url", "jdbc:postgresql://localhost/mydbnew"),
+                    args.get("db-user", "postgres"),
+                    args.get("db-password", "123"),
+                    args.getLong("seed", 42),
+                    LocalDate.parse(args.get("anchor-date", LocalDate.now().toString())),
+                    args.getInt("months", 6),
+                    args.getInt("salons", 3),
+                    args.getInt("tables-per-salon", 20),
+                    args.getInt("waiters", 12),
+                    args.getInt("cashiers", 3),
+                    args.getInt("orders-per-day", 180),
+                    args.getInt("reservations-per-day", 40),
+                    args.getInt("future-days", 14),
+                    args.get("password", "loadtest123"),
+                    args.getBoolean("reset", false));
+        }
+    }
+
+    private record TableRow(long id, int capacity) { }
+
+    private record MenuItem(long id, BigDecimal price, Map<Integer, BigDecimal> recipe) { }
+
+    private final Config config;
+    private final SplittableRandom random;
+
+    WorkloadGenerator(Config config) {
+        this.config = config;
+        this.random = new SplittableRandom(config.seed());
+    }
+
+    void run() throws SQLException, IOException, NoSuchAlgorithmException {
+        long start = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl(), config.user(), config.password())) {
+            connection.setAutoCommit(false);
+            prepare(connection);
+            ensureReferenceData(connection);
+
+            List<TableRow> tables = writeSalonsAndTables(connection);
+            writeStocks(connection);
+            List<MenuItem> menu = writeMenu(connection);
+            UserIds users = writeUsers(connection);
+            writeOrders(connection, tables, menu, users);
+            writeReservations(connection, tables, users.admin());
+
+            resetSequences(connection);
+            connection.commit();
+            try (Statement st = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                st.execute("ANALYZE");
+            }
+        }
+        System.out.printf(Locale.ROOT, "Workload generated in %.1f s (seed=%d, anchor=%s, months=%d).%n",
+                (System.nanoTime() - start) / 1e9, config.seed(), config.anchorDate(), config.months());
+        System.out.printf("Users: admin@%s, waiter01..%02d@%s, cashier01..%02d@%s, password '%s'.%n",
+                EMAIL_DOMAIN, config.waiters(), EMAIL_DOMAIN, config.cashiers(), EMAIL_DOMAIN, config.userPassword());
+        System.out.println("Summaries are not generated here; the application's startup backfill or "
+                + "POST /api/analytics/generate-batch builds them.");
+    }
+
+    private void prepare(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            if (config.reset()) {
+                st.execute("TRUNCATE " + String.join(", ", TRUNCATE_TABLES) + " RESTART IDENTITY CASCADE");
+                System.out.println("Truncated workload tables.");
+                return;
+            }
+            try (ResultSet rs = st.executeQuery("SELECT EXISTS (SELECT 1 FROM orders) OR EXISTS (SELECT 1 FROM salons) "
+                    + "OR EXISTS (SELECT 1 FROM users)")) {
+                rs.next();
+                if (rs.getBoolean(1)) {
+                    throw new IllegalStateException("Target database already has data; run with --reset to truncate "
+                            + "workload tables first (reference tables are kept).");
+                }
+            }
+        }
+    }
+
+    /**
+     * Uygulamanın açılış kontrolü (ReferenceDataRegistry) için gereken sabit id'li durum ve roller.
+     */
+    private void ensureReferenceData(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("INSERT INTO table_statuses (id, name) VALUES (1, 'AVAILABLE'), (2, 'OCCUPIED'), (3, 'RESERVED'), "
+                    + "(4, 'MAINTENANCE') ON CONFLICT (id) DO NOTHING");
+            st.execute("INSERT INTO roles (id, name) VALUES (0, 'admin'), (1, 'waiter'), (2, 'cashier') ON CONFLICT (id) DO NOTHING");
+            st.execute("INSERT INTO restaurant_settings (restaurant_name, open_time, close_time, last_reservation_cutoff_minutes, "
+                    + "created_at, updated_at) SELECT 'Load Test Restaurant', '" + OPEN + "', '" + CLOSE + "', 60, now(), now() "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM restaurant_settings)");
+        }
+    }
+
+    private List<TableRow> writeSalonsAndTables(Connection connection) throws SQLException, IOException {
+        int[] capacities = {2, 2, 4, 4, 4, 4, 6, 6, 8};
+        List<TableRow> tables = new ArrayList<>();
+        long tableId = 1;
+        try (CopyBuffer salons = new CopyBuffer("salons", "id, name, description, capacity, total_tables");
+             CopyBuffer diningTables = new CopyBuffer("dining_tables", "id, table_number, capacity, salon_id, status_id")) {
+            for (int s = 1; s <= config.salons(); s++) {
+                int capacity = 0;
+                for (int t = 0; t < config.tablesPerSalon(); t++) {
+                    int seats = capacities[random.nextInt(capacities.length)];
+                    diningTables.add(tableId).add(s * 100 + t + 1).add(seats).add(s).add(AVAILABLE_STATUS_ID).endRow();
+                    tables.add(new TableRow(tableId++, seats));
+                    capacity += seats;
+                }
+                salons.add(s).add(s == 1 ? "Ana Salon" : s == 2 ? "Bahçe" : "Salon " + s)
+                        .add("Load test salonu " + s).add(capacity).add(config.tablesPerSalon()).endRow();
+            }
+            salons.load(connection);
+            diningTables.load(connection);
+        }
+        return tables;
+    }
+
+    private void writeStocks(Connection connection) throws SQLException, IOException {
+        try (CopyBuffer out = new CopyBuffer("stocks", "id, name, unit, stock_quantity, min_quantity")) {
+            for (int i = 0; i < STOCKS.length; i++) {
+                boolean countable = "ADET".equals(STOCKS[i][1]);
+                out.add(i + 1).add(STOCKS[i][0]).add(STOCKS[i][1])
+                        .add(countable ? 400 + random.nextInt(400) : 40 + random.nextInt(60))
+                        .add(countable ? 100 : 10).endRow();
+            }
+            out.load(connection);
+        }
+    }
+
+    private List<MenuItem> writeMenu(Connection connection) throws SQLException, IOException {
+        Map<String, Integer> stockIds = new HashMap<>();
+        for (int i = 0; i < STOCKS.length; i++) {
+            stockIds.put(STOCKS[i][0], i + 1);
+        }
+        List<MenuItem> menu = new ArrayList<>();
+        try (CopyBuffer products = new CopyBuffer("products", "id, name, description, price, is_active, category");
+             CopyBuffer ingredients = new CopyBuffer("product_ingredients", "product_id, stock_id, quantity_per_unit")) {
+            for (int i = 0; i < MENU.length; i++) {
+                long id = i + 1;
+                BigDecimal price = BigDecimal.valueOf((Integer) MENU[i][2]).setScale(2, RoundingMode.UNNECESSARY);
+                products.add(id).add(MENU[i][0]).add(MENU[i][0] + " (load test)").add(price).add(true).add(MENU[i][1]).endRow();
+                Map<Integer, BigDecimal> recipe = new LinkedHashMap<>();
+                for (String part : ((String) MENU[i][3]).split(",")) {
+                    String[] kv = part.split("=");
+                    Integer stockId = stockIds.get(kv[0]);
+                    if (stockId == null) {
+                        throw new IllegalStateException("Unknown stock in recipe: " + kv[0]);
+                    }
+                    BigDecimal qty = new BigDecimal(kv[1]);
+                    recipe.put(stockId, qty);
+                    ingredients.add(id).add(stockId).add(qty).endRow();
+                }
+                menu.add(new MenuItem(id, price, recipe));
+            }
+            products.load(connection);
+            ingredients.load(connection);
+        }
+        return menu;
+    }
+
+    private record UserIds(long admin, long[] waiters, long[] cashiers) { }
+
+    private UserIds writeUsers(Connection connection) throws SQLException, IOException, NoSuchAlgorithmException {
+        // BCrypt tuzu da seed'den türetilir; aynı seed aynı hash'i üretir
+        SecureRandom saltRandom = SecureRandom.getInstance("SHA1PRNG");
+        saltRandom.setSeed(config.seed());
+        String hash = BCrypt.hashpw(config.userPassword(), BCrypt.gensalt(10, saltRandom));
+        LocalDateTime createdAt = config.anchorDate().minusMonths(config.months()).minusDays(7).atTime(9, 0);
+
+        long id = 1;
+        long admin = id;
+        long[] waiters = new long[config.waiters()];
+        long[] cashiers = new long[config.cashiers()];
+        try (CopyBuffer users = new CopyBuffer("users", "id, name, email, password_hash, phone_number, created_at, is_active");
+             CopyBuffer roles = new CopyBuffer("user_roles", "user_id, role_id")) {
+            writeUser(users, roles, id++, "Load Test Admin", "admin@" + EMAIL_DOMAIN, hash, createdAt, 0);
+            for (int i = 0; i < waiters.length; i++) {
+                waiters[i] = id;
+                writeUser(users, roles, id++, personName(), String.format("waiter%02d@%s", i + 1, EMAIL_DOMAIN), hash, createdAt, 1);
+            }
+            for (int i = 0; i < cashiers.length; i++) {
+                cashiers[i] = id;
+                writeUser(users, roles, id++, personName(), String.format("cashier%02d@%s", i + 1, EMAIL_DOMAIN), hash, createdAt, 2);
+            }
+            users.load(connection);
+            roles.load(connection);
+        }
+        return new UserIds(admin, waiters, cashiers);
+    }
+
+    private void writeUser(CopyBuffer users, CopyBuffer roles, long id, String name, String email, String hash,
+                           LocalDateTime createdAt, int roleId) throws IOException {
+        users.add(id).add(name).add(email).add(hash).add(phone()).add(createdAt).add(true).endRow();
+        roles.add(id).add(roleId).endRow();
+    }
+
+    /**
+     * Sipariş, kalem ve ödemeleri gün gün üretir; her günün reçete tüketimi tek bir ORDER stok hareketine toplanır.
+     */
+    private void writeOrders(Connection connection, List<TableRow> tables, List<MenuItem> menu, UserIds users)
+            throws SQLException, IOException {
+        double[] popularity = zipfCumulative(menu.size(), 1.1);
+        int[] popularityOrder = shuffledIndexes(menu.size());
+        LocalDate first = config.anchorDate().minusMonths(config.months());
+        LocalDate last = config.anchorDate().minusDays(1);
+
+        long orderId = 1;
+        long itemId = 1;
+        long paymentId = 1;
+        long movementId = 1;
+        try (CopyBuffer orders = new CopyBuffer("orders",
+                "id, created_at, updated_at, total_price, table_id, user_id, is_completed, version");
+             CopyBuffer items = new CopyBuffer("order_items",
+                     "id, order_id, product_id, quantity, unit_price, total_price, note");
+             CopyBuffer payments = new CopyBuffer("payments",
+                     "id, order_id, cashier_id, amount, method, created_at");
+             CopyBuffer movements = new CopyBuffer("stock_movements",
+                     "id, stock_id, change, reason, note, \"timestamp\"")) {
+            for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+                Map<Integer, BigDecimal> consumption = new TreeMap<>();
+                int count = dailyCount(config.ordersPerDay(), day);
+                for (int n = 0; n < count; n++) {
+                    LocalDateTime createdAt = day.atTime(orderTime());
+                    LocalDateTime closedAt = createdAt.plusMinutes(25 + random.nextInt(95));
+                    TableRow table = tables.get(random.nextInt(tables.size()));
+                    long waiter = users.waiters()[random.nextInt(users.waiters().length)];
+
+                    int lines = 1 + Math.min(table.capacity(), random.nextInt(2, 7));
+                    Map<Integer, Integer> quantities = new LinkedHashMap<>();
+                    for (int l = 0; l < lines; l++) {
+                        int menuIndex = popularityOrder[sample(popularity)];
+                        quantities.merge(menuIndex, 1 + (random.nextInt(10) < 2 ? random.nextInt(1, 3) : 0), Integer::sum);
+                    }
+                    BigDecimal total = BigDecimal.ZERO;
+                    for (Map.Entry<Integer, Integer> line : quantities.entrySet()) {
+                        MenuItem product = menu.get(line.getKey());
+                        BigDecimal lineTotal = product.price().multiply(BigDecimal.valueOf(line.getValue()));
+                        total = total.add(lineTotal);
+                        items.add(itemId++).add(orderId).add(product.id()).add(line.getValue()).add(product.price())
+                                .add(lineTotal).add(random.nextInt(20) == 0 ? "Az pişmiş" : null).endRow();
+                        for (Map.Entry<Integer, BigDecimal> ingredient : product.recipe().entrySet()) {
+                            consumption.merge(ingredient.getKey(),
+                                    ingredient.getValue().multiply(BigDecimal.valueOf(line.getValue())), BigDecimal::add);
+                        }
+                    }
+                    orders.add(orderId).add(createdAt).add(closedAt).add(total).add(table.id()).add(waiter)
+                            .add(true).add(0).endRow();
+                    payments.add(paymentId++).add(orderId)
+                            .add(users.cashiers()[random.nextInt(users.cashiers().length)]).add(total)
+                            .add(random.nextInt(100) < 35 ? "CASH" : "POS").add(closedAt).endRow();
+                    orderId++;
+                }
+                for (Map.Entry<Integer, BigDecimal> used : consumption.entrySet()) {
+                    movements.add(movementId++).add(used.getKey()).add(used.getValue().negate()).add("ORDER")
+                            .add("Günlük tüketim").add(day.atTime(23, 45)).endRow();
+                }
+                if (day.getDayOfWeek() == DayOfWeek.MONDAY) {
+                    for (int stockId = 1; stockId <= STOCKS.length; stockId++) {
+                        movements.add(movementId++).add(stockId).add(20 + random.nextInt(80)).add("PURCHASE")
+                                .add("Haftalık alım").add(day.atTime(8, 30)).endRow();
+                    }
+                }
+            }
+            orders.load(connection);
+            items.load(connection);
+            payments.load(connection);
+            movements.load(connection);
+        }
+    }
+
+    /**
+     * Geçmiş günler için tamamlanmış/iptal/gelmedi, gelecek günler için aktif rezervasyonlar.
+     * Aktif rezervasyonlar masa başına 120 dakikalık slotlarla çakışmayacak şekilde yerleştirilir (ex_reservations_table_slot).
+     */
+    private void writeReservations(Connection connection, List<TableRow> tables, long adminId) throws SQLException, IOException {
+        LocalDate first = config.anchorDate().minusMonths(config.months());
+        LocalDate last = config.anchorDate().plusDays(config.futureDays());
+        long id = 1;
+        try (CopyBuffer out = new CopyBuffer("reservations",
+                "id, created_at, customer_name, customer_phone, special_requests, status_id, created_by, table_id, "
+                        + "person_count, email, reservation_date, reservation_time")) {
+            for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+                boolean future = day.isAfter(config.anchorDate());
+                Map<Long, List<Integer>> booked = new HashMap<>();
+                int count = dailyCount(config.reservationsPerDay(), day);
+                for (int n = 0; n < count; n++) {
+                    int startMinute = reservationMinute();
+                    int party = 1 + random.nextInt(random.nextInt(4) == 0 ? 8 : 4);
+                    TableRow table = null;
+                    for (int attempt = 0; attempt < 12 && table == null; attempt++) {
+                        TableRow candidate = tables.get(random.nextInt(tables.size()));
+                        if (candidate.capacity() >= party && (!future || free(booked, candidate.id(), startMinute))) {
+                            table = candidate;
+                        }
+                    }
+                    if (table == null) {
+                        continue;
+                    }
+                    int status;
+                    if (future) {
+                        status = random.nextInt(100) < 85 ? CONFIRMED : PENDING;
+                        booked.computeIfAbsent(table.id(), k -> new ArrayList<>()).add(startMinute);
+                    } else {
+                        int roll = random.nextInt(100);
+                        status = roll < 78 ? COMPLETED : roll < 86 ? NO_SHOW : CANCELLED;
+                    }
+                    LocalDateTime createdAt = day.minusDays(random.nextInt(1, 15)).atTime(9 + random.nextInt(12), random.nextInt(60));
+                    out.add(id++).add(createdAt).add(personName()).add(phone())
+                            .add(random.nextInt(6) == 0 ? SPECIAL_REQUESTS[random.nextInt(SPECIAL_REQUESTS.length)] : null)
+                            .add(status).add(adminId).add(table.id()).add(party)
+                            .add(random.nextInt(3) == 0 ? "musteri" + id + "@example.com" : null)
+                            .add(day).add(LocalTime.of(startMinute / 60, startMinute % 60)).endRow();
+                }
+            }
+            out.load(connection);
+        }
+    }
+
+    private void resetSequences(Connection connection) throws SQLException {
+        String[] tables = {"salons", "dining_tables", "stocks", "products", "users", "orders", "order_items",
+                "payments", "stock_movements", "reservations"};
+        try (Statement st = connection.createStatement()) {
+            for (String table : tables) {
+                st.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + "), false)");
+            }
+        }
+    }
+
+    private static boolean free(Map<Long, List<Integer>> booked, long tableId, int startMinute) {
+        for (int other : booked.getOrDefault(tableId, List.of())) {
+            if (Math.abs(other - startMinute) < SLOT_MINUTES) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int dailyCount(int base, LocalDate day) {
+        double weight = DAY_WEIGHTS[day.getDayOfWeek().getValue() - 1];
+        // Yaz aylarında hafif artış
+        double season = 1.0 + 0.1 * Math.sin((day.getDayOfYear() - 80) * 2 * Math.PI / 365);
+        return (int) Math.round(base * weight * season * (0.85 + 0.3 * random.nextDouble()));
+    }
+
+    /**
+     * Sabah, öğle ve akşam yoğunluğunun karışımı; açılış-kapanış saatine kırpılır.
+     */
+    private LocalTime orderTime() {
+        double roll = random.nextDouble();
+        double minute;
+        if (roll < 0.08) {
+            minute = gaussian(10 * 60 + 45, 30);
+        } else if (roll < 0.38) {
+            minute = gaussian(13 * 60, 40);
+        } else if (roll < 0.90) {
+            minute = gaussian(20 * 60, 60);
+        } else {
+            minute = OPEN.toSecondOfDay() / 60.0 + random.nextDouble() * (CLOSE.toSecondOfDay() - OPEN.toSecondOfDay()) / 60.0;
+        }
+        int clamped = (int) Math.max(OPEN.toSecondOfDay() / 60, Math.min(CLOSE.toSecondOfDay() / 60 - 1, minute));
+        return LocalTime.of(clamped / 60, clamped % 60, random.nextInt(60));
+    }
+
+    /**
+     * Rezervasyonlar çeyrek saatlere, çoğunlukla 19:00-21:00 arasına düşer.
+     */
+    private int reservationMinute() {
+        double minute = random.nextInt(100) < 25 ? gaussian(13 * 60, 45) : gaussian(20 * 60, 50);
+        int quarter = (int) Math.round(minute / 15) * 15;
+        return Math.max(12 * 60, Math.min(21 * 60 + 30, quarter));
+    }
+
+    private double gaussian(double mean, double stddev) {
+        // Box-Muller; SplittableRandom'da nextGaussian yok
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return mean + stddev * Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    private static double[] zipfCumulative(int n, double exponent) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private int sample(double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+    }
+
+    private int[] shuffledIndexes(int n) {
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = tmp;
+        }
+        return indexes;
+    }
+
+    private String personName() {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private String phone() {
+        return "05" + (30 + random.nextInt(30)) + String.format("%07d", random.nextInt(10_000_000));
+    }
+}
@@ -0,0 +1,97 @@
+-- Rezervasyon listeleme ve arama benchmark'ı: 1M geçmiş rezervasyon üzerinde eski ve yeni sorgu planları
+-- Kullanım (V1-V7 migration'ları uygulanmış, en az bir masa ve kullanıcı olan bir DB'de):
+--   psql -d <db> -f localdatabase/benchmarks/reservation_search_benchmark.sql
+-- Her şey tek transaction içinde çalışır ve sonunda ROLLBACK edilir; veri kalıcı değildir.
+\timing on
+BEGIN;
+
+-- 1M geçmiş rezervasyon: son 5 yıla yayılmış, çoğu COMPLETED (aktif olmadıkları için exclusion kısıtına takılmaz)
+WITH t AS (SELECT array_agg(id) AS ids FROM dining_tables),
+     u AS (SELECT min(id) AS id FROM users)
+INSERT INTO reservations (created_at, customer_name, customer_phone, special_requests, status_id, created_by,
+                          table_id, person_count, email, reservation_date, reservation_time)
+SELECT now(),
+       (ARRAY['Ahmet','Ayşe','Mehmet','Fatma','İsmail','Işıl','Can','Zeynep'])[1 + g % 8] || ' Müşteri ' || g,
+       '0555' || lpad((g % 10000000)::text, 7, '0'),
+       NULL,
+       (ARRAY[3, 3, 3, 3, 3, 3, 3, 2, 4, 3])[1 + g % 10],
+       u.id,
+       t.ids[1 + g % array_length(t.ids, 1)],
+       1 + g % 8,
+       NULL,
+       CURRENT_DATE - (g % 1825),
+       make_time(12 + (g / 1825) % 11, ((g / 20075) % 4) * 15, 0)
+FROM generate_series(1, 1000000) AS g, t, u;
+
+ANALYZE reservations;
+
+-- A) Eski: getReservationsByDateRange (dört yönlü OR, sayfalama yok) - son 30 gün
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.* FROM reservations r
+WHERE (r.reservation_date > CURRENT_DATE - 30 OR (r.reservation_date = CURRENT_DATE - 30 AND r.reservation_time >= '00:00'))
+  AND (r.reservation_date < CURRENT_DATE OR (r.reservation_date = CURRENT_DATE AND r.reservation_time < '23:59:59'));
+
+-- B) Yeni: /search ilk sayfa (50 satır), tarih aralığı + projection
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id, s.id, s.name, t.id, r.customer_name, r.customer_phone, r.special_requests, r.email,
+       r.person_count, r.status_id, u.name, r.created_at, r.reservation_date, r.reservation_time
+FROM reservations r
+JOIN dining_tables t ON t.id = r.table_id
+LEFT JOIN salons s ON s.id = t.salon_id
+JOIN users u ON u.id = r.created_by
+WHERE r.reservation_date >= CURRENT_DATE - 30 AND r.reservation_date <= CURRENT_DATE
+ORDER BY r.reservation_date, r.reservation_time, r.id
+LIMIT 51;
+
+-- C) Yeni: derin sayfa (cursor ~2,5 yıl geride) - OFFSET'ten bağımsız sabit maliyet
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id, r.reservation_date, r.reservation_time
+FROM reservations r
+WHERE (r.reservation_date, r.reservation_time, r.id) > (CURRENT_DATE - 900, TIME '18:00', 0)
+ORDER BY r.reservation_date, r.reservation_time, r.id
+LIMIT 51;
+
+-- D) Karşılaştırma: aynı derinlikte OFFSET sayfalama
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id, r.reservation_date, r.reservation_time
+FROM reservations r
+ORDER BY r.reservation_date, r.reservation_time, r.id
+OFFSET 500000 LIMIT 51;
+
+-- E) Yeni: durum + ad öneki filtresi (katlanmış ad, V7)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id, r.customer_name, r.reservation_date, r.reservation_time
+FROM reservations r
+WHERE r.status_id IN (2, 4) AND tr_fold(r.customer_name) LIKE 'zeynep%'
+ORDER BY r.reservation_date, r.reservation_time, r.id
+LIMIT 51;
+
+-- F) Eski: findByCustomerNameContainingIgnoreCase (LIKE '%x%', tam tablo taraması)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.* FROM reservations r WHERE upper(r.customer_name) LIKE upper('%ışıl müşteri 12345%');
+
+-- G) Yeni: /autocomplete geçmiş kısmı, nadir eşleşme (trigram GIN) - hedef < 20 ms
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id FROM reservations r
+WHERE r.search_text LIKE '%isil musteri 12345%'
+  AND NOT (r.reservation_date >= CURRENT_DATE AND r.status_id IN (1, 5))
+ORDER BY r.reservation_date DESC, r.reservation_time DESC, r.id DESC
+LIMIT 10;
+
+-- H) Yeni: /autocomplete geçmiş kısmı, yaygın ad (çok eşleşme; tarih indeksinden erken durur)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id FROM reservations r
+WHERE r.search_text LIKE '%ahmet%'
+  AND NOT (r.reservation_date >= CURRENT_DATE AND r.status_id IN (1, 5))
+ORDER BY r.reservation_date DESC, r.reservation_time DESC, r.id DESC
+LIMIT 10;
+
+-- I) Yeni: /autocomplete telefon parçası
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT r.id FROM reservations r
+WHERE r.search_text LIKE '%0555012%'
+  AND NOT (r.reservation_date >= CURRENT_DATE AND r.status_id IN (1, 5))
+ORDER BY r.reservation_date DESC, r.reservation_time DESC, r.id DESC
+LIMIT 10;
+
+ROLLBACK;
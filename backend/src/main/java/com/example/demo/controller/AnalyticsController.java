@@ -4,9 +4,12 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.format.annotation.DateTimeFormat;
@@ -14,18 +17,24 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.demo.dto.response.TopProductDTO;
 import com.example.demo.dto.response.TopProductsSummaryResponseDTO;
 import com.example.demo.enums.TopProductsPeriod;
 import com.example.demo.model.DailySalesSummary;
 import com.example.demo.repository.DailySalesSummaryRepository;
+import com.example.demo.service.AnalyticsResponseCache;
 import com.example.demo.service.AnalyticsService;
 import com.example.demo.service.DailySalesSummaryJobService;
+import com.example.demo.service.PerformanceMetricsService;
+import com.example.demo.service.SummaryBackfillService;
+import com.example.demo.service.SummaryGenerationPlanner;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,11 +44,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 
 /**
  * En çok satan ürünler grafiği için HTTP uçları.
  */
+@Slf4j
 @RestController
 @RequestMapping("/api/analytics")
 @RequiredArgsConstructor
@@ -50,6 +61,10 @@ public class AnalyticsController {
     private final AnalyticsService analyticsService;
     private final DailySalesSummaryJobService dailySalesSummaryJobService;
     private final DailySalesSummaryRepository dailySalesSummaryRepository;
+    private final SummaryBackfillService summaryBackfillService;
+    private final SummaryGenerationPlanner summaryGenerationPlanner;
+    private final AnalyticsResponseCache analyticsResponseCache;
+    private final PerformanceMetricsService performanceMetricsService;
 
     @GetMapping("/top-products")
     @Operation(
@@ -73,8 +88,12 @@ public class AnalyticsController {
         @Parameter(description = "Time period for top products", example = "DAILY", required = true)
         @RequestParam(name = "period") TopProductsPeriod period,
         @Parameter(description = "Maximum number of products to return", example = "10", required = false)
-        @RequestParam(name = "limit", defaultValue = "10") int limit
+        @RequestParam(name = "limit", defaultValue = "10") int limit,
+        WebRequest request
     ) {
+        if (notModified(request, "top-products", analyticsService.getCacheVersionTag(period), limit)) {
+            return null;
+        }
         return ResponseEntity.ok(analyticsService.getTopProducts(period, limit));
     }
 
@@ -97,8 +116,15 @@ public class AnalyticsController {
     })
     public ResponseEntity<TopProductsSummaryResponseDTO> getTopProductsSummary(
         @Parameter(description = "Maximum number of products to return for each period", example = "10", required = false)
-        @RequestParam(name = "limit", defaultValue = "10") int limit
+        @RequestParam(name = "limit", defaultValue = "10") int limit,
+        WebRequest request
     ) {
+        String versionTag = Arrays.stream(TopProductsPeriod.values())
+                .map(analyticsService::getCacheVersionTag)
+                .collect(Collectors.joining(","));
+        if (notModified(request, "top-products-summary", versionTag, limit)) {
+            return null;
+        }
         return ResponseEntity.ok(analyticsService.getTopProductsSummary(limit));
     }
 
@@ -121,7 +147,11 @@ public class AnalyticsController {
     })
     public ResponseEntity<List<TopProductDTO>> getDaily(
         @Parameter(description = "Maximum number of products to return", example = "10", required = false)
-        @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        @RequestParam(name = "limit", defaultValue = "10") int limit,
+        WebRequest request) {
+        if (notModified(request, "top-products", analyticsService.getCacheVersionTag(TopProductsPeriod.DAILY), limit)) {
+            return null;
+        }
         return ResponseEntity.ok(analyticsService.getTopProducts(TopProductsPeriod.DAILY, limit));
     }
 
@@ -144,7 +174,11 @@ public class AnalyticsController {
     })
     public ResponseEntity<List<TopProductDTO>> getWeekly(
         @Parameter(description = "Maximum number of products to return", example = "10", required = false)
-        @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        @RequestParam(name = "limit", defaultValue = "10") int limit,
+        WebRequest request) {
+        if (notModified(request, "top-products", analyticsService.getCacheVersionTag(TopProductsPeriod.WEEKLY), limit)) {
+            return null;
+        }
         return ResponseEntity.ok(analyticsService.getTopProducts(TopProductsPeriod.WEEKLY, limit));
     }
 
@@ -167,7 +201,11 @@ public class AnalyticsController {
     })
     public ResponseEntity<List<TopProductDTO>> getMonthly(
         @Parameter(description = "Maximum number of products to return", example = "10", required = false)
-        @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        @RequestParam(name = "limit", defaultValue = "10") int limit,
+        WebRequest request) {
+        if (notModified(request, "top-products", analyticsService.getCacheVersionTag(TopProductsPeriod.MONTHLY), limit)) {
+            return null;
+        }
         return ResponseEntity.ok(analyticsService.getTopProducts(TopProductsPeriod.MONTHLY, limit));
     }
 
@@ -190,7 +228,11 @@ public class AnalyticsController {
     })
     public ResponseEntity<List<TopProductDTO>> getYearly(
         @Parameter(description = "Maximum number of products to return", example = "10", required = false)
-        @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        @RequestParam(name = "limit", defaultValue = "10") int limit,
+        WebRequest request) {
+        if (notModified(request, "top-products", analyticsService.getCacheVersionTag(TopProductsPeriod.YEARLY), limit)) {
+            return null;
+        }
         return ResponseEntity.ok(analyticsService.getTopProducts(TopProductsPeriod.YEARLY, limit));
     }
 
@@ -323,8 +365,12 @@ public class AnalyticsController {
     })
     public ResponseEntity<Map<String, Object>> getRevenueAnalytics(
         @Parameter(description = "Time period for analytics", example = "DAILY", required = true)
-        @RequestParam(name = "period") TopProductsPeriod period
+        @RequestParam(name = "period") TopProductsPeriod period,
+        WebRequest request
     ) {
+        if (notModified(request, "revenue", analyticsService.getCacheVersionTag(period), null)) {
+            return null;
+        }
         return ResponseEntity.ok(analyticsService.getRevenueAnalytics(period));
     }
 
@@ -371,8 +417,12 @@ public class AnalyticsController {
     })
     public ResponseEntity<Map<String, String>> getCategorySalesBreakdown(
         @Parameter(description = "Time period for analytics", example = "DAILY", required = true)
-        @RequestParam(name = "period") TopProductsPeriod period
+        @RequestParam(name = "period") TopProductsPeriod period,
+        WebRequest request
     ) {
+        if (notModified(request, "category-sales", analyticsService.getCacheVersionTag(period), null)) {
+            return null;
+        }
         return ResponseEntity.ok(analyticsService.getCategorySalesBreakdown(period));
     }
 
@@ -395,19 +445,13 @@ public class AnalyticsController {
     })
     public ResponseEntity<Map<String, Object>> getEmployeePerformance(
         @Parameter(description = "Time period for analytics", example = "DAILY", required = true)
-        @RequestParam(name = "period") TopProductsPeriod period
+        @RequestParam(name = "period") TopProductsPeriod period,
+        WebRequest request
     ) {
-        try {
-            Map<String, Object> result = analyticsService.getEmployeePerformance(period);
-            System.out.println("Employee performance result: " + result);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            System.err.println("Error in getEmployeePerformance: " + e.getMessage());
-            e.printStackTrace();
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        if (notModified(request, "employee-performance", analyticsService.getCacheVersionTag(period), null)) {
+            return null;
         }
+        return ResponseEntity.ok(analyticsService.getEmployeePerformance(period));
     }
 
     // Manual summary generation endpoints
@@ -646,6 +690,71 @@ public class AnalyticsController {
         }
     }
 
+    @PostMapping("/generate-batch")
+    @Operation(
+        summary = "Regenerate summaries for a date range in parallel",
+        description = "Splits the date range into independent day partitions, aggregates them in parallel (each in its own read-only transaction) and merges them into the requested report types. Returns a job id immediately."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Generation job accepted",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Accepted Response",
+                    value = "{\"jobId\": \"3f2c...\", \"status\": \"QUEUED\", \"startDate\": \"2024-01-01\", \"endDate\": \"2024-12-31\", \"reportTypes\": [\"DAILY\", \"MONTHLY\"], \"totalSummaries\": 378}"
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid date range or report type")
+    })
+    public ResponseEntity<Map<String, Object>> generateBatch(
+        @Parameter(description = "Start date of the range", example = "2024-01-01", required = true)
+        @RequestParam(name = "startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @Parameter(description = "End date of the range", example = "2024-12-31", required = true)
+        @RequestParam(name = "endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @Parameter(description = "Report types to generate", example = "DAILY,WEEKLY,MONTHLY,YEARLY", required = false)
+        @RequestParam(name = "reportTypes", defaultValue = "DAILY,WEEKLY,MONTHLY,YEARLY") List<String> reportTypes
+    ) {
+        Set<String> types = new LinkedHashSet<>();
+        reportTypes.forEach(t -> types.add(t.trim().toUpperCase()));
+        SummaryGenerationPlanner.GenerationJob job = summaryGenerationPlanner.submit(startDate, endDate, types);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.toStatusMap());
+    }
+
+    @GetMapping("/generate-batch/{jobId}")
+    @Operation(
+        summary = "Get the status of a batch generation job",
+        description = "Returns progress (partitions aggregated, summaries written) and errors of a batch generation job."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Job status retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public ResponseEntity<Map<String, Object>> getBatchJobStatus(
+        @Parameter(description = "Job id returned by generate-batch", required = true)
+        @PathVariable String jobId
+    ) {
+        return summaryGenerationPlanner.getJob(jobId)
+                .map(job -> ResponseEntity.ok(job.toStatusMap()))
+                .orElseGet(() -> {
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("error", "Job not found");
+                    errorResponse.put("jobId", jobId);
+                    errorResponse.put("timestamp", LocalDateTime.now());
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+                });
+    }
+
+    @GetMapping("/generate-batch")
+    @Operation(
+        summary = "List batch generation jobs",
+        description = "Lists batch generation jobs submitted since the application started, newest first."
+    )
+    public ResponseEntity<List<Map<String, Object>>> getBatchJobs() {
+        return ResponseEntity.ok(summaryGenerationPlanner.getJobs().stream()
+                .map(SummaryGenerationPlanner.GenerationJob::toStatusMap)
+                .collect(Collectors.toList()));
+    }
+
     @PostMapping("/ensure-current-summaries")
     @Operation(
         summary = "Ensure current period summaries are available",
@@ -675,7 +784,7 @@ public class AnalyticsController {
     @GetMapping("/performance-metrics")
     @Operation(
         summary = "Get comprehensive performance metrics for all periods",
-        description = "Retrieves comprehensive performance metrics including revenue, category breakdown, employee performance, and top products for all time periods (DAILY, WEEKLY, MONTHLY, YEARLY)."
+        description = "Retrieves comprehensive performance metrics including revenue, category breakdown, employee performance, and top products for all time periods (DAILY, WEEKLY, MONTHLY, YEARLY). Periods are computed in parallel under a shared deadline; sections that fail or time out are null and listed under the period's \"errors\", and \"meta.partial\" is true."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved performance metrics",
@@ -689,20 +798,8 @@ public class AnalyticsController {
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Map<String, Object>> getPerformanceMetrics() {
-        Map<String, Object> metrics = new HashMap<>();
-        
-        // Get metrics for all periods
-        for (TopProductsPeriod period : TopProductsPeriod.values()) {
-            Map<String, Object> periodMetrics = new HashMap<>();
-            periodMetrics.put("revenue", analyticsService.getRevenueAnalytics(period));
-            periodMetrics.put("categoryBreakdown", analyticsService.getCategorySalesBreakdown(period));
-            periodMetrics.put("employeePerformance", analyticsService.getEmployeePerformance(period));
-            periodMetrics.put("topProducts", analyticsService.getTopProducts(period, 5)); // Top 5 for overview
-            
-            metrics.put(period.name().toLowerCase(), periodMetrics);
-        }
-        
-        return ResponseEntity.ok(metrics);
+        // Dönemler paralel hesaplanır; geç kalan veya hata veren bölümler cevapta işaretlenir (meta.partial)
+        return ResponseEntity.ok(performanceMetricsService.getPerformanceMetrics());
     }
 
     @GetMapping("/summary-status")
@@ -764,6 +861,44 @@ public class AnalyticsController {
         }
     }
 
+    @GetMapping("/backfill/status")
+    @Operation(
+        summary = "Get background summary backfill progress",
+        description = "Returns the state (IDLE, WARMING, READY) and progress of the background summary generation started at application startup."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Backfill progress retrieved successfully",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Success Response",
+                    value = "{\"state\": \"WARMING\", \"parallelism\": 2, \"totalTasks\": 7, \"completedTasks\": 3, \"failedTasks\": 0, \"percentComplete\": 42}"
+                )
+            )
+        )
+    })
+    public ResponseEntity<Map<String, Object>> getBackfillStatus() {
+        return ResponseEntity.ok(summaryBackfillService.getProgress());
+    }
+
+    @GetMapping("/cache/stats")
+    @Operation(
+        summary = "Get analytics response cache statistics",
+        description = "Returns hit, miss and 304 Not Modified counts and hit ratios of the analytics response cache, per endpoint section."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cache statistics retrieved successfully",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Success Response",
+                    value = "{\"hits\": 950, \"misses\": 50, \"notModified\": 4200, \"hitRatio\": 0.95, \"entries\": 24, \"sections\": {\"revenue\": {\"hits\": 300, \"misses\": 8, \"notModified\": 1200, \"hitRatio\": 0.974}}}"
+                )
+            )
+        )
+    })
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(analyticsResponseCache.getStats());
+    }
+
     @GetMapping("/realtime-stats")
     @Operation(
         summary = "Get real-time statistics for dashboard",
@@ -791,6 +926,16 @@ public class AnalyticsController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
-}
-
 
+    /**
+     * ETag is derived from the summary version, so an unchanged summary answers 304 without building the body
+     */
+    private boolean notModified(WebRequest request, String section, String versionTag, Object params) {
+        String etag = "\"" + section + ":" + versionTag + (params != null ? ":" + params : "") + "\"";
+        if (request.checkNotModified(etag)) {
+            analyticsResponseCache.recordNotModified(section);
+            return true;
+        }
+        return false;
+    }
+}
@@ -7,6 +7,7 @@ import com.example.demo.repository.RoleRepository;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.security.JwtUtil;
 import com.example.demo.service.*;
+import com.example.demo.mapper.UserMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -40,6 +41,8 @@ public class AuthController {
     private final JwtUtil jwtUtil;
     private final AuthService authService;
     private final RoleRepository roleRepository;
+    private final RoleService roleService;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final UserRepository userRepository;
     private final TemporaryPasswordService temporaryPasswordService;
     private final EmailService emailService;
@@ -140,11 +143,13 @@ public class AuthController {
         user.setEmail(req.getEmail());
         user = userService.createUserWithTemporaryPassword(user, temporaryPassword);
 
-        Role adminRole = roleRepository.findByName("admin").orElseGet(() -> {
-            Role r = new Role();
-            r.setName("admin");
-            return roleRepository.save(r);
-        });
+        Role adminRole = referenceDataRegistry.findRole("admin")
+                .map(role -> roleRepository.getReferenceById(role.id()))
+                .orElseGet(() -> {
+                    Role r = new Role();
+                    r.setName("admin");
+                    return roleService.createRole(r);
+                });
         UserRoleId userRoleId = new UserRoleId();
         userRoleId.setUserId(user.getId());
         userRoleId.setRoleId(adminRole.getId());
@@ -315,8 +320,8 @@ public class AuthController {
             response.setAuthorized(hasRole);
             response.setRoleName(roleName);
             try {
-                Integer roleId = roleRepository.findByName(roleName)
-                        .map(role -> Math.toIntExact(role.getId()))
+                Integer roleId = referenceDataRegistry.findRole(roleName)
+                        .map(role -> Math.toIntExact(role.id()))
                         .orElse(null);
                 response.setRoleId(roleId);
             } catch (NullPointerException e) {
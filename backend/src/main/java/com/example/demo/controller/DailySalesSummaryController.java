@@ -5,6 +5,7 @@ import com.example.demo.service.DailySalesSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +18,7 @@ import java.util.Map;
         name = "Sales Summary Reports",
         description = "API for retrieving daily, weekly, and monthly sales summaries with comprehensive analytics."
 )
+@Slf4j
 @RestController
 @RequestMapping("/api/daily-sales-summary")
 @CrossOrigin(origins = "*")
@@ -212,7 +214,7 @@ public class DailySalesSummaryController {
             DailySalesSummaryResponseDTO response = service.generateMonthlyReport(year, month);
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
-            e.printStackTrace();
+            log.error("Monthly report generation failed for {}-{}: {}", year, month, e.getMessage(), e);
             return ResponseEntity.badRequest().build();
         }
     }
@@ -11,13 +11,11 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Tag(
         name = "Dashboard",
@@ -33,7 +31,6 @@ public class DashboardController {
     private final AuthService authService;
     private final UserService userService;
     private final DiningTableService diningTableService;
-    private final ModelMapper modelMapper;
 
     @GetMapping
     @Operation(
@@ -81,9 +78,8 @@ public class DashboardController {
                     ? 0
                     : user.getUserRoles().iterator().next().getRole().getId();
 
-            List<DiningTableResponseDto> tables = diningTableService.getAllTables().stream()
-                    .map(table -> modelMapper.map(table, DiningTableResponseDto.class))
-                    .collect(Collectors.toList());
+            // Masalar bellekteki salon krokisi snapshot'ından gelir
+            List<DiningTableResponseDto> tables = diningTableService.getAllDiningTables();
 
             log.info("Dashboard verileri başarıyla getirildi: userId={}", userId);
 
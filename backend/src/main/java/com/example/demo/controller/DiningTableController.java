@@ -16,9 +16,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.dto.request.BulkDiningTableCreateRequestDTO;
+import com.example.demo.dto.request.BulkTableMoveRequestDTO;
 import com.example.demo.dto.request.DiningTableRequestDto;
+import com.example.demo.dto.response.BulkTableOperationResponseDTO;
 import com.example.demo.dto.response.DiningTableResponseDto;
+import com.example.demo.dto.response.FloorStateResponseDTO;
 import com.example.demo.service.DiningTableService;
+import com.example.demo.service.FloorStateService;
 import com.example.demo.service.TableStatusService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -44,6 +49,7 @@ public class DiningTableController {
 
     private final DiningTableService diningTableService;
     private final TableStatusService tableStatusService;
+    private final FloorStateService floorStateService;
 
     // Yardımcı metod: status String'ini statusId Long'a çevirir
     private Long convertStatusToId(String status) {
@@ -73,7 +79,7 @@ public class DiningTableController {
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<List<DiningTableResponseDto>> getAllDiningTables() {
-        log.info("Tüm masalar getiriliyor");
+        log.debug("Tüm masalar getiriliyor");
         return ResponseEntity.ok(diningTableService.getAllDiningTables());
     }
 
@@ -98,7 +104,7 @@ public class DiningTableController {
     public ResponseEntity<DiningTableResponseDto> getDiningTableById(
         @Parameter(description = "Unique identifier of the dining table", example = "1", required = true)
         @PathVariable Long id) {
-        log.info("ID ile masa getiriliyor: id={}", id);
+        log.debug("ID ile masa getiriliyor: id={}", id);
         return ResponseEntity.ok(diningTableService.getDiningTableById(id));
     }
 
@@ -174,6 +180,26 @@ public class DiningTableController {
         return ResponseEntity.ok(diningTableService.getAvailableTablesBySalon(salonId));
     }
 
+    @GetMapping("/floor-state")
+    @Operation(
+        summary = "Get floor-plan state",
+        description = "Returns salons and tables with their current status from the in-memory floor state. " +
+                "Pass the version from the previous response as sinceVersion to receive only tables and salons changed since then " +
+                "plus removed ids; a full snapshot (full=true) is returned when the version is unknown or too old."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved floor-plan state",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = FloorStateResponseDTO.class))
+        ),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<FloorStateResponseDTO> getFloorState(
+        @Parameter(description = "Version returned by the previous floor-state call", example = "1729332000000001", required = false)
+        @RequestParam(required = false) Long sinceVersion) {
+        return ResponseEntity.ok(floorStateService.getFloorState(sinceVersion));
+    }
+
     @PostMapping
     @Operation(
         summary = "Create a new dining table",
@@ -200,6 +226,86 @@ public class DiningTableController {
         return ResponseEntity.status(HttpStatus.CREATED).body(diningTableService.createDiningTable(requestDto));
     }
 
+    @PostMapping("/bulk")
+    @Operation(
+        summary = "Create dining tables in bulk",
+        description = "Creates several dining tables in a single transaction (e.g. setting up a new salon). Table numbers are checked for uniqueness with one query; the whole batch is rejected if any number is taken or repeated."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Dining tables created successfully",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = BulkTableOperationResponseDTO.class),
+                examples = @ExampleObject(
+                    name = "Success Response",
+                    value = "{\"affectedTables\": 3, \"tableIds\": [21, 22, 23], \"salonIds\": [2]}"
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid request data"),
+        @ApiResponse(responseCode = "404", description = "Salon or table status not found"),
+        @ApiResponse(responseCode = "409", description = "One or more table numbers already exist"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BulkTableOperationResponseDTO> createDiningTables(
+        @Parameter(description = "Dining tables to create", required = true)
+        @Valid @RequestBody BulkDiningTableCreateRequestDTO requestDto) {
+        log.info("Toplu masa oluşturuluyor: {} masa", requestDto.getTables().size());
+        return ResponseEntity.status(HttpStatus.CREATED).body(diningTableService.createDiningTables(requestDto.getTables()));
+    }
+
+    @PatchMapping("/bulk/salon")
+    @Operation(
+        summary = "Move dining tables to another salon",
+        description = "Moves the given dining tables to the target salon in a single update. Capacity and table counts of the affected salons are recalculated once."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Dining tables moved successfully",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = BulkTableOperationResponseDTO.class),
+                examples = @ExampleObject(
+                    name = "Success Response",
+                    value = "{\"affectedTables\": 2, \"tableIds\": [4, 5], \"salonIds\": [1, 2]}"
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid request data"),
+        @ApiResponse(responseCode = "404", description = "Salon or dining table not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BulkTableOperationResponseDTO> moveTablesToSalon(
+        @Parameter(description = "Tables to move and the target salon", required = true)
+        @Valid @RequestBody BulkTableMoveRequestDTO requestDto) {
+        log.info("Masalar salona taşınıyor: {} masa -> salonId={}", requestDto.getTableIds().size(), requestDto.getTargetSalonId());
+        return ResponseEntity.ok(diningTableService.moveTablesToSalon(requestDto.getTableIds(), requestDto.getTargetSalonId()));
+    }
+
+    @PatchMapping("/salon/{salonId}/status/{status}")
+    @Operation(
+        summary = "Set the status of all tables in a salon",
+        description = "Sets the status of every dining table in the salon in a single update, e.g. resetting the floor to AVAILABLE after closing."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Table statuses updated successfully",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = BulkTableOperationResponseDTO.class),
+                examples = @ExampleObject(
+                    name = "Success Response",
+                    value = "{\"affectedTables\": 12, \"tableIds\": [1, 2, 3], \"salonIds\": [1]}"
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "Salon or status not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BulkTableOperationResponseDTO> updateSalonTableStatuses(
+        @Parameter(description = "Unique identifier of the salon", example = "1", required = true)
+        @PathVariable Long salonId,
+        @Parameter(description = "New status for all tables in the salon", example = "AVAILABLE", required = true)
+        @PathVariable String status) {
+        log.info("Salondaki masaların durumu güncelleniyor: salonId={}, status={}", salonId, status);
+        return ResponseEntity.ok(diningTableService.updateSalonTableStatuses(salonId, convertStatusToId(status)));
+    }
+
     @PutMapping("/{id}")
     @Operation(
         summary = "Update dining table",
@@ -1,6 +1,7 @@
 package com.example.demo.controller;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +10,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -17,8 +19,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.dto.request.OrderDeltaRequestDTO;
 import com.example.demo.dto.request.OrderRequestDTO;
+import com.example.demo.dto.response.OrderDeltaResponseDTO;
+import com.example.demo.dto.response.OrderPageResponseDTO;
 import com.example.demo.dto.response.OrderResponseDTO;
+import com.example.demo.repository.OrderSearchRepository;
 import com.example.demo.service.OrderService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -99,7 +105,8 @@ public class OrderController {
     @GetMapping
     @Operation(
             summary = "List orders",
-            description = "Lists orders; optionally filter by isCompleted and/or tableId."
+            description = "Lists all matching orders in one response; optionally filter by isCompleted and/or tableId. " +
+                    "Use /api/orders/search for paginated lists."
     )
     public ResponseEntity<List<OrderResponseDTO>> listOrders(
             @RequestParam(required = false) Boolean isCompleted,
@@ -109,6 +116,38 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    // Kasiyer ekranı: cursor sayfalı liste (tüm geçmişi tek yanıtta döndürmez)
+    @GetMapping("/search")
+    @Operation(
+            summary = "Search orders with filters and cursor pagination",
+            description = "Returns one page of orders with their items, newest first by default. Pass nextCursor from " +
+                    "the previous response to get the next page with the same filters."
+    )
+    public ResponseEntity<OrderPageResponseDTO> searchOrders(
+            @Parameter(description = "Completed (paid) orders only, or open orders only")
+            @RequestParam(required = false) Boolean isCompleted,
+            @Parameter(description = "Table ID")
+            @RequestParam(required = false) Long tableId,
+            @Parameter(description = "Waiter (user) ID")
+            @RequestParam(required = false) Long waiterId,
+            @Parameter(description = "Start date (format: yyyy-MM-dd)")
+            @RequestParam(required = false) String startDate,
+            @Parameter(description = "End date, inclusive (format: yyyy-MM-dd)")
+            @RequestParam(required = false) String endDate,
+            @Parameter(description = "Sort direction by creation time: asc or desc")
+            @RequestParam(defaultValue = "desc") String sort,
+            @Parameter(description = "Cursor from the previous page (nextCursor)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-200)")
+            @RequestParam(defaultValue = "50") int limit) {
+        OrderSearchRepository.Criteria criteria = new OrderSearchRepository.Criteria(
+                isCompleted, tableId, waiterId,
+                startDate != null ? LocalDate.parse(startDate).atStartOfDay() : null,
+                endDate != null ? LocalDate.parse(endDate).plusDays(1).atStartOfDay() : null,
+                !"asc".equalsIgnoreCase(sort));
+        return ResponseEntity.ok(orderService.searchOrders(criteria, cursor, limit));
+    }
+
     /*Mantık Endpointleri
     Bu endpointler, verilen siparişlerin gerçek dünya mantığına uygun olarak işlenmesini sağlar.
     Örn: Sipariş verildiğinde stok kontrolü ve işlenmesi, sipariş durumu güncelleme, sipariş iptali gibi işlemler.
@@ -188,6 +227,22 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    // 3) Kalem bazlı delta: tüm sepet yerine yalnızca değişen kalemler gönderilir
+    // Sipariş yoksa (masaya ilk dokunuş) önce /upsert-sync ile oluşturulur; dönen version burada kullanılır.
+    @PatchMapping("/{id}/items")
+    @Operation(
+            summary = "Apply item-level changes to an open order",
+            description = "Applies ADD / SET_QUANTITY / REMOVE / NOTE operations in order against the given order version. " +
+                    "Returns only the changed lines, removed product IDs, the new total and the new version. " +
+                    "Responds 409 if the order was changed by someone else since that version."
+    )
+    public ResponseEntity<OrderDeltaResponseDTO> applyItemDelta(
+            @PathVariable Long id,
+            @Valid @RequestBody OrderDeltaRequestDTO deltaRequestDTO,
+            Authentication authentication) {
+        return ResponseEntity.ok(orderService.applyItemDelta(id, deltaRequestDTO, authentication));
+    }
+
     // Proper Endpoint for actually finalizing an order for the usage of products to trickle down to stocks and stock movements.
     // POST /orders/:id/finalize
 
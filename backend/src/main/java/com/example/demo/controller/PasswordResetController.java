@@ -5,7 +5,9 @@ import com.example.demo.dto.request.ResetPasswordRequestDTO;
 import com.example.demo.service.PasswordResetService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/password")
 public class PasswordResetController {
@@ -26,15 +28,14 @@ public class PasswordResetController {
     // 2. Şifreyi sıfırla
     @PostMapping("/reset")
     public ResponseEntity<?> resetPassword(@RequestBody ResetPasswordRequestDTO updateDto) {
-        System.out.println("DEBUG: Reset endpoint called");
-        System.out.println("DEBUG: Token: " + updateDto.getToken());
+        log.debug("Reset endpoint called");
         if (updateDto.getNewPassword() == null) {
             return ResponseEntity.badRequest().body("Yeni şifre boş olamaz");
         }
-        System.out.println("DEBUG: New password length: " + updateDto.getNewPassword().length());
+        log.debug("New password length: {}", updateDto.getNewPassword().length());
 
         boolean result = passwordResetService.resetPassword(updateDto.getToken(), updateDto.getNewPassword());
-        System.out.println("DEBUG: Service result: " + result);
+        log.debug("Service result: {}", result);
 
         if (result) {
             return ResponseEntity.ok().body("Şifre başarıyla sıfırlandı");
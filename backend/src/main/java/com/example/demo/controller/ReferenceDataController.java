@@ -0,0 +1,58 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.ReferenceDataRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Tag(name = "Reference Data", description = "In-memory registry of table statuses, roles and restaurant settings")
+@Slf4j
+@RestController
+@RequestMapping("/api/reference-data")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class ReferenceDataController {
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    @GetMapping("/stats")
+    @Operation(
+        summary = "Get reference data cache statistics",
+        description = "Returns entry counts, hit/miss counts, reload counts and the last load time per reference data kind."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+            content = @Content(mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Success Response",
+                    value = "{\"TABLE_STATUSES\": {\"entries\": 3, \"hits\": 1520, \"misses\": 2, \"hitRatio\": 0.9987, \"loads\": 1, \"lastLoadedAt\": \"2025-01-15T09:00:00\"}}"
+                )
+            )
+        )
+    })
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(referenceDataRegistry.getStats());
+    }
+
+    @PostMapping("/reload")
+    @Operation(
+        summary = "Reload reference data",
+        description = "Reloads all reference data from the database (e.g. after seed rows were changed directly in SQL) and re-runs the seed self-check."
+    )
+    public ResponseEntity<Map<String, Object>> reload() {
+        log.info("Referans veriler yeniden yükleniyor");
+        referenceDataRegistry.reloadAll();
+        return ResponseEntity.ok(Map.of(
+                "problems", referenceDataRegistry.selfCheck(),
+                "stats", referenceDataRegistry.getStats()));
+    }
+}
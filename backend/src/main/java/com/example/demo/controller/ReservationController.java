@@ -1,13 +1,19 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.request.ReservationRequestDTO;
+import com.example.demo.dto.response.AvailabilitySlotDTO;
+import com.example.demo.dto.response.ReservationPageResponseDTO;
 import com.example.demo.dto.response.ReservationResponseDTO;
+import com.example.demo.dto.response.TableAvailabilityResponseDTO;
 import com.example.demo.enums.ReservationStatusConstants;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.mapper.ReservationMapper;
 import com.example.demo.model.DiningTable;
 import com.example.demo.model.Reservation;
 import com.example.demo.model.User;
+import com.example.demo.repository.ReservationSearchRepository;
 import com.example.demo.service.DiningTableService;
+import com.example.demo.service.ReservationAvailabilityService;
 import com.example.demo.service.ReservationService;
 import com.example.demo.service.UserService;
 import com.example.demo.service.AuthService;
@@ -15,7 +21,6 @@ import com.example.demo.validation.ReservationValidator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -35,11 +40,13 @@ import java.util.Optional;
 import com.example.demo.dto.response.DiningTableResponseDto;
 import java.time.format.DateTimeFormatter;
 import java.time.LocalTime;
+import lombok.extern.slf4j.Slf4j;
 
 @Tag(
         name = "Reservation Management",
         description = "APIs for managing reservations (CRUD operations, filtering, and status updates)."
 )
+@Slf4j
 @RestController
 @RequestMapping("/api/reservations")
 @CrossOrigin(origins = "*")
@@ -50,20 +57,23 @@ public class ReservationController {
     private final UserService userService;
     private final AuthService authService;
     private final ReservationValidator reservationValidator;
-    private final ModelMapper modelMapper;
+    private final ReservationMapper reservationMapper;
+    private final ReservationAvailabilityService reservationAvailabilityService;
 
     public ReservationController(ReservationService reservationService,
+                                 ReservationAvailabilityService reservationAvailabilityService,
                                  DiningTableService diningTableService,
                                  UserService userService,
                                  AuthService authService,
                                  ReservationValidator reservationValidator,
-                                 ModelMapper modelMapper) {
+                                 ReservationMapper reservationMapper) {
         this.reservationService = reservationService;
+        this.reservationAvailabilityService = reservationAvailabilityService;
         this.diningTableService = diningTableService;
         this.userService = userService;
         this.authService = authService;
         this.reservationValidator = reservationValidator;
-        this.modelMapper = modelMapper;
+        this.reservationMapper = reservationMapper;
     }
 
     @PostMapping(produces = "application/json;charset=UTF-8")
@@ -75,9 +85,9 @@ public class ReservationController {
             @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
             @RequestBody Object rawRequest) {
 
-        System.out.println("=== DEBUG: Starting createReservation ===");
-        System.out.println("=== DEBUG: Raw request type: " + rawRequest.getClass().getSimpleName());
-        System.out.println("=== DEBUG: Raw request: " + rawRequest.toString());
+        log.debug("Starting createReservation");
+        log.debug("Raw request type: {}", rawRequest.getClass().getSimpleName());
+        log.debug("Raw request: {}", rawRequest);
         
         try {
             // JWT token'dan kullanıcı ID'sini çıkar
@@ -85,48 +95,45 @@ public class ReservationController {
             if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
                 String token = authorizationHeader.substring(7);
                 currentUserId = authService.getUserIdFromToken(token);
-                System.out.println("=== DEBUG: JWT token'dan çıkarılan kullanıcı ID: " + currentUserId);
+                log.debug("JWT token'dan çıkarılan kullanıcı ID: {}", currentUserId);
             }
             
             if (currentUserId == null) {
-                System.err.println("=== ERROR: JWT token'dan kullanıcı ID'si çıkarılamadı ===");
+                log.error("JWT token'dan kullanıcı ID'si çıkarılamadı");
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(null);
             }
             
             // Frontend'den gelen veriyi backend formatına dönüştür
-            System.out.println("=== DEBUG: Calling transformFrontendData ===");
+            log.debug("Calling transformFrontendData");
             ReservationRequestDTO reservationRequestDTO = transformFrontendData(rawRequest, currentUserId);
-            System.out.println("=== DEBUG: transformFrontendData completed ===");
+            log.debug("transformFrontendData completed");
             
             // Enhanced debug logging
-            System.out.println("=== DEBUG: Received Reservation Request ===");
-            System.out.println("Table ID: " + reservationRequestDTO.getTableId());
-            System.out.println("Customer Name: " + reservationRequestDTO.getCustomerName());
-            System.out.println("Customer Phone: " + reservationRequestDTO.getCustomerPhone());
-            System.out.println("Reservation Time: " + reservationRequestDTO.getReservationTime());
-            System.out.println("Email: " + reservationRequestDTO.getEmail());
-            System.out.println("Person Count: " + reservationRequestDTO.getPersonCount());
-            System.out.println("Special Requests: " + reservationRequestDTO.getSpecialRequests());
-            System.out.println("Created By: " + reservationRequestDTO.getCreatedBy());
-            System.out.println("Status ID: " + reservationRequestDTO.getStatusId());
+            log.debug("Received Reservation Request");
+            log.debug("Table ID: {}", reservationRequestDTO.getTableId());
+            log.debug("Customer Name: {}", reservationRequestDTO.getCustomerName());
+            log.debug("Customer Phone: {}", reservationRequestDTO.getCustomerPhone());
+            log.debug("Reservation Time: {}", reservationRequestDTO.getReservationTime());
+            log.debug("Email: {}", reservationRequestDTO.getEmail());
+            log.debug("Person Count: {}", reservationRequestDTO.getPersonCount());
+            log.debug("Special Requests: {}", reservationRequestDTO.getSpecialRequests());
+            log.debug("Created By: {}", reservationRequestDTO.getCreatedBy());
+            log.debug("Status ID: {}", reservationRequestDTO.getStatusId());
             
             // Rezervasyon oluştur
-            System.out.println("=== DEBUG: Creating reservation... ===");
+            log.debug("Creating reservation...");
             Reservation reservation = createReservationFromDTO(reservationRequestDTO);
-            System.out.println("=== DEBUG: Reservation created successfully with ID: " + reservation.getId() + " ===");
+            log.debug("Reservation created successfully with ID: {}", reservation.getId());
             
             // Response DTO'ya dönüştür
             ReservationResponseDTO responseDTO = mapToResponseDTO(reservation);
             
-            System.out.println("=== DEBUG: createReservation completed successfully ===");
+            log.debug("createReservation completed successfully");
             return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
             
         } catch (Exception e) {
-            System.err.println("=== ERROR in createReservation ===");
-            System.err.println("Error type: " + e.getClass().getSimpleName());
-            System.err.println("Error message: " + e.getMessage());
-            e.printStackTrace();
+            log.error("createReservation failed: {} - {}", e.getClass().getSimpleName(), e.getMessage(), e);
             throw e;
         }
     }
@@ -143,7 +150,7 @@ public class ReservationController {
                 return ResponseEntity.badRequest().body(Map.of("error", "date field is required"));
             }
             
-            System.out.println("=== DEBUG: Testing date parse for: " + testDate);
+            log.debug("Testing date parse for: {}", testDate);
             
             // Test different formats
             DateTimeFormatter[] formatters = {
@@ -160,10 +167,10 @@ public class ReservationController {
                 try {
                     parsedDate = LocalDateTime.parse(testDate.trim(), formatter);
                     usedFormatter = formatter.toString();
-                    System.out.println("=== DEBUG: Successfully parsed with: " + usedFormatter);
+                    log.debug("Successfully parsed with: {}", usedFormatter);
                     break;
                 } catch (Exception e) {
-                    System.out.println("=== DEBUG: Formatter " + formatter.toString() + " failed: " + e.getMessage());
+                    log.debug("Formatter {} failed: {}", formatter, e.getMessage());
                 }
             }
             
@@ -188,8 +195,7 @@ public class ReservationController {
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            System.err.println("=== ERROR: Date parse test failed: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Date parse test failed: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Test başarısız: " + e.getMessage()));
         }
@@ -436,6 +442,94 @@ public class ReservationController {
         return ResponseEntity.ok(responseDTOs);
     }
 
+    @GetMapping(value = "/search", produces = "application/json;charset=UTF-8")
+    @Operation(
+            summary = "Search reservations with filters and cursor pagination",
+            description = "Returns one page of reservations ordered by date and time. Pass nextCursor from the previous " +
+                    "response to get the next page with the same filters."
+    )
+    public ResponseEntity<ReservationPageResponseDTO> searchReservations(
+            @Parameter(description = "Start date (format: yyyy-MM-dd)")
+            @RequestParam(required = false) String startDate,
+            @Parameter(description = "End date, inclusive (format: yyyy-MM-dd)")
+            @RequestParam(required = false) String endDate,
+            @Parameter(description = "Status IDs, comma separated (e.g. 1,5)")
+            @RequestParam(required = false) List<Integer> statusIds,
+            @Parameter(description = "Salon ID")
+            @RequestParam(required = false) Long salonId,
+            @Parameter(description = "Table ID")
+            @RequestParam(required = false) Long tableId,
+            @Parameter(description = "Customer name prefix (case-insensitive)")
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Sort direction by reservation date/time: asc or desc")
+            @RequestParam(defaultValue = "asc") String sort,
+            @Parameter(description = "Cursor from the previous page (nextCursor)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-200)")
+            @RequestParam(defaultValue = "50") int limit) {
+        ReservationSearchRepository.Criteria criteria = new ReservationSearchRepository.Criteria(
+                startDate != null ? LocalDate.parse(startDate) : null,
+                endDate != null ? LocalDate.parse(endDate) : null,
+                statusIds, salonId, tableId, name, "desc".equalsIgnoreCase(sort));
+        return ResponseEntity.ok(reservationService.searchReservations(criteria, cursor, limit));
+    }
+
+    @GetMapping(value = "/autocomplete", produces = "application/json;charset=UTF-8")
+    @Operation(
+            summary = "Autocomplete reservations by customer",
+            description = "Matches part of the customer name, phone or email (Turkish letters fold: İ/ı/I, ş, ğ, ...). " +
+                    "Upcoming active reservations are ranked first."
+    )
+    public ResponseEntity<List<ReservationResponseDTO>> autocompleteReservations(
+            @Parameter(description = "Search text (name, phone or email fragment)", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (1-25)")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(reservationService.autocompleteReservations(q, limit));
+    }
+
+    @GetMapping(value = "/availability", produces = "application/json;charset=UTF-8")
+    @Operation(
+            summary = "Find free tables for a party size and time",
+            description = "Returns tables that can seat the party at the requested time (best fit first) " +
+                    "and nearby alternative time slots. Answered from in-memory occupancy bitmaps."
+    )
+    public ResponseEntity<TableAvailabilityResponseDTO> getAvailability(
+            @Parameter(description = "Reservation date (format: yyyy-MM-dd)", required = true)
+            @RequestParam String date,
+            @Parameter(description = "Reservation time (format: HH:mm)", required = true)
+            @RequestParam String time,
+            @Parameter(description = "Number of guests", required = true)
+            @RequestParam int partySize,
+            @Parameter(description = "Optional salon filter")
+            @RequestParam(required = false) Long salonId,
+            @Parameter(description = "How far (minutes) to look before/after the requested time for alternatives")
+            @RequestParam(defaultValue = "90") int alternativesWindowMinutes) {
+        return ResponseEntity.ok(reservationAvailabilityService.findAvailability(
+                LocalDate.parse(date), LocalTime.parse(time), partySize, salonId, alternativesWindowMinutes));
+    }
+
+    @GetMapping(value = "/availability/slots", produces = "application/json;charset=UTF-8")
+    @Operation(
+            summary = "Get free tables for every slot of a day",
+            description = "Batch availability for the reservation calendar: free tables for each 15-minute slot between from and to."
+    )
+    public ResponseEntity<List<AvailabilitySlotDTO>> getAvailabilitySlots(
+            @Parameter(description = "Reservation date (format: yyyy-MM-dd)", required = true)
+            @RequestParam String date,
+            @Parameter(description = "Number of guests", required = true)
+            @RequestParam int partySize,
+            @Parameter(description = "Optional salon filter")
+            @RequestParam(required = false) Long salonId,
+            @Parameter(description = "First slot (format: HH:mm, default 08:00)")
+            @RequestParam(required = false) String from,
+            @Parameter(description = "Last slot (format: HH:mm, default 23:00)")
+            @RequestParam(required = false) String to) {
+        return ResponseEntity.ok(reservationAvailabilityService.findSlots(LocalDate.parse(date), partySize, salonId,
+                from != null ? LocalTime.parse(from) : null,
+                to != null ? LocalTime.parse(to) : null));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
             summary = "Delete a reservation",
@@ -478,7 +572,7 @@ public class ReservationController {
     )
     public ResponseEntity<Map<String, Object>> testTables() {
         try {
-            System.out.println("=== DEBUG: Testing tables existence ===");
+            log.debug("Testing tables existence");
             
             // Get all tables
             List<DiningTableResponseDto> allTables = diningTableService.getAllDiningTables();
@@ -492,12 +586,11 @@ public class ReservationController {
             response.put("allTables", allTables);
             response.put("availableTablesList", availableTables);
             
-            System.out.println("=== DEBUG: Total tables: " + allTables.size() + ", Available: " + availableTables.size());
+            log.debug("Total tables: {}, Available: {}", allTables.size(), availableTables.size());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            System.err.println("=== ERROR: Error testing tables: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error testing tables: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Test başarısız: " + e.getMessage()));
         }
@@ -510,7 +603,7 @@ public class ReservationController {
     )
     public ResponseEntity<List<Map<String, Object>>> getAvailableTables() {
         try {
-            System.out.println("=== DEBUG: Getting available tables ===");
+            log.debug("Getting available tables");
             List<DiningTableResponseDto> availableTables = diningTableService.getAvailableTables();
             
             List<Map<String, Object>> tableInfo = new ArrayList<>();
@@ -527,11 +620,10 @@ public class ReservationController {
                 tableInfo.add(tableData);
             }
             
-            System.out.println("=== DEBUG: Found " + tableInfo.size() + " available tables ===");
+            log.debug("Found {} available tables", tableInfo.size());
             return ResponseEntity.ok(tableInfo);
         } catch (Exception e) {
-            System.err.println("=== ERROR: Error getting available tables: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error getting available tables: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(List.of(Map.of("error", "Masalar getirilemedi: " + e.getMessage())));
         }
@@ -544,7 +636,7 @@ public class ReservationController {
     )
     public ResponseEntity<List<Map<String, Object>>> getAllTables() {
         try {
-            System.out.println("=== DEBUG: Getting all tables ===");
+            log.debug("Getting all tables");
             List<DiningTableResponseDto> allTables = diningTableService.getAllDiningTables();
             
             List<Map<String, Object>> tableInfo = new ArrayList<>();
@@ -561,11 +653,10 @@ public class ReservationController {
                 tableInfo.add(tableData);
             }
             
-            System.out.println("=== DEBUG: Found " + tableInfo.size() + " total tables ===");
+            log.debug("Found {} total tables", tableInfo.size());
             return ResponseEntity.ok(tableInfo);
         } catch (Exception e) {
-            System.err.println("=== ERROR: Error getting all tables: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error getting all tables: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(List.of(Map.of("error", "Masalar getirilemedi: " + e.getMessage())));
         }
@@ -573,28 +664,28 @@ public class ReservationController {
 
     private Reservation createReservationFromDTO(ReservationRequestDTO dto) {
         // Validation check before processing
-        System.out.println("=== DEBUG: Starting validation ===");
+        log.debug("Starting validation");
         if (dto.getTableId() == null) {
             throw new IllegalArgumentException("Table ID is required");
         }
-        System.out.println("=== DEBUG: Validation completed ===");
+        log.debug("Validation completed");
 
         // Get dining table - DOUBLE CHECK TABLE EXISTENCE
-        System.out.println("=== DEBUG: Getting dining table with ID: " + dto.getTableId());
+        log.debug("Getting dining table with ID: {}", dto.getTableId());
         DiningTable diningTable = diningTableService.getDiningTableEntityById(Long.valueOf(dto.getTableId()));
         
         if (diningTable == null) {
             throw new IllegalArgumentException("Masa bulunamadı! ID: " + dto.getTableId());
         }
         
-        System.out.println("=== DEBUG: Dining table retrieved: " + diningTable.getTableNumber() + " (ID: " + diningTable.getId() + ")");
+        log.debug("Dining table retrieved: {} (ID: {})", diningTable.getTableNumber(), diningTable.getId());
         
         // Check table status
         if (diningTable.getStatus() != null) {
-            System.out.println("=== DEBUG: Table status: " + diningTable.getStatus().getName());
+            log.debug("Table status: {}", diningTable.getStatus().getName());
             if ("OCCUPIED".equalsIgnoreCase(diningTable.getStatus().getName()) || 
                 "RESERVED".equalsIgnoreCase(diningTable.getStatus().getName())) {
-                System.out.println("=== WARNING: Table " + diningTable.getTableNumber() + " is not available for reservation!");
+                log.warn("Table {} is not available for reservation!", diningTable.getTableNumber());
             }
         }
         
@@ -603,18 +694,18 @@ public class ReservationController {
             throw new IllegalArgumentException("Masa " + diningTable.getTableNumber() + " bir salona bağlı değil!");
         }
         
-        System.out.println("=== DEBUG: Table salon: " + diningTable.getSalon().getName());
+        log.debug("Table salon: {}", diningTable.getSalon().getName());
 
         // Create reservation entity
-        System.out.println("=== DEBUG: Creating reservation entity ===");
+        log.debug("Creating reservation entity");
         Reservation reservation = new Reservation();
         reservation.setCustomerName(dto.getCustomerName());
         reservation.setCustomerPhone(dto.getCustomerPhone());
         reservation.setReservationDate(dto.getReservationDate());
         reservation.setReservationTime(dto.getReservationTime());
         
-        System.out.println("=== DEBUG: Setting reservation date: " + dto.getReservationDate() + " (type: " + (dto.getReservationDate() != null ? dto.getReservationDate().getClass().getSimpleName() : "null") + ")");
-        System.out.println("=== DEBUG: Setting reservation time: " + dto.getReservationTime() + " (type: " + (dto.getReservationTime() != null ? dto.getReservationTime().getClass().getSimpleName() : "null") + ")");
+        log.debug("Setting reservation date: {} (type: {})", dto.getReservationDate(), (dto.getReservationDate() != null ? dto.getReservationDate().getClass().getSimpleName() : "null"));
+        log.debug("Setting reservation time: {} (type: {})", dto.getReservationTime(), (dto.getReservationTime() != null ? dto.getReservationTime().getClass().getSimpleName() : "null"));
         reservation.setSpecialRequests(dto.getSpecialRequests());
         reservation.setEmail(dto.getEmail());
         reservation.setPersonCount(dto.getPersonCount());
@@ -623,35 +714,35 @@ public class ReservationController {
         reservation.setTable(diningTable);
         
         // Set createdBy user
-        System.out.println("=== DEBUG: Setting createdBy user ===");
+        log.debug("Setting createdBy user");
         User user = userService.getUserById(Long.valueOf(dto.getCreatedBy()))
                 .orElseThrow(() -> new IllegalArgumentException("Kullanıcı bulunamadı"));
         reservation.setCreatedBy(user);
-        System.out.println("=== DEBUG: CreatedBy user set successfully ===");
+        log.debug("CreatedBy user set successfully");
         
-        System.out.println("=== DEBUG: Reservation entity created ===");
+        log.debug("Reservation entity created");
 
         // Validate reservation
-        System.out.println("=== DEBUG: Starting reservation validation ===");
+        log.debug("Starting reservation validation");
         reservationValidator.validateReservationCreation(reservation);
-        System.out.println("=== DEBUG: Reservation validation completed ===");
+        log.debug("Reservation validation completed");
 
         // Save reservation
-        System.out.println("=== DEBUG: Starting to save reservation ===");
+        log.debug("Starting to save reservation");
         Reservation createdReservation = reservationService.createReservation(reservation);
-        System.out.println("=== DEBUG: Reservation saved successfully ===");
+        log.debug("Reservation saved successfully");
         
         return createdReservation;
     }
 
     private ReservationRequestDTO transformFrontendData(Object rawRequest, Long currentUserId) {
         try {
-            System.out.println("=== DEBUG: Raw request received: " + rawRequest.toString());
+            log.debug("Raw request received: {}", rawRequest);
             
             ObjectMapper objectMapper = new ObjectMapper();
             Map<String, Object> requestMap = objectMapper.convertValue(rawRequest, Map.class);
             
-            System.out.println("=== DEBUG: Request map: " + requestMap.toString());
+            log.debug("Request map: {}", requestMap);
             
             ReservationRequestDTO dto = new ReservationRequestDTO();
             
@@ -671,33 +762,33 @@ public class ReservationController {
                     throw new IllegalArgumentException("Geçersiz tableNumber tipi: " + tableNumberObj.getClass().getSimpleName());
                 }
                 
-                System.out.println("=== DEBUG: Frontend'den gelen masa numarası: " + tableNumber);
+                log.debug("Frontend'den gelen masa numarası: {}", tableNumber);
                 
                 try {
                     // Masa numarasına göre gerçek masa ID'sini bul
-                    System.out.println("=== DEBUG: DiningTableService.findByTableNumber çağrılıyor...");
+                    log.debug("DiningTableService.findByTableNumber çağrılıyor...");
                     Optional<DiningTable> diningTableOpt = diningTableService.findByTableNumber(tableNumber);
                     
                     if (diningTableOpt.isPresent()) {
                         DiningTable diningTable = diningTableOpt.get();
                         Integer realTableId = diningTable.getId().intValue();
                         dto.setTableId(realTableId);
-                        System.out.println("=== DEBUG: Gerçek masa ID'si bulundu: " + realTableId + " (Masa No: " + tableNumber + ")");
+                        log.debug("Gerçek masa ID'si bulundu: {} (Masa No: {})", realTableId, tableNumber);
                         
                         // Masa durumunu da kontrol et
                         if (diningTable.getStatus() != null) {
-                            System.out.println("=== DEBUG: Masa durumu: " + diningTable.getStatus().getName());
+                            log.debug("Masa durumu: {}", diningTable.getStatus().getName());
                             if ("OCCUPIED".equalsIgnoreCase(diningTable.getStatus().getName()) || 
                                 "RESERVED".equalsIgnoreCase(diningTable.getStatus().getName())) {
-                                System.out.println("=== WARNING: Masa " + tableNumber + " şu anda müsait değil!");
+                                log.warn("Masa {} şu anda müsait değil!", tableNumber);
                             }
                         }
                         
                         // Salon bilgisini de kontrol et
                         if (diningTable.getSalon() != null) {
-                            System.out.println("=== DEBUG: Masa salonu: " + diningTable.getSalon().getName() + " (ID: " + diningTable.getSalon().getId() + ")");
+                            log.debug("Masa salonu: {} (ID: {})", diningTable.getSalon().getName(), diningTable.getSalon().getId());
                         } else {
-                            System.out.println("=== WARNING: Masa " + tableNumber + " bir salona bağlı değil!");
+                            log.warn("Masa {} bir salona bağlı değil!", tableNumber);
                         }
                         
                     } else {
@@ -711,12 +802,11 @@ public class ReservationController {
                         
                         String errorMsg = "Masa numarası " + tableNumber + " bulunamadı! " +
                                         "Mevcut masalar: " + availableTables.toString().replaceAll(", $", "");
-                        System.err.println("=== ERROR: " + errorMsg);
+                        log.error("{}", errorMsg);
                         throw new IllegalArgumentException(errorMsg);
                     }
                 } catch (Exception e) {
-                    System.err.println("=== ERROR: Masa bulunurken hata oluştu: " + e.getMessage());
-                    e.printStackTrace();
+                    log.error("Masa bulunurken hata oluştu: {}", e.getMessage(), e);
                     throw new IllegalArgumentException("Masa numarası " + tableNumber + " bulunamadı: " + e.getMessage());
                 }
             } else {
@@ -726,13 +816,13 @@ public class ReservationController {
             // Customer Name - Frontend'den gelen ad + soyad'ı birleştir veya customerName'i kullan
             if (requestMap.containsKey("customerName") && requestMap.get("customerName") != null) {
                 dto.setCustomerName(requestMap.get("customerName").toString().trim());
-                System.out.println("=== DEBUG: Customer name set: " + dto.getCustomerName());
+                log.debug("Customer name set: {}", dto.getCustomerName());
             } else if (requestMap.containsKey("ad") && requestMap.get("ad") != null &&
                        requestMap.containsKey("soyad") && requestMap.get("soyad") != null) {
                 String ad = requestMap.get("ad").toString().trim();
                 String soyad = requestMap.get("soyad").toString().trim();
                 dto.setCustomerName((ad + " " + soyad).trim());
-                System.out.println("=== DEBUG: Customer name set from ad+soyad: " + dto.getCustomerName());
+                log.debug("Customer name set from ad+soyad: {}", dto.getCustomerName());
             } else {
                 throw new IllegalArgumentException("customerName veya ad+soyad alanları bulunamadı veya null");
             }
@@ -740,10 +830,10 @@ public class ReservationController {
             // Customer Phone - Frontend'den gelen customerPhone veya telefon'u kullan
             if (requestMap.containsKey("customerPhone") && requestMap.get("customerPhone") != null) {
                 dto.setCustomerPhone(requestMap.get("customerPhone").toString());
-                System.out.println("=== DEBUG: Customer phone set: " + dto.getCustomerPhone());
+                log.debug("Customer phone set: {}", dto.getCustomerPhone());
             } else if (requestMap.containsKey("telefon") && requestMap.get("telefon") != null) {
                 dto.setCustomerPhone(requestMap.get("telefon").toString());
-                System.out.println("=== DEBUG: Customer phone set from telefon: " + dto.getCustomerPhone());
+                log.debug("Customer phone set from telefon: {}", dto.getCustomerPhone());
             } else {
                 throw new IllegalArgumentException("customerPhone veya telefon alanı bulunamadı veya null");
             }
@@ -755,8 +845,8 @@ public class ReservationController {
                 String reservationDateStr = requestMap.get("reservationDate").toString();
                 String reservationTimeStr = requestMap.get("reservationTime").toString();
                 
-                System.out.println("=== DEBUG: Reservation date received: " + reservationDateStr);
-                System.out.println("=== DEBUG: Reservation time received: " + reservationTimeStr);
+                log.debug("Reservation date received: {}", reservationDateStr);
+                log.debug("Reservation time received: {}", reservationTimeStr);
                 
                 try {
                     LocalDate date = LocalDate.parse(reservationDateStr);
@@ -765,9 +855,9 @@ public class ReservationController {
                     dto.setReservationDate(date);
                     dto.setReservationTime(time);
                     
-                    System.out.println("=== DEBUG: Reservation date and time set successfully: " + date + " " + time);
-                    System.out.println("=== DEBUG: DTO reservationDate: " + dto.getReservationDate());
-                    System.out.println("=== DEBUG: DTO reservationTime: " + dto.getReservationTime());
+                    log.debug("Reservation date and time set successfully: {} {}", date, time);
+                    log.debug("DTO reservationDate: {}", dto.getReservationDate());
+                    log.debug("DTO reservationTime: {}", dto.getReservationTime());
                 } catch (Exception e) {
                     throw new IllegalArgumentException("Geçersiz tarih veya saat formatı. Tarih: " + reservationDateStr + ", Saat: " + reservationTimeStr);
                 }
@@ -778,7 +868,7 @@ public class ReservationController {
                 String tarih = requestMap.get("tarih").toString();
                 String saat = requestMap.get("saat").toString();
                 
-                System.out.println("=== DEBUG: Parsing tarih: " + tarih + ", saat: " + saat);
+                log.debug("Parsing tarih: {}, saat: {}", tarih, saat);
                 
                 // Tarih formatını kontrol et
                 if (tarih.matches("\\d{4}-\\d{2}-\\d{2}")) {
@@ -791,9 +881,9 @@ public class ReservationController {
                             dto.setReservationDate(date);
                             dto.setReservationTime(time);
                             
-                            System.out.println("=== DEBUG: Reservation date and time set successfully: " + date + " " + time);
-                            System.out.println("=== DEBUG: DTO reservationDate: " + dto.getReservationDate());
-                            System.out.println("=== DEBUG: DTO reservationTime: " + dto.getReservationTime());
+                            log.debug("Reservation date and time set successfully: {} {}", date, time);
+                            log.debug("DTO reservationDate: {}", dto.getReservationDate());
+                            log.debug("DTO reservationTime: {}", dto.getReservationTime());
                         } catch (Exception e) {
                             throw new IllegalArgumentException("Geçersiz tarih veya saat formatı. Tarih: " + tarih + ", Saat: " + saat);
                         }
@@ -806,7 +896,7 @@ public class ReservationController {
             } else if (requestMap.containsKey("reservationDateTime") && requestMap.get("reservationDateTime") != null) {
                 // Frontend'den gelen combined datetime field'ı işle
                 String reservationDateTimeStr = requestMap.get("reservationDateTime").toString();
-                System.out.println("=== DEBUG: Combined reservationDateTime received: " + reservationDateTimeStr);
+                log.debug("Combined reservationDateTime received: {}", reservationDateTimeStr);
                 
                 try {
                     // ISO format (2025-09-21T12:00) veya diğer formatları dene
@@ -818,7 +908,7 @@ public class ReservationController {
                             dateTime = LocalDateTime.parse(reservationDateTimeStr);
                         } catch (Exception e) {
                             // ISO format başarısız, diğer formatları dene
-                            System.out.println("=== DEBUG: ISO format failed, trying other formats");
+                            log.debug("ISO format failed, trying other formats");
                         }
                     }
                     
@@ -834,7 +924,7 @@ public class ReservationController {
                         for (DateTimeFormatter formatter : formatters) {
                             try {
                                 dateTime = LocalDateTime.parse(reservationDateTimeStr, formatter);
-                                System.out.println("=== DEBUG: Parsed with formatter: " + formatter.toString());
+                                log.debug("Parsed with formatter: {}", formatter);
                                 break;
                             } catch (Exception e) {
                                 // Bu formatter başarısız, sonrakini dene
@@ -845,7 +935,7 @@ public class ReservationController {
                     if (dateTime != null) {
                         dto.setReservationDate(dateTime.toLocalDate());
                         dto.setReservationTime(dateTime.toLocalTime());
-                        System.out.println("=== DEBUG: Combined datetime parsed successfully: " + dateTime.toLocalDate() + " " + dateTime.toLocalTime());
+                        log.debug("Combined datetime parsed successfully: {} {}", dateTime.toLocalDate(), dateTime.toLocalTime());
                     } else {
                         throw new IllegalArgumentException("Geçersiz datetime formatı: " + reservationDateTimeStr + ". Desteklenen formatlar: ISO (2025-09-21T12:00), yyyy-MM-dd HH:mm, dd/MM/yyyy HH:mm");
                     }
@@ -859,16 +949,16 @@ public class ReservationController {
             // Special Requests - Frontend'den gelen specialRequest veya not'u kullan
             if (requestMap.containsKey("specialRequest") && requestMap.get("specialRequest") != null) {
                 dto.setSpecialRequests(requestMap.get("specialRequest").toString());
-                System.out.println("=== DEBUG: Special requests set: " + dto.getSpecialRequests());
+                log.debug("Special requests set: {}", dto.getSpecialRequests());
             } else if (requestMap.containsKey("not") && requestMap.get("not") != null) {
                 dto.setSpecialRequests(requestMap.get("not").toString());
-                System.out.println("=== DEBUG: Special requests set from not: " + dto.getSpecialRequests());
+                log.debug("Special requests set from not: {}", dto.getSpecialRequests());
             }
             
             // Email (optional)
             if (requestMap.containsKey("email") && requestMap.get("email") != null) {
                 dto.setEmail(requestMap.get("email").toString());
-                System.out.println("=== DEBUG: Email set: " + dto.getEmail());
+                log.debug("Email set: {}", dto.getEmail());
             }
             
             // Person Count (optional) - Frontend'den gelen personCount veya kisiSayisi'ni kullan
@@ -885,7 +975,7 @@ public class ReservationController {
                 }
                 
                 dto.setPersonCount(personCount);
-                System.out.println("=== DEBUG: Person count set: " + dto.getPersonCount());
+                log.debug("Person count set: {}", dto.getPersonCount());
             } else if (requestMap.containsKey("kisiSayisi") && requestMap.get("kisiSayisi") != null) {
                 Object kisiSayisiObj = requestMap.get("kisiSayisi");
                 Integer kisiSayisi;
@@ -899,7 +989,7 @@ public class ReservationController {
                 }
                 
                 dto.setPersonCount(kisiSayisi);
-                System.out.println("=== DEBUG: Person count set from kisiSayisi: " + dto.getPersonCount());
+                log.debug("Person count set from kisiSayisi: {}", dto.getPersonCount());
             }
             
             // Status ID - Frontend'den gelen statusId'yi direkt kullan
@@ -916,64 +1006,26 @@ public class ReservationController {
                 }
                 
                 dto.setStatusId(statusId);
-                System.out.println("=== DEBUG: Status ID set: " + dto.getStatusId());
+                log.debug("Status ID set: {}", dto.getStatusId());
             } else {
                 dto.setStatusId(1); // Default status - confirmed
-                System.out.println("=== DEBUG: Default status ID set: " + dto.getStatusId());
+                log.debug("Default status ID set: {}", dto.getStatusId());
             }
             
             // Created By - JWT token'dan gelen kullanıcı ID'sini kullan
             dto.setCreatedBy(currentUserId.intValue());
-            System.out.println("=== DEBUG: Created by set from JWT token: " + dto.getCreatedBy());
+            log.debug("Created by set from JWT token: {}", dto.getCreatedBy());
             
-            System.out.println("=== DEBUG: Final DTO: " + dto.toString());
+            log.debug("Final DTO: {}", dto);
             return dto;
         } catch (Exception e) {
-            System.err.println("Frontend veri dönüşüm hatası: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Frontend veri dönüşüm hatası: {}", e.getMessage(), e);
             throw new IllegalArgumentException("Frontend verisi dönüştürülemedi: " + e.getMessage());
         }
     }
 
     private ReservationResponseDTO mapToResponseDTO(Reservation reservation) {
-        try {
-            ReservationResponseDTO responseDTO = new ReservationResponseDTO();
-            responseDTO.setId(reservation.getId());
-            
-            // Salon bilgilerini ekle - null check ekle
-            if (reservation.getTable() != null && reservation.getTable().getSalon() != null) {
-                responseDTO.setSalonId(reservation.getTable().getSalon().getId());
-                responseDTO.setSalonName(reservation.getTable().getSalon().getName());
-            }
-            
-            // Table ID - null check ekle
-            if (reservation.getTable() != null) {
-                responseDTO.setTableId(reservation.getTable().getId());
-            }
-            
-            responseDTO.setCustomerName(reservation.getCustomerName());
-            responseDTO.setCustomerPhone(reservation.getCustomerPhone());
-            responseDTO.setReservationDate(reservation.getReservationDate());
-            responseDTO.setReservationTime(reservation.getReservationTime());
-            responseDTO.setSpecialRequests(reservation.getSpecialRequests());
-            responseDTO.setEmail(reservation.getEmail());
-            responseDTO.setPersonCount(reservation.getPersonCount());
-            responseDTO.setStatusId(reservation.getStatusId());
-            responseDTO.setStatusName(reservation.getStatusName());
-            responseDTO.setStatusNameInTurkish(reservation.getStatusNameInTurkish());
-            
-            // CreatedBy null check ekle
-            if (reservation.getCreatedBy() != null) {
-                responseDTO.setCreatedByName(reservation.getCreatedBy().getName());
-            }
-            
-            responseDTO.setCreatedAt(reservation.getCreatedAt());
-            return responseDTO;
-        } catch (Exception e) {
-            System.err.println("Error mapping reservation to DTO: " + e.getMessage());
-            e.printStackTrace();
-            throw new RuntimeException("Error mapping reservation data", e);
-        }
+        return reservationMapper.toResponseDTO(reservation);
     }
     
     /**
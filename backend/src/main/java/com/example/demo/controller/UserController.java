@@ -10,7 +10,6 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -23,12 +22,12 @@ import com.example.demo.service.RoleMappingService;
 import com.example.demo.dto.request.PhoneNumberUpdateRequestDTO;
 import com.example.demo.exception.user.UserNotFoundException;
 import com.example.demo.exception.user.UserPhotoNotFoundException;
+import com.example.demo.mapper.UserMapper;
 
 import java.io.IOException;
 import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Tag(
@@ -40,16 +39,17 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 public class UserController {
     private final UserService userService;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
     private final UserValidator userValidator;
     private final UserRepository userRepository;
     private final RoleMappingService roleMappingService;
+    private volatile String defaultPhotoBase64;
 
 
-    public UserController(UserService userService, ModelMapper modelMapper, UserValidator userValidator,
+    public UserController(UserService userService, UserMapper userMapper, UserValidator userValidator,
                           UserRepository userRepository, RoleMappingService roleMappingService) {
         this.userService = userService;
-        this.modelMapper = modelMapper;
+        this.userMapper = userMapper;
         this.userValidator = userValidator;
         this.userRepository = userRepository;
         this.roleMappingService = roleMappingService;
@@ -71,7 +71,7 @@ public class UserController {
         Role role = roleMappingService.getRoleByName(userRequestDTO.getRoleName());
 
         // Create user
-        User user = modelMapper.map(userRequestDTO, User.class);
+        User user = userMapper.toEntity(userRequestDTO);
         user.setPassword(userRequestDTO.getPassword());
         User createdUser = userService.createUser(user);
 
@@ -147,7 +147,7 @@ public class UserController {
             return ResponseEntity.badRequest().body(null);
         }
 
-        User updatedUser = modelMapper.map(userRequestDTO, User.class);
+        User updatedUser = userMapper.toEntity(userRequestDTO);
         updatedUser.setPasswordHash(userRequestDTO.getPassword());
         User user = userService.updateUser(id, updatedUser);
         return ResponseEntity.ok(convertUserToDTO(user));
@@ -240,32 +240,26 @@ public class UserController {
 
 
     private UserResponseDTO convertUserToDTO(User user) {
-        UserResponseDTO dto = new UserResponseDTO();
-        dto.setId(user.getId());
-        dto.setName(user.getName());
-        dto.setEmail(user.getEmail());
-        dto.setPhoneNumber(user.getPhoneNumber());
-        dto.setIsActive(user.getIsActive());
-
-        if (user.getPhotoBlob() != null) {
-            dto.setPhotoBase64(Base64.getEncoder().encodeToString(user.getPhotoBlob()));
+        UserResponseDTO dto = userMapper.toUserResponseDTO(user);
+        if (dto.getPhotoBase64() == null) {
+            dto.setPhotoBase64(defaultPhotoBase64());
         }
-        else {
+        return dto;
+    }
+
+    // Varsayılan fotoğraf bir kez okunur; her kullanıcı için classpath'ten tekrar okunmaz
+    private String defaultPhotoBase64() {
+        String photo = defaultPhotoBase64;
+        if (photo == null) {
             try {
-                dto.setPhotoBase64(Base64.getEncoder().encodeToString(Objects.requireNonNull(getClass().getResourceAsStream("/img/default.jpg")).readAllBytes()));
+                photo = Base64.getEncoder().encodeToString(Objects.requireNonNull(getClass().getResourceAsStream("/img/default.jpg")).readAllBytes());
             }
             catch (IOException e) {
                 throw new RuntimeException("Default photo not found", e);
             }
+            defaultPhotoBase64 = photo;
         }
-
-        dto.setCreatedAt(user.getCreatedAt());
-
-        Set<Integer> roleCodes = user.getUserRoles().stream()
-                .map(userRole -> roleMappingService.getRoleIdByName(userRole.getRole().getName()).intValue())
-                .collect(Collectors.toSet());
-        dto.setRoles(roleCodes);
-        return dto;
+        return photo;
     }
     // NEW ENDPOINT: Update phone number only
     @PatchMapping("/{id}/phone")
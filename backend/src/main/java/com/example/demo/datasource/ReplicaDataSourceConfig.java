@@ -0,0 +1,107 @@
+package com.example.demo.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Okuma replikası (app.datasource.replica.enabled=true). Kapalıyken Spring Boot'un tek spring.datasource'u
+ * olduğu gibi kullanılır ve @ReplicaRead etkisizdir.
+ *
+ * Açıkken iki Hikari havuzu kurulur: "primary" (spring.datasource + spring.datasource.hikari.*) ve "replica"
+ * (app.datasource.replica.*, read-only). JPA ve JdbcTemplate, önünde LazyConnectionDataSourceProxy olan
+ * ReplicaRoutingDataSource'u kullanır. Havuz metrikleri Boot tarafından pool etiketiyle yayınlanır
+ * (hikaricp.connections.*{pool="primary"|"replica"}).
+ *
+ * - Hibernate bağlantıyı transaction sonunda bırakır: open-in-view açıkken aynı istekteki her transaction
+ *   yeniden yönlendirilebilsin diye (varsayılan mod bağlantıyı istek boyunca tutar).
+ * - Health yalnızca birincili kontrol eder; replika düşerse okumalar birincile döner, uygulama DOWN olmaz.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password,
+                                              @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                              @Value("${app.datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(ReplicaRoutingDataSource.REPLICA);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        // Replika kapalıyken uygulama açılabilsin ve istekler uzun beklemeden birincile düşsün
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setConnectionTimeout(connectionTimeoutMs);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${app.datasource.replica.lag-query}") String lagQuery,
+                                               @Value("${app.datasource.replica.max-lag-ms:2000}") long maxLagMs,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replica, lagQuery, maxLagMs, 2, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor, meterRegistry));
+        // Varsayılanları bağlantı açmadan bilsin (Hikari autoCommit=true, PostgreSQL READ COMMITTED)
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+        return proxy;
+    }
+
+    @Bean
+    public ReplicaReadAspect replicaReadAspect() {
+        return new ReplicaReadAspect();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public HealthIndicator dbHealthIndicator(@Qualifier("primaryDataSource") DataSource primary) {
+        return new DataSourceHealthIndicator(primary);
+    }
+}
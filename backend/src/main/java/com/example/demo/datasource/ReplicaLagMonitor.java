@@ -0,0 +1,106 @@
+package com.example.demo.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Okuma replikasının gecikmesini (ms) periyodik olarak ölçer; ReplicaRoutingDataSource yalnızca durum OK iken
+ * replikayı kullanır. Gecikme app.datasource.replica.max-lag-ms'yi aşarsa LAGGING, sorgu hata verirse
+ * UNAVAILABLE olur ve okumalar birincile düşer; bir sonraki başarılı kontrolde replika tekrar devreye girer.
+ * İlk kontrol bitene kadar durum UNKNOWN'dır (birincil kullanılır).
+ *
+ * Varsayılan sorgu PostgreSQL streaming replikası içindir: WAL'in tamamı uygulanmışsa (boşta bekleyen replika)
+ * veya sunucu recovery modunda değilse (ör. yerel ikinci bir PostgreSQL) gecikme 0 sayılır.
+ * Metrikler: restaurant.datasource.replica.lag (ms, bilinmiyorsa NaN), restaurant.datasource.replica.usable (1/0),
+ * restaurant.datasource.replica.checks{outcome}.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    public enum State { UNKNOWN, OK, LAGGING, UNAVAILABLE }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMs;
+    private final Map<State, Counter> checks = new EnumMap<>(State.class);
+
+    private volatile State state = State.UNKNOWN;
+    private volatile double lagMs = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagMs, int queryTimeoutSeconds, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.jdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+        this.lagQuery = lagQuery;
+        this.maxLagMs = maxLagMs;
+
+        Gauge.builder("restaurant.datasource.replica.lag", this, monitor -> monitor.lagMs)
+                .description("Replica replay lag measured by the last check")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("restaurant.datasource.replica.usable", this, monitor -> monitor.state == State.OK ? 1 : 0)
+                .description("1 while @ReplicaRead queries are sent to the replica")
+                .register(meterRegistry);
+        for (State outcome : new State[]{State.OK, State.LAGGING, State.UNAVAILABLE}) {
+            checks.put(outcome, Counter.builder("restaurant.datasource.replica.checks")
+                    .description("Replica lag checks by outcome")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.datasource.replica.lag-check-ms:1000}")
+    public void check() {
+        State next;
+        try {
+            Double lag = jdbcTemplate.queryForObject(lagQuery, Double.class);
+            lagMs = lag == null ? 0 : lag;
+            next = lagMs <= maxLagMs ? State.OK : State.LAGGING;
+        } catch (RuntimeException e) {
+            lagMs = Double.NaN;
+            next = State.UNAVAILABLE;
+            if (state != State.UNAVAILABLE) {
+                log.warn("Replica lag check failed: {}", e.getMessage());
+            }
+        }
+        checks.get(next).increment();
+        transition(next);
+    }
+
+    /**
+     * Replikadan bağlantı alınamadığında (ReplicaRoutingDataSource) bir sonraki kontrole kadar devre dışı bırakır
+     */
+    void markUnavailable() {
+        lagMs = Double.NaN;
+        transition(State.UNAVAILABLE);
+    }
+
+    private void transition(State next) {
+        State previous = state;
+        state = next;
+        if (previous != next) {
+            if (next == State.OK) {
+                log.info("Replica in use for @ReplicaRead queries (lag {} ms)", (long) lagMs);
+            } else if (next == State.LAGGING) {
+                log.warn("Replica lag {} ms exceeds {} ms, reading from primary", (long) lagMs, maxLagMs);
+            } else {
+                log.warn("Replica {}, reading from primary", next.name().toLowerCase());
+            }
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public double getLagMs() {
+        return lagMs;
+    }
+}
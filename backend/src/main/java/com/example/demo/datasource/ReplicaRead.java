@@ -0,0 +1,21 @@
+package com.example.demo.datasource;
+
+import java.lang.annotation.*;
+
+/**
+ * Metodun (veya sınıfın tüm metodlarının) çalıştırdığı read-only transaction'lar okuma replikasına gider
+ * (app.datasource.replica.enabled=true ise; kapalıyken etkisizdir).
+ * Kapsam içindeki read-write transaction'lar, transaction dışı sorgular ve replika gecikmesi eşiği aştığında
+ * yapılan okumalar birincil veritabanında çalışır; kapsam içinde bir yazma olduktan sonra kalan okumalar da
+ * birincile sabitlenir (kendi yazdığını görsün diye).
+ *
+ * {@code @ReplicaRead(false)} iç içe çağrıda kapsamı askıya alır: özet üretimi gibi okuduğunu geri yazan
+ * işler birincilden okur ve çıkışta dıştaki kapsam birincile sabitlenir.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReplicaRead {
+
+    boolean value() default true;
+}
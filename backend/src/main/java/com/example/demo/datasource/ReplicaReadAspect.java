@@ -0,0 +1,36 @@
+package com.example.demo.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+/**
+ * @ReplicaRead kapsamını çağrı süresince thread'e bağlar. Sırası @Transactional'a göre önemsizdir:
+ * fiziksel bağlantı LazyConnectionDataSourceProxy sayesinde ilk sorguda, transaction açıldıktan sonra alınır.
+ * Sadece replika açıkken bean olarak tanımlanır (ReplicaDataSourceConfig).
+ */
+@Aspect
+public class ReplicaReadAspect {
+
+    @Around("@annotation(com.example.demo.datasource.ReplicaRead) || @within(com.example.demo.datasource.ReplicaRead)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        ReplicaRoutingDataSource.Scope scope = ReplicaRoutingDataSource.enter(replica(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingDataSource.exit(scope);
+        }
+    }
+
+    // Metottaki anotasyon sınıftakini ezer
+    private static boolean replica(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        ReplicaRead annotation = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), ReplicaRead.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), ReplicaRead.class);
+        }
+        return annotation == null || annotation.value();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.demo.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bağlantıyı birincil (primary) veya okuma replikası havuzundan verir. Replika yalnızca şu durumda seçilir:
+ * thread bir @ReplicaRead kapsamında, aktif transaction read-only, kapsamda henüz yazma olmamış (veya
+ * pinToPrimary çağrılmamış) ve ReplicaLagMonitor replikayı kullanılabilir görüyor. Replikadan bağlantı alınamazsa istek birincile düşer
+ * ve replika bir sonraki gecikme kontrolüne kadar devre dışı kalır.
+ *
+ * Karar, bağlantının fiziksel olarak alındığı anda verilir; bu yüzden önüne LazyConnectionDataSourceProxy konur
+ * (JpaTransactionManager read-only transaction'da bağlantıyı, read-only bayrağı thread'e yazılmadan önce ister).
+ * Kapsam dışındaki bağlantılar her zaman birincildir ve sayılmaz; kapsam içindeki her karar
+ * restaurant.datasource.routed{pool, reason} sayacına yazılır.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Map<String, Counter> primaryRoutes = new HashMap<>();
+    private final Counter replicaRoute;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        for (String reason : List.of("no-transaction", "read-write", "after-write", "unknown", "lagging", "unavailable", "replica-error")) {
+            primaryRoutes.put(reason, routeCounter(meterRegistry, PRIMARY, reason));
+        }
+        this.replicaRoute = routeCounter(meterRegistry, REPLICA, "read-only");
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String pool, String reason) {
+        return Counter.builder("restaurant.datasource.routed")
+                .description("Connections taken inside @ReplicaRead scopes, by pool and routing reason")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Scope scope = CURRENT.get();
+        if (scope == null || !scope.replica) {
+            return primary.getConnection();
+        }
+        String reason = primaryReason(scope);
+        if (reason != null) {
+            primaryRoutes.get(reason).increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaRoute.increment();
+            return connection;
+        } catch (SQLException e) {
+            log.warn("Replica connection failed, falling back to primary: {}", e.getMessage());
+            lagMonitor.markUnavailable();
+            primaryRoutes.get("replica-error").increment();
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Kullanıcı adı/şifre ile bağlantı sadece birincilden verilir.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Replika seçilemiyorsa sebebi, seçilebiliyorsa null
+     */
+    private String primaryReason(Scope scope) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return "no-transaction";
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Kapsamın geri kalanı bu yazmayı görmeli; replika henüz almamış olabilir
+            scope.pinned = true;
+            return "read-write";
+        }
+        if (scope.pinned) {
+            return "after-write";
+        }
+        return switch (lagMonitor.getState()) {
+            case OK -> null;
+            case UNKNOWN -> "unknown";
+            case LAGGING -> "lagging";
+            case UNAVAILABLE -> "unavailable";
+        };
+    }
+
+    /**
+     * İçinde bulunulan @ReplicaRead kapsamının kalanını birincile bağlar (yazmadan sonraki gibi).
+     * Replikanın henüz almamış olabileceği yeni bir değişiklik okunacaksa kullanılır; kapsam dışında etkisizdir.
+     * Yalnızca sonraki bağlantıları etkiler, transaction'da zaten alınmış bağlantı değişmez.
+     */
+    public static void pinToPrimary() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.pinned = true;
+        }
+    }
+
+    // ==================== Kapsam (ReplicaReadAspect) ====================
+
+    static Scope enter(boolean replica) {
+        Scope scope = new Scope(replica, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void exit(Scope scope) {
+        Scope parent = scope.parent;
+        // İç kapsamda yazma olduysa (veya replika askıya alındıysa) dıştaki kapsam da birincilden okumaya devam eder
+        if (parent != null && (scope.pinned || !scope.replica)) {
+            parent.pinned = true;
+        }
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    static final class Scope {
+        private final boolean replica;
+        private final Scope parent;
+        private boolean pinned;
+
+        private Scope(boolean replica, Scope parent) {
+            this.replica = replica;
+            this.parent = parent;
+            this.pinned = parent != null && parent.pinned;
+        }
+    }
+}
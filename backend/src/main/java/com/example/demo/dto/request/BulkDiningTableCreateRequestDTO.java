@@ -0,0 +1,28 @@
+package com.example.demo.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BulkDiningTableCreateRequestDTO {
+
+    @ArraySchema(schema = @Schema(implementation = DiningTableRequestDto.class),
+            arraySchema = @Schema(description = "Oluşturulacak masalar", requiredMode = Schema.RequiredMode.REQUIRED))
+    @NotEmpty(message = "En az bir masa gönderilmelidir")
+    @Size(max = 500, message = "Tek istekte en fazla 500 masa oluşturulabilir")
+    private List<@Valid DiningTableRequestDto> tables;
+}
@@ -0,0 +1,32 @@
+package com.example.demo.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BulkTableMoveRequestDTO {
+
+    @Schema(description = "Taşınacak masa ID'leri", example = "[1, 2, 3]", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "En az bir masa ID'si gönderilmelidir")
+    @Size(max = 500, message = "Tek istekte en fazla 500 masa taşınabilir")
+    private List<@NotNull Long> tableIds;
+
+    @Schema(description = "Hedef salon ID", example = "2", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Hedef salon ID boş olamaz")
+    @Min(value = 1, message = "Salon ID 1'den küçük olamaz")
+    private Long targetSalonId;
+}
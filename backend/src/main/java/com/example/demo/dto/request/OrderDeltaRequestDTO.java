@@ -0,0 +1,27 @@
+package com.example.demo.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Açık siparişe kalem bazlı değişiklikler. version, istemcinin son gördüğü sipariş versiyonudur;
+ * sipariş o arada değiştiyse istek 409 ile reddedilir ve istemci güncel siparişi yeniden okur.
+ */
+@Data
+public class OrderDeltaRequestDTO {
+
+    @Schema(description = "İstemcinin bildiği sipariş versiyonu", example = "7", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Sipariş versiyonu boş olamaz")
+    private Long version;
+
+    @Schema(description = "Sırayla uygulanacak kalem işlemleri", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "En az bir işlem gönderilmelidir")
+    @Size(max = 100, message = "Tek istekte en fazla 100 işlem gönderilebilir")
+    private List<@Valid @NotNull OrderItemOperationDTO> operations;
+}
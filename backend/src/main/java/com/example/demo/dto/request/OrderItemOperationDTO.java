@@ -0,0 +1,30 @@
+package com.example.demo.dto.request;
+
+import com.example.demo.enums.OrderItemOperationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class OrderItemOperationDTO {
+
+    @Schema(description = "İşlem tipi", example = "ADD", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "İşlem tipi boş olamaz")
+    private OrderItemOperationType type;
+
+    @Schema(description = "Ürün ID'si", example = "12", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Ürün ID boş olamaz")
+    private Long productId;
+
+    @Schema(description = "ADD: eklenecek adet (varsayılan 1), SET_QUANTITY: yeni adet (0 = kaldır)", example = "1",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Min(value = 0, message = "Adet negatif olamaz")
+    private Integer quantity;
+
+    @Schema(description = "Notlar (NOTE için zorunlu değil; boş gönderilirse not silinir)", example = "Az pişmiş",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Size(max = 500, message = "Not en fazla 500 karakter olabilir")
+    private String note;
+}
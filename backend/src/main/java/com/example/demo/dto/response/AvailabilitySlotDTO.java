@@ -0,0 +1,27 @@
+package com.example.demo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Bir zaman dilimi (slot) ve o dilimde uygun masalar (uygunluk sırasına göre)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilitySlotDTO {
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime time;
+
+    private Integer freeTableCount;
+
+    private List<AvailableTableDTO> tables;
+}
@@ -0,0 +1,26 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Belirli bir zaman dilimi için boş masa bilgisi
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableTableDTO {
+
+    private Long tableId;
+
+    private Integer tableNumber;
+
+    private Integer capacity;
+
+    private Long salonId;
+
+    private String salonName;
+}
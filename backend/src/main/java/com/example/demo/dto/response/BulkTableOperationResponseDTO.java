@@ -0,0 +1,24 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Toplu masa işleminin özeti. Güncel masa/salon verisi için istemci /api/dining-tables/floor-state'i kullanır.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTableOperationResponseDTO {
+
+    private int affectedTables;
+
+    private List<Long> tableIds;
+
+    private List<Long> salonIds;
+}
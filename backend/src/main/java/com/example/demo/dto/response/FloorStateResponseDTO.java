@@ -0,0 +1,31 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Salon krokisi durumu. full=false ise sadece sinceVersion'dan sonra değişen masa/salonlar ve silinenlerin id'leri döner;
+ * istemci bir sonraki istekte version'ı sinceVersion olarak gönderir.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FloorStateResponseDTO {
+
+    private long version;
+
+    private boolean full;
+
+    private List<DiningTableResponseDto> tables;
+
+    private List<SalonResponseDTO> salons;
+
+    private List<Long> removedTableIds;
+
+    private List<Long> removedSalonIds;
+}
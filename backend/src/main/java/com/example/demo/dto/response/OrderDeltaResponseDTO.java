@@ -0,0 +1,29 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Delta uygulamasının sonucu: yalnızca değişen kalemler, kaldırılan ürünler, yeni toplam ve versiyon.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDeltaResponseDTO {
+
+    private Long orderId;
+
+    private Long version;
+
+    private BigDecimal totalPrice;
+
+    private List<OrderItemResponseDTO> changedItems;
+
+    private List<Long> removedProductIds;
+}
@@ -0,0 +1,26 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Cursor sayfalı sipariş listesi (kasiyer ekranı). Sonraki sayfa için nextCursor aynı filtrelerle geri gönderilir.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPageResponseDTO {
+
+    private List<OrderResponseDTO> items;
+
+    private String nextCursor;
+
+    private boolean hasMore;
+
+    private int limit;
+}
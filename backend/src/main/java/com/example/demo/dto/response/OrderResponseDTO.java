@@ -23,6 +23,8 @@ public class OrderResponseDTO {
     private LocalDateTime createdAt;
     private List<OrderItemResponseDTO> items;
     private Boolean completed;
+    // Kalem delta'sı (PATCH /api/orders/{id}/items) için istemcinin göndereceği versiyon
+    private Long version;
 
     public void setOrderId(Long orderId) { this.orderId = orderId; }
 
@@ -49,6 +51,9 @@ public class OrderResponseDTO {
     public Boolean isCompleted() { return completed; }
     public void setCompleted(Boolean completed) { this.completed = completed; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     @Override
     public String toString() {
         return "OrderResponseDTO{" +
@@ -59,6 +64,7 @@ public class OrderResponseDTO {
                 ", totalPrice=" + totalPrice +
                 ", createdAt=" + createdAt +
                 ", completed=" + completed +
+                ", version=" + version +
                 ", items=" + items +
                 '}';
     }
@@ -0,0 +1,37 @@
+package com.example.demo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Uygunluk araması yanıtı: istenen saatte boş masalar ve yakın alternatif saatler
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TableAvailabilityResponseDTO {
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime time;
+
+    private Integer partySize;
+
+    private Long salonId;
+
+    private List<AvailableTableDTO> tables;
+
+    private List<AvailabilitySlotDTO> alternatives;
+}
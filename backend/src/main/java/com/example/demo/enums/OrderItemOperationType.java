@@ -0,0 +1,11 @@
+package com.example.demo.enums;
+
+/**
+ * Sipariş kalemi delta işlemleri (PATCH /api/orders/{id}/items). Kalemler ürün id'siyle eşlenir.
+ */
+public enum OrderItemOperationType {
+    ADD,          // Adet ekle (kalem yoksa oluşturulur)
+    SET_QUANTITY, // Adedi ayarla (0 = kaldır)
+    REMOVE,       // Kalemi kaldır
+    NOTE          // Sadece notu değiştir
+}
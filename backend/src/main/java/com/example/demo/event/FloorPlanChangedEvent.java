@@ -0,0 +1,42 @@
+package com.example.demo.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Domain event fired when tables or salons change (create/update/delete, table status,
+ * or order changes that affect a table's real status).
+ * Only ids are carried; the in-memory floor state re-reads the committed rows.
+ */
+public class FloorPlanChangedEvent extends ApplicationEvent {
+
+    private final Set<Long> tableIds;
+    private final Set<Long> salonIds;
+
+    public FloorPlanChangedEvent(Object source, Collection<Long> tableIds, Collection<Long> salonIds) {
+        super(source);
+        this.tableIds = nonNull(tableIds);
+        this.salonIds = nonNull(salonIds);
+    }
+
+    public static FloorPlanChangedEvent tables(Object source, Long... tableIds) {
+        return new FloorPlanChangedEvent(source, Arrays.asList(tableIds), List.of());
+    }
+
+    public static FloorPlanChangedEvent salons(Object source, Long... salonIds) {
+        return new FloorPlanChangedEvent(source, List.of(), Arrays.asList(salonIds));
+    }
+
+    private static Set<Long> nonNull(Collection<Long> ids) {
+        return ids.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public Set<Long> getTableIds() { return tableIds; }
+    public Set<Long> getSalonIds() { return salonIds; }
+}
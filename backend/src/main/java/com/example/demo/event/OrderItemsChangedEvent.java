@@ -0,0 +1,22 @@
+package com.example.demo.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Domain event fired when item-level operations are applied to an open order (delta endpoint).
+ * Carries ids only; the order entity is not loaded on that path.
+ */
+public class OrderItemsChangedEvent extends ApplicationEvent {
+
+    private final Long orderId;
+    private final Long tableId;
+
+    public OrderItemsChangedEvent(Object source, Long orderId, Long tableId) {
+        super(source);
+        this.orderId = orderId;
+        this.tableId = tableId;
+    }
+
+    public Long getOrderId() { return orderId; }
+    public Long getTableId() { return tableId; }
+}
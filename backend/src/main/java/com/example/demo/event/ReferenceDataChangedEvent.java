@@ -0,0 +1,21 @@
+package com.example.demo.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Domain event fired by the owning services when reference data (table statuses, roles,
+ * restaurant settings) is written. The in-memory ReferenceDataRegistry reloads that kind after commit.
+ */
+public class ReferenceDataChangedEvent extends ApplicationEvent {
+
+    public enum Kind { TABLE_STATUSES, ROLES, RESTAURANT_SETTINGS }
+
+    private final Kind kind;
+
+    public ReferenceDataChangedEvent(Object source, Kind kind) {
+        super(source);
+        this.kind = kind;
+    }
+
+    public Kind getKind() { return kind; }
+}
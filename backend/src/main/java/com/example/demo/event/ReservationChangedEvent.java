@@ -0,0 +1,50 @@
+package com.example.demo.event;
+
+import com.example.demo.model.Reservation;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Domain event fired when a reservation is created, updated, changes status or is deleted.
+ * Carries a snapshot of the fields needed by in-memory views (e.g. availability bitmaps)
+ * so listeners don't have to touch lazy associations after the transaction commits.
+ */
+public class ReservationChangedEvent extends ApplicationEvent {
+
+    private final Long reservationId;
+    private final Long tableId;
+    private final LocalDate reservationDate;
+    private final LocalTime reservationTime;
+    private final Integer statusId;
+    private final boolean deleted;
+
+    public ReservationChangedEvent(Object source, Long reservationId, Long tableId, LocalDate reservationDate,
+                                   LocalTime reservationTime, Integer statusId, boolean deleted) {
+        super(source);
+        this.reservationId = reservationId;
+        this.tableId = tableId;
+        this.reservationDate = reservationDate;
+        this.reservationTime = reservationTime;
+        this.statusId = statusId;
+        this.deleted = deleted;
+    }
+
+    public static ReservationChangedEvent changed(Object source, Reservation reservation) {
+        return new ReservationChangedEvent(source, reservation.getId(),
+                reservation.getTable() != null ? reservation.getTable().getId() : null,
+                reservation.getReservationDate(), reservation.getReservationTime(), reservation.getStatusId(), false);
+    }
+
+    public static ReservationChangedEvent deleted(Object source, Long reservationId) {
+        return new ReservationChangedEvent(source, reservationId, null, null, null, null, true);
+    }
+
+    public Long getReservationId() { return reservationId; }
+    public Long getTableId() { return tableId; }
+    public LocalDate getReservationDate() { return reservationDate; }
+    public LocalTime getReservationTime() { return reservationTime; }
+    public Integer getStatusId() { return statusId; }
+    public boolean isDeleted() { return deleted; }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.exception;
+
+/**
+ * Strict modda bir isteğin SQL ifadesi sayısı uç noktanın bütçesini aştığında fırlatılır
+ * (app.sql-budget.strict=true). Genel handler 500 döner; işlem geri alınır.
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SqlBudgetExceededException(String endpoint, int budget) {
+        super(String.format("SQL bütçesi aşıldı: %s için en fazla %d ifade", endpoint, budget));
+    }
+}
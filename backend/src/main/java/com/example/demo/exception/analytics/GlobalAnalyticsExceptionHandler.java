@@ -33,6 +33,24 @@ public class GlobalAnalyticsExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(SummaryWarmingException.class)
+    public ResponseEntity<Map<String, Object>> handleSummaryWarmingException(SummaryWarmingException e) {
+        log.info("Summary warming: {}", e.getMessage());
+        
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", "WARMING");
+        errorResponse.put("error", "Summary Warming");
+        errorResponse.put("message", e.getMessage());
+        errorResponse.put("reportDate", e.getReportDate());
+        errorResponse.put("period", e.getPeriod());
+        errorResponse.put("progress", e.getProgress());
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "10")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(AnalyticsGenerationException.class)
     public ResponseEntity<Map<String, Object>> handleAnalyticsGenerationException(AnalyticsGenerationException e) {
         log.error("Analytics generation failed: {}", e.getMessage(), e);
@@ -0,0 +1,27 @@
+package com.example.demo.exception.analytics;
+
+import com.example.demo.enums.TopProductsPeriod;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Exception thrown when a summary is not available yet because the background backfill is still running
+ */
+public class SummaryWarmingException extends RuntimeException {
+
+    private final TopProductsPeriod period;
+    private final LocalDate reportDate;
+    private final Map<String, Object> progress;
+
+    public SummaryWarmingException(TopProductsPeriod period, LocalDate reportDate, Map<String, Object> progress) {
+        super(String.format("Summary for period: %s and date: %s is still being generated", period, reportDate));
+        this.period = period;
+        this.reportDate = reportDate;
+        this.progress = progress;
+    }
+
+    // Getters
+    public TopProductsPeriod getPeriod() { return period; }
+    public LocalDate getReportDate() { return reportDate; }
+    public Map<String, Object> getProgress() { return progress; }
+}
@@ -3,6 +3,8 @@ package com.example.demo.exception.diningtable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.Collection;
+
 /**
  * Masa numarası ile ilgili işlemlerde fırlatılan exception
  */
@@ -17,6 +19,14 @@ public class TableNumberException extends DiningTableException {
         return new TableNumberException("Bu masa numarası zaten kullanılıyor: " + tableNumber);
     }
 
+    public static TableNumberException tableNumbersAlreadyExist(Collection<Integer> tableNumbers) {
+        return new TableNumberException("Bu masa numaraları zaten kullanılıyor: " + tableNumbers);
+    }
+
+    public static TableNumberException duplicateTableNumberInRequest(Integer tableNumber) {
+        return new TableNumberException("Masa numarası istekte birden fazla kez geçiyor: " + tableNumber);
+    }
+
     public static TableNumberException tableNumberAlreadyExistsInSalon(Integer tableNumber, String salonName) {
         return new TableNumberException("Bu masa numarası bu salonda zaten kullanılıyor: " + tableNumber + " (Salon: " + salonName + ")");
     }
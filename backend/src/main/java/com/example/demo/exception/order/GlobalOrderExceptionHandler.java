@@ -36,6 +36,11 @@ public class GlobalOrderExceptionHandler {
         return buildErrorResponse(ex, request, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(OrderVersionConflictException.class)
+    public ResponseEntity<ErrorDetails> handleOrderVersionConflict(OrderVersionConflictException ex, WebRequest request) {
+        return buildErrorResponse(ex, request, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(OrderProcessingException.class)
     public ResponseEntity<ErrorDetails> handleOrderProcessing(OrderProcessingException ex, WebRequest request) {
         return buildErrorResponse(ex, request, HttpStatus.INTERNAL_SERVER_ERROR);
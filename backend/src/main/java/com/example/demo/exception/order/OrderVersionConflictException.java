@@ -0,0 +1,20 @@
+package com.example.demo.exception.order;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class OrderVersionConflictException extends RuntimeException {
+
+    public OrderVersionConflictException() {
+        super("Sipariş başka bir kullanıcı tarafından güncellendi.");
+    }
+
+    public OrderVersionConflictException(String message) {
+        super(message);
+    }
+
+    public OrderVersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Her isteğe bir request id atar ve MDC'ye koyar; log satırları %X{requestId} ile ilişkilendirilir.
+ * İstemci/gateway X-Request-Id gönderirse o kullanılır, yoksa üretilir ve yanıt başlığında geri döner.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_METHOD = "method";
+    public static final String MDC_PATH = "path";
+
+    // Log enjeksiyonuna karşı dışarıdan gelen id'yi sınırla
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(HEADER);
+        if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        }
+        MDC.put(MDC_REQUEST_ID, requestId);
+        MDC.put(MDC_METHOD, request.getMethod());
+        MDC.put(MDC_PATH, request.getRequestURI());
+        response.setHeader(HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_METHOD);
+            MDC.remove(MDC_PATH);
+        }
+    }
+}
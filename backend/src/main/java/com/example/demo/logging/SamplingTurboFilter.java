@@ -0,0 +1,149 @@
+package com.example.demo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logger bazında örnekleme ve hız sınırı uygulayan logback TurboFilter'ı.
+ * Her kural bir logger önekine bağlanır; kuralın seviyesinde veya altındaki olaylardan
+ * yalnızca her sampleRate'inci olay geçer, geçenler de saniyede ratePerSecond ile sınırlanır.
+ * Kural seviyesinin üstündeki olaylar (ör. WARN/ERROR) her zaman geçer.
+ * Karar, mesaj formatlanmadan ve appender kuyruğuna girmeden önce verilir.
+ *
+ * <pre>
+ * &lt;turboFilter class="com.example.demo.logging.SamplingTurboFilter"&gt;
+ *   &lt;rule&gt;
+ *     &lt;logger&gt;com.example.demo.controller&lt;/logger&gt;
+ *     &lt;level&gt;INFO&lt;/level&gt;
+ *     &lt;sampleRate&gt;10&lt;/sampleRate&gt;
+ *     &lt;ratePerSecond&gt;50&lt;/ratePerSecond&gt;
+ *   &lt;/rule&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Rule NO_RULE = new Rule();
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Rule> ruleByLogger = new ConcurrentHashMap<>();
+
+    public void addRule(Rule rule) {
+        rules.add(rule);
+    }
+
+    @Override
+    public void start() {
+        for (Rule rule : rules) {
+            if (rule.logger == null || rule.logger.isBlank()) {
+                addError("Sampling rule without <logger> is ignored");
+            }
+            if (rule.sampleRate < 1) {
+                addWarn("sampleRate must be >= 1 for logger " + rule.logger + ", using 1");
+                rule.sampleRate = 1;
+            }
+        }
+        rules.removeIf(rule -> rule.logger == null || rule.logger.isBlank());
+        // En uzun önek önce eşleşsin
+        rules.sort(Comparator.comparingInt((Rule rule) -> rule.logger.length()).reversed());
+        ruleByLogger.clear();
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() çağrıları (format == null) ve zaten kapalı seviyeler sayaçlara girmez
+        if (!isStarted() || format == null || level == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Rule rule = ruleByLogger.computeIfAbsent(logger.getName(), this::match);
+        if (rule == NO_RULE || level.toInt() > rule.threshold.toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        return rule.admit() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    /**
+     * Kural bazında bırakılan olay sayıları; teşhis için.
+     */
+    public Map<String, Long> getDroppedCounts() {
+        Map<String, Long> dropped = new LinkedHashMap<>();
+        for (Rule rule : rules) {
+            dropped.put(rule.logger, rule.dropped.get());
+        }
+        return dropped;
+    }
+
+    private Rule match(String loggerName) {
+        for (Rule rule : rules) {
+            if (loggerName.equals(rule.logger) || loggerName.startsWith(rule.logger + ".")) {
+                return rule;
+            }
+        }
+        return NO_RULE;
+    }
+
+    /**
+     * Tek bir logger öneki için örnekleme kuralı. Joran iç içe &lt;rule&gt; elemanlarından setter'larla doldurur.
+     */
+    public static class Rule {
+
+        private String logger;
+        private Level threshold = Level.INFO;
+        private int sampleRate = 1;
+        private int ratePerSecond = 0;
+
+        private final AtomicLong seen = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong windowSecond = new AtomicLong();
+        private final AtomicLong windowCount = new AtomicLong();
+
+        public void setLogger(String logger) {
+            this.logger = logger == null ? null : logger.trim();
+        }
+
+        public void setLevel(String level) {
+            this.threshold = Level.toLevel(level, Level.INFO);
+        }
+
+        public void setSampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public void setRatePerSecond(int ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+        }
+
+        boolean admit() {
+            if (sampleRate > 1 && seen.getAndIncrement() % sampleRate != 0) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            if (ratePerSecond > 0 && !withinRate()) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        private boolean withinRate() {
+            long second = System.currentTimeMillis() / 1000;
+            long current = windowSecond.get();
+            if (second != current && windowSecond.compareAndSet(current, second)) {
+                windowCount.set(0);
+            }
+            return windowCount.incrementAndGet() <= ratePerSecond;
+        }
+    }
+}
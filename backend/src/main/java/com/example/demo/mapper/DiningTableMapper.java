@@ -0,0 +1,41 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.response.DiningTableResponseDto;
+import com.example.demo.model.DiningTable;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper(config = MapStructConfig.class)
+public interface DiningTableMapper {
+
+    @Mapping(target = "statusId", source = "status.id")
+    @Mapping(target = "statusName", source = "status.name")
+    @Mapping(target = "salonId", source = "salon.id")
+    @Mapping(target = "salonName", source = "salon.name")
+    @Mapping(target = "hasActiveOrder", expression = "java(table.hasActiveOrder())")
+    @Mapping(target = "hasCompletedOrder", expression = "java(table.hasCompletedOrder())")
+    @Mapping(target = "realStatus", ignore = true)
+    DiningTableResponseDto toResponseDto(DiningTable table);
+
+    @AfterMapping
+    default void fillRealStatus(@MappingTarget DiningTableResponseDto dto) {
+        dto.setRealStatus(realStatus(dto.isHasActiveOrder(), dto.getActiveOrderItemsCount(),
+                dto.isHasCompletedOrder(), dto.getStatusName()));
+    }
+
+    /**
+     * Masanın sipariş durumuna göre gerçek durumu:
+     * aktif sipariş ve kalem varsa OCCUPIED (kırmızı), tamamlanmış sipariş varsa AVAILABLE (yeşil),
+     * sipariş yoksa veya boşsa masanın kendi durumu.
+     */
+    static String realStatus(boolean hasActiveOrder, int activeOrderItemsCount, boolean hasCompletedOrder, String statusName) {
+        if (hasActiveOrder && activeOrderItemsCount > 0) {
+            return "OCCUPIED";
+        } else if (hasCompletedOrder) {
+            return "AVAILABLE";
+        }
+        return statusName != null ? statusName : "AVAILABLE";
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.NullValueMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Derleme zamanında üretilen (MapStruct) mapper'ların ortak ayarları.
+ * Spring bean olarak üretilir; DTO'ya eklenen ama eşlenmeyen bir alan derlemeyi kırar (reflection yok, sessiz kayıp yok).
+ * Boş koleksiyon kaynakları null yerine boş liste döner.
+ */
+@MapperConfig(
+        componentModel = "spring",
+        unmappedTargetPolicy = ReportingPolicy.ERROR,
+        nullValueIterableMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT
+)
+public interface MapStructConfig {
+}
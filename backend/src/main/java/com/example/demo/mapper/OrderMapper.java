@@ -0,0 +1,38 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.response.OrderItemResponseDTO;
+import com.example.demo.dto.response.OrderResponseDTO;
+import com.example.demo.model.Order;
+import com.example.demo.model.OrderItem;
+import com.example.demo.repository.projection.OrderItemRow;
+import com.example.demo.repository.projection.OrderListRow;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(config = MapStructConfig.class)
+public interface OrderMapper {
+
+    @Mapping(target = "orderId", source = "id")
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "waiterName", source = "user.name")
+    @Mapping(target = "tableId", source = "table.id")
+    @Mapping(target = "tableNumber", source = "table.tableNumber")
+    OrderResponseDTO toResponseDTO(Order order);
+
+    @Mapping(target = "productId", source = "product.id")
+    @Mapping(target = "productName", source = "product.name")
+    OrderItemResponseDTO toItemResponseDTO(OrderItem item);
+
+    List<OrderItemResponseDTO> toItemResponseDTOs(List<OrderItem> items);
+
+    /**
+     * Kasiyer listesi projection satırından; kalemler ayrı sorguyla okunup çağıran tarafından eklenir.
+     */
+    @Mapping(target = "orderId", source = "id")
+    @Mapping(target = "items", ignore = true)
+    OrderResponseDTO toResponseDTO(OrderListRow row);
+
+    OrderItemResponseDTO toItemResponseDTO(OrderItemRow row);
+}
@@ -0,0 +1,12 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.response.ProductResponseDto;
+import com.example.demo.model.Product;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MapStructConfig.class)
+public interface ProductMapper {
+
+    // category: ItemCategory.name()
+    ProductResponseDto toResponseDto(Product product);
+}
@@ -0,0 +1,25 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.response.ReservationResponseDTO;
+import com.example.demo.enums.ReservationStatusConstants;
+import com.example.demo.model.Reservation;
+import com.example.demo.repository.projection.ReservationListRow;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapStructConfig.class, imports = ReservationStatusConstants.class)
+public interface ReservationMapper {
+
+    @Mapping(target = "salonId", source = "table.salon.id")
+    @Mapping(target = "salonName", source = "table.salon.name")
+    @Mapping(target = "tableId", source = "table.id")
+    @Mapping(target = "createdByName", source = "createdBy.name")
+    ReservationResponseDTO toResponseDTO(Reservation reservation);
+
+    /**
+     * Liste/arama projeksiyonundan (tek sorgu, entity yüklenmez)
+     */
+    @Mapping(target = "statusName", expression = "java(ReservationStatusConstants.getStatusName(row.statusId()))")
+    @Mapping(target = "statusNameInTurkish", expression = "java(ReservationStatusConstants.getStatusNameInTurkish(row.statusId()))")
+    ReservationResponseDTO toResponseDTO(ReservationListRow row);
+}
@@ -0,0 +1,55 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.request.UserRequestDTO;
+import com.example.demo.dto.response.UserResponseDTO;
+import com.example.demo.enums.UserRolesEnum;
+import com.example.demo.model.User;
+import com.example.demo.model.UserRole;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.util.Base64;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Mapper(config = MapStructConfig.class)
+public interface UserMapper {
+
+    @Mapping(target = "photoBase64", source = "photoBlob", qualifiedByName = "photoBase64")
+    @Mapping(target = "roles", source = "userRoles", qualifiedByName = "roleCodes")
+    UserResponseDTO toUserResponseDTO(User user);
+
+    /**
+     * Kayıt / güncelleme isteğinden yeni User; şifre, roller ve diğer alanlar çağıran tarafından set edilir.
+     */
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "email", source = "email")
+    @Mapping(target = "phoneNumber", source = "phoneNumber")
+    @Mapping(target = "password", source = "password")
+    User toEntity(UserRequestDTO request);
+
+    @Named("photoBase64")
+    default String photoBase64(byte[] photoBlob) {
+        return photoBlob != null && photoBlob.length > 0 ? Base64.getEncoder().encodeToString(photoBlob) : null;
+    }
+
+    // Rol kodu = UserRolesEnum sırası (admin=0, waiter=1, cashier=2), bilinmeyen rol -1
+    @Named("roleCodes")
+    default Set<Integer> roleCodes(Set<UserRole> userRoles) {
+        if (userRoles == null) {
+            return null;
+        }
+        return userRoles.stream()
+                .map(userRole -> {
+                    try {
+                        return UserRolesEnum.valueOf(userRole.getRole().getName()).ordinal();
+                    } catch (IllegalArgumentException e) {
+                        return -1;
+                    }
+                })
+                .collect(Collectors.toSet());
+    }
+}
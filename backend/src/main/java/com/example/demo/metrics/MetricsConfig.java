@@ -0,0 +1,67 @@
+package com.example.demo.metrics;
+
+import com.example.demo.service.FloorStateService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * İş metrikleri (/actuator/prometheus):
+ * <ul>
+ *   <li>restaurant.orders.upsert / .process, restaurant.payments.create, restaurant.reservations.create: @Timed histogramları</li>
+ *   <li>restaurant.summary.generation: özet üretim süresi, type ve outcome etiketli</li>
+ *   <li>restaurant.analytics.top_products: top products isteğinin hangi yoldan cevaplandığı (summary, generated, realtime, warming)</li>
+ *   <li>restaurant.orders.open, restaurant.tables.occupied: salon krokisi snapshot'ından, DB'ye gitmeden</li>
+ *   <li>restaurant.http.sql.statements / .time / .budget_exceeded: uç bazında istek başına SQL sayısı, JDBC süresi
+ *       ve bütçe aşımları (app.sql-budget.*)</li>
+ *   <li>restaurant.datasource.routed, restaurant.datasource.replica.lag / .usable / .checks: okuma replikası
+ *       yönlendirmesi (app.datasource.replica.*, bkz. ReplicaDataSourceConfig)</li>
+ * </ul>
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HotPathTimedAspect hotPathTimedAspect(MeterRegistry meterRegistry) {
+        return new HotPathTimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter counter) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlExecutionTimeListener.class.getName());
+        };
+    }
+
+    @Bean
+    public WebMvcConfigurer sqlBudgetConfigurer(SqlBudgetInterceptor sqlBudgetInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(sqlBudgetInterceptor);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder floorStateMetrics(FloorStateService floorStateService) {
+        return registry -> {
+            // Garson akışında masa başına tek açık sipariş var; açık sipariş sayısı = aktif siparişli masa
+            Gauge.builder("restaurant.orders.open", floorStateService,
+                            fs -> fs.countTables(FloorStateService.TableState::hasActiveOrder))
+                    .description("Open (not completed) orders on tables")
+                    .register(registry);
+            Gauge.builder("restaurant.tables.occupied", floorStateService,
+                            fs -> fs.countTables(t -> "OCCUPIED".equals(t.realStatus())))
+                    .description("Tables shown as occupied on the floor plan")
+                    .register(registry);
+        };
+    }
+}
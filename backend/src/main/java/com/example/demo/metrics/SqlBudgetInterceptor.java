@@ -0,0 +1,57 @@
+package com.example.demo.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Controller'a girmeden önce isteğin uç noktasını ("GET /api/orders/{id}") ve SQL bütçesini
+ * SqlRequestStats'a yazar. Route pattern ancak handler eşleşince bilindiği için bu iş filtrede değil burada yapılır.
+ * Bütçeler app.sql-budget.endpoints'te "METHOD pattern=limit" listesi olarak tanımlanır; listede olmayan
+ * uçlar app.sql-budget.default'u kullanır (0 = bütçe yok).
+ */
+@Component
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+
+    private final int defaultBudget;
+    private final Map<String, Integer> budgets;
+
+    public SqlBudgetInterceptor(@Value("${app.sql-budget.default:0}") int defaultBudget,
+                                @Value("${app.sql-budget.endpoints:}") String endpoints) {
+        this.defaultBudget = defaultBudget;
+        this.budgets = parse(endpoints);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlRequestStats stats = SqlStatementCounter.current();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (stats != null && pattern != null) {
+            String endpoint = request.getMethod() + " " + pattern;
+            stats.assign(endpoint, budgets.getOrDefault(endpoint, defaultBudget));
+        }
+        return true;
+    }
+
+    private static Map<String, Integer> parse(String endpoints) {
+        Map<String, Integer> result = new HashMap<>();
+        for (String entry : endpoints.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int eq = trimmed.lastIndexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("app.sql-budget.endpoints: '" + trimmed + "' is not METHOD pattern=limit");
+            }
+            result.put(trimmed.substring(0, eq).trim().replaceAll("\\s+", " "), Integer.parseInt(trimmed.substring(eq + 1).trim()));
+        }
+        return Map.copyOf(result);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC'de geçen süreyi (tekil ve batch execute) isteğin SqlRequestStats'ına ekler.
+ * Hibernate her session için bir örnek oluşturur (hibernate.session.events.auto); session tek thread'de
+ * kullanıldığından başlangıç zamanı alan olarak tutulabilir.
+ */
+public class SqlExecutionTimeListener implements SessionEventListener {
+
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        addElapsed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        addElapsed();
+    }
+
+    private void addElapsed() {
+        SqlRequestStats stats = SqlStatementCounter.current();
+        if (stats != null && startedAt != 0) {
+            stats.addExecuteNanos(System.nanoTime() - startedAt);
+        }
+        startedAt = 0;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tek bir HTTP isteğinin SQL istatistikleri: hazırlanan ifade sayısı, JDBC'de geçen süre ve
+ * (tekrar raporu açıksa) aynı SQL metninin kaç kez çalıştığı. Sadece isteğin thread'inde kullanılır.
+ */
+public final class SqlRequestStats {
+
+    private final Map<String, Integer> statements;
+    private String endpoint = "UNKNOWN";
+    private int budget;
+    private int count;
+    private long executeNanos;
+
+    SqlRequestStats(boolean trackStatements) {
+        this.statements = trackStatements ? new HashMap<>() : null;
+    }
+
+    void record(String sql) {
+        count++;
+        if (statements != null) {
+            statements.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void addExecuteNanos(long nanos) {
+        executeNanos += nanos;
+    }
+
+    void assign(String endpoint, int budget) {
+        this.endpoint = endpoint;
+        this.budget = budget;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * 0: bütçe tanımlı değil.
+     */
+    public int getBudget() {
+        return budget;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getExecuteNanos() {
+        return executeNanos;
+    }
+
+    public boolean isOverBudget() {
+        return budget > 0 && count > budget;
+    }
+
+    /**
+     * En az minCount kez çalışan SQL metinleri, çoktan aza. Aynı sorgunun farklı id'lerle tekrarı
+     * (bind parametreleri metinde değil) N+1'in tipik izidir.
+     */
+    public List<Map.Entry<String, Integer>> repeatedStatements(int minCount) {
+        List<Map.Entry<String, Integer>> repeated = new ArrayList<>();
+        if (statements == null) {
+            return repeated;
+        }
+        for (Map.Entry<String, Integer> entry : statements.entrySet()) {
+            if (entry.getValue() >= minCount) {
+                repeated.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        repeated.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        return repeated;
+    }
+}
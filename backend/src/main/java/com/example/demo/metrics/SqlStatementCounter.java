@@ -0,0 +1,60 @@
+package com.example.demo.metrics;
+
+import com.example.demo.exception.SqlBudgetExceededException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate'in hazırladığı her SQL ifadesini o anki thread'in isteğine (SqlRequestStats) yazar.
+ * Sayaç sadece begin()/end() arasında (HTTP isteği boyunca) açıktır; zamanlanmış işler ve
+ * arka plan thread'leri sayılmaz. SQL metnini değiştirmez.
+ * Strict modda uç noktanın bütçesini aşan ilk ifade SqlBudgetExceededException ile durdurulur
+ * (geliştirme ve yük testi ortamında N+1'i kaçırmamak için; üretimde sadece uyarı loglanır).
+ * Durum statik tutulur çünkü SqlExecutionTimeListener'ı Hibernate kendisi oluşturur.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final boolean strict;
+
+    public SqlStatementCounter(@Value("${app.sql-budget.strict:false}") boolean strict) {
+        this.strict = strict;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(sql);
+            if (strict && stats.getBudget() > 0 && stats.getCount() == stats.getBudget() + 1) {
+                throw new SqlBudgetExceededException(stats.getEndpoint(), stats.getBudget());
+            }
+        }
+        return sql;
+    }
+
+    public SqlRequestStats begin(boolean trackStatements) {
+        SqlRequestStats stats = new SqlRequestStats(trackStatements);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Sayacı kapatır ve begin()'den bu yana toplanan istatistikleri döner.
+     */
+    public SqlRequestStats end() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * İstek dışındaki thread'lerde null.
+     */
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * İstek başına Hibernate SQL ifadesi sayısını ve JDBC süresini uç nokta bazında kaydeder
+ * (restaurant.http.sql.statements, restaurant.http.sql.time). uri etiketi http.server.requests ile aynı
+ * şekilde route pattern'idir (/api/orders/{id}); JWT filtresindeki kullanıcı sorgusu da sayılır.
+ * Bütçeyi aşan istekler restaurant.http.sql.budget_exceeded'e yazılır ve uyarı loglanır.
+ * app.sql-budget.report-repeats açıkken aynı SQL'in repeat-threshold kez tekrarlandığı istekler
+ * (N+1 şüphesi) tekrar eden ifadelerle birlikte loglanır; SQL metinleri tutulduğu için geliştirme içindir.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final int MAX_REPORTED_STATEMENTS = 5;
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean reportRepeats;
+    private final int repeatThreshold;
+
+    public SqlStatementMetricsFilter(SqlStatementCounter counter,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.sql-budget.enabled:true}") boolean enabled,
+                                     @Value("${app.sql-budget.report-repeats:false}") boolean reportRepeats,
+                                     @Value("${app.sql-budget.repeat-threshold:5}") int repeatThreshold) {
+        this.counter = counter;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.reportRepeats = reportRepeats;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        counter.begin(reportRepeats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats stats = counter.end();
+            if (stats != null) {
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        String uri = stats.getEndpoint().equals("UNKNOWN") ? "UNKNOWN"
+                : stats.getEndpoint().substring(stats.getEndpoint().indexOf(' ') + 1);
+        DistributionSummary.builder("restaurant.http.sql.statements")
+                .description("SQL statements prepared by Hibernate per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                .register(meterRegistry)
+                .record(stats.getCount());
+        Timer.builder("restaurant.http.sql.time")
+                .description("Time spent in JDBC execute per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getExecuteNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.isOverBudget()) {
+            meterRegistry.counter("restaurant.http.sql.budget_exceeded", "method", request.getMethod(), "uri", uri).increment();
+            log.warn("SQL budget exceeded: {} ran {} statements (budget {}), {} ms in JDBC",
+                    stats.getEndpoint(), stats.getCount(), stats.getBudget(), TimeUnit.NANOSECONDS.toMillis(stats.getExecuteNanos()));
+        }
+        if (reportRepeats) {
+            List<Map.Entry<String, Integer>> repeated = stats.repeatedStatements(repeatThreshold);
+            if (!repeated.isEmpty()) {
+                StringBuilder report = new StringBuilder();
+                for (Map.Entry<String, Integer> entry : repeated.subList(0, Math.min(MAX_REPORTED_STATEMENTS, repeated.size()))) {
+                    report.append("\n  ").append(entry.getValue()).append("x ").append(entry.getKey());
+                }
+                log.warn("Possible N+1 in {}: {} statements, repeated:{}", stats.getEndpoint(), stats.getCount(), report);
+            }
+        }
+    }
+}
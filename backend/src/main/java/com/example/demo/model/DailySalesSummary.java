@@ -2,6 +2,8 @@ package com.example.demo.model;
 
 import com.example.demo.enums.ItemCategory;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Map;
@@ -37,6 +39,11 @@ public class DailySalesSummary {
     @Column(name = "total_customers")
     private Integer totalCustomers;
 
+    // Tekil müşteri sayımı için HyperLogLog taslağı (bkz. utils.HyperLogLog); totalCustomers bunun tahminidir
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "customer_sketch")
+    private byte[] customerSketch;
+
     @ManyToOne
     @JoinColumn(name = "most_popular_item_id")
     private Product mostPopularItem;
@@ -159,6 +166,14 @@ public class DailySalesSummary {
         this.totalCustomers = totalCustomers;
     }
 
+    public byte[] getCustomerSketch() {
+        return customerSketch;
+    }
+
+    public void setCustomerSketch(byte[] customerSketch) {
+        this.customerSketch = customerSketch;
+    }
+
     public Product getMostPopularItem() {
         return mostPopularItem;
     }
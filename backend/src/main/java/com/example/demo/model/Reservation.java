@@ -7,8 +7,11 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -47,6 +50,13 @@ public class Reservation {
     @JsonFormat(pattern = "HH:mm")
     private LocalTime reservationTime;
 
+    // reservation_date + reservation_time'dan DB tarafından üretilir (V8); aralık sorguları bu kolon üzerinden yapılır
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(name = "reservation_at", insertable = false, updatable = false)
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private LocalDateTime reservationAt;
+
     @Size(max = 500, message = "Özel istekler 500 karakterden uzun olamaz")
     @Column(name = "special_requests")
     private String specialRequests;
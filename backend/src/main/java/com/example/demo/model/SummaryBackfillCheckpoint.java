@@ -0,0 +1,64 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Arka planda üretilen özetlerin ilerleme kaydı.
+ * Uygulama yeniden başlatıldığında DONE olmayan kayıtlar kaldığı yerden devam eder.
+ */
+@Entity
+@Table(name = "summary_backfill_checkpoints",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uq_summary_backfill_type_end",
+                columnNames = {"report_type", "period_end_date"}
+        ))
+@Data
+@NoArgsConstructor
+public class SummaryBackfillCheckpoint {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "report_type", nullable = false)
+    private String reportType; // DAILY, WEEKLY, MONTHLY, YEARLY
+
+    @Column(name = "period_start_date", nullable = false)
+    private LocalDate periodStartDate;
+
+    @Column(name = "period_end_date", nullable = false)
+    private LocalDate periodEndDate;
+
+    @Column(name = "status", nullable = false)
+    private String status = STATUS_PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public SummaryBackfillCheckpoint(String reportType, LocalDate periodStartDate, LocalDate periodEndDate) {
+        this.reportType = reportType;
+        this.periodStartDate = periodStartDate;
+        this.periodEndDate = periodEndDate;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+}
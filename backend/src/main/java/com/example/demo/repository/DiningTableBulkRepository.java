@@ -0,0 +1,20 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+/**
+ * Toplu masa yazımları için JDBC batch fragment'ı.
+ * DiningTableRepository bu fragment'ı genişletir; implementasyon DiningTableBulkRepositoryImpl.
+ */
+public interface DiningTableBulkRepository {
+
+    /**
+     * Masaları JDBC batch INSERT ile ekler. IDENTITY id'li entity'lerde Hibernate insert'leri batch'leyemediği için
+     * persistence context'e uğramadan yazılır; oluşan id'ler benzersiz masa numarasıyla geri okunur.
+     *
+     * @return eklenen satır sayısı
+     */
+    int insertTables(List<NewTable> tables);
+
+    record NewTable(Integer tableNumber, Integer capacity, Long statusId, Long salonId) { }
+}
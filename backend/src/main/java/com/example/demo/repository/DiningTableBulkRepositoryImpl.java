@@ -0,0 +1,40 @@
+package com.example.demo.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+public class DiningTableBulkRepositoryImpl implements DiningTableBulkRepository {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO dining_tables (table_number, capacity, status_id, salon_id) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DiningTableBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertTables(List<NewTable> tables) {
+        if (tables.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, tables, BATCH_SIZE, (ps, table) -> {
+            ps.setInt(1, table.tableNumber());
+            ps.setInt(2, table.capacity());
+            ps.setLong(3, table.statusId());
+            ps.setLong(4, table.salonId());
+        });
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Sürücü sayıyı bildirmezse (SUCCESS_NO_INFO) satır eklenmiş sayılır
+                inserted += count >= 0 ? count : 1;
+            }
+        }
+        return inserted;
+    }
+}
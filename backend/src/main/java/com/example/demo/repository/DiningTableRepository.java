@@ -3,8 +3,12 @@ package com.example.demo.repository;
 import com.example.demo.model.DiningTable;
 import com.example.demo.model.TableStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +16,7 @@ import java.util.Optional;
  * DiningTable (masa) veritabanı işlemlerini yöneten repository arayüzü.
  */
 @Repository
-public interface DiningTableRepository extends JpaRepository<DiningTable, Long> {
+public interface DiningTableRepository extends JpaRepository<DiningTable, Long>, DiningTableBulkRepository {
 
     /**
      * Verilen masa numarasına (tableNumber) sahip bir masayı bulur.
@@ -54,4 +58,57 @@ public interface DiningTableRepository extends JpaRepository<DiningTable, Long>
      * @return Belirtilen salona ait ve belirtilen durumdaki masaların listesi
      */
     List<DiningTable> findBySalonIdAndStatus(Long salonId, TableStatus status);
+
+    /**
+     * Verilen masalardan RESERVED durumda olup artık aktif (CONFIRMED/PENDING) rezervasyonu kalmayanları
+     * tek UPDATE ile AVAILABLE yapar. OCCUPIED masalara dokunmaz. Rezervasyon süpürücüsü kullanır.
+     *
+     * @return güncellenen masa sayısı
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE dining_tables t " +
+            "SET status_id = (SELECT s.id FROM table_statuses s WHERE s.name = 'AVAILABLE') " +
+            "WHERE t.id IN (:tableIds) " +
+            "AND t.status_id = (SELECT s.id FROM table_statuses s WHERE s.name = 'RESERVED') " +
+            "AND NOT EXISTS (SELECT 1 FROM reservations r WHERE r.table_id = t.id AND r.status_id IN (:activeStatusIds))",
+            nativeQuery = true)
+    int releaseReservedTables(@Param("tableIds") Collection<Long> tableIds,
+                              @Param("activeStatusIds") Collection<Integer> activeStatusIds);
+
+    /**
+     * Verilen masa numaralarından veritabanında zaten kullanılanları döner.
+     * Toplu masa oluşturmada numara başına findByTableNumber yerine tek IN sorgusuyla benzersizlik kontrolü yapılır.
+     */
+    @Query("SELECT t.tableNumber FROM DiningTable t WHERE t.tableNumber IN :tableNumbers")
+    List<Integer> findExistingTableNumbers(@Param("tableNumbers") Collection<Integer> tableNumbers);
+
+    @Query("SELECT t.id FROM DiningTable t WHERE t.tableNumber IN :tableNumbers ORDER BY t.tableNumber")
+    List<Long> findIdsByTableNumberIn(@Param("tableNumbers") Collection<Integer> tableNumbers);
+
+    @Query("SELECT t.id FROM DiningTable t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.id FROM DiningTable t WHERE t.salon.id = :salonId ORDER BY t.id")
+    List<Long> findIdsBySalonId(@Param("salonId") Long salonId);
+
+    @Query("SELECT DISTINCT t.salon.id FROM DiningTable t WHERE t.id IN :ids AND t.salon IS NOT NULL")
+    List<Long> findSalonIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Verilen masaları tek UPDATE ile başka bir salona taşır.
+     *
+     * @return güncellenen masa sayısı
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE dining_tables SET salon_id = :salonId WHERE id IN (:ids)", nativeQuery = true)
+    int moveTablesToSalon(@Param("ids") Collection<Long> ids, @Param("salonId") Long salonId);
+
+    /**
+     * Bir salondaki tüm masaların durumunu tek UPDATE ile değiştirir (ör. kapanışta AVAILABLE'a sıfırlama).
+     *
+     * @return güncellenen masa sayısı
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE dining_tables SET status_id = :statusId WHERE salon_id = :salonId", nativeQuery = true)
+    int updateStatusBySalonId(@Param("salonId") Long salonId, @Param("statusId") Long statusId);
 }
@@ -4,12 +4,15 @@ import com.example.demo.model.OrderItem;
 import com.example.demo.repository.projection.TopProductView;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,6 +23,23 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     // Alternative method for explicit deletion of order items
     void deleteByOrderId(Long orderId);
 
+    // Kalem delta'sı: tek satırlık hedefli güncelleme (sipariş ve kalem entity'leri yüklenmez)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OrderItem oi SET oi.quantity = :quantity, oi.totalPrice = :totalPrice, oi.note = :note " +
+           "WHERE oi.order.id = :orderId AND oi.product.id = :productId")
+    int updateLine(@Param("orderId") Long orderId, @Param("productId") Long productId, @Param("quantity") int quantity,
+                   @Param("totalPrice") BigDecimal totalPrice, @Param("note") String note);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OrderItem oi WHERE oi.order.id = :orderId AND oi.product.id IN :productIds")
+    int deleteLines(@Param("orderId") Long orderId, @Param("productIds") Collection<Long> productIds);
+
+    // Aynı ürünün tekrar eden satırlarını siler, en küçük id'li satır kalır (delta birleştirilmiş adedi ona yazar)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OrderItem oi WHERE oi.order.id = :orderId AND oi.product.id = :productId AND oi.id > " +
+           "(SELECT MIN(k.id) FROM OrderItem k WHERE k.order.id = :orderId AND k.product.id = :productId)")
+    int deleteDuplicateLines(@Param("orderId") Long orderId, @Param("productId") Long productId);
+
     /**
      * Belirli tarih aralığında en çok satan ürünleri (adet bazında) döndürür.
      * ORDER BY SUM(oi.quantity) DESC ile sıralanır.
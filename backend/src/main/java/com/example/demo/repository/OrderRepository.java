@@ -1,25 +1,39 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.Order;
+import com.example.demo.repository.projection.OrderVersionState;
+import com.example.demo.repository.projection.TableOrderState;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderSearchRepository {
     // Garson (user) bazlı siparişler
     List<Order> findByUserId(Long userId);
     List<Order> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     // Masa bazlı
     List<Order> findByTableId(Long tableId);
+
+    // Masa başına (tamamlanmış / aktif) sipariş grupları ve kalem sayıları - FloorStateService
+    @Query("SELECT new com.example.demo.repository.projection.TableOrderState(o.table.id, o.isCompleted, COUNT(i)) " +
+           "FROM Order o LEFT JOIN o.items i GROUP BY o.table.id, o.isCompleted")
+    List<TableOrderState> findTableOrderStates();
+
+    @Query("SELECT new com.example.demo.repository.projection.TableOrderState(o.table.id, o.isCompleted, COUNT(i)) " +
+           "FROM Order o LEFT JOIN o.items i WHERE o.table.id IN :tableIds GROUP BY o.table.id, o.isCompleted")
+    List<TableOrderState> findTableOrderStatesByTableIds(@Param("tableIds") Collection<Long> tableIds);
     
     @Query("SELECT o FROM Order o WHERE DATE(o.createdAt) = :orderDate")
     List<Order> findByCreatedAt(@Param("orderDate") LocalDate orderDate);
@@ -30,6 +44,11 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT COUNT(o) FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate")
     long countByCreatedAtBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
+    // Özet üretimi için: siparişleri kalemleri, ürünleri ve garsonuyla tek sorguda getirir (N+1 yok)
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.product LEFT JOIN FETCH o.user " +
+           "WHERE o.createdAt >= :start AND o.createdAt < :end")
+    List<Order> findWithItemsByCreatedAtRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
     // Masa için tek açık sipariş (EAGER fetch için EntityGraph ile item ve product’ları da çekti)
     @EntityGraph(attributePaths = {"items", "items.product", "table"})
     Optional<Order> findFirstByTableIdAndIsCompletedFalse(Long tableId);
@@ -41,4 +60,16 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @EntityGraph(attributePaths = {"items", "items.product", "table"})
     List<Order> findByIsCompletedAndTableId(boolean isCompleted, Long tableId);
 
+    // Kalem delta'sı: sipariş entity'si (ve EAGER user/table ilişkileri) yüklenmeden durum kontrolü
+    @Query("SELECT new com.example.demo.repository.projection.OrderVersionState(o.id, t.id, o.version, o.isCompleted) " +
+           "FROM Order o LEFT JOIN o.table t WHERE o.id = :id")
+    Optional<OrderVersionState> findVersionStateById(@Param("id") Long id);
+
+    // Versiyon koşullu toplam güncellemesi; 0 dönerse sipariş arada değişmiş ya da kapanmıştır
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.totalPrice = :totalPrice, o.updatedAt = :updatedAt, o.version = o.version + 1 " +
+           "WHERE o.id = :id AND o.version = :version AND o.isCompleted = false")
+    int updateTotalIfVersion(@Param("id") Long id, @Param("version") Long version,
+                             @Param("totalPrice") BigDecimal totalPrice, @Param("updatedAt") LocalDateTime updatedAt);
+
 }
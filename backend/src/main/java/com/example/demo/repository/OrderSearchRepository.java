@@ -0,0 +1,39 @@
+package com.example.demo.repository;
+
+import com.example.demo.repository.projection.OrderItemRow;
+import com.example.demo.repository.projection.OrderListRow;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Kasiyer ekranı için filtreli, keyset (cursor) sayfalı sipariş sorguları.
+ * OrderRepository bu fragment'ı genişletir; implementasyon OrderSearchRepositoryImpl.
+ */
+public interface OrderSearchRepository {
+
+    /**
+     * @param criteria null alanlar filtre dışıdır
+     * @param after    önceki sayfanın son satırı (ilk sayfa için null)
+     * @param limit    en fazla dönecek satır
+     */
+    List<OrderListRow> searchRows(Criteria criteria, Cursor after, int limit);
+
+    /**
+     * Verilen siparişlerin kalemleri; sipariş ve kalem id'sine göre sıralı.
+     */
+    List<OrderItemRow> findItemRowsByOrderIds(Collection<Long> orderIds);
+
+    /**
+     * @param from created_at alt sınırı (dahil)
+     * @param to   created_at üst sınırı (hariç)
+     */
+    record Criteria(Boolean completed, Long tableId, Long userId, LocalDateTime from, LocalDateTime to,
+                    boolean descending) { }
+
+    /**
+     * Sıralama anahtarı: (created_at, id)
+     */
+    record Cursor(LocalDateTime createdAt, Long id) { }
+}
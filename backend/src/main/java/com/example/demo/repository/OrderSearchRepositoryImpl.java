@@ -0,0 +1,82 @@
+package com.example.demo.repository;
+
+import com.example.demo.repository.projection.OrderItemRow;
+import com.example.demo.repository.projection.OrderListRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sorgu yalnızca verilen filtrelerle dinamik kurulur (ReservationSearchRepositoryImpl ile aynı yaklaşım);
+ * her filtre kombinasyonu V9'daki (filtre, created_at, id) indekslerinden birinde tek range scan olur.
+ */
+public class OrderSearchRepositoryImpl implements OrderSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<OrderListRow> searchRows(Criteria criteria, Cursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.example.demo.repository.projection.OrderListRow(" +
+                "o.id, u.id, u.name, t.id, t.tableNumber, o.totalPrice, o.createdAt, o.isCompleted, o.version) " +
+                "FROM Order o LEFT JOIN o.user u LEFT JOIN o.table t WHERE o.createdAt IS NOT NULL");
+        Map<String, Object> params = new HashMap<>();
+
+        if (criteria.completed() != null) {
+            jpql.append(" AND o.isCompleted = :completed");
+            params.put("completed", criteria.completed());
+        }
+        if (criteria.tableId() != null) {
+            jpql.append(" AND t.id = :tableId");
+            params.put("tableId", criteria.tableId());
+        }
+        if (criteria.userId() != null) {
+            jpql.append(" AND u.id = :userId");
+            params.put("userId", criteria.userId());
+        }
+        if (criteria.from() != null) {
+            jpql.append(" AND o.createdAt >= :from");
+            params.put("from", criteria.from());
+        }
+        if (criteria.to() != null) {
+            jpql.append(" AND o.createdAt < :to");
+            params.put("to", criteria.to());
+        }
+
+        if (after != null) {
+            String cmp = criteria.descending() ? "<" : ">";
+            jpql.append(" AND (o.createdAt, o.id) ").append(cmp).append(" (:cursorCreatedAt, :cursorId)");
+            params.put("cursorCreatedAt", after.createdAt());
+            params.put("cursorId", after.id());
+        }
+
+        String direction = criteria.descending() ? " DESC" : " ASC";
+        jpql.append(" ORDER BY o.createdAt").append(direction).append(", o.id").append(direction);
+
+        TypedQuery<OrderListRow> query = entityManager.createQuery(jpql.toString(), OrderListRow.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<OrderItemRow> findItemRowsByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                        "SELECT new com.example.demo.repository.projection.OrderItemRow(" +
+                        "i.order.id, p.id, p.name, i.quantity, i.unitPrice, i.totalPrice, i.note) " +
+                        "FROM OrderItem i LEFT JOIN i.product p WHERE i.order.id IN :orderIds " +
+                        "ORDER BY i.order.id, i.id",
+                        OrderItemRow.class)
+                .setParameter("orderIds", orderIds)
+                .getResultList();
+    }
+}
@@ -1,55 +1,121 @@
 package com.example.demo.repository;
 
-import com.example.demo.model.DiningTable;
 import com.example.demo.model.Reservation;
 import com.example.demo.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationSearchRepository {
 
+    // Liste endpoint'leri table, table.salon ve createdBy'a dokunduğu için tek sorguda yüklenir (N+1 yerine)
+    @Override
+    @EntityGraph(attributePaths = {"table", "table.salon", "createdBy"})
+    List<Reservation> findAll();
+
+    @EntityGraph(attributePaths = {"table", "table.salon", "createdBy"})
     List<Reservation> findByTableId(Long tableId);
 
     /**
-     * Belirli bir masa, durum ve zaman aralığına göre çakışan rezervasyonları getirir.
-     * ReservationService.validateReservation() içinde çakışma kontrolü için kullanılır.
+     * Masada verilen aralıkla kesişen aktif rezervasyon var mı? Tek sorgu, ex_reservations_table_slot GiST indeksini kullanır.
+     * ReservationService.ensureNoConflicts() içinde kullanılır.
      */
-    @Query("SELECT r FROM Reservation r " +
-            "WHERE r.table = :table " +
-            "AND r.statusId = :statusId " +
-            "AND (r.reservationDate > :startDate OR (r.reservationDate = :startDate AND r.reservationTime >= :startTime)) " +
-            "AND (r.reservationDate < :endDate OR (r.reservationDate = :endDate AND r.reservationTime < :endTime))")
-    List<Reservation> findByTableAndStatusIdAndDateTimeBetween(
-            @Param("table") DiningTable table,
-            @Param("statusId") Integer statusId,
-            @Param("startDate") LocalDate startDate,
-            @Param("startTime") LocalTime startTime,
-            @Param("endDate") LocalDate endDate,
-            @Param("endTime") LocalTime endTime
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM reservations r " +
+            "WHERE r.table_id = :tableId " +
+            "AND r.status_id IN (:statusIds) " +
+            "AND r.id <> :excludeId " +
+            "AND r.reservation_slot && tsrange(CAST(:slotStart AS timestamp), CAST(:slotEnd AS timestamp), '[)'))",
+            nativeQuery = true)
+    boolean existsOverlappingSlot(
+            @Param("tableId") Long tableId,
+            @Param("statusIds") Collection<Integer> statusIds,
+            @Param("slotStart") LocalDateTime slotStart,
+            @Param("slotEnd") LocalDateTime slotEnd,
+            @Param("excludeId") Long excludeId
     );
 
+    @EntityGraph(attributePaths = {"table", "table.salon", "createdBy"})
     List<Reservation> findByStatusId(Integer statusId);
 
+    List<Reservation> findByStatusIdIn(Collection<Integer> statusIds);
+
+    // --- Rezervasyon yaşam döngüsü süpürücüsü (ReservationLifecycleService) ---
+
+    /**
+     * Verilenlerden hâlâ aktif olanları kilitler ve döner; eşzamanlı manuel değişikliklerle yarışmamak için.
+     */
+    @Query(value = "SELECT r.id FROM reservations r WHERE r.id IN (:ids) AND r.status_id IN (:activeStatusIds) FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockActiveReservationIds(@Param("ids") Collection<Long> ids,
+                                        @Param("activeStatusIds") Collection<Integer> activeStatusIds);
+
+    /**
+     * Masada [rezervasyon saati - lookbackMinutes, rezervasyon saati + graceMinutes) aralığında sipariş açılmış
+     * olanlar (müşteri geldi). Grace süresinden sonra açılan siparişler (saatler sonraki walk-in, uygulama kapalıyken
+     * girilip açılıştaki süpürmede görülen siparişler) gelişe sayılmaz.
+     * Aynı masadaki önceki (iptal / gelmedi olmayan) rezervasyonun bitişinden (başlangıç + slotMinutes) önce açılmış
+     * sipariş önceki müşterinindir; hâlâ açık olsa da gelişe sayılmaz.
+     */
+    @Query(value = "SELECT r.id FROM reservations r WHERE r.id IN (:ids) " +
+            "AND EXISTS (SELECT 1 FROM orders o WHERE o.table_id = r.table_id " +
+            "AND o.created_at >= r.reservation_at - make_interval(mins => :lookbackMinutes) " +
+            "AND o.created_at < r.reservation_at + make_interval(mins => :graceMinutes) " +
+            "AND NOT EXISTS (SELECT 1 FROM reservations p WHERE p.table_id = r.table_id AND p.id <> r.id " +
+            "AND p.status_id NOT IN (:ignoredStatusIds) AND p.reservation_at < r.reservation_at " +
+            "AND o.created_at < p.reservation_at + make_interval(mins => :slotMinutes)))",
+            nativeQuery = true)
+    List<Long> findArrivedReservationIds(@Param("ids") Collection<Long> ids,
+                                         @Param("lookbackMinutes") int lookbackMinutes,
+                                         @Param("graceMinutes") int graceMinutes,
+                                         @Param("slotMinutes") int slotMinutes,
+                                         @Param("ignoredStatusIds") Collection<Integer> ignoredStatusIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.statusId = :statusId WHERE r.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("statusId") Integer statusId);
+
+    List<Reservation> findByReservationDateGreaterThanEqualAndStatusIdIn(LocalDate reservationDate, Collection<Integer> statusIds);
+
     // Find reservations by date
     @Query("SELECT r FROM Reservation r WHERE r.reservationDate = :reservationDate")
     List<Reservation> findByReservationDate(@Param("reservationDate") LocalDate reservationDate);
 
-    // Find reservations between date range
-    @Query("SELECT r FROM Reservation r WHERE (r.reservationDate > :startDate OR (r.reservationDate = :startDate AND r.reservationTime >= :startTime)) " +
-           "AND (r.reservationDate < :endDate OR (r.reservationDate = :endDate AND r.reservationTime < :endTime))")
+    // Find reservations in [start, end) - reservation_at indeksi üzerinden tek range scan
+    @Query("SELECT r FROM Reservation r WHERE r.reservationAt >= :start AND r.reservationAt < :end")
     List<Reservation> findByReservationTimeBetween(
-            @Param("startDate") LocalDate startDate,
-            @Param("startTime") LocalTime startTime,
-            @Param("endDate") LocalDate endDate,
-            @Param("endTime") LocalTime endTime
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    /**
+     * [start, end) aralığındaki rezervasyonlardan sadece verilen durumdakiler.
+     * Özet job'ları müşteri eşleştirmesi için iptal / gelmedi olanları hiç yüklemez.
+     */
+    @Query("SELECT r FROM Reservation r WHERE r.reservationAt >= :start AND r.reservationAt < :end AND r.statusId IN :statusIds")
+    List<Reservation> findByReservationTimeBetweenAndStatusIdIn(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("statusIds") Collection<Integer> statusIds
+    );
+
+    /**
+     * [start, end) aralığındaki rezervasyon sayısı; satırları yüklemeden indeks üzerinden sayar.
+     * Özet job'larının toplam rezervasyon metriği ve günlük limit kontrolü için.
+     */
+    @Query("SELECT COUNT(r) FROM Reservation r WHERE r.reservationAt >= :start AND r.reservationAt < :end AND r.id <> :excludeId")
+    long countByReservationTimeBetween(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("excludeId") Long excludeId
     );
 
     List<Reservation> findByCreatedBy(User createdBy);
@@ -63,22 +129,23 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
     List<Reservation> findByStatusIdOrderByReservationDateAscReservationTimeAsc(Integer statusId);
 
-    @Query("SELECT r FROM Reservation r WHERE (r.reservationDate > :startDate OR (r.reservationDate = :startDate AND r.reservationTime >= :startTime)) " +
-           "AND (r.reservationDate < :endDate OR (r.reservationDate = :endDate AND r.reservationTime < :endTime))")
+    @Query("SELECT r FROM Reservation r WHERE r.reservationAt >= :start AND r.reservationAt < :end " +
+           "ORDER BY r.reservationAt")
     List<Reservation> findReservationsInTimeRange(
-            @Param("startDate") LocalDate startDate,
-            @Param("startTime") LocalTime startTime,
-            @Param("endDate") LocalDate endDate,
-            @Param("endTime") LocalTime endTime
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
     );
 
     List<Reservation> findByCustomerNameContainingIgnoreCaseAndStatusId(String customerName, Integer statusId);
 
     List<Reservation> findByTableIdAndStatusId(Long tableId, Integer statusId);
 
+    List<Reservation> findByTableIdAndReservationAtBetween(Long tableId, LocalDateTime start, LocalDateTime end);
+
     /**
      * Belirli bir salona ait tüm rezervasyonları getirir.
      */
+    @EntityGraph(attributePaths = {"table", "table.salon", "createdBy"})
     @Query("SELECT r FROM Reservation r WHERE r.table.salon.id = :salonId")
     List<Reservation> findByTableSalonId(@Param("salonId") Long salonId);
 }
\ No newline at end of file
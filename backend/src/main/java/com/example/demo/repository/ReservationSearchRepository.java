@@ -0,0 +1,43 @@
+package com.example.demo.repository;
+
+import com.example.demo.repository.projection.ReservationListRow;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Rezervasyon listeleri için filtreli, keyset (cursor) sayfalı projection sorgusu.
+ * ReservationRepository bu fragment'ı genişletir; implementasyon ReservationSearchRepositoryImpl.
+ */
+public interface ReservationSearchRepository {
+
+    /**
+     * @param criteria null alanlar filtre dışıdır
+     * @param after    önceki sayfanın son satırı (ilk sayfa için null)
+     * @param limit    en fazla dönecek satır
+     */
+    List<ReservationListRow> searchRows(Criteria criteria, Cursor after, int limit);
+
+    /**
+     * Müşteri araması (otomatik tamamlama) için eşleşen rezervasyon id'leri.
+     *
+     * @param foldedQuery TurkishText.fold() ile katlanmış sorgu
+     * @param upcoming    true: bugünden itibaren aktif rezervasyonlar (en yakın önce); false: geri kalanlar (en yeni önce)
+     */
+    List<Long> autocompleteIds(String foldedQuery, boolean upcoming, Collection<Integer> activeStatusIds, int limit);
+
+    /**
+     * Verilen id'lerin projection satırları, id listesinin sırasıyla.
+     */
+    List<ReservationListRow> findRowsByIds(Collection<Long> ids);
+
+    record Criteria(LocalDate fromDate, LocalDate toDate, Collection<Integer> statusIds, Long salonId,
+                    Long tableId, String namePrefix, boolean descending) { }
+
+    /**
+     * Sıralama anahtarı: (reservation_date, reservation_time, id)
+     */
+    record Cursor(LocalDate reservationDate, LocalTime reservationTime, Long id) { }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.repository;
+
+import com.example.demo.repository.projection.ReservationListRow;
+import com.example.demo.utils.TurkishText;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+
+import java.util.*;
+
+/**
+ * Sorgu yalnızca verilen filtrelerle dinamik kurulur; böylece planner her kombinasyon için
+ * uygun indeksi (tarih, masa veya durum önekli) seçebilir. "(:p IS NULL OR ...)" kalıbı kullanılmaz.
+ */
+public class ReservationSearchRepositoryImpl implements ReservationSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReservationListRow> searchRows(Criteria criteria, Cursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.example.demo.repository.projection.ReservationListRow(" +
+                "r.id, s.id, s.name, t.id, r.customerName, r.customerPhone, r.specialRequests, r.email, " +
+                "r.personCount, r.statusId, u.name, r.createdAt, r.reservationDate, r.reservationTime) " +
+                "FROM Reservation r JOIN r.table t LEFT JOIN t.salon s JOIN r.createdBy u WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+
+        if (criteria.fromDate() != null) {
+            jpql.append(" AND r.reservationDate >= :fromDate");
+            params.put("fromDate", criteria.fromDate());
+        }
+        if (criteria.toDate() != null) {
+            jpql.append(" AND r.reservationDate <= :toDate");
+            params.put("toDate", criteria.toDate());
+        }
+        if (criteria.statusIds() != null && !criteria.statusIds().isEmpty()) {
+            jpql.append(" AND r.statusId IN :statusIds");
+            params.put("statusIds", criteria.statusIds());
+        }
+        if (criteria.salonId() != null) {
+            jpql.append(" AND s.id = :salonId");
+            params.put("salonId", criteria.salonId());
+        }
+        if (criteria.tableId() != null) {
+            jpql.append(" AND t.id = :tableId");
+            params.put("tableId", criteria.tableId());
+        }
+        if (criteria.namePrefix() != null && !criteria.namePrefix().isBlank()) {
+            // tr_fold(customer_name) text_pattern_ops indeksi (V7)
+            jpql.append(" AND function('tr_fold' as String, r.customerName) LIKE :namePrefix ESCAPE '\\'");
+            params.put("namePrefix", TurkishText.escapeLike(TurkishText.fold(criteria.namePrefix().trim())) + "%");
+        }
+
+        String cmp = criteria.descending() ? "<" : ">";
+        if (after != null) {
+            // Satır değeri karşılaştırması; PostgreSQL'de (date, time, id) indeksi üzerinde tek range scan olur
+            jpql.append(" AND (r.reservationDate, r.reservationTime, r.id) ").append(cmp)
+                    .append(" (:cursorDate, :cursorTime, :cursorId)");
+            params.put("cursorDate", after.reservationDate());
+            params.put("cursorTime", after.reservationTime());
+            params.put("cursorId", after.id());
+        }
+
+        String direction = criteria.descending() ? " DESC" : " ASC";
+        jpql.append(" ORDER BY r.reservationDate").append(direction)
+                .append(", r.reservationTime").append(direction)
+                .append(", r.id").append(direction);
+
+        TypedQuery<ReservationListRow> query = entityManager.createQuery(jpql.toString(), ReservationListRow.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Long> autocompleteIds(String foldedQuery, boolean upcoming, Collection<Integer> activeStatusIds, int limit) {
+        String escaped = TurkishText.escapeLike(foldedQuery);
+        // 3+ karakter: trigram GIN (ad, telefon, e-posta içinde geçen); daha kısası: katlanmış ad öneki (b-tree)
+        boolean trigram = foldedQuery.length() >= 3;
+        StringBuilder sql = new StringBuilder("SELECT r.id FROM reservations r WHERE ")
+                .append(trigram ? "r.search_text LIKE :pattern ESCAPE '\\'" : "tr_fold(r.customer_name) LIKE :pattern ESCAPE '\\'");
+        if (upcoming) {
+            // Küçük küme: önce adı sorguyla başlayanlar, sonra en yakın tarih
+            sql.append(" AND r.reservation_date >= CURRENT_DATE AND r.status_id IN (:activeStatusIds)")
+                    .append(" ORDER BY (tr_fold(r.customer_name) LIKE :prefix ESCAPE '\\') DESC, r.reservation_date, r.reservation_time, r.id");
+        } else {
+            sql.append(" AND NOT (r.reservation_date >= CURRENT_DATE AND r.status_id IN (:activeStatusIds))")
+                    .append(" ORDER BY r.reservation_date DESC, r.reservation_time DESC, r.id DESC");
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Long.class);
+        query.setParameter("pattern", trigram ? "%" + escaped + "%" : escaped + "%");
+        query.setParameter("activeStatusIds", activeStatusIds);
+        if (upcoming) {
+            query.setParameter("prefix", escaped + "%");
+        }
+        query.setMaxResults(limit);
+        @SuppressWarnings("unchecked")
+        List<Long> ids = query.getResultList();
+        return ids;
+    }
+
+    @Override
+    public List<ReservationListRow> findRowsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<ReservationListRow> rows = entityManager.createQuery(
+                        "SELECT new com.example.demo.repository.projection.ReservationListRow(" +
+                        "r.id, s.id, s.name, t.id, r.customerName, r.customerPhone, r.specialRequests, r.email, " +
+                        "r.personCount, r.statusId, u.name, r.createdAt, r.reservationDate, r.reservationTime) " +
+                        "FROM Reservation r JOIN r.table t LEFT JOIN t.salon s JOIN r.createdBy u WHERE r.id IN :ids",
+                        ReservationListRow.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        // Çağıranın verdiği sırayı koru
+        Map<Long, ReservationListRow> byId = new HashMap<>();
+        rows.forEach(row -> byId.put(row.id(), row));
+        List<ReservationListRow> ordered = new ArrayList<>(rows.size());
+        for (Long id : ids) {
+            ReservationListRow row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+}
@@ -2,8 +2,12 @@ package com.example.demo.repository;
 
 import com.example.demo.model.Salon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +32,17 @@ public interface SalonRepository extends JpaRepository<Salon, Long> {
      * @return Belirtilen ada sahip salonların listesi
      */
     List<Salon> findByNameContainingIgnoreCase(String name);
+
+    /**
+     * Verilen salonların kapasite ve toplam masa sayısını masalardan tek UPDATE ile yeniden hesaplar.
+     * Toplu masa işlemlerinde Salon.updateStats() yerine batch başına bir kez çağrılır.
+     *
+     * @return güncellenen salon sayısı
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE salons s SET " +
+            "capacity = COALESCE((SELECT SUM(t.capacity) FROM dining_tables t WHERE t.salon_id = s.id), 0), " +
+            "total_tables = (SELECT COUNT(*) FROM dining_tables t WHERE t.salon_id = s.id) " +
+            "WHERE s.id IN (:salonIds)", nativeQuery = true)
+    int recalculateStats(@Param("salonIds") Collection<Long> salonIds);
 }
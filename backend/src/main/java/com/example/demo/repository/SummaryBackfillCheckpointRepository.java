@@ -0,0 +1,18 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.SummaryBackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SummaryBackfillCheckpointRepository extends JpaRepository<SummaryBackfillCheckpoint, Long> {
+
+    Optional<SummaryBackfillCheckpoint> findByReportTypeAndPeriodEndDate(String reportType, LocalDate periodEndDate);
+
+    // Yeniden başlatmada devam edilecek işler (PENDING + FAILED)
+    List<SummaryBackfillCheckpoint> findByStatusNotOrderByPeriodEndDateAsc(String status);
+}
@@ -0,0 +1,16 @@
+package com.example.demo.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * JPA constructor projection: bir sayfadaki siparişlerin kalemleri, ürün adıyla birlikte tek sorguda.
+ */
+public record OrderItemRow(
+        Long orderId,
+        Long productId,
+        String productName,
+        int quantity,
+        BigDecimal unitPrice,
+        BigDecimal totalPrice,
+        String note
+) { }
@@ -0,0 +1,20 @@
+package com.example.demo.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * JPA constructor projection: kasiyer listesindeki sipariş başlığı. user ve table entity'leri
+ * (ve onların EAGER ilişkileri: roller, masa durumu, salon) yüklenmez.
+ */
+public record OrderListRow(
+        Long id,
+        Long userId,
+        String waiterName,
+        Long tableId,
+        Integer tableNumber,
+        BigDecimal totalPrice,
+        LocalDateTime createdAt,
+        Boolean completed,
+        Long version
+) { }
@@ -0,0 +1,11 @@
+package com.example.demo.repository.projection;
+
+/**
+ * JPA constructor projection: delta uç noktasının ön kontrolü için siparişin masası, versiyonu ve durumu.
+ */
+public record OrderVersionState(
+        Long id,
+        Long tableId,
+        Long version,
+        Boolean completed
+) { }
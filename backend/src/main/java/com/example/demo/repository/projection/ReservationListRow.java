@@ -0,0 +1,26 @@
+package com.example.demo.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * JPA constructor projection: ReservationResponseDTO'nun ihtiyaç duyduğu kolonlar tek sorguda okunur
+ * (table, salon ve createdBy entity'leri yüklenmez).
+ */
+public record ReservationListRow(
+        Long id,
+        Long salonId,
+        String salonName,
+        Long tableId,
+        String customerName,
+        String customerPhone,
+        String specialRequests,
+        String email,
+        Integer personCount,
+        Integer statusId,
+        String createdByName,
+        LocalDateTime createdAt,
+        LocalDate reservationDate,
+        LocalTime reservationTime
+) { }
@@ -0,0 +1,12 @@
+package com.example.demo.repository.projection;
+
+/**
+ * JPA constructor projection: masa başına tamamlanmış / aktif sipariş grubu ve kalem sayısı.
+ * Masa durumunu hesaplamak için orders ve items koleksiyonları yüklenmez.
+ */
+public record TableOrderState(
+        Long tableId,
+        Boolean completed,
+        Long itemCount
+) {
+}
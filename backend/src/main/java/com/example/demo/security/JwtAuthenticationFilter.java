@@ -42,21 +42,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             jwt = authorizationHeader.substring(7);
             try {
                 username = jwtUtil.extractUsername(jwt);
-                logger.warn("Extracted username from jwt: {}", username);
+                logger.debug("Extracted username from jwt: {}", username);
             } catch (Exception e) {
                 logger.warn("JWT çözümleme hatası: {}", e.getMessage());
             }
         } else {
-            logger.warn("Authorization header missing or does not start with 'Bearer'");
+            logger.debug("Authorization header missing or does not start with 'Bearer'");
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                logger.info("UserDetails found: {}", userDetails.getUsername());
+                logger.debug("UserDetails found: {}", userDetails.getUsername());
 
                 if (jwtUtil.validateToken(jwt, userDetails)) {
-                    logger.info("Jwt valid, setting authentication context");
+                    logger.debug("Jwt valid, setting authentication context");
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
@@ -64,15 +64,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                 } else {
-                    logger.warn("JWT doğrulama başarısız: {}", jwt);
+                    logger.warn("JWT doğrulama başarısız: {}", username);
                 }
             } catch (Exception e) {
                 logger.error("Exception while loading user details: {}", e.getMessage());
             }
         } else if (username == null) {
-            logger.warn("Username extraction failed, skipping authentication");
+            logger.debug("Username extraction failed, skipping authentication");
         } else {
-            logger.info("Security context already has authenication, skipping");
+            logger.debug("Security context already has authenication, skipping");
         }
 
         filterChain.doFilter(request, response);
@@ -54,6 +54,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("admin") // Prometheus admin hesabıyla basic auth kullanır
 
                         .requestMatchers(HttpMethod.GET, "/api/product-ingredients").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/product-ingredients").hasRole("admin")
@@ -80,6 +82,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST,"/api/dining-tables").hasRole("admin")
                         .requestMatchers(HttpMethod.PUT,"/api/dining-tables/{id}").hasRole("admin")
                         .requestMatchers(HttpMethod.DELETE,"/api/dining-tables/{id}").hasRole("admin")
+                        .requestMatchers(HttpMethod.POST,"/api/dining-tables/bulk").hasRole("admin")
+                        .requestMatchers(HttpMethod.PATCH,"/api/dining-tables/bulk/salon").hasRole("admin")
+                        .requestMatchers(HttpMethod.PATCH,"/api/dining-tables/salon/{salonId}/status/{status}").hasRole("admin")
                         .requestMatchers(HttpMethod.PATCH,"/api/dining-tables/{id}/status/{status}").authenticated()
                         .requestMatchers(HttpMethod.PATCH,"/api/dining-tables/{id}/capacity/{capacity}").authenticated()
                         .requestMatchers(HttpMethod.PATCH,"/api/dining-tables/{id}/table-number/{tableNumber}").authenticated()
@@ -121,6 +126,7 @@ public class SecurityConfig {
 
                         .requestMatchers(HttpMethod.GET, "/api/settings").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/settings").hasRole("admin")
+                        .requestMatchers("/api/reference-data/**").hasRole("admin")
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider())
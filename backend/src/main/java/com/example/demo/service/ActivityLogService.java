@@ -1,6 +1,7 @@
 package com.example.demo.service;
 
 
+import com.example.demo.datasource.ReplicaRead;
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
 import org.springframework.security.core.Authentication;
@@ -101,36 +102,42 @@ public class ActivityLogService {
 
     // READ: Get all logs
     @Transactional(readOnly = true)
+    @ReplicaRead
     public List<ActivityLog> getAllActivityLogs() {
         return activityLogRepository.findAll();
     }
 
     // READ: Get logs by user
     @Transactional(readOnly = true)
+    @ReplicaRead
     public List<ActivityLog> getActivityLogsByUser(Long userId) {
         return activityLogRepository.findByUserId(userId);
     }
 
     // READ: Get logs by entity
     @Transactional(readOnly = true)
+    @ReplicaRead
     public List<ActivityLog> getActivityLogsByEntity(String entityType, Integer entityId) {
         return activityLogRepository.findByEntityTypeAndEntityId(entityType, entityId);
     }
 
     // READ: Get logs by date range
     @Transactional(readOnly = true)
+    @ReplicaRead
     public List<ActivityLog> getActivityLogsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         return activityLogRepository.findByCreatedAtBetween(startDate, endDate);
     }
 
     // READ: Get logs by action type
     @Transactional(readOnly = true)
+    @ReplicaRead
     public List<ActivityLog> getActivityLogsByActionType(String actionType) {
         return activityLogRepository.findByActionType(actionType);
     }
 
     // READ: Get bootstrap admin related logs
     @Transactional(readOnly = true)
+    @ReplicaRead
     public List<ActivityLog> getBootstrapAdminLogs() {
         List<ActivityLog> allLogs = activityLogRepository.findAll();
         return allLogs.stream()
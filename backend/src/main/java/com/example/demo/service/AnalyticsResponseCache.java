@@ -0,0 +1,209 @@
+package com.example.demo.service;
+
+import com.example.demo.datasource.ReplicaRoutingDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Analytics GET cevapları için read-through önbellek.
+ * Her (reportType, reportDate) çifti bir sürüm (version) numarasına sahiptir; sipariş olayları ve
+ * özet üretimi sadece etkilenen çiftin sürümünü artırır. Sürümü eskiyen girdiler bir sonraki okumada yeniden hesaplanır.
+ * Aynı sürüm numarası ETag üretiminde de kullanılır.
+ *
+ * Sürümler bellekte tutulduğundan açılışta sıfırdan başlar; bu yüzden ETag'e bir de dönem (epoch) eklenir.
+ * Epoch açılış anından başlar ve invalidateAll() ile artar; yeniden başlatma veya toplu geçersiz kılma öncesinde
+ * alınmış bir ETag hiçbir zaman 304 almaz.
+ *
+ * Okuma replikası açıkken (app.datasource.replica.enabled) replika, sürüm artışından sonra en fazla
+ * max-lag-ms + lag-check-ms kadar geride olabilir. Bu pencerede yeniden hesaplanan girdiler birincilden okunur;
+ * aksi halde replikadaki eski veri yeni sürümle saklanır ve dönemin bir sonraki siparişine kadar eski kalırdı.
+ */
+@Component
+@Slf4j
+public class AnalyticsResponseCache {
+
+    // FloorStateService'teki gibi açılış anından başlar: önceki açılışın etiketleriyle çakışmaz
+    private final AtomicLong epoch = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<EntryKey, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, SectionStats> stats = new ConcurrentHashMap<>();
+    // Sürüm artış zamanları (ms); yalnızca replika açıkken tutulur
+    private final Map<String, Long> invalidatedAt = new ConcurrentHashMap<>();
+    private volatile long allInvalidatedAt;
+    private final int maxEntries;
+    private final long replicaStaleWindowMs;
+
+    public AnalyticsResponseCache(@Value("${app.analytics.cache.max-entries:2000}") int maxEntries,
+                                  @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled,
+                                  @Value("${app.datasource.replica.max-lag-ms:2000}") long replicaMaxLagMs,
+                                  @Value("${app.datasource.replica.lag-check-ms:1000}") long replicaLagCheckMs) {
+        this.maxEntries = maxEntries;
+        // Gecikme en son kontrolde max-lag-ms altındaydı; bir sonraki kontrole kadar artmış olabilir
+        this.replicaStaleWindowMs = replicaEnabled ? replicaMaxLagMs + replicaLagCheckMs : 0;
+    }
+
+    /**
+     * Geçerli sürümdeki değeri döner; yoksa loader ile hesaplayıp saklar.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String section, String reportType, LocalDate reportDate, Object params, Supplier<T> loader) {
+        EntryKey key = new EntryKey(section, reportType, reportDate, params);
+        long currentEpoch = epoch.get();
+        long version = version(reportType, reportDate);
+        Entry entry = entries.get(key);
+        SectionStats sectionStats = stats(section);
+        if (entry != null && entry.epoch() == currentEpoch && entry.version() == version) {
+            sectionStats.hits.increment();
+            return (T) entry.value();
+        }
+
+        sectionStats.misses.increment();
+        if (recentlyInvalidated(reportType, reportDate)) {
+            // Replika bu sürümdeki değişikliği henüz almamış olabilir
+            ReplicaRoutingDataSource.pinToPrimary();
+        }
+        T value = loader.get();
+        if (entries.size() >= maxEntries) {
+            evictStale();
+        }
+        // Hesaplama sürerken sürüm artmışsa eski sürümle kaydedilir; sonraki okuma yeniden hesaplar
+        entries.put(key, new Entry(currentEpoch, version, value));
+        return value;
+    }
+
+    public long version(String reportType, LocalDate reportDate) {
+        AtomicLong version = versions.get(versionKey(reportType, reportDate));
+        return version == null ? 0L : version.get();
+    }
+
+    /**
+     * Etkilenen (reportType, reportDate) anahtarının sürümünü artırır.
+     * Aktif bir transaction varsa commit sonrasında tekrar artırılır; böylece commit öncesi okunan eski veri önbellekte kalmaz.
+     */
+    public void invalidate(String reportType, LocalDate reportDate) {
+        bump(reportType, reportDate);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(reportType, reportDate);
+                }
+            });
+        }
+    }
+
+    /**
+     * Hiç artırılmamış anahtarlar dahil tüm girdileri ve ETag'leri geçersiz kılar.
+     */
+    public void invalidateAll() {
+        if (replicaStaleWindowMs > 0) {
+            allInvalidatedAt = System.currentTimeMillis();
+        }
+        epoch.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * ETag için sürüm etiketi: "DAILY:2024-01-15:e1718000000000000:v3"
+     */
+    public String versionTag(String reportType, LocalDate reportDate) {
+        return reportType + ":" + reportDate + ":e" + epoch.get() + ":v" + version(reportType, reportDate);
+    }
+
+    public void recordNotModified(String section) {
+        stats(section).notModified.increment();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new HashMap<>();
+        long totalHits = 0;
+        long totalMisses = 0;
+        long totalNotModified = 0;
+        Map<String, Object> sections = new HashMap<>();
+        for (Map.Entry<String, SectionStats> e : stats.entrySet()) {
+            long hits = e.getValue().hits.sum();
+            long misses = e.getValue().misses.sum();
+            long notModified = e.getValue().notModified.sum();
+            totalHits += hits;
+            totalMisses += misses;
+            totalNotModified += notModified;
+
+            Map<String, Object> section = new HashMap<>();
+            section.put("hits", hits);
+            section.put("misses", misses);
+            section.put("notModified", notModified);
+            section.put("hitRatio", ratio(hits, hits + misses));
+            sections.put(e.getKey(), section);
+        }
+        result.put("sections", sections);
+        result.put("hits", totalHits);
+        result.put("misses", totalMisses);
+        result.put("notModified", totalNotModified);
+        result.put("hitRatio", ratio(totalHits, totalHits + totalMisses));
+        result.put("entries", entries.size());
+        result.put("maxEntries", maxEntries);
+        result.put("trackedKeys", versions.size());
+        return result;
+    }
+
+    private void bump(String reportType, LocalDate reportDate) {
+        String key = versionKey(reportType, reportDate);
+        if (replicaStaleWindowMs > 0) {
+            // Sürümden önce yazılır: yeni sürümü gören okuma, pencereyi de görür
+            invalidatedAt.put(key, System.currentTimeMillis());
+        }
+        versions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    private boolean recentlyInvalidated(String reportType, LocalDate reportDate) {
+        if (replicaStaleWindowMs == 0) {
+            return false;
+        }
+        long threshold = System.currentTimeMillis() - replicaStaleWindowMs;
+        Long at = invalidatedAt.get(versionKey(reportType, reportDate));
+        return allInvalidatedAt > threshold || (at != null && at > threshold);
+    }
+
+    private void evictStale() {
+        long currentEpoch = epoch.get();
+        entries.entrySet().removeIf(e -> e.getValue().epoch() != currentEpoch
+                || e.getValue().version() != version(e.getKey().reportType(), e.getKey().reportDate()));
+        if (entries.size() >= maxEntries) {
+            log.debug("Analytics response cache full ({} entries), clearing", entries.size());
+            entries.clear();
+        }
+    }
+
+    private SectionStats stats(String section) {
+        return stats.computeIfAbsent(section, s -> new SectionStats());
+    }
+
+    private static String versionKey(String reportType, LocalDate reportDate) {
+        return reportType + ":" + reportDate;
+    }
+
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0.0 : Math.round(part * 10000.0 / total) / 10000.0;
+    }
+
+    private record EntryKey(String section, String reportType, LocalDate reportDate, Object params) { }
+
+    private record Entry(long epoch, long version, Object value) { }
+
+    private static class SectionStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder notModified = new LongAdder();
+    }
+}
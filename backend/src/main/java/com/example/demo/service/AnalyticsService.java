@@ -1,5 +1,6 @@
 package com.example.demo.service;
 
+import com.example.demo.datasource.ReplicaRead;
 import com.example.demo.dto.response.TopProductDTO;
 import com.example.demo.dto.response.TopProductsSummaryResponseDTO;
 import com.example.demo.enums.TopProductsPeriod;
@@ -9,6 +10,9 @@ import com.example.demo.repository.DailySalesSummaryRepository;
 import com.example.demo.repository.OrderItemRepository;
 import com.example.demo.repository.OrderRepository;
 import com.example.demo.repository.projection.TopProductView;
+import com.example.demo.utils.HyperLogLog;
+import com.example.demo.utils.MoneyCents;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -30,9 +34,9 @@ import com.example.demo.event.OrderUpdatedEvent;
 import com.example.demo.event.OrderCompletedEvent;
 import com.example.demo.model.Order;
 import java.util.Comparator;
+import java.util.function.Supplier;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.example.demo.model.OrderItem;
-import java.math.RoundingMode;
 
 /**
  * Optimized Analytics Service using DailySalesSummary for fast performance.
@@ -47,16 +51,25 @@ public class AnalyticsService {
     private final OrderItemRepository orderItemRepository;
     private final OrderRepository orderRepository;
     private final DailySalesSummaryJobService dailySalesSummaryJobService;
+    private final SummaryBackfillService summaryBackfillService;
+    private final AnalyticsResponseCache responseCache;
+    private final CustomerIdentityResolver customerIdentityResolver;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Get top products for a specific period using pre-computed summaries.
      * This is the O(1) "fast path".
      */
+    @ReplicaRead
     public List<TopProductDTO> getTopProducts(TopProductsPeriod period, int limit) {
         int safeLimit = Math.max(1, Math.min(limit, 100));
-
         LocalDate reportDate = getReportDateForPeriod(period);
+        return responseCache.get("top-products", getReportType(period), reportDate, safeLimit,
+                () -> loadTopProducts(period, reportDate, safeLimit, new SummaryLookup(reportDate, getReportType(period))));
+    }
+
+    private List<TopProductDTO> loadTopProducts(TopProductsPeriod period, LocalDate reportDate, int safeLimit, SummaryLookup lookup) {
         LocalDate startDate = getPeriodStart(period, reportDate);
 
         log.info("Getting top products for period: {}, target report date: {}, start date: {}, limit: {}",
@@ -64,18 +77,26 @@ public class AnalyticsService {
 
         try {
             // Try to get from pre-computed summaries first (FAST PATH)
-            List<TopProductDTO> summaryResults = getTopProductsFromSummaries(period, reportDate, safeLimit);
+            List<TopProductDTO> summaryResults = getTopProductsFromSummaries(period, reportDate, safeLimit, lookup);
             if (!summaryResults.isEmpty()) {
                 log.info("Retrieved {} top products from summaries (fast path) for period: {}", summaryResults.size(), period);
+                countTopProductsPath("summary");
                 return summaryResults;
             }
         } catch (SummaryNotFoundException e) {
+            if (summaryBackfillService.isWarming()) {
+                // Backfill is still producing this summary; don't compete with it by generating synchronously
+                countTopProductsPath("warming");
+                throw summaryMissing(period, reportDate);
+            }
             log.warn("Summary not found for period: {} and date: {}. Attempting to generate.", e.getPeriod(), e.getReportDate());
             try {
                 dailySalesSummaryJobService.generateSalesSummary(startDate, reportDate, getReportType(period));
-                List<TopProductDTO> summaryResults = getTopProductsFromSummaries(period, reportDate, safeLimit);
+                lookup.refresh();
+                List<TopProductDTO> summaryResults = getTopProductsFromSummaries(period, reportDate, safeLimit, lookup);
                 if (!summaryResults.isEmpty()) {
                     log.info("Successfully generated and retrieved {} top products from summaries for period: {}", summaryResults.size(), period);
+                    countTopProductsPath("generated");
                     return summaryResults;
                 }
             } catch (Exception generationException) {
@@ -88,9 +109,18 @@ public class AnalyticsService {
         }
 
         log.info("Falling back to real-time calculation for period: {} (start: {}, end: now)", period, startDate);
+        countTopProductsPath("realtime");
         return getTopProductsRealTime(period, safeLimit);
     }
 
+    /**
+     * Cache'e düşmeyen top products isteklerinin hangi yoldan cevaplandığı; realtime oranı özetlerin eksik
+     * veya bozuk olduğunu gösterir.
+     */
+    private void countTopProductsPath(String path) {
+        meterRegistry.counter("restaurant.analytics.top_products", "path", path).increment();
+    }
+
     /**
      * Ensure current period summaries are available for real-time analytics
      */
@@ -136,6 +166,7 @@ public class AnalyticsService {
      * Get top products summary for all periods in one call
      * Time complexity: O(1) for each period
      */
+    @ReplicaRead
     public TopProductsSummaryResponseDTO getTopProductsSummary(int limit) {
         return new TopProductsSummaryResponseDTO(
                 getTopProducts(TopProductsPeriod.DAILY, limit),
@@ -146,10 +177,11 @@ public class AnalyticsService {
     }
 
     private List<TopProductDTO> getTopProductsFromSummaries(TopProductsPeriod period, LocalDate reportDate, int limit) {
-        String reportType = getReportType(period);
+        return getTopProductsFromSummaries(period, reportDate, limit, new SummaryLookup(reportDate, getReportType(period)));
+    }
 
-        Optional<DailySalesSummary> summaryOpt = dailySalesSummaryRepository
-                .findByReportDateAndReportType(reportDate, reportType);
+    private List<TopProductDTO> getTopProductsFromSummaries(TopProductsPeriod period, LocalDate reportDate, int limit, SummaryLookup lookup) {
+        Optional<DailySalesSummary> summaryOpt = lookup.get();
 
         if (summaryOpt.isEmpty()) {
             throw new SummaryNotFoundException(period, reportDate);
@@ -283,6 +315,7 @@ public class AnalyticsService {
 
     // *** ADDING BACK MISSING METHODS FOR THE CONTROLLER ***
 
+    @ReplicaRead
     public List<TopProductDTO> getAllTopProducts(int limit) {
         int safeLimit = Math.max(1, Math.min(limit, 100));
         log.info("Getting all top products without date filter, limit: {}", safeLimit);
@@ -299,11 +332,23 @@ public class AnalyticsService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Version tag of the period's current summary, used by the controller to build ETags
+     */
+    public String getCacheVersionTag(TopProductsPeriod period) {
+        return responseCache.versionTag(getReportType(period), getReportDateForPeriod(period));
+    }
+
+    @ReplicaRead
     public Map<String, Object> getRevenueAnalytics(TopProductsPeriod period) {
         LocalDate reportDate = getReportDateForPeriod(period);
         String reportType = getReportType(period);
-        Optional<DailySalesSummary> summaryOpt = dailySalesSummaryRepository
-                .findByReportDateAndReportType(reportDate, reportType);
+        return responseCache.get("revenue", reportType, reportDate, null,
+                () -> loadRevenueAnalytics(period, reportDate, new SummaryLookup(reportDate, reportType)));
+    }
+
+    private Map<String, Object> loadRevenueAnalytics(TopProductsPeriod period, LocalDate reportDate, SummaryLookup lookup) {
+        Optional<DailySalesSummary> summaryOpt = lookup.get();
         if (summaryOpt.isPresent()) {
             DailySalesSummary summary = summaryOpt.get();
             Map<String, Object> analytics = new HashMap<>();
@@ -315,9 +360,10 @@ public class AnalyticsService {
             analytics.put("reportType", summary.getReportType());
             return analytics;
         }
-        throw new SummaryNotFoundException(period, reportDate);
+        throw summaryMissing(period, reportDate);
     }
 
+    @ReplicaRead
     public Map<String, Object> getRealTimeRevenueAnalytics(TopProductsPeriod period) {
         LocalDate startDate = getPeriodStart(period, LocalDate.now());
         LocalDate endDate = LocalDate.now();
@@ -325,16 +371,13 @@ public class AnalyticsService {
         // Get orders for the period
         List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
         
-        // Calculate metrics
-        BigDecimal totalRevenue = orders.stream()
-                .map(Order::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Calculate metrics (kuruş toplamı, BigDecimal'e sonda çevrilir)
+        long totalRevenueCents = sumTotalAmountCents(orders);
+        BigDecimal totalRevenue = MoneyCents.toBigDecimal(totalRevenueCents);
         
         int totalOrders = orders.size();
         
-        BigDecimal averageOrderValue = totalOrders > 0 ?
-                totalRevenue.divide(BigDecimal.valueOf(totalOrders), 2, RoundingMode.HALF_UP) :
-                BigDecimal.ZERO;
+        BigDecimal averageOrderValue = MoneyCents.average(totalRevenueCents, totalOrders);
         
         int totalCustomers = (int) orders.stream()
                 .map(Order::getUser)
@@ -354,11 +397,16 @@ public class AnalyticsService {
         return analytics;
     }
 
+    @ReplicaRead
     public Map<String, String> getCategorySalesBreakdown(TopProductsPeriod period) {
         LocalDate reportDate = getReportDateForPeriod(period);
         String reportType = getReportType(period);
-        Optional<DailySalesSummary> summaryOpt = dailySalesSummaryRepository
-                .findByReportDateAndReportType(reportDate, reportType);
+        return responseCache.get("category-sales", reportType, reportDate, null,
+                () -> loadCategorySalesBreakdown(period, reportDate, new SummaryLookup(reportDate, reportType)));
+    }
+
+    private Map<String, String> loadCategorySalesBreakdown(TopProductsPeriod period, LocalDate reportDate, SummaryLookup lookup) {
+        Optional<DailySalesSummary> summaryOpt = lookup.get();
         if (summaryOpt.isPresent() && summaryOpt.get().getSalesByCategoryJson() != null) {
             try {
                 com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
@@ -367,14 +415,19 @@ public class AnalyticsService {
                 throw new AnalyticsDataCorruptionException("Sales By Category JSON", "salesByCategoryJson", summaryOpt.get().getSalesByCategoryJson(), e);
             }
         }
-        throw new SummaryNotFoundException(period, reportDate);
+        throw summaryMissing(period, reportDate);
     }
 
+    @ReplicaRead
     public Map<String, Object> getEmployeePerformance(TopProductsPeriod period) {
         LocalDate reportDate = getReportDateForPeriod(period);
         String reportType = getReportType(period);
-        Optional<DailySalesSummary> summaryOpt = dailySalesSummaryRepository
-                .findByReportDateAndReportType(reportDate, reportType);
+        return responseCache.get("employee-performance", reportType, reportDate, null,
+                () -> loadEmployeePerformance(period, reportDate, new SummaryLookup(reportDate, reportType)));
+    }
+
+    private Map<String, Object> loadEmployeePerformance(TopProductsPeriod period, LocalDate reportDate, SummaryLookup lookup) {
+        Optional<DailySalesSummary> summaryOpt = lookup.get();
         if (summaryOpt.isPresent() && summaryOpt.get().getEmployeePerformanceJson() != null) {
             try {
                 com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
@@ -383,7 +436,90 @@ public class AnalyticsService {
                 throw new AnalyticsDataCorruptionException("Employee Performance JSON", "employeePerformanceJson", summaryOpt.get().getEmployeePerformanceJson(), e);
             }
         }
-        throw new SummaryNotFoundException(period, reportDate);
+        throw summaryMissing(period, reportDate);
+    }
+
+    /**
+     * All four overview sections of one period. The period's summary row is read at most once and shared
+     * by the sections (twice if top products had to generate it). Each section fails on its own:
+     * failed sections are null and listed under "errors" with a short code, "partial" is true if any failed.
+     */
+    @ReplicaRead
+    public Map<String, Object> getPeriodOverview(TopProductsPeriod period, int topLimit) {
+        int safeLimit = Math.max(1, Math.min(topLimit, 100));
+        LocalDate reportDate = getReportDateForPeriod(period);
+        String reportType = getReportType(period);
+        SummaryLookup lookup = new SummaryLookup(reportDate, reportType);
+
+        Map<String, Object> result = new HashMap<>();
+        Map<String, Object> errors = new HashMap<>();
+        // Top products first: it is the only section that may generate a missing summary, the others then reuse it
+        overviewSection(result, errors, "topProducts", () -> responseCache.get("top-products", reportType, reportDate, safeLimit,
+                () -> loadTopProducts(period, reportDate, safeLimit, lookup)));
+        overviewSection(result, errors, "revenue", () -> responseCache.get("revenue", reportType, reportDate, null,
+                () -> loadRevenueAnalytics(period, reportDate, lookup)));
+        overviewSection(result, errors, "categoryBreakdown", () -> responseCache.get("category-sales", reportType, reportDate, null,
+                () -> loadCategorySalesBreakdown(period, reportDate, lookup)));
+        overviewSection(result, errors, "employeePerformance", () -> responseCache.get("employee-performance", reportType, reportDate, null,
+                () -> loadEmployeePerformance(period, reportDate, lookup)));
+        result.put("errors", errors);
+        result.put("partial", !errors.isEmpty());
+        return result;
+    }
+
+    private void overviewSection(Map<String, Object> result, Map<String, Object> errors, String section, Supplier<?> loader) {
+        try {
+            result.put(section, loader.get());
+        } catch (SummaryWarmingException e) {
+            result.put(section, null);
+            errors.put(section, Map.of("code", "WARMING", "message", String.valueOf(e.getMessage())));
+        } catch (SummaryNotFoundException e) {
+            result.put(section, null);
+            errors.put(section, Map.of("code", "NOT_FOUND", "message", String.valueOf(e.getMessage())));
+        } catch (AnalyticsDataCorruptionException e) {
+            result.put(section, null);
+            errors.put(section, Map.of("code", "CORRUPT", "message", String.valueOf(e.getMessage())));
+        } catch (RuntimeException e) {
+            log.warn("Overview section {} failed: {}", section, e.getMessage());
+            result.put(section, null);
+            errors.put(section, Map.of("code", "ERROR", "message", String.valueOf(e.getMessage())));
+        }
+    }
+
+    /**
+     * Lazily reads the (reportDate, reportType) summary once and hands the same row to every section that asks.
+     * Not thread-safe; one lookup belongs to one period being built on one thread.
+     */
+    private final class SummaryLookup {
+        private final LocalDate reportDate;
+        private final String reportType;
+        private Optional<DailySalesSummary> summary;
+
+        private SummaryLookup(LocalDate reportDate, String reportType) {
+            this.reportDate = reportDate;
+            this.reportType = reportType;
+        }
+
+        Optional<DailySalesSummary> get() {
+            if (summary == null) {
+                summary = dailySalesSummaryRepository.findByReportDateAndReportType(reportDate, reportType);
+            }
+            return summary;
+        }
+
+        void refresh() {
+            summary = null;
+        }
+    }
+
+    /**
+     * While the startup backfill is running a missing summary means "not yet", not "never"
+     */
+    private RuntimeException summaryMissing(TopProductsPeriod period, LocalDate reportDate) {
+        if (summaryBackfillService.isWarming()) {
+            return new SummaryWarmingException(period, reportDate, summaryBackfillService.getProgress());
+        }
+        return new SummaryNotFoundException(period, reportDate);
     }
 
     public String debugOrders() {
@@ -472,11 +608,11 @@ public class AnalyticsService {
     @EventListener
     public void handleOrderCreated(OrderCreatedEvent event) {
         Order order = event.getOrder();
-        log.info("Processing OrderCreatedEvent for order ID: {}", order.getId());
+        log.debug("Processing OrderCreatedEvent for order ID: {}", order.getId());
         
         try {
             updateSummariesForOrder(order, false);
-            log.info("Successfully updated summaries for new order ID: {}", order.getId());
+            log.debug("Successfully updated summaries for new order ID: {}", order.getId());
         } catch (Exception e) {
             log.error("Failed to update summaries for new order ID: {}", order.getId(), e);
             // Don't throw - analytics failure shouldn't break order creation
@@ -490,11 +626,11 @@ public class AnalyticsService {
     @EventListener
     public void handleOrderUpdated(OrderUpdatedEvent event) {
         Order order = event.getOrder();
-        log.info("Processing OrderUpdatedEvent for order ID: {}", order.getId());
+        log.debug("Processing OrderUpdatedEvent for order ID: {}", order.getId());
         
         try {
             updateSummariesForOrder(order, true);
-            log.info("Successfully updated summaries for updated order ID: {}", order.getId());
+            log.debug("Successfully updated summaries for updated order ID: {}", order.getId());
         } catch (Exception e) {
             log.error("Failed to update summaries for updated order ID: {}", order.getId(), e);
             // Don't throw - analytics failure shouldn't break order updates
@@ -508,11 +644,11 @@ public class AnalyticsService {
     @EventListener
     public void handleOrderCompleted(OrderCompletedEvent event) {
         Order order = event.getOrder();
-        log.info("Processing OrderCompletedEvent for order ID: {}", order.getId());
+        log.debug("Processing OrderCompletedEvent for order ID: {}", order.getId());
         
         try {
             updateCompletionMetrics(order);
-            log.info("Successfully updated completion metrics for order ID: {}", order.getId());
+            log.debug("Successfully updated completion metrics for order ID: {}", order.getId());
         } catch (Exception e) {
             log.error("Failed to update completion metrics for order ID: {}", order.getId(), e);
         }
@@ -543,6 +679,16 @@ public class AnalyticsService {
         if (isInCurrentYear(orderDate)) {
             updateYearlySummary(orderDate, order, isUpdate);
         }
+
+        // Only the cached responses of the periods containing this order become stale
+        invalidateCachedPeriods(orderDate);
+    }
+
+    private void invalidateCachedPeriods(LocalDate orderDate) {
+        responseCache.invalidate("DAILY", orderDate);
+        responseCache.invalidate("WEEKLY", orderDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)));
+        responseCache.invalidate("MONTHLY", orderDate.withDayOfMonth(orderDate.lengthOfMonth()));
+        responseCache.invalidate("YEARLY", orderDate.withDayOfYear(orderDate.lengthOfYear()));
     }
 
     /**
@@ -750,17 +896,16 @@ public class AnalyticsService {
         try {
             Map<String, String> currentCategorySales = parseCategorySalesJson(summary.getSalesByCategoryJson());
             
-            // Update with new order items
+            // Siparişin kalemleri önce kategori başına kuruş olarak toplanır; JSON'daki metin değer
+            // kategori başına bir kez okunup bir kez yazılır (kalem başına BigDecimal parse/toString yok)
+            Map<String, long[]> orderCategoryCents = new HashMap<>();
             for (OrderItem item : order.getItems()) {
                 String category = item.getProduct().getCategory().getValue();
-                BigDecimal itemTotal = item.getTotalPrice();
-                
-                String currentValue = currentCategorySales.getOrDefault(category, "0");
-                BigDecimal currentTotal = new BigDecimal(currentValue);
-                BigDecimal newTotal = currentTotal.add(itemTotal);
-                
-                currentCategorySales.put(category, newTotal.toString());
+                long[] cents = orderCategoryCents.computeIfAbsent(category, c -> new long[1]);
+                cents[0] = MoneyCents.add(cents[0], MoneyCents.of(item.getTotalPrice()));
             }
+            orderCategoryCents.forEach((category, cents) -> currentCategorySales.put(category,
+                    MoneyCents.format(MoneyCents.add(MoneyCents.parse(currentCategorySales.get(category)), cents[0]))));
             
             summary.setSalesByCategoryJson(objectMapper.writeValueAsString(currentCategorySales));
             
@@ -801,23 +946,21 @@ public class AnalyticsService {
             
             // Update employee metrics
             int currentOrders = (Integer) employeeEntry.get("totalOrders");
-            BigDecimal currentRevenue = new BigDecimal((String) employeeEntry.get("totalRevenue"));
+            long revenueCents = MoneyCents.add(MoneyCents.parse((String) employeeEntry.get("totalRevenue")),
+                    MoneyCents.of(order.getTotalPrice()));
             int currentItemsSold = (Integer) employeeEntry.get("totalItemsSold");
             
             employeeEntry.put("totalOrders", currentOrders + 1);
-            employeeEntry.put("totalRevenue", currentRevenue.add(order.getTotalPrice()).toString());
-            employeeEntry.put("averageOrderValue", 
-                currentRevenue.add(order.getTotalPrice()).divide(BigDecimal.valueOf(currentOrders + 1), 2, RoundingMode.HALF_UP).toString());
+            employeeEntry.put("totalRevenue", MoneyCents.format(revenueCents));
+            employeeEntry.put("averageOrderValue", MoneyCents.average(revenueCents, currentOrders + 1).toString());
             
             int itemsInOrder = order.getItems().stream().mapToInt(OrderItem::getQuantity).sum();
             employeeEntry.put("totalItemsSold", currentItemsSold + itemsInOrder);
             
-            // Sort employees by revenue
-            employees.sort((a, b) -> {
-                BigDecimal revenueA = new BigDecimal((String) a.get("totalRevenue"));
-                BigDecimal revenueB = new BigDecimal((String) b.get("totalRevenue"));
-                return revenueB.compareTo(revenueA);
-            });
+            // Sort employees by revenue (her satırın geliri bir kez parse edilir, karşılaştırma başına değil)
+            Map<Map<String, Object>, Long> revenueByEntry = new IdentityHashMap<>();
+            employees.forEach(emp -> revenueByEntry.put(emp, MoneyCents.parse((String) emp.get("totalRevenue"))));
+            employees.sort((a, b) -> Long.compare(revenueByEntry.get(b), revenueByEntry.get(a)));
             
             // Update top performer
             if (!employees.isEmpty()) {
@@ -846,7 +989,7 @@ public class AnalyticsService {
             DailySalesSummary summary = dailySummary.get();
             // You might want to track completed vs pending orders
             // For now, we'll just log the completion
-            log.info("Order {} completed, updating completion metrics", order.getId());
+            log.debug("Order {} completed, updating completion metrics", order.getId());
         }
     }
 
@@ -900,18 +1043,28 @@ public class AnalyticsService {
 
     /**
      * 🔥 REAL-TIME ANALYTICS: Calculate updated customer count
-     * Note: This is simplified - in production you might want more sophisticated customer tracking
+     * Adds the order's customer identity to the summary's HyperLogLog sketch (O(1)) and returns the estimate.
+     * The same customer (or an updated order) does not increase the count again.
+     * Summaries written before the sketch existed have no customer_sketch: a fresh sketch would only know
+     * this order and drop totalCustomers to ~1, so they keep the old +1 per order until the summary is
+     * regenerated (the job writes a complete sketch).
      */
     private Integer calculateUpdatedCustomerCount(DailySalesSummary summary, Order order) {
-        // For now, we'll just increment by 1 for each order
-        // In production, you might want to track unique customers per day
-        return summary.getTotalCustomers() + 1;
+        if (summary.getCustomerSketch() == null) {
+            int current = summary.getTotalCustomers() != null ? summary.getTotalCustomers() : 0;
+            return current + 1;
+        }
+        HyperLogLog sketch = HyperLogLog.fromBytes(summary.getCustomerSketch());
+        sketch.add(customerIdentityResolver.resolve(order));
+        summary.setCustomerSketch(sketch.toBytes());
+        return (int) sketch.estimate();
     }
 
     /**
      * Get real-time statistics for dashboard
      * Returns current day, week, and month statistics
      */
+    @ReplicaRead
     public Map<String, Object> getRealtimeStats() {
         Map<String, Object> stats = new HashMap<>();
         LocalDate today = LocalDate.now();
@@ -919,9 +1072,7 @@ public class AnalyticsService {
         try {
             // Today's statistics (00:00 to now)
             List<Order> todayOrders = orderRepository.findByCreatedAtBetween(today, today);
-            BigDecimal todayRevenue = todayOrders.stream()
-                .map(Order::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal todayRevenue = MoneyCents.toBigDecimal(sumTotalAmountCents(todayOrders));
             
             stats.put("todayOrders", todayOrders.size());
             stats.put("todayRevenue", todayRevenue);
@@ -931,9 +1082,7 @@ public class AnalyticsService {
             LocalDate weekEnd = weekStart.plusDays(6);
             
             List<Order> weekOrders = orderRepository.findByCreatedAtBetween(weekStart, weekEnd);
-            BigDecimal weekRevenue = weekOrders.stream()
-                .map(Order::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal weekRevenue = MoneyCents.toBigDecimal(sumTotalAmountCents(weekOrders));
             
             stats.put("weeklyOrders", weekOrders.size());
             stats.put("weeklyRevenue", weekRevenue);
@@ -943,9 +1092,7 @@ public class AnalyticsService {
             LocalDate monthEnd = today.withDayOfMonth(today.lengthOfMonth());
             
             List<Order> monthOrders = orderRepository.findByCreatedAtBetween(monthStart, monthEnd);
-            BigDecimal monthRevenue = monthOrders.stream()
-                .map(Order::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal monthRevenue = MoneyCents.toBigDecimal(sumTotalAmountCents(monthOrders));
             
             stats.put("monthlyOrders", monthOrders.size());
             stats.put("monthlyRevenue", monthRevenue);
@@ -971,4 +1118,15 @@ public class AnalyticsService {
         
         return stats;
     }
+
+    /**
+     * Sipariş tutarlarının kuruş toplamı (Order.getTotalAmount, 2 hane)
+     */
+    private static long sumTotalAmountCents(List<Order> orders) {
+        long cents = 0L;
+        for (Order order : orders) {
+            cents = MoneyCents.add(cents, MoneyCents.of(order.getTotalAmount()));
+        }
+        return cents;
+    }
 }
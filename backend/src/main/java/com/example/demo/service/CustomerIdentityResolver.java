@@ -0,0 +1,91 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Order;
+import com.example.demo.model.Reservation;
+import com.example.demo.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Tekil müşteri sayımı (HyperLogLog) için siparişin müşteri kimliğini belirler.
+ * Sipariş, aynı masada rezervasyon saatine MATCH_WINDOW kadar yakın en yakın rezervasyonla eşleşirse
+ * rezervasyonun telefonu/e-postası kullanılır; eşleşme yoksa masa oturumu (masa + sipariş) tek bir müşteri sayılır.
+ * Pencere takvim gününe bağlı değildir: gece yarısını geçen bir masanın siparişleri de aynı rezervasyona eşlenir.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerIdentityResolver {
+
+    // Rezervasyon saatinden bu kadar önce/sonra açılan siparişler aynı müşteriye ait sayılır
+    public static final Duration MATCH_WINDOW = Duration.ofHours(3);
+
+    private final ReservationRepository reservationRepository;
+
+    /**
+     * Tek sipariş için (gerçek zamanlı güncelleme yolu): masanın sipariş saatine MATCH_WINDOW kadar yakın
+     * rezervasyonlarını sorgular.
+     */
+    public String resolve(Order order) {
+        if (order.getTable() == null || order.getCreatedAt() == null) {
+            return tableSessionKey(order);
+        }
+        List<Reservation> candidates = reservationRepository.findByTableIdAndReservationAtBetween(
+                order.getTable().getId(),
+                order.getCreatedAt().minus(MATCH_WINDOW),
+                order.getCreatedAt().plus(MATCH_WINDOW));
+        return resolve(order, candidates);
+    }
+
+    /**
+     * Toplu üretim için: önceden yüklenmiş rezervasyonları masaya göre indeksler, sipariş başına sorgu atmaz.
+     * Liste dönemin iki ucundan MATCH_WINDOW kadar taşan rezervasyonları da içermelidir.
+     */
+    public Function<Order, String> forReservations(List<Reservation> reservations) {
+        Map<Long, List<Reservation>> byTable = reservations.stream()
+                .filter(r -> r.getTable() != null)
+                .collect(Collectors.groupingBy(r -> r.getTable().getId()));
+        return order -> resolve(order, order.getTable() == null
+                ? List.of()
+                : byTable.getOrDefault(order.getTable().getId(), List.of()));
+    }
+
+    private String resolve(Order order, List<Reservation> candidates) {
+        if (order.getCreatedAt() == null) {
+            return tableSessionKey(order);
+        }
+        return candidates.stream()
+                .filter(r -> r.getReservationDate() != null && r.getReservationTime() != null)
+                .filter(r -> r.getStatusId() == null || (!r.isCancelledReservation() && !r.isNoShowReservation()))
+                .filter(r -> distance(order, r).compareTo(MATCH_WINDOW) <= 0)
+                .min(Comparator.comparing(r -> distance(order, r)))
+                .map(CustomerIdentityResolver::reservationKey)
+                .orElseGet(() -> tableSessionKey(order));
+    }
+
+    private static Duration distance(Order order, Reservation reservation) {
+        LocalDateTime reservedAt = LocalDateTime.of(reservation.getReservationDate(), reservation.getReservationTime());
+        return Duration.between(reservedAt, order.getCreatedAt()).abs();
+    }
+
+    private static String reservationKey(Reservation reservation) {
+        String phone = reservation.getCustomerPhone() == null ? "" : reservation.getCustomerPhone().replaceAll("\\D", "");
+        if (!phone.isEmpty()) {
+            return "phone:" + phone;
+        }
+        if (reservation.getEmail() != null && !reservation.getEmail().isBlank()) {
+            return "email:" + reservation.getEmail().trim().toLowerCase(Locale.ROOT);
+        }
+        return "reservation:" + reservation.getId();
+    }
+
+    private static String tableSessionKey(Order order) {
+        Long tableId = order.getTable() == null ? null : order.getTable().getId();
+        return "table-session:" + tableId + ":" + order.getId();
+    }
+}
@@ -1,51 +1,66 @@
 package com.example.demo.service;
 
+import com.example.demo.datasource.ReplicaRead;
 import com.example.demo.exception.analytics.*;
 import com.example.demo.enums.ItemCategory;
+import com.example.demo.enums.ReservationStatusConstants;
 import com.example.demo.model.DailySalesSummary;
 import com.example.demo.model.Order;
-import com.example.demo.model.OrderItem;
-import com.example.demo.model.Product;
 import com.example.demo.model.Reservation;
-import com.example.demo.model.User;
 import com.example.demo.repository.DailySalesSummaryRepository;
-import com.example.demo.repository.OrderItemRepository;
 import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.ProductRepository;
 import com.example.demo.repository.ReservationRepository;
+import com.example.demo.utils.MoneyCents;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 public class DailySalesSummaryJobService {
 
+    // CustomerIdentityResolver sadece iptal / gelmedi olmayan rezervasyonları siparişle eşleştirir
+    private static final List<Integer> IDENTITY_STATUS_IDS = List.of(ReservationStatusConstants.CONFIRMED,
+            ReservationStatusConstants.COMPLETED, ReservationStatusConstants.PENDING);
+
     private final OrderRepository orderRepository;
     private final DailySalesSummaryRepository dailySalesSummaryRepository;
-    private final OrderItemRepository orderItemRepository;
     private final ReservationRepository reservationRepository;
+    private final ProductRepository productRepository;
+    private final AnalyticsResponseCache responseCache;
+    private final CustomerIdentityResolver customerIdentityResolver;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     public DailySalesSummaryJobService(OrderRepository orderRepository,
                                        DailySalesSummaryRepository dailySalesSummaryRepository,
-                                       OrderItemRepository orderItemRepository,
-                                       ReservationRepository reservationRepository) {
+                                       ReservationRepository reservationRepository,
+                                       ProductRepository productRepository,
+                                       AnalyticsResponseCache responseCache,
+                                       CustomerIdentityResolver customerIdentityResolver,
+                                       MeterRegistry meterRegistry) {
         this.orderRepository = orderRepository;
         this.dailySalesSummaryRepository = dailySalesSummaryRepository;
-        this.orderItemRepository = orderItemRepository;
         this.reservationRepository = reservationRepository;
+        this.productRepository = productRepository;
+        this.responseCache = responseCache;
+        this.customerIdentityResolver = customerIdentityResolver;
         this.objectMapper = new ObjectMapper();
+        this.meterRegistry = meterRegistry;
     }
 
     @Transactional
@@ -73,8 +88,26 @@ public class DailySalesSummaryJobService {
 
     //**********testing **********
     //private void generateSalesSummary(LocalDate startDate, LocalDate endDate, String reportType)
+    @ReplicaRead(false)
     public void generateSalesSummary(LocalDate startDate, LocalDate endDate, String reportType) {
-        System.out.println("Generating " + reportType + " report for period: " + startDate + " to " + endDate);
+        // Zamanlanmış metodlar bu metodu içeriden çağırdığı için @Timed yerine burada ölçülür
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            generateSalesSummaryInternal(startDate, endDate, reportType);
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder("restaurant.summary.generation")
+                    .description("Sales summary generation (single period)")
+                    .tag("type", String.valueOf(reportType))
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private void generateSalesSummaryInternal(LocalDate startDate, LocalDate endDate, String reportType) {
+        log.debug("Generating {} report for period: {} to {}", reportType, startDate, endDate);
         
         // Check for resource exhaustion
         checkResourceAvailability();
@@ -82,24 +115,26 @@ public class DailySalesSummaryJobService {
         // Check if a summary already exists for this date and report type
         Optional<DailySalesSummary> existingSummary = dailySalesSummaryRepository.findByReportDateAndReportType(endDate, reportType);
         if (existingSummary.isPresent()) {
-            System.out.println("Updating existing " + reportType + " summary for date: " + endDate);
+            log.debug("Updating existing {} summary for date: {}", reportType, endDate);
             // Update existing summary
             DailySalesSummary summary = existingSummary.get();
             try {
                 updateSummaryData(summary, startDate, endDate, reportType);
                 dailySalesSummaryRepository.save(summary);
+                responseCache.invalidate(reportType, endDate);
             } catch (Exception e) {
                 throw new AnalyticsGenerationException("Failed to update existing summary", null, startDate, endDate, reportType, e);
             }
             return;
         }
 
-        System.out.println("Creating new " + reportType + " summary for date: " + endDate);
+        log.debug("Creating new {} summary for date: {}", reportType, endDate);
         // Create new summary
         try {
             DailySalesSummary newSummary = createNewSummary(startDate, endDate, reportType);
             dailySalesSummaryRepository.save(newSummary);
-            System.out.println("Successfully created " + reportType + " summary for date: " + endDate);
+            responseCache.invalidate(reportType, endDate);
+            log.debug("Successfully created {} summary for date: {}", reportType, endDate);
         } catch (Exception e) {
             throw new AnalyticsGenerationException("Failed to create new summary", null, startDate, endDate, reportType, e);
         }
@@ -126,84 +161,9 @@ public class DailySalesSummaryJobService {
     }
 
     private void updateSummaryData(DailySalesSummary summary, LocalDate startDate, LocalDate endDate, String reportType) {
-        // Set timeout for summary generation
-        long startTime = System.currentTimeMillis();
-        Duration timeout = Duration.ofMinutes(5); // 5 minutes timeout
-        
         try {
-            List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
-
-            // Initialize default values
-            BigDecimal totalRevenue = BigDecimal.ZERO;
-            int totalOrders = 0;
-            BigDecimal averageOrderValue = BigDecimal.ZERO;
-            int totalCustomers = 0;
-            Product mostPopularItem = null;
-            Product leastPopularItem = null;
-            Map<ItemCategory, BigDecimal> salesByCategory = new HashMap<>();
-            int totalReservations = 0;
-            Map<String, Object> employeePerformance = new HashMap<>();
-            String topProductsJson = "{}";
-            int topProductsCount = 0;
-
-            if (!orders.isEmpty()) {
-                // Check timeout
-                if (System.currentTimeMillis() - startTime > timeout.toMillis()) {
-                    throw new SummaryGenerationTimeoutException(timeout, null, startDate, endDate);
-                }
-                
-                // Basic metrics
-                totalRevenue = orders.stream()
-                    .map(Order::getTotalAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                totalOrders = orders.size();
-                averageOrderValue = totalOrders > 0 ?
-                        totalRevenue.divide(BigDecimal.valueOf(totalOrders), 2, RoundingMode.HALF_UP) :
-                        BigDecimal.ZERO;
-
-                totalCustomers = (int) orders.stream()
-                    .map(Order::getUser)
-                    .distinct()
-                    .count();
-
-                // Product analysis
-                mostPopularItem = findMostPopularItem(startDate, endDate);
-                leastPopularItem = findLeastPopularItem(startDate, endDate);
-                
-                // Sales by categories
-                salesByCategory = calculateSalesByCategory(startDate, endDate);
-                
-                // Employee performance analysis
-                employeePerformance = calculateEmployeePerformance(startDate, endDate);
-                
-                // Top products analysis for analytics
-                topProductsJson = calculateTopProductsJson(startDate, endDate);
-                topProductsCount = calculateTopProductsCount(startDate, endDate);
-            }
-            
-            // Total reservations (can exist even without orders)
-            totalReservations = reservationRepository.findByReservationTimeBetween(startDate, LocalTime.MIN, endDate, LocalTime.MAX).size();
-
-            // Convert to JSON
-            String salesByCategoryJson = convertSalesByCategoryToJson(salesByCategory);
-            String employeePerformanceJson = convertEmployeePerformanceToJson(employeePerformance);
-
-            // Update summary data
-            summary.setTotalRevenue(totalRevenue);
-            summary.setTotalOrders(totalOrders);
-            summary.setAverageOrderValue(averageOrderValue);
-            summary.setTotalCustomers(totalCustomers);
-            summary.setMostPopularItem(mostPopularItem);
-            summary.setLeastPopularItem(leastPopularItem);
-            summary.setTotalReservations(totalReservations);
-            summary.setSalesByCategoryJson(salesByCategoryJson);
-            summary.setEmployeePerformanceJson(employeePerformanceJson);
-            summary.setTopProductsJson(topProductsJson);
-            summary.setTopProductsCount(topProductsCount);
-            summary.setPeriodStartDate(startDate);
-            summary.setPeriodEndDate(endDate);
-            
+            SalesSummaryAggregate aggregate = aggregatePeriod(startDate, endDate);
+            applyAggregate(summary, startDate, endDate, aggregate);
         } catch (SummaryGenerationTimeoutException e) {
             throw e; // Re-throw timeout exception
         } catch (Exception e) {
@@ -212,91 +172,13 @@ public class DailySalesSummaryJobService {
     }
 
     private DailySalesSummary createNewSummary(LocalDate startDate, LocalDate endDate, String reportType) {
-        // Set timeout for summary generation
-        long startTime = System.currentTimeMillis();
-        Duration timeout = Duration.ofMinutes(5); // 5 minutes timeout
-        
         try {
-            List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
-
-            // Initialize default values
-            BigDecimal totalRevenue = BigDecimal.ZERO;
-            int totalOrders = 0;
-            BigDecimal averageOrderValue = BigDecimal.ZERO;
-            int totalCustomers = 0;
-            Product mostPopularItem = null;
-            Product leastPopularItem = null;
-            Map<ItemCategory, BigDecimal> salesByCategory = new HashMap<>();
-            int totalReservations = 0;
-            Map<String, Object> employeePerformance = new HashMap<>();
-            String topProductsJson = "{}";
-            int topProductsCount = 0;
-
-            if (!orders.isEmpty()) {
-                // Check timeout
-                if (System.currentTimeMillis() - startTime > timeout.toMillis()) {
-                    throw new SummaryGenerationTimeoutException(timeout, null, startDate, endDate);
-                }
-                
-                // Basic metrics
-                totalRevenue = orders.stream()
-                    .map(Order::getTotalAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                totalOrders = orders.size();
-                averageOrderValue = totalOrders > 0 ?
-                        totalRevenue.divide(BigDecimal.valueOf(totalOrders), 2, RoundingMode.HALF_UP) :
-                        BigDecimal.ZERO;
-
-                totalCustomers = (int) orders.stream()
-                    .map(Order::getUser)
-                    .distinct()
-                    .count();
-
-                // Product analysis
-                mostPopularItem = findMostPopularItem(startDate, endDate);
-                leastPopularItem = findLeastPopularItem(startDate, endDate);
-                
-                // Sales by categories
-                salesByCategory = calculateSalesByCategory(startDate, endDate);
-                
-                // Employee performance analysis
-                employeePerformance = calculateEmployeePerformance(startDate, endDate);
-                
-                // Top products analysis for analytics
-                topProductsJson = calculateTopProductsJson(startDate, endDate);
-                topProductsCount = calculateTopProductsCount(startDate, endDate);
-            }
-            
-            // Total reservations (can exist even without orders)
-            totalReservations = reservationRepository.findByReservationTimeBetween(startDate, LocalTime.MIN, endDate, LocalTime.MAX).size();
-
-            // Convert to JSON
-            String salesByCategoryJson = convertSalesByCategoryToJson(salesByCategory);
-            String employeePerformanceJson = convertEmployeePerformanceToJson(employeePerformance);
-
-            // Create summary object with enhanced constructor
-            DailySalesSummary summary = new DailySalesSummary(
-                endDate,
-                startDate,
-                endDate,
-                totalRevenue,
-                totalOrders,
-                averageOrderValue,
-                totalCustomers,
-                mostPopularItem,
-                leastPopularItem,
-                totalReservations,
-                reportType,
-                employeePerformanceJson,
-                topProductsJson,
-                topProductsCount
-            );
-            
-            summary.setSalesByCategoryJson(salesByCategoryJson);
-
+            SalesSummaryAggregate aggregate = aggregatePeriod(startDate, endDate);
+            DailySalesSummary summary = new DailySalesSummary();
+            summary.setReportDate(endDate);
+            summary.setReportType(reportType);
+            applyAggregate(summary, startDate, endDate, aggregate);
             return summary;
-            
         } catch (SummaryGenerationTimeoutException e) {
             throw e; // Re-throw timeout exception
         } catch (Exception e) {
@@ -304,120 +186,122 @@ public class DailySalesSummaryJobService {
         }
     }
 
-    private Product findMostPopularItem(LocalDate startDate, LocalDate endDate) {
+    /**
+     * Load the period's orders once and aggregate every metric in a single pass
+     */
+    private SalesSummaryAggregate aggregatePeriod(LocalDate startDate, LocalDate endDate) {
+        // Set timeout for summary generation
+        long startTime = System.currentTimeMillis();
+        Duration timeout = Duration.ofMinutes(5); // 5 minutes timeout
+
         List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
-        
-        List<OrderItem> items = orders.stream()
-            .flatMap(order -> order.getItems().stream())
-            .toList();
+        List<Reservation> reservations = findIdentityReservations(startDate, endDate);
+        SalesSummaryAggregate aggregate = SalesSummaryAggregate.of(orders, customerIdentityResolver.forReservations(reservations));
 
-        Map<Product, Integer> productCounts = items.stream()
-            .collect(Collectors.groupingBy(OrderItem::getProduct, Collectors.summingInt(OrderItem::getQuantity)));
+        // Check timeout
+        if (System.currentTimeMillis() - startTime > timeout.toMillis()) {
+            throw new SummaryGenerationTimeoutException(timeout, null, startDate, endDate);
+        }
 
-        return productCounts.entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .map(Map.Entry::getKey)
-            .orElse(null);
+        // Total reservations (can exist even without orders), counted on the reservation_at index
+        aggregate.addReservations(countReservations(startDate, endDate));
+        return aggregate;
     }
 
-    private Product findLeastPopularItem(LocalDate startDate, LocalDate endDate) {
-        List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
-        
-        List<OrderItem> items = orders.stream()
-            .flatMap(order -> order.getItems().stream())
-            .toList();
-
-        Map<Product, Integer> productCounts = items.stream()
-            .collect(Collectors.groupingBy(OrderItem::getProduct, Collectors.summingInt(OrderItem::getQuantity)));
+    /**
+     * Reservation count for a date range (inclusive), all statuses
+     */
+    public int countReservations(LocalDate startDate, LocalDate endDate) {
+        return Math.toIntExact(reservationRepository.countByReservationTimeBetween(
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), -1L));
+    }
 
-        return productCounts.entrySet().stream()
-            .min(Map.Entry.comparingByValue())
-            .map(Map.Entry::getKey)
-            .orElse(null);
+    /**
+     * Reservations that can identify a customer for the unique-customer sketch (inclusive range).
+     * Cancelled / no-show reservations are never matched to orders, so they are not loaded.
+     * The range is widened by the resolver's match window so orders just after midnight still find
+     * the previous evening's reservation (and late-evening orders the next early one).
+     */
+    public List<Reservation> findIdentityReservations(LocalDate startDate, LocalDate endDate) {
+        return reservationRepository.findByReservationTimeBetweenAndStatusIdIn(
+                startDate.atStartOfDay().minus(CustomerIdentityResolver.MATCH_WINDOW),
+                endDate.plusDays(1).atStartOfDay().plus(CustomerIdentityResolver.MATCH_WINDOW),
+                IDENTITY_STATUS_IDS);
     }
 
-    private Map<ItemCategory, BigDecimal> calculateSalesByCategory(LocalDate startDate, LocalDate endDate) {
-        List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
-        
-        Map<ItemCategory, BigDecimal> categorySales = new HashMap<>();
-        
-        for (Order order : orders) {
-            for (OrderItem item : order.getItems()) {
-                ItemCategory category = item.getProduct().getCategory();
-                BigDecimal itemTotal = item.getProduct().getPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
-                
-                categorySales.merge(category, itemTotal, BigDecimal::add);
-            }
+    /**
+     * Create or update the summary for the period from an already computed aggregate.
+     * Used by the parallel generation planner, which merges per-day aggregates.
+     */
+    @Transactional
+    public void saveAggregate(LocalDate startDate, LocalDate endDate, String reportType, SalesSummaryAggregate aggregate) {
+        DailySalesSummary summary = dailySalesSummaryRepository.findByReportDateAndReportType(endDate, reportType)
+                .orElseGet(() -> {
+                    DailySalesSummary created = new DailySalesSummary();
+                    created.setReportDate(endDate);
+                    created.setReportType(reportType);
+                    return created;
+                });
+        try {
+            applyAggregate(summary, startDate, endDate, aggregate);
+            dailySalesSummaryRepository.save(summary);
+            responseCache.invalidate(reportType, endDate);
+        } catch (Exception e) {
+            throw new AnalyticsGenerationException("Failed to save merged summary", null, startDate, endDate, reportType, e);
         }
-        
-        return categorySales;
     }
 
-    private Map<String, Object> calculateEmployeePerformance(LocalDate startDate, LocalDate endDate) {
-        List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
-        
-        // Debug logging
-        System.out.println("=== Employee Performance Calculation Debug ===");
-        System.out.println("Date range: " + startDate + " to " + endDate);
-        System.out.println("Total orders found: " + orders.size());
-        
+    private void applyAggregate(DailySalesSummary summary, LocalDate startDate, LocalDate endDate,
+                                SalesSummaryAggregate aggregate) throws JsonProcessingException {
+        // Kuruş toplamları burada (kalıcılık sınırında) BigDecimal'e çevrilir
+        BigDecimal totalRevenue = aggregate.getTotalRevenue();
+        int totalOrders = aggregate.getTotalOrders();
+        BigDecimal averageOrderValue = MoneyCents.average(aggregate.getTotalRevenueCents(), totalOrders);
+
+        summary.setTotalRevenue(totalRevenue);
+        summary.setTotalOrders(totalOrders);
+        summary.setAverageOrderValue(averageOrderValue);
+        summary.setTotalCustomers(aggregate.getTotalCustomers());
+        summary.setCustomerSketch(aggregate.getCustomerSketch());
+        summary.setMostPopularItem(aggregate.getMostPopularProductId().map(productRepository::getReferenceById).orElse(null));
+        summary.setLeastPopularItem(aggregate.getLeastPopularProductId().map(productRepository::getReferenceById).orElse(null));
+        summary.setTotalReservations(aggregate.getTotalReservations());
+        summary.setSalesByCategoryJson(convertSalesByCategoryToJson(aggregate.getSalesByCategory()));
+        summary.setEmployeePerformanceJson(convertEmployeePerformanceToJson(buildEmployeePerformance(aggregate)));
+        // Top products stored directly in the summary for O(1) access (top 20)
+        summary.setTopProductsJson(aggregate.hasOrders()
+                ? objectMapper.writeValueAsString(aggregate.getTopProducts(20))
+                : "{}");
+        summary.setTopProductsCount(aggregate.getDistinctProductCount());
+        summary.setPeriodStartDate(startDate);
+        summary.setPeriodEndDate(endDate);
+    }
+
+    private Map<String, Object> buildEmployeePerformance(SalesSummaryAggregate aggregate) {
         Map<String, Object> employeePerformance = new HashMap<>();
-        Map<User, List<Order>> ordersByEmployee = orders.stream()
-            .collect(Collectors.groupingBy(Order::getUser));
-        
-        System.out.println("Orders grouped by employee: " + ordersByEmployee.size() + " employees");
-        
+        if (!aggregate.hasOrders()) {
+            return employeePerformance;
+        }
+
         List<Map<String, Object>> employeeStats = new ArrayList<>();
-        
-        for (Map.Entry<User, List<Order>> entry : ordersByEmployee.entrySet()) {
-            User employee = entry.getKey();
-            List<Order> employeeOrders = entry.getValue();
-            
-            System.out.println("Processing employee: " + employee.getName() + " (ID: " + employee.getId() + ") with " + employeeOrders.size() + " orders");
-            
-            // Calculate employee metrics
-            BigDecimal totalRevenue = employeeOrders.stream()
-                .map(Order::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            int totalOrders = employeeOrders.size();
-            BigDecimal averageOrderValue = totalOrders > 0 ?
-                totalRevenue.divide(BigDecimal.valueOf(totalOrders), 2, RoundingMode.HALF_UP) :
-                BigDecimal.ZERO;
-            
-            // Calculate total items sold by this employee
-            int totalItemsSold = employeeOrders.stream()
-                .flatMap(order -> order.getItems().stream())
-                .mapToInt(OrderItem::getQuantity)
-                .sum();
-            
-            System.out.println("Employee " + employee.getName() + " stats: Revenue=" + totalRevenue + ", Orders=" + totalOrders + ", Avg=" + averageOrderValue + ", Items=" + totalItemsSold);
-            
+        // Already sorted by total revenue (descending)
+        for (SalesSummaryAggregate.EmployeeTotals employee : aggregate.getEmployeesByRevenue()) {
+            int totalOrders = employee.getTotalOrders();
+            BigDecimal averageOrderValue = MoneyCents.average(employee.getTotalRevenueCents(), totalOrders);
+
             Map<String, Object> employeeStat = new HashMap<>();
-            employeeStat.put("employeeId", employee.getId());
-            employeeStat.put("employeeName", employee.getName());
+            employeeStat.put("employeeId", employee.getEmployeeId());
+            employeeStat.put("employeeName", employee.getEmployeeName());
             employeeStat.put("totalOrders", totalOrders);
-            employeeStat.put("totalRevenue", totalRevenue.toString());
+            employeeStat.put("totalRevenue", employee.getTotalRevenue().toString());
             employeeStat.put("averageOrderValue", averageOrderValue.toString());
-            employeeStat.put("totalItemsSold", totalItemsSold);
-            
+            employeeStat.put("totalItemsSold", employee.getTotalItemsSold());
             employeeStats.add(employeeStat);
         }
-        
-        // Sort by total revenue (descending)
-        employeeStats.sort((a, b) -> {
-            BigDecimal revenueA = new BigDecimal((String) a.get("totalRevenue"));
-            BigDecimal revenueB = new BigDecimal((String) b.get("totalRevenue"));
-            return revenueB.compareTo(revenueA);
-        });
-        
+
         employeePerformance.put("employees", employeeStats);
         employeePerformance.put("topPerformer", employeeStats.isEmpty() ? null : employeeStats.get(0));
         employeePerformance.put("totalEmployees", employeeStats.size());
-        
-        System.out.println("Final employee performance data: " + employeePerformance);
-        System.out.println("=== End Employee Performance Calculation Debug ===");
-        
         return employeePerformance;
     }
 
@@ -441,113 +325,4 @@ public class DailySalesSummaryJobService {
             return "{}";
         }
     }
-
-    /**
-     * Calculate top products JSON for analytics
-     * This stores the top products data directly in the summary for O(1) access
-     */
-    private String calculateTopProductsJson(LocalDate startDate, LocalDate endDate) {
-        try {
-            // Get top products using the same logic as AnalyticsService
-            List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
-            
-            if (orders.isEmpty()) {
-                return "[]";
-            }
-            
-            // Aggregate order items by product
-            Map<Product, ProductSalesData> productSales = new HashMap<>();
-            
-            for (Order order : orders) {
-                for (OrderItem item : order.getItems()) {
-                    Product product = item.getProduct();
-                    ProductSalesData salesData = productSales.computeIfAbsent(product, 
-                        k -> new ProductSalesData(product.getId(), product.getName()));
-                    
-                    salesData.addQuantity(item.getQuantity());
-                    salesData.addRevenue(item.getTotalPrice());
-                    salesData.incrementOrderCount();
-                }
-            }
-            
-            // Convert to list and sort by quantity (descending)
-            List<ProductSalesData> topProducts = productSales.values().stream()
-                .sorted((a, b) -> Integer.compare(b.getTotalQuantity(), a.getTotalQuantity()))
-                .limit(20) // Store top 20 products
-                .collect(Collectors.toList());
-            
-            return objectMapper.writeValueAsString(topProducts);
-            
-        } catch (Exception e) {
-            return "[]";
-        }
-    }
-
-    /**
-     * Calculate the count of top products stored
-     */
-    private int calculateTopProductsCount(LocalDate startDate, LocalDate endDate) {
-        try {
-            List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
-            
-            if (orders.isEmpty()) {
-                return 0;
-            }
-            
-            // Count unique products
-            Set<Long> uniqueProducts = orders.stream()
-                .flatMap(order -> order.getItems().stream())
-                .map(item -> item.getProduct().getId())
-                .collect(Collectors.toSet());
-            
-            return uniqueProducts.size();
-            
-        } catch (Exception e) {
-            return 0;
-        }
-    }
-
-    /**
-     * Helper class for storing product sales data
-     */
-    private static class ProductSalesData {
-        private Long productId;
-        private String productName;
-        private int totalQuantity;
-        private BigDecimal totalRevenue;
-        private int orderCount;
-        
-        public ProductSalesData(Long productId, String productName) {
-            this.productId = productId;
-            this.productName = productName;
-            this.totalQuantity = 0;
-            this.totalRevenue = BigDecimal.ZERO;
-            this.orderCount = 0;
-        }
-        
-        public void addQuantity(int quantity) {
-            this.totalQuantity += quantity;
-        }
-        
-        public void addRevenue(BigDecimal revenue) {
-            this.totalRevenue = this.totalRevenue.add(revenue);
-        }
-        
-        public void incrementOrderCount() {
-            this.orderCount++;
-        }
-        
-        // Getters
-        public Long getProductId() { return productId; }
-        public String getProductName() { return productName; }
-        public int getTotalQuantity() { return totalQuantity; }
-        public BigDecimal getTotalRevenue() { return totalRevenue; }
-        public int getOrderCount() { return orderCount; }
-    }
-
-    // Legacy method for backward compatibility
-    private Product getMostPopularItemOnDate(LocalDate date) {
-        return findMostPopularItem(date, date);
-    }
 }
-
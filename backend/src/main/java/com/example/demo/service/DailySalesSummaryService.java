@@ -1,5 +1,6 @@
 package com.example.demo.service;
 
+import com.example.demo.datasource.ReplicaRead;
 import com.example.demo.dto.response.DailySalesSummaryResponseDTO;
 import com.example.demo.model.DailySalesSummary;
 import com.example.demo.repository.DailySalesSummaryRepository;
@@ -14,7 +15,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 public class DailySalesSummaryService {
 
@@ -29,8 +32,9 @@ public class DailySalesSummaryService {
     }
 
 
+    @ReplicaRead
     public DailySalesSummaryResponseDTO getSummaryByDateAndType(LocalDate date, String reportType) {
-        System.out.println("Searching summary for date: " + date + " and type: " + reportType);
+        log.debug("Searching summary for date: {} and type: {}", date, reportType);
 
         Optional<DailySalesSummary> optional = repository.findByReportDateAndReportType(date, reportType);
 
@@ -42,6 +46,7 @@ public class DailySalesSummaryService {
         return convertToResponseDTO(summary);
     }
 
+    @ReplicaRead
     public List<DailySalesSummaryResponseDTO> getSummariesByDateRange(LocalDate startDate, LocalDate endDate) {
         List<DailySalesSummary> summaries = repository.findByReportDateBetweenOrderByReportDateDesc(startDate, endDate);
         return summaries.stream()
@@ -49,6 +54,7 @@ public class DailySalesSummaryService {
                 .collect(Collectors.toList());
     }
     // Sales by category for a given date range
+    @ReplicaRead
     public Map<String, String> getSalesByCategory(LocalDate startDate, LocalDate endDate) {
         List<DailySalesSummaryResponseDTO> summaries = getSummariesByDateRange(startDate, endDate);
 
@@ -71,6 +77,7 @@ public class DailySalesSummaryService {
         return result;
     }
 
+    @ReplicaRead
     public List<DailySalesSummaryResponseDTO> getSummariesByReportType(String reportType) {
         List<DailySalesSummary> summaries = repository.findByReportTypeOrderByReportDateDesc(reportType);
         return summaries.stream()
@@ -108,8 +115,8 @@ public class DailySalesSummaryService {
             );
 
             LocalDate startDate = endDate.with(java.time.temporal.TemporalAdjusters.firstDayOfMonth());
-            System.out.println("Start date: " + startDate);
-            System.out.println("End date: " + endDate);
+            log.debug("Start date: {}", startDate);
+            log.debug("End date: {}", endDate);
             jobService.generateSalesSummary(startDate, endDate, "MONTHLY");
             return getSummaryByDateAndType(endDate, "MONTHLY");
         } catch (RuntimeException e) {
@@ -1,24 +1,38 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.request.DiningTableRequestDto;
+import com.example.demo.dto.response.BulkTableOperationResponseDTO;
 import com.example.demo.dto.response.DiningTableResponseDto;
+import com.example.demo.event.FloorPlanChangedEvent;
 import com.example.demo.exception.diningtable.DiningTableException;
+import com.example.demo.exception.diningtable.TableNotFoundException;
+import com.example.demo.mapper.DiningTableMapper;
 import com.example.demo.model.DiningTable;
 import com.example.demo.model.Salon;
 import com.example.demo.model.TableStatus;
+import com.example.demo.repository.DiningTableBulkRepository;
 import com.example.demo.repository.DiningTableRepository;
 import com.example.demo.validation.DiningTableValidator;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -31,57 +45,41 @@ import java.util.stream.Collectors;
 public class DiningTableService {
 
     private final DiningTableRepository diningTableRepository;
-    private final ModelMapper modelMapper;
+    private final DiningTableMapper diningTableMapper;
     private final SalonService salonService;
     private final ActivityLogService activityLogService;
     private final TableStatusService tableStatusService;
+    private final FloorStateService floorStateService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional(readOnly = true)
+    // Okumalar FloorStateService'in bellekteki snapshot'ından yapılır; DB bağlantısı alınmaz
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<DiningTableResponseDto> getAllDiningTables() {
         log.info("Tüm masalar getiriliyor.");
-        return diningTableRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return floorStateService.getTables();
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DiningTableResponseDto getDiningTableById(Long id) {
         log.info("ID ile masa getiriliyor: id={}", id);
-        DiningTable diningTable = findTableById(id);
-        return convertToResponseDto(diningTable);
+        return floorStateService.findTable(id)
+                .orElseThrow(() -> DiningTableException.tableNotFound(id));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<DiningTableResponseDto> getAvailableTables() {
         log.info("Sadece müsait masalar getiriliyor.");
-        TableStatus availableStatus = tableStatusService.getStatusByName("AVAILABLE");
-        return diningTableRepository.findByStatus(availableStatus)
-                .stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return floorStateService.findTables(table -> "AVAILABLE".equals(table.statusName()));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<DiningTableResponseDto> getFilteredTables(Integer capacity, String status) {
         log.info("Filtrelenmiş masalar getiriliyor: capacity={}, status={}", capacity, status);
-        List<DiningTable> filteredTables;
-
-        if (capacity != null && status != null) {
-            TableStatus tableStatus = tableStatusService.getStatusByName(status);
-            filteredTables = diningTableRepository.findByCapacityAndStatus(capacity, tableStatus);
-        } else if (capacity != null) {
-            filteredTables = diningTableRepository.findByCapacity(capacity);
-        } else if (status != null) {
-            TableStatus tableStatus = tableStatusService.getStatusByName(status);
-            filteredTables = diningTableRepository.findByStatus(tableStatus);
-        } else {
-            filteredTables = diningTableRepository.findAll();
-        }
-
-        return filteredTables.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        // Bilinmeyen durum adı eskisi gibi TableStatusService'te hata verir
+        Long statusId = status != null ? tableStatusService.getStatusByName(status).getId() : null;
+        return floorStateService.findTables(table ->
+                (capacity == null || capacity.equals(table.capacity()))
+                        && (statusId == null || statusId.equals(table.statusId())));
     }
 
     @Transactional
@@ -94,6 +92,8 @@ public class DiningTableService {
         // Validasyon
         DiningTableValidator.validateUpdateDiningTable(id, requestDto, diningTableRepository);
 
+        Long previousSalonId = existingTable.getSalon().getId();
+
         // Salon değişmişse eski salondan çıkar, yeni salona ekle
         if (!existingTable.getSalon().getId().equals(requestDto.getSalonId())) {
             Salon oldSalon = existingTable.getSalon();
@@ -130,6 +130,8 @@ public class DiningTableService {
         );
 
         activityLogService.logActivity("UPDATE", "DINING_TABLE", existingTable.getId(), details);
+        eventPublisher.publishEvent(new FloorPlanChangedEvent(this, List.of(existingTable.getId()),
+                Arrays.asList(previousSalonId, existingTable.getSalon().getId())));
 
         log.info("Masa başarıyla güncellendi: id={}", existingTable.getId());
 
@@ -184,6 +186,7 @@ public class DiningTableService {
         );
 
         activityLogService.logActivity("CREATE", "DINING_TABLE", savedTable.getId(), details);
+        eventPublisher.publishEvent(new FloorPlanChangedEvent(this, List.of(savedTable.getId()), List.of(salon.getId())));
 
         log.info("Masa başarıyla oluşturuldu: id={}", savedTable.getId());
 
@@ -215,6 +218,7 @@ public class DiningTableService {
         
         table.setStatus(newStatus);
         diningTableRepository.save(table);
+        eventPublisher.publishEvent(FloorPlanChangedEvent.tables(this, tableId));
         
         log.info("Masa durumu başarıyla güncellendi: tableId={}, newStatus={}", tableId, statusName);
     }
@@ -246,6 +250,7 @@ public class DiningTableService {
 
         // Salonu kaydet
         salonService.saveSalon(salon);
+        eventPublisher.publishEvent(new FloorPlanChangedEvent(this, List.of(id), List.of(salon.getId())));
 
         log.info("Masa başarıyla silindi: id={}", id);
     }
@@ -253,45 +258,138 @@ public class DiningTableService {
 
 
 
+    // ==================== BULK OPERATIONS ====================
+    // Toplu işlemler tek transaction'da çalışır: satır başına lookup/save/audit yerine
+    // batch INSERT veya set tabanlı UPDATE, tek benzersizlik sorgusu, salon istatistiklerinin tek seferde
+    // yeniden hesaplanması ve batch başına tek aktivite logu.
+
+    /**
+     * Birden fazla masayı tek seferde oluşturur (ör. yeni salon kurulumu).
+     */
+    @Transactional
+    public BulkTableOperationResponseDTO createDiningTables(List<DiningTableRequestDto> requestDtos) {
+        log.info("Toplu masa oluşturuluyor: {} masa", requestDtos.size());
+
+        DiningTableValidator.validateBulkCreateDiningTables(requestDtos, diningTableRepository);
+
+        Set<Long> salonIds = requestDtos.stream().map(DiningTableRequestDto::getSalonId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        salonService.requireSalonsExist(salonIds);
+
+        // Durumlar batch başına bir kez çözülür
+        Map<Long, TableStatus> statuses = tableStatusService.getStatusesByIds(
+                requestDtos.stream().map(DiningTableRequestDto::getStatusId).collect(Collectors.toSet()));
+        statuses.values().forEach(DiningTableService::requireReservedStatusId);
+
+        List<DiningTableBulkRepository.NewTable> rows = requestDtos.stream()
+                .map(dto -> new DiningTableBulkRepository.NewTable(dto.getTableNumber(), dto.getCapacity(),
+                        dto.getStatusId(), dto.getSalonId()))
+                .toList();
+        int inserted = diningTableRepository.insertTables(rows);
+
+        List<Long> tableIds = diningTableRepository.findIdsByTableNumberIn(
+                requestDtos.stream().map(DiningTableRequestDto::getTableNumber).toList());
+        salonService.recalculateSalonStats(salonIds);
+
+        ObjectNode details = activityLogService.createDetailsNode(
+                "Dining tables created in bulk: " + inserted,
+                "count", String.valueOf(inserted));
+        ArrayNode tableNumbers = details.putArray("tableNumbers");
+        requestDtos.forEach(dto -> tableNumbers.add(dto.getTableNumber()));
+        activityLogService.logActivity("BULK_CREATE", "DINING_TABLE", null, details);
+        eventPublisher.publishEvent(new FloorPlanChangedEvent(this, tableIds, salonIds));
+
+        log.info("Toplu masa oluşturma tamamlandı: {} masa, {} salon", inserted, salonIds.size());
+        return bulkResult(inserted, tableIds, salonIds);
+    }
+
+    /**
+     * Verilen masaları tek UPDATE ile hedef salona taşır; eski ve yeni salonların istatistikleri bir kez hesaplanır.
+     */
+    @Transactional
+    public BulkTableOperationResponseDTO moveTablesToSalon(List<Long> tableIds, Long targetSalonId) {
+        log.info("Masalar salona taşınıyor: {} masa -> salonId={}", tableIds.size(), targetSalonId);
+
+        Set<Long> ids = new LinkedHashSet<>(tableIds);
+        Salon targetSalon = salonService.getSalonEntityById(targetSalonId);
+
+        List<Long> existing = diningTableRepository.findExistingIds(ids);
+        if (existing.size() != ids.size()) {
+            Set<Long> found = Set.copyOf(existing);
+            ids.stream().filter(id -> !found.contains(id)).findFirst().ifPresent(id -> {
+                throw new TableNotFoundException(id);
+            });
+        }
+
+        Set<Long> salonIds = new TreeSet<>(diningTableRepository.findSalonIdsByIdIn(ids));
+        salonIds.add(targetSalonId);
+
+        int moved = diningTableRepository.moveTablesToSalon(ids, targetSalonId);
+        salonService.recalculateSalonStats(salonIds);
+
+        ObjectNode details = activityLogService.createDetailsNode(
+                "Dining tables moved to salon " + targetSalon.getName() + ": " + moved,
+                "count", String.valueOf(moved),
+                "targetSalonId", targetSalonId.toString());
+        ArrayNode movedIds = details.putArray("tableIds");
+        ids.forEach(movedIds::add);
+        activityLogService.logActivity("BULK_MOVE", "DINING_TABLE", null, details);
+        eventPublisher.publishEvent(new FloorPlanChangedEvent(this, ids, salonIds));
+
+        log.info("Masa taşıma tamamlandı: {} masa, salonId={}", moved, targetSalonId);
+        return bulkResult(moved, new ArrayList<>(ids), salonIds);
+    }
+
+    /**
+     * Bir salondaki tüm masaların durumunu tek UPDATE ile değiştirir (ör. kapanışta AVAILABLE'a sıfırlama).
+     */
+    @Transactional
+    public BulkTableOperationResponseDTO updateSalonTableStatuses(Long salonId, Long statusId) {
+        log.info("Salondaki masaların durumu güncelleniyor: salonId={}, statusId={}", salonId, statusId);
+
+        Salon salon = salonService.getSalonEntityById(salonId);
+        TableStatus status = tableStatusService.getStatusById(statusId);
+        requireReservedStatusId(status);
+
+        List<Long> tableIds = diningTableRepository.findIdsBySalonId(salonId);
+        int updated = tableIds.isEmpty() ? 0 : diningTableRepository.updateStatusBySalonId(salonId, statusId);
+
+        ObjectNode details = activityLogService.createDetailsNode(
+                "Dining table statuses set to " + status.getName() + " in salon " + salon.getName() + ": " + updated,
+                "count", String.valueOf(updated),
+                "status", status.getName(),
+                "salonId", salonId.toString());
+        activityLogService.logActivity("BULK_STATUS", "DINING_TABLE", null, details);
+        eventPublisher.publishEvent(new FloorPlanChangedEvent(this, tableIds, List.of(salonId)));
+
+        log.info("Salon masa durumları güncellendi: salonId={}, {} masa, status={}", salonId, updated, status.getName());
+        return bulkResult(updated, tableIds, List.of(salonId));
+    }
+
     // ==================== PRIVATE HELPER METHODS ====================
 
+    // 'RESERVED' durumu için ID=3 zorunluluğu
+    private static void requireReservedStatusId(TableStatus status) {
+        if ("RESERVED".equalsIgnoreCase(status.getName()) && (status.getId() == null || status.getId() != 3L)) {
+            throw new IllegalArgumentException("'RESERVED' statusunun ID'si 3 olmalıdır (mevcut: " + status.getId() + ")");
+        }
+    }
+
+    private static BulkTableOperationResponseDTO bulkResult(int affected, List<Long> tableIds, Collection<Long> salonIds) {
+        return BulkTableOperationResponseDTO.builder()
+                .affectedTables(affected)
+                .tableIds(tableIds)
+                .salonIds(new ArrayList<>(salonIds))
+                .build();
+    }
+
     private DiningTable findTableById(Long id) {
         return diningTableRepository.findById(id)
                 .orElseThrow(() -> DiningTableException.tableNotFound(id));
     }
 
     private DiningTableResponseDto convertToResponseDto(DiningTable diningTable) {
-        DiningTableResponseDto dto = modelMapper.map(diningTable, DiningTableResponseDto.class);
-        if (diningTable.getSalon() != null) {
-            dto.setSalonId(diningTable.getSalon().getId());
-            dto.setSalonName(diningTable.getSalon().getName());
-        }
-        if (diningTable.getStatus() != null) {
-            dto.setStatusId(diningTable.getStatus().getId());
-            dto.setStatusName(diningTable.getStatus().getName());
-        }
-        
-        // Order durumunu kontrol et
-        dto.setHasActiveOrder(diningTable.hasActiveOrder());
-        dto.setHasCompletedOrder(diningTable.hasCompletedOrder());
-        
-        // Aktif order items sayısını set et
-        int activeItemsCount = diningTable.getActiveOrderItemsCount();
-        dto.setActiveOrderItemsCount(activeItemsCount);
-        
-        // Gerçek durumu hesapla: order durumuna göre
-        String realStatus;
-        if (diningTable.hasActiveOrder() && activeItemsCount > 0) {
-            realStatus = "OCCUPIED"; // Kırmızı - aktif order var ve items var
-        } else if (diningTable.hasCompletedOrder()) {
-            realStatus = "AVAILABLE"; // Yeşil - tamamlanmış order var
-        } else {
-            // Order yoksa veya boş order varsa mevcut status'ü kullan
-            realStatus = diningTable.getStatus() != null ? diningTable.getStatus().getName() : "AVAILABLE";
-        }
-        dto.setRealStatus(realStatus);
-        
-        return dto;
+        return diningTableMapper.toResponseDto(diningTable);
     }
 
     @Transactional(readOnly = true)
@@ -306,23 +404,17 @@ public class DiningTableService {
         return diningTableRepository.findAll();
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<DiningTableResponseDto> getTablesBySalon(Long salonId) {
         log.info("Salon ID'ye göre masalar getiriliyor: salonId={}", salonId);
-        return diningTableRepository.findBySalonId(salonId)
-                .stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return floorStateService.findTables(table -> salonId.equals(table.salonId()));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<DiningTableResponseDto> getAvailableTablesBySalon(Long salonId) {
         log.info("Salon ID'ye göre müsait masalar getiriliyor: salonId={}", salonId);
-        TableStatus availableStatus = tableStatusService.getStatusByName("AVAILABLE");
-        return diningTableRepository.findBySalonIdAndStatus(salonId, availableStatus)
-                .stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return floorStateService.findTables(table -> salonId.equals(table.salonId())
+                && "AVAILABLE".equals(table.statusName()));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,454 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.response.DiningTableResponseDto;
+import com.example.demo.dto.response.FloorStateResponseDTO;
+import com.example.demo.dto.response.SalonResponseDTO;
+import com.example.demo.event.FloorPlanChangedEvent;
+import com.example.demo.event.OrderCompletedEvent;
+import com.example.demo.event.OrderCreatedEvent;
+import com.example.demo.event.OrderItemsChangedEvent;
+import com.example.demo.event.OrderUpdatedEvent;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.mapper.DiningTableMapper;
+import com.example.demo.model.DiningTable;
+import com.example.demo.model.Order;
+import com.example.demo.model.Salon;
+import com.example.demo.repository.DiningTableRepository;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.SalonRepository;
+import com.example.demo.repository.projection.TableOrderState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Salon krokisi (floor plan) durumu bellekte.
+ * Salonlar, masalar ve masaların anlık durumu (statü + sipariş durumu) değişmez bir snapshot'ta tutulur;
+ * bir değişiklik commit edildiğinde sadece etkilenen satırlar DB'den okunur ve yeni snapshot copy-on-write ile yayınlanır.
+ * Masa listeleri, doluluk raporu ve dashboard DB'ye gitmeden bu snapshot'tan okunur.
+ * Her değişiklik versiyonu artırır; istemciler sinceVersion ile sadece değişenleri alabilir.
+ */
+@Service
+@Slf4j
+public class FloorStateService {
+
+    // Silinen masa/salon id'leri bu kadar versiyon tutulur; daha eski sinceVersion tam snapshot alır
+    private static final int MAX_TOMBSTONES = 1024;
+
+    private static final Comparator<TableState> TABLE_ORDER = Comparator.comparing(TableState::id);
+
+    private final DiningTableRepository diningTableRepository;
+    private final SalonRepository salonRepository;
+    private final OrderRepository orderRepository;
+
+    // Versiyonlar açılış anından başlar: yeniden başlatma sonrası eski bir sinceVersion asla geçerli delta sayılmaz
+    private volatile FloorSnapshot snapshot = FloorSnapshot.empty(System.currentTimeMillis() * 1000);
+    private volatile boolean loaded;
+
+    public FloorStateService(DiningTableRepository diningTableRepository,
+                             SalonRepository salonRepository,
+                             OrderRepository orderRepository) {
+        this.diningTableRepository = diningTableRepository;
+        this.salonRepository = salonRepository;
+        this.orderRepository = orderRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Event yayınlamayan yollar (ör. elle SQL) için periyodik uzlaştırma; sadece gerçekten değişenlerin versiyonu artar.
+     */
+    @Scheduled(fixedDelayString = "${app.floor-state.reconcile-ms:300000}",
+            initialDelayString = "${app.floor-state.reconcile-ms:300000}")
+    public void reconcile() {
+        reload();
+    }
+
+    /**
+     * Tüm salonları, masaları ve masa başına sipariş durumunu üç sorguyla yeniden okur.
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        Map<Long, TableState> tables = toTableStates(diningTableRepository.findAll(), orderRepository.findTableOrderStates());
+        Map<Long, SalonState> salons = salonRepository.findAll().stream()
+                .collect(Collectors.toMap(Salon::getId, SalonState::of));
+
+        Set<Long> tableIds = new HashSet<>(snapshot.tables().keySet());
+        tableIds.addAll(tables.keySet());
+        Set<Long> salonIds = new HashSet<>(snapshot.salons().keySet());
+        salonIds.addAll(salons.keySet());
+        apply(tables, tableIds, salons, salonIds);
+
+        if (!loaded) {
+            loaded = true;
+            log.info("Floor state loaded {} tables in {} salons in {} ms, version {}",
+                    snapshot.tables().size(), snapshot.salons().size(), System.currentTimeMillis() - start, snapshot.version());
+        }
+    }
+
+    /**
+     * Verilen masaları ve salonları DB'den yeniden okuyup snapshot'a uygular. Bulunamayanlar silinmiş sayılır.
+     */
+    public synchronized void refresh(Collection<Long> tableIds, Collection<Long> salonIds) {
+        if (!loaded) {
+            return; // reload() zaten güncel durumu okuyacak
+        }
+        Set<Long> tables = new HashSet<>(tableIds);
+        // Salon adı değişince masalarının salonName alanı da değişir
+        if (!salonIds.isEmpty()) {
+            snapshot.tables().values().stream()
+                    .filter(t -> salonIds.contains(t.salonId()))
+                    .forEach(t -> tables.add(t.id()));
+        }
+        Map<Long, TableState> loadedTables = tables.isEmpty() ? Map.of()
+                : toTableStates(diningTableRepository.findAllById(tables), orderRepository.findTableOrderStatesByTableIds(tables));
+        Map<Long, SalonState> loadedSalons = salonIds.isEmpty() ? Map.of()
+                : salonRepository.findAllById(salonIds).stream().collect(Collectors.toMap(Salon::getId, SalonState::of));
+        apply(loadedTables, tables, loadedSalons, new HashSet<>(salonIds));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFloorPlanChanged(FloorPlanChangedEvent event) {
+        refresh(event.getTableIds(), event.getSalonIds());
+    }
+
+    // Süpürücü masaları toplu UPDATE ile serbest bırakır; masa id'si rezervasyon event'iyle gelir
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.getTableId() != null) {
+            refresh(Set.of(event.getTableId()), Set.of());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        refreshOrderTable(event.getOrder());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderUpdated(OrderUpdatedEvent event) {
+        refreshOrderTable(event.getOrder());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderItemsChanged(OrderItemsChangedEvent event) {
+        if (event.getTableId() != null) {
+            refresh(Set.of(event.getTableId()), Set.of());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCompleted(OrderCompletedEvent event) {
+        refreshOrderTable(event.getOrder());
+    }
+
+    // ==================== READS ====================
+
+    public long getVersion() {
+        return current().version();
+    }
+
+    public List<DiningTableResponseDto> getTables() {
+        return findTables(t -> true);
+    }
+
+    public List<DiningTableResponseDto> findTables(Predicate<TableState> filter) {
+        return current().tables().values().stream()
+                .filter(filter)
+                .sorted(TABLE_ORDER)
+                .map(TableState::toResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    public long countTables(Predicate<TableState> filter) {
+        return current().tables().values().stream().filter(filter).count();
+    }
+
+    public Optional<DiningTableResponseDto> findTable(Long tableId) {
+        return Optional.ofNullable(current().tables().get(tableId)).map(TableState::toResponseDto);
+    }
+
+    /**
+     * sinceVersion null, çok eski (silinen kayıt geçmişi tutulmuyor) veya başka bir açılışa aitse tam snapshot döner.
+     */
+    public FloorStateResponseDTO getFloorState(Long sinceVersion) {
+        FloorSnapshot s = current();
+        boolean full = sinceVersion == null || sinceVersion < s.deltaFloor() || sinceVersion > s.version();
+        long since = full ? Long.MIN_VALUE : sinceVersion;
+        return FloorStateResponseDTO.builder()
+                .version(s.version())
+                .full(full)
+                .tables(s.tables().values().stream()
+                        .filter(t -> t.version() > since)
+                        .sorted(TABLE_ORDER)
+                        .map(TableState::toResponseDto)
+                        .collect(Collectors.toList()))
+                .salons(s.salons().values().stream()
+                        .filter(salon -> salon.version() > since)
+                        .sorted(Comparator.comparing(SalonState::id))
+                        .map(SalonState::toResponseDto)
+                        .collect(Collectors.toList()))
+                .removedTableIds(removedSince(s.removedTables(), full, since))
+                .removedSalonIds(removedSince(s.removedSalons(), full, since))
+                .build();
+    }
+
+    public List<SalonResponseDTO> getSalons() {
+        return current().salons().values().stream()
+                .sorted(Comparator.comparing(SalonState::id))
+                .map(SalonState::toResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * SalonService.getOccupancyReport() ile aynı yapı: "salons" ve "totalRestaurantOccupancy".
+     */
+    public Map<String, Object> getOccupancyReport() {
+        List<SalonResponseDTO> salonReports = getSalons();
+        int totalTables = salonReports.stream().mapToInt(SalonResponseDTO::getTotalTables).sum();
+        int totalOccupied = salonReports.stream().mapToInt(SalonResponseDTO::getOccupiedTables).sum();
+        double totalOccupancyRate = totalTables > 0 ? (totalOccupied * 100.0) / totalTables : 0.0;
+        return Map.of(
+                "salons", salonReports,
+                "totalRestaurantOccupancy", totalOccupancyRate
+        );
+    }
+
+    // ==================== COPY-ON-WRITE ====================
+
+    private FloorSnapshot current() {
+        if (!loaded) {
+            reload();
+        }
+        return snapshot;
+    }
+
+    private void refreshOrderTable(Order order) {
+        if (order != null && order.getTable() != null) {
+            refresh(Set.of(order.getTable().getId()), Set.of());
+        }
+    }
+
+    /**
+     * Yeni snapshot'ı mevcut olanın kopyası üzerinde kurar. Sadece içeriği değişen kayıtlar yeni versiyonu alır;
+     * hiçbir şey değişmediyse versiyon artmaz.
+     */
+    private void apply(Map<Long, TableState> loadedTables, Set<Long> tableIds,
+                       Map<Long, SalonState> loadedSalons, Set<Long> salonIds) {
+        FloorSnapshot current = snapshot;
+        long next = current.version() + 1;
+
+        Map<Long, TableState> tables = new HashMap<>(current.tables());
+        LinkedHashMap<Long, Long> removedTables = new LinkedHashMap<>(current.removedTables());
+        Set<Long> affectedSalons = new HashSet<>(salonIds);
+        boolean changed = false;
+
+        for (Long id : tableIds) {
+            TableState fresh = loadedTables.get(id);
+            TableState old = tables.get(id);
+            if (fresh == null) {
+                if (old != null) {
+                    tables.remove(id);
+                    tombstone(removedTables, id, next);
+                    affectedSalons.add(old.salonId());
+                    changed = true;
+                }
+            } else if (old == null || !fresh.withVersion(old.version()).equals(old)) {
+                tables.put(id, fresh.withVersion(next));
+                removedTables.remove(id);
+                affectedSalons.add(fresh.salonId());
+                if (old != null) {
+                    affectedSalons.add(old.salonId());
+                }
+                changed = true;
+            }
+        }
+        affectedSalons.remove(null);
+
+        // Salon satırları ve masalardan türetilen toplam / dolu masa sayıları
+        Map<Long, int[]> counts = new HashMap<>();
+        for (TableState table : tables.values()) {
+            if (table.salonId() != null && affectedSalons.contains(table.salonId())) {
+                int[] c = counts.computeIfAbsent(table.salonId(), k -> new int[2]);
+                c[0]++;
+                if (table.isOccupied()) {
+                    c[1]++;
+                }
+            }
+        }
+        Map<Long, SalonState> salons = new HashMap<>(current.salons());
+        LinkedHashMap<Long, Long> removedSalons = new LinkedHashMap<>(current.removedSalons());
+        for (Long id : affectedSalons) {
+            SalonState old = salons.get(id);
+            SalonState base = salonIds.contains(id) ? loadedSalons.get(id) : old;
+            if (base == null) {
+                if (old != null) {
+                    salons.remove(id);
+                    tombstone(removedSalons, id, next);
+                    changed = true;
+                }
+                continue;
+            }
+            int[] c = counts.getOrDefault(id, new int[2]);
+            SalonState fresh = base.withCounts(c[0], c[1]);
+            if (old == null || !fresh.withVersion(old.version()).equals(old)) {
+                salons.put(id, fresh.withVersion(next));
+                removedSalons.remove(id);
+                changed = true;
+            }
+        }
+
+        if (!changed) {
+            return;
+        }
+        long deltaFloor = current.deltaFloor();
+        deltaFloor = Math.max(deltaFloor, trimTombstones(removedTables));
+        deltaFloor = Math.max(deltaFloor, trimTombstones(removedSalons));
+        snapshot = new FloorSnapshot(next, deltaFloor, Map.copyOf(tables), Map.copyOf(salons),
+                Collections.unmodifiableMap(removedTables), Collections.unmodifiableMap(removedSalons));
+    }
+
+    private static void tombstone(LinkedHashMap<Long, Long> removed, Long id, long version) {
+        removed.remove(id); // ekleme sırası = versiyon sırası kalsın
+        removed.put(id, version);
+    }
+
+    /**
+     * En eski silme kayıtlarını atar; atılan en yeni versiyondan önceki sinceVersion'lar artık tam snapshot almalı.
+     */
+    private static long trimTombstones(LinkedHashMap<Long, Long> removed) {
+        long floor = Long.MIN_VALUE;
+        Iterator<Map.Entry<Long, Long>> it = removed.entrySet().iterator();
+        while (removed.size() > MAX_TOMBSTONES && it.hasNext()) {
+            floor = Math.max(floor, it.next().getValue());
+            it.remove();
+        }
+        return floor;
+    }
+
+    private static List<Long> removedSince(Map<Long, Long> removed, boolean full, long since) {
+        if (full) {
+            return List.of();
+        }
+        return removed.entrySet().stream()
+                .filter(e -> e.getValue() > since)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static Map<Long, TableState> toTableStates(List<DiningTable> tables, List<TableOrderState> orderStates) {
+        Map<Long, List<TableOrderState>> byTable = orderStates.stream()
+                .filter(s -> s.tableId() != null)
+                .collect(Collectors.groupingBy(TableOrderState::tableId));
+        Map<Long, TableState> states = new HashMap<>();
+        for (DiningTable table : tables) {
+            states.put(table.getId(), TableState.of(table, byTable.getOrDefault(table.getId(), List.of())));
+        }
+        return states;
+    }
+
+    // ==================== SNAPSHOT ====================
+
+    private record FloorSnapshot(long version,
+                                 long deltaFloor,
+                                 Map<Long, TableState> tables,
+                                 Map<Long, SalonState> salons,
+                                 Map<Long, Long> removedTables,
+                                 Map<Long, Long> removedSalons) {
+
+        static FloorSnapshot empty(long version) {
+            return new FloorSnapshot(version, version, Map.of(), Map.of(), Map.of(), Map.of());
+        }
+    }
+
+    /**
+     * Bir masanın değişmez görüntüsü; version, masanın en son değiştiği snapshot versiyonudur.
+     */
+    public record TableState(Long id,
+                             Integer tableNumber,
+                             Integer capacity,
+                             Long statusId,
+                             String statusName,
+                             Long salonId,
+                             String salonName,
+                             boolean hasActiveOrder,
+                             boolean hasCompletedOrder,
+                             int activeOrderItemsCount,
+                             long version) {
+
+        static TableState of(DiningTable table, List<TableOrderState> orderStates) {
+            boolean active = false;
+            boolean completed = false;
+            long activeItems = 0;
+            for (TableOrderState state : orderStates) {
+                if (Boolean.TRUE.equals(state.completed())) {
+                    completed = true;
+                } else {
+                    active = true;
+                    activeItems += state.itemCount() != null ? state.itemCount() : 0;
+                }
+            }
+            return new TableState(table.getId(), table.getTableNumber(), table.getCapacity(),
+                    table.getStatus() != null ? table.getStatus().getId() : null,
+                    table.getStatus() != null ? table.getStatus().getName() : null,
+                    table.getSalon() != null ? table.getSalon().getId() : null,
+                    table.getSalon() != null ? table.getSalon().getName() : null,
+                    active, completed, (int) activeItems, 0);
+        }
+
+        TableState withVersion(long newVersion) {
+            return new TableState(id, tableNumber, capacity, statusId, statusName, salonId, salonName,
+                    hasActiveOrder, hasCompletedOrder, activeOrderItemsCount, newVersion);
+        }
+
+        public boolean isOccupied() {
+            return "OCCUPIED".equalsIgnoreCase(statusName);
+        }
+
+        public String realStatus() {
+            return DiningTableMapper.realStatus(hasActiveOrder, activeOrderItemsCount, hasCompletedOrder, statusName);
+        }
+
+        DiningTableResponseDto toResponseDto() {
+            return new DiningTableResponseDto(id, tableNumber, capacity, statusId, statusName, salonId, salonName,
+                    hasActiveOrder, hasCompletedOrder, realStatus(), activeOrderItemsCount);
+        }
+    }
+
+    private record SalonState(Long id,
+                              String name,
+                              String description,
+                              Integer capacity,
+                              int totalTables,
+                              int occupiedTables,
+                              long version) {
+
+        static SalonState of(Salon salon) {
+            return new SalonState(salon.getId(), salon.getName(), salon.getDescription(), salon.getCapacity(), 0, 0, 0);
+        }
+
+        SalonState withCounts(int total, int occupied) {
+            return new SalonState(id, name, description, capacity, total, occupied, version);
+        }
+
+        SalonState withVersion(long newVersion) {
+            return new SalonState(id, name, description, capacity, totalTables, occupiedTables, newVersion);
+        }
+
+        SalonResponseDTO toResponseDto() {
+            return new SalonResponseDTO(id, name, description, capacity, totalTables, occupiedTables,
+                    totalTables > 0 ? (occupiedTables * 100.0) / totalTables : 0.0);
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.example.demo.service;
 
-import com.example.demo.model.DailySalesSummary;
+import com.example.demo.model.SummaryBackfillCheckpoint;
 import com.example.demo.repository.DailySalesSummaryRepository;
 import com.example.demo.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
@@ -12,10 +13,13 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Service to generate initial summaries when the application starts.
  * This ensures real-time analytics work immediately without manual generation.
+ * Generation runs in the background through {@link SummaryBackfillService} so startup is not blocked.
  */
 @Service
 @RequiredArgsConstructor
@@ -23,90 +27,94 @@ import java.time.DayOfWeek;
 public class InitialSummaryGenerationService {
 
     private final DailySalesSummaryRepository dailySalesSummaryRepository;
-    private final DailySalesSummaryJobService dailySalesSummaryJobService;
+    private final SummaryBackfillService summaryBackfillService;
     private final OrderRepository orderRepository;
 
+    @Value("${app.analytics.backfill.enabled:true}")
+    private boolean backfillEnabled;
+
     /**
-     * 🔥 REAL-TIME ANALYTICS: Generate initial summaries on application startup
-     * This ensures the real-time system has data to work with immediately
+     * 🔥 REAL-TIME ANALYTICS: Schedule initial summaries on application startup
+     * Returns immediately; analytics endpoints answer with a "warming" status until the backfill finishes
      */
     @EventListener(ApplicationReadyEvent.class)
     public void generateInitialSummaries() {
-        log.info("Generating initial summaries for real-time analytics...");
-        
-        try {
-            // Check if we have any existing summaries
-            long existingCount = dailySalesSummaryRepository.count();
-            if (existingCount > 0) {
-                log.info("Found {} existing summaries, checking if current period summaries are available", existingCount);
-            }
+        if (!backfillEnabled) {
+            log.info("Initial summary backfill disabled (app.analytics.backfill.enabled=false)");
+            return;
+        }
+        log.info("Scheduling initial summaries for real-time analytics in the background...");
+        summaryBackfillService.start(this::planInitialSummaries);
+    }
 
-            // Generate summaries for current periods (for real-time analytics)
-            LocalDate today = LocalDate.now();
-            
-            // Generate daily summary for today (current period)
-            if (!hasSummaryForDateAndType(today, "DAILY")) {
-                dailySalesSummaryJobService.generateSalesSummary(today, today, "DAILY");
-                log.info("Generated current daily summary for {}", today);
-            }
-            
-            // Generate weekly summary for current week (current period)
-            LocalDate weekEnd = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
-            LocalDate weekStart = weekEnd.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-            if (!hasSummaryForDateAndType(weekEnd, "WEEKLY")) {
-                dailySalesSummaryJobService.generateSalesSummary(weekStart, weekEnd, "WEEKLY");
-                log.info("Generated current weekly summary for week {} to {}", weekStart, weekEnd);
-            }
-            
-            // Generate monthly summary for current month (current period)
-            LocalDate monthEnd = today.withDayOfMonth(today.lengthOfMonth());
-            LocalDate monthStart = monthEnd.withDayOfMonth(1);
-            if (!hasSummaryForDateAndType(monthEnd, "MONTHLY")) {
-                dailySalesSummaryJobService.generateSalesSummary(monthStart, monthEnd, "MONTHLY");
-                log.info("Generated current monthly summary for month {} to {}", monthStart, monthEnd);
-            }
-            
-            // Generate yearly summary for current year (current period)
-            LocalDate yearEnd = today.withDayOfYear(today.lengthOfYear());
-            LocalDate yearStart = yearEnd.withDayOfYear(1);
-            if (!hasSummaryForDateAndType(yearEnd, "YEARLY")) {
-                dailySalesSummaryJobService.generateSalesSummary(yearStart, yearEnd, "YEARLY");
-                log.info("Generated current yearly summary for year {} to {}", yearStart, yearEnd);
+    /**
+     * Decide which summaries need to be generated. Runs on the backfill thread, not on startup.
+     */
+    List<SummaryBackfillCheckpoint> planInitialSummaries() {
+        List<SummaryBackfillCheckpoint> plan = new ArrayList<>();
+
+        // Check if we have any existing summaries
+        long existingCount = dailySalesSummaryRepository.count();
+        if (existingCount > 0) {
+            log.info("Found {} existing summaries, checking if current period summaries are available", existingCount);
+        }
+
+        // Generate summaries for current periods (for real-time analytics)
+        LocalDate today = LocalDate.now();
+
+        // Daily summary for today (current period)
+        if (!hasSummaryForDateAndType(today, "DAILY")) {
+            plan.add(new SummaryBackfillCheckpoint("DAILY", today, today));
+        }
+
+        // Weekly summary for current week (current period)
+        LocalDate weekEnd = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        LocalDate weekStart = weekEnd.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        if (!hasSummaryForDateAndType(weekEnd, "WEEKLY")) {
+            plan.add(new SummaryBackfillCheckpoint("WEEKLY", weekStart, weekEnd));
+        }
+
+        // Monthly summary for current month (current period)
+        LocalDate monthEnd = today.withDayOfMonth(today.lengthOfMonth());
+        LocalDate monthStart = monthEnd.withDayOfMonth(1);
+        if (!hasSummaryForDateAndType(monthEnd, "MONTHLY")) {
+            plan.add(new SummaryBackfillCheckpoint("MONTHLY", monthStart, monthEnd));
+        }
+
+        // Yearly summary for current year (current period)
+        LocalDate yearEnd = today.withDayOfYear(today.lengthOfYear());
+        LocalDate yearStart = yearEnd.withDayOfYear(1);
+        if (!hasSummaryForDateAndType(yearEnd, "YEARLY")) {
+            plan.add(new SummaryBackfillCheckpoint("YEARLY", yearStart, yearEnd));
+        }
+
+        // Also generate historical summaries if they don't exist and have orders
+        if (existingCount == 0) {
+            log.info("No existing summaries found, planning historical summaries as well...");
+
+            // Daily summary for yesterday (if orders exist)
+            LocalDate yesterday = today.minusDays(1);
+            if (hasOrdersForDate(yesterday)) {
+                plan.add(new SummaryBackfillCheckpoint("DAILY", yesterday, yesterday));
             }
 
-            // Also generate historical summaries if they don't exist and have orders
-            if (existingCount == 0) {
-                log.info("No existing summaries found, generating historical summaries as well...");
-                
-                // Generate daily summary for yesterday (if orders exist)
-                LocalDate yesterday = today.minusDays(1);
-                if (hasOrdersForDate(yesterday)) {
-                    dailySalesSummaryJobService.generateSalesSummary(yesterday, yesterday, "DAILY");
-                    log.info("Generated historical daily summary for {}", yesterday);
-                }
-
-                // Generate weekly summary for previous week (if orders exist)
-                LocalDate prevWeekStart = weekStart.minusWeeks(1);
-                LocalDate prevWeekEnd = weekStart.minusDays(1);
-                if (hasOrdersBetweenDates(prevWeekStart, prevWeekEnd)) {
-                    dailySalesSummaryJobService.generateSalesSummary(prevWeekStart, prevWeekEnd, "WEEKLY");
-                    log.info("Generated historical weekly summary for week {} to {}", prevWeekStart, prevWeekEnd);
-                }
-
-                // Generate monthly summary for previous month (if orders exist)
-                LocalDate prevMonthStart = monthStart.minusMonths(1);
-                LocalDate prevMonthEnd = monthStart.minusDays(1);
-                if (hasOrdersBetweenDates(prevMonthStart, prevMonthEnd)) {
-                    dailySalesSummaryJobService.generateSalesSummary(prevMonthStart, prevMonthEnd, "MONTHLY");
-                    log.info("Generated historical monthly summary for month {} to {}", prevMonthStart, prevMonthEnd);
-                }
+            // Weekly summary for previous week (if orders exist)
+            LocalDate prevWeekStart = weekStart.minusWeeks(1);
+            LocalDate prevWeekEnd = weekStart.minusDays(1);
+            if (hasOrdersBetweenDates(prevWeekStart, prevWeekEnd)) {
+                plan.add(new SummaryBackfillCheckpoint("WEEKLY", prevWeekStart, prevWeekEnd));
             }
 
-            log.info("Initial summary generation completed successfully");
-            
-        } catch (Exception e) {
-            log.error("Failed to generate initial summaries: {}", e.getMessage(), e);
+            // Monthly summary for previous month (if orders exist)
+            LocalDate prevMonthStart = monthStart.minusMonths(1);
+            LocalDate prevMonthEnd = monthStart.minusDays(1);
+            if (hasOrdersBetweenDates(prevMonthStart, prevMonthEnd)) {
+                plan.add(new SummaryBackfillCheckpoint("MONTHLY", prevMonthStart, prevMonthEnd));
+            }
         }
+
+        log.info("Initial summary plan contains {} task(s)", plan.size());
+        return plan;
     }
 
     /**
@@ -1,10 +1,12 @@
 package com.example.demo.service;
 
+import com.example.demo.event.FloorPlanChangedEvent;
 import com.example.demo.model.OrderItem;
 import com.example.demo.repository.OrderItemRepository;
 import com.example.demo.repository.ProductRepository;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -13,10 +15,12 @@ import java.math.BigDecimal;
 public class OrderItemService {
 
     private final OrderItemRepository orderItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public OrderItemService(OrderItemRepository orderItemRepository) {
+    public OrderItemService(OrderItemRepository orderItemRepository, ApplicationEventPublisher eventPublisher) {
         this.orderItemRepository = orderItemRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public OrderItem updateOrderItem(Long itemId, int newQuantity) {
@@ -27,13 +31,22 @@ public class OrderItemService {
         BigDecimal unitPrice = item.getUnitPrice();
         item.setTotalPrice(unitPrice.multiply(BigDecimal.valueOf(newQuantity)));
 
-        return orderItemRepository.save(item);
+        OrderItem saved = orderItemRepository.save(item);
+        publishTableChanged(saved);
+        return saved;
     }
 
     public void deleteOrderItem(Long itemId) {
-        if (!orderItemRepository.existsById(itemId)) {
-            throw new RuntimeException("Order item not found");
+        OrderItem item = orderItemRepository.findById(itemId)
+                .orElseThrow(() -> new RuntimeException("Order item not found"));
+        orderItemRepository.delete(item);
+        publishTableChanged(item);
+    }
+
+    // Aktif kalem sayısı masanın gerçek durumunu (realStatus) belirler
+    private void publishTableChanged(OrderItem item) {
+        if (item.getOrder() != null && item.getOrder().getTable() != null) {
+            eventPublisher.publishEvent(FloorPlanChangedEvent.tables(this, item.getOrder().getTable().getId()));
         }
-        orderItemRepository.deleteById(itemId);
     }
 }
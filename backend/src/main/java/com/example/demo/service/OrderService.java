@@ -1,10 +1,19 @@
 package com.example.demo.service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime; // BigDecimal utils
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -13,23 +22,33 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.context.ApplicationEventPublisher;
+import com.example.demo.event.FloorPlanChangedEvent;
 import com.example.demo.event.OrderCreatedEvent;
+import com.example.demo.event.OrderItemsChangedEvent;
 import com.example.demo.event.OrderUpdatedEvent;
 
+import com.example.demo.dto.request.OrderDeltaRequestDTO;
+import com.example.demo.dto.request.OrderItemOperationDTO;
 import com.example.demo.dto.request.OrderItemRequestDTO;
 import com.example.demo.dto.request.OrderRequestDTO;
+import com.example.demo.dto.response.OrderDeltaResponseDTO;
 import com.example.demo.dto.response.OrderItemResponseDTO;
+import com.example.demo.dto.response.OrderPageResponseDTO;
 import com.example.demo.dto.response.OrderResponseDTO;
+import com.example.demo.enums.OrderItemOperationType;
 import com.example.demo.enums.StockMovementEnum; // <-- DEĞİŞİKLİK: TX yönetimi
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.exception.diningtable.TableNotFoundException;
 import com.example.demo.exception.order.EmptyOrderException;
 import com.example.demo.exception.order.InsufficientStockException;
+import com.example.demo.exception.order.InvalidOrderStateException;
 import com.example.demo.exception.order.InvalidQuantityException;
 import com.example.demo.exception.order.OrderNotFoundException;
 import com.example.demo.exception.order.OrderProcessingException;
+import com.example.demo.exception.order.OrderVersionConflictException;
 import com.example.demo.exception.order.TableNotAvailableException;
 import com.example.demo.exception.user.UserNotFoundException;
+import com.example.demo.mapper.OrderMapper;
 import com.example.demo.model.DiningTable;
 import com.example.demo.model.Order;
 import com.example.demo.model.OrderItem;
@@ -40,12 +59,17 @@ import com.example.demo.model.User;
 import com.example.demo.repository.DiningTableRepository;
 import com.example.demo.repository.OrderItemRepository;
 import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.OrderSearchRepository;
 import com.example.demo.repository.ProductIngredientRepository;
 import com.example.demo.repository.ProductRepository;
 import com.example.demo.repository.StockMovementRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.projection.OrderItemRow;
+import com.example.demo.repository.projection.OrderListRow;
+import com.example.demo.repository.projection.OrderVersionState;
 import com.example.demo.utils.BDH;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.annotation.Timed;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -53,6 +77,8 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class OrderService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
@@ -62,6 +88,7 @@ public class OrderService {
     private final ActivityLogService activityLogService;
     private final OrderItemRepository orderItemRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final OrderMapper orderMapper;
 
     @Autowired
     public OrderService(OrderRepository orderRepository,
@@ -72,7 +99,8 @@ public class OrderService {
                         ProductIngredientRepository productIngredientRepository,
                         ActivityLogService activityLogService,
                         OrderItemRepository orderItemRepository,
-                        ApplicationEventPublisher eventPublisher) {
+                        ApplicationEventPublisher eventPublisher,
+                        OrderMapper orderMapper) {
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
         this.userRepository = userRepository;
@@ -82,6 +110,7 @@ public class OrderService {
         this.activityLogService = activityLogService;
         this.orderItemRepository = orderItemRepository;
         this.eventPublisher = eventPublisher;
+        this.orderMapper = orderMapper;
     }
 
     // ------------------------------------------------------------------------------------
@@ -141,7 +170,7 @@ public class OrderService {
 
             // 🔥 REAL-TIME ANALYTICS: Publish event for immediate summary updates
             eventPublisher.publishEvent(new OrderCreatedEvent(this, saved));
-            log.info("OrderCreatedEvent published for order ID: {}", saved.getId());
+            log.debug("OrderCreatedEvent published for order ID: {}", saved.getId());
 
             return buildOrderResponseDTO(saved);
         } catch (Exception e) {
@@ -149,29 +178,81 @@ public class OrderService {
         }
     }
 
+    // <-- YENİ: Kasiyer için filtreli liste (isCompleted & tableId)
+    // Eski tam liste; geçmiş büyüdükçe yanıt da büyür. Kasiyer ekranı searchOrders (cursor sayfalı) kullanmalı.
     @Transactional(readOnly = true)
-    public List<OrderResponseDTO> getAllOrders() {
-        return orderRepository.findAll().stream()
-                .map(this::buildOrderResponseDTO)
-                .collect(Collectors.toList());
+    public List<OrderResponseDTO> getOrdersFiltered(Boolean isCompleted, Long tableId) {
+        // Filtre varsa items/product/table EntityGraph'lı repository metotları (kalem başına lazy yükleme yok)
+        List<Order> base;
+        if (isCompleted != null) {
+            base = (tableId != null)
+                    ? orderRepository.findByIsCompletedAndTableId(isCompleted, tableId)
+                    : orderRepository.findByIsCompleted(isCompleted);
+        } else {
+            base = (tableId != null)
+                    ? orderRepository.findByTableId(tableId)
+                    : orderRepository.findAll();
+        }
+
+        // İsteğe bağlı: tarihine göre sıralama (en yeni üstte)
+        List<Order> sorted = new ArrayList<>(base);
+        sorted.sort(Comparator.comparing(Order::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())).reversed());
+
+        return sorted.stream().map(this::buildOrderResponseDTO).collect(Collectors.toList());
     }
 
-    // <-- YENİ: Kasiyer için filtreli liste (isCompleted & tableId)
+    /**
+     * Kasiyer ekranı: filtreli, (created_at, id) cursor sayfalı sipariş listesi. Sayfa başına iki projection
+     * sorgusu (başlıklar + kalemler); kaç aylık geçmiş olursa olsun yanıt en fazla limit sipariş içerir.
+     */
     @Transactional(readOnly = true)
-    public List<OrderResponseDTO> getOrdersFiltered(Boolean isCompleted, Long tableId) {
-        // Not: Repository'de özel metot olmadığı için burada filtreliyoruz (performans gerekirse repo'ya metot eklenir)
-        List<Order> base = (tableId != null)
-                ? orderRepository.findByTableId(tableId)
-                : orderRepository.findAll();
+    public OrderPageResponseDTO searchOrders(OrderSearchRepository.Criteria criteria, String cursor, int limit) {
+        int safeLimit = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        if (criteria.from() != null && criteria.to() != null && !criteria.to().isAfter(criteria.from())) {
+            throw new IllegalArgumentException("Bitiş tarihi başlangıç tarihinden önce olamaz");
+        }
 
-        List<Order> filtered = (isCompleted == null)
-                ? base
-                : base.stream().filter(o -> o.isCompleted() == isCompleted).collect(Collectors.toList());
+        // Bir fazla satır okunur: varsa sonraki sayfa vardır
+        List<OrderListRow> rows = orderRepository.searchRows(criteria, decodeCursor(cursor), safeLimit + 1);
+        boolean hasMore = rows.size() > safeLimit;
+        List<OrderListRow> page = hasMore ? rows.subList(0, safeLimit) : rows;
 
-        // İsteğe bağlı: tarihine göre sıralama (en yeni üstte)
-        filtered.sort(Comparator.comparing(Order::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())).reversed());
+        Map<Long, List<OrderItemResponseDTO>> itemsByOrder = new HashMap<>();
+        List<Long> orderIds = page.stream().map(OrderListRow::id).collect(Collectors.toList());
+        for (OrderItemRow item : orderRepository.findItemRowsByOrderIds(orderIds)) {
+            itemsByOrder.computeIfAbsent(item.orderId(), id -> new ArrayList<>()).add(orderMapper.toItemResponseDTO(item));
+        }
 
-        return filtered.stream().map(this::buildOrderResponseDTO).collect(Collectors.toList());
+        List<OrderResponseDTO> items = new ArrayList<>(page.size());
+        for (OrderListRow row : page) {
+            OrderResponseDTO dto = orderMapper.toResponseDTO(row);
+            dto.setItems(itemsByOrder.getOrDefault(row.id(), new ArrayList<>()));
+            items.add(dto);
+        }
+
+        return OrderPageResponseDTO.builder()
+                .items(items)
+                .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1)) : null)
+                .hasMore(hasMore)
+                .limit(safeLimit)
+                .build();
+    }
+
+    private static String encodeCursor(OrderListRow last) {
+        String raw = last.createdAt() + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static OrderSearchRepository.Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new OrderSearchRepository.Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Geçersiz sayfa imleci (cursor)");
+        }
     }
 
     @Transactional(readOnly = true)
@@ -242,7 +323,7 @@ public class OrderService {
 
             // 🔥 REAL-TIME ANALYTICS: Publish event for immediate summary updates
             eventPublisher.publishEvent(new OrderUpdatedEvent(this, updated));
-            log.info("OrderUpdatedEvent published for order ID: {}", updated.getId());
+            log.debug("OrderUpdatedEvent published for order ID: {}", updated.getId());
 
             return buildOrderResponseDTO(updated);
         } catch (Exception e) {
@@ -267,6 +348,7 @@ public class OrderService {
             );
             Long actorUserId = (order.getUser() != null) ? order.getUser().getId() : null;
             activityLogService.logActivity(actorUserId, "DELETE", "ORDER", id, details);
+            eventPublisher.publishEvent(FloorPlanChangedEvent.tables(this, order.getTable().getId()));
         }
     }
 
@@ -275,6 +357,7 @@ public class OrderService {
     // ------------------------------------------------------------------------------------
 
     @Transactional // <-- TX
+    @Timed(value = "restaurant.orders.process", description = "Order completion with stock deduction", histogram = true)
     public void processOrder(Long id) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new OrderNotFoundException("Sipariş bulunamadı: ID = " + id));
@@ -328,6 +411,7 @@ public class OrderService {
             );
             Long actorUserId = (order.getUser() != null) ? order.getUser().getId() : null;
             activityLogService.logActivity(actorUserId, "PROCESS", "ORDER", order.getId(), details);
+            eventPublisher.publishEvent(FloorPlanChangedEvent.tables(this, order.getTable().getId()));
 
         } catch (InsufficientStockException e) {
             throw e;
@@ -351,6 +435,7 @@ public class OrderService {
 
     // Tam senkron upsert: aynı endpoint ile oluştur/güncelle
     @Transactional // <-- DEĞİŞİKLİK: TX ve atomiklik
+    @Timed(value = "restaurant.orders.upsert", description = "Waiter basket sync (upsert-sync)", histogram = true)
     public OrderResponseDTO upsertOrderSync(OrderRequestDTO dto, Authentication auth) {
         // 1) Masa
         Long tableId = (long) dto.getTableId();
@@ -457,11 +542,11 @@ public class OrderService {
             if (order.getId() == null) {
                 // New order created
                 eventPublisher.publishEvent(new OrderCreatedEvent(this, saved));
-                log.info("OrderCreatedEvent published for upsert order ID: {}", saved.getId());
+                log.debug("OrderCreatedEvent published for upsert order ID: {}", saved.getId());
             } else {
                 // Existing order updated
                 eventPublisher.publishEvent(new OrderUpdatedEvent(this, saved));
-                log.info("OrderUpdatedEvent published for upsert order ID: {}", saved.getId());
+                log.debug("OrderUpdatedEvent published for upsert order ID: {}", saved.getId());
             }
 
         } catch (Exception ignore) {}
@@ -473,6 +558,242 @@ public class OrderService {
     // Yardımcılar
     // ------------------------------------------------------------------------------------
 
+    /**
+     * Kalem bazlı delta (garsonun tek dokunuşu). İşlemler sırayla bellekteki satır durumuna uygulanır; sonra yalnızca
+     * değişen satırlar hedefli UPDATE / DELETE / INSERT ile yazılır, sipariş ve kalem entity'leri yüklenmez.
+     * Toplam ve versiyon en sonda versiyon koşullu tek UPDATE ile ilerler; sipariş arada değiştiyse hepsi geri alınır (409).
+     */
+    @Transactional
+    @Timed(value = "restaurant.orders.delta", description = "Waiter item-level order changes (delta)", histogram = true)
+    public OrderDeltaResponseDTO applyItemDelta(Long orderId, OrderDeltaRequestDTO dto, Authentication auth) {
+        OrderVersionState state = orderRepository.findVersionStateById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException("Sipariş bulunamadı: ID = " + orderId));
+        if (Boolean.TRUE.equals(state.completed())) {
+            throw new InvalidOrderStateException("Tamamlanmış sipariş güncellenemez (orderId=" + orderId + ")");
+        }
+        if (!state.version().equals(dto.getVersion())) {
+            throw new OrderVersionConflictException("Sipariş güncel değil (orderId=" + orderId + ", güncel versiyon=" + state.version() + ")");
+        }
+        User waiter = resolveUserFromAuth(auth);
+
+        // 1) Mevcut satırlar productId -> satır (tek projection sorgusu). createOrder aynı ürünü birden çok satırda
+        //    kabul ettiği için tekrarlar tek satırda birleştirilir ve 4. adımda tabloya da tek satır olarak yazılır.
+        Map<Long, DeltaLine> lines = new LinkedHashMap<>();
+        for (OrderItemRow row : orderRepository.findItemRowsByOrderIds(List.of(orderId))) {
+            if (row.productId() == null) {
+                continue;
+            }
+            DeltaLine existing = lines.get(row.productId());
+            if (existing == null) {
+                lines.put(row.productId(), new DeltaLine(row.productId(), row.productName(), row.unitPrice(),
+                        row.quantity(), row.note(), true));
+            } else if (existing.unitPrice.compareTo(row.unitPrice()) != 0) {
+                // Farklı fiyat snapshot'ları tek satırda birleşemez; toplam eksik hesaplanmasın
+                throw new OrderVersionConflictException("Siparişte aynı ürün farklı fiyatlarla birden çok satırda "
+                        + "(orderId=" + orderId + ", productId=" + row.productId() + "); önce upsert-sync ile düzeltilmeli");
+            } else {
+                existing.mergeDuplicate(row.quantity(), row.note());
+            }
+        }
+
+        // 2) Siparişte olmayan ürünler tek sorguda
+        Set<Long> newProductIds = dto.getOperations().stream()
+                .filter(op -> op.getType() == OrderItemOperationType.ADD || op.getType() == OrderItemOperationType.SET_QUANTITY)
+                .map(OrderItemOperationDTO::getProductId)
+                .filter(pid -> !lines.containsKey(pid))
+                .collect(Collectors.toSet());
+        Map<Long, Product> newProducts = newProductIds.isEmpty() ? Map.of()
+                : productRepository.findAllById(newProductIds).stream().collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 3) İşlemleri sırayla uygula
+        for (OrderItemOperationDTO op : dto.getOperations()) {
+            Long pid = op.getProductId();
+            DeltaLine line = lines.get(pid);
+            switch (op.getType()) {
+                case ADD -> {
+                    int qty = (op.getQuantity() != null) ? op.getQuantity() : 1;
+                    if (qty < 1) {
+                        throw new InvalidOrderStateException("ADD için adet en az 1 olmalı (productId=" + pid + ")");
+                    }
+                    line = (line != null) ? line : newLine(pid, newProducts, lines);
+                    line.quantity += qty;
+                    if (op.getNote() != null) {
+                        line.note = op.getNote();
+                    }
+                }
+                case SET_QUANTITY -> {
+                    if (op.getQuantity() == null) {
+                        throw new InvalidOrderStateException("SET_QUANTITY için adet zorunlu (productId=" + pid + ")");
+                    }
+                    if (op.getQuantity() == 0 && line == null) {
+                        continue;
+                    }
+                    line = (line != null) ? line : newLine(pid, newProducts, lines);
+                    line.quantity = op.getQuantity();
+                    if (op.getNote() != null) {
+                        line.note = op.getNote();
+                    }
+                }
+                case REMOVE -> {
+                    if (line != null) {
+                        line.quantity = 0;
+                    }
+                }
+                case NOTE -> {
+                    if (line == null || line.quantity == 0) {
+                        throw new InvalidOrderStateException("Siparişte olmayan ürüne not eklenemez (productId=" + pid + ")");
+                    }
+                    line.note = (op.getNote() == null || op.getNote().isBlank()) ? null : op.getNote();
+                }
+            }
+        }
+
+        // 4) Sadece değişen satırları yaz; toplam tüm satırlardan
+        BigDecimal total = BigDecimal.ZERO;
+        List<OrderItemResponseDTO> changedItems = new ArrayList<>();
+        List<Long> removedProductIds = new ArrayList<>();
+        List<DeltaLine> inserts = new ArrayList<>();
+        for (DeltaLine line : lines.values()) {
+            BigDecimal lineTotal = line.unitPrice.multiply(BigDecimal.valueOf(line.quantity)).setScale(2, RoundingMode.HALF_UP);
+            total = total.add(lineTotal);
+            if (!line.isChanged()) {
+                continue;
+            }
+            if (line.quantity == 0) {
+                if (line.persisted) {
+                    removedProductIds.add(line.productId);
+                }
+                continue;
+            }
+            if (line.persisted) {
+                if (line.duplicateRows > 0) {
+                    orderItemRepository.deleteDuplicateLines(orderId, line.productId);
+                }
+                orderItemRepository.updateLine(orderId, line.productId, line.quantity, lineTotal, line.note);
+            } else {
+                inserts.add(line);
+            }
+            changedItems.add(line.toResponseDTO(lineTotal));
+        }
+        if (!removedProductIds.isEmpty()) {
+            orderItemRepository.deleteLines(orderId, removedProductIds);
+        }
+        if (!inserts.isEmpty()) {
+            Order orderRef = orderRepository.getReferenceById(orderId);
+            orderItemRepository.saveAll(inserts.stream().map(line -> {
+                OrderItem item = new OrderItem();
+                item.setOrder(orderRef);
+                item.setProduct(newProducts.get(line.productId));
+                item.setUnitPrice(line.unitPrice); // snapshot
+                item.setQuantity(line.quantity);
+                item.setNote(line.note);
+                return item;
+            }).collect(Collectors.toList()));
+        }
+
+        // 5) Hiçbir satır değişmediyse sipariş satırına dokunma
+        if (changedItems.isEmpty() && removedProductIds.isEmpty()) {
+            return OrderDeltaResponseDTO.builder()
+                    .orderId(orderId)
+                    .version(state.version())
+                    .totalPrice(total)
+                    .changedItems(changedItems)
+                    .removedProductIds(removedProductIds)
+                    .build();
+        }
+        if (orderRepository.updateTotalIfVersion(orderId, dto.getVersion(), total, LocalDateTime.now()) == 0) {
+            throw new OrderVersionConflictException("Sipariş başka bir kullanıcı tarafından güncellendi (orderId=" + orderId + ")");
+        }
+
+        try {
+            ObjectNode details = activityLogService.createDetailsNode(
+                    "Order item delta by " + waiter.getName() + " for order " + orderId,
+                    "userId", waiter.getId().toString(),
+                    "tableId", String.valueOf(state.tableId()),
+                    "totalPrice", total.toString(),
+                    "changedCount", String.valueOf(changedItems.size()),
+                    "removedCount", String.valueOf(removedProductIds.size())
+            );
+            activityLogService.logActivity(waiter.getId(), "ITEM_DELTA", "ORDER", orderId, details);
+        } catch (Exception ignore) {}
+
+        // Masa durumu görünümü için; analitik özetler sipariş tamamlanınca / zamanlanmış üretimde güncellenir
+        eventPublisher.publishEvent(new OrderItemsChangedEvent(this, orderId, state.tableId()));
+
+        return OrderDeltaResponseDTO.builder()
+                .orderId(orderId)
+                .version(dto.getVersion() + 1)
+                .totalPrice(total)
+                .changedItems(changedItems)
+                .removedProductIds(removedProductIds)
+                .build();
+    }
+
+    private static DeltaLine newLine(Long productId, Map<Long, Product> products, Map<Long, DeltaLine> lines) {
+        Product product = products.get(productId);
+        if (product == null) {
+            throw new ResourceNotFoundException("Ürün bulunamadı: ID = " + productId);
+        }
+        if (product.getPrice() == null) {
+            throw new OrderProcessingException("Ürün fiyatı tanımsız: ID = " + productId);
+        }
+        DeltaLine line = new DeltaLine(productId, product.getName(), product.getPrice(), 0, null, false);
+        lines.put(productId, line);
+        return line;
+    }
+
+    // Delta uygulanırken bir sipariş satırının bellekteki durumu (ilk değerlerle karşılaştırılarak yazılır)
+    private static final class DeltaLine {
+        private final Long productId;
+        private final String productName;
+        private final BigDecimal unitPrice;
+        private final boolean persisted;
+        private int originalQuantity;
+        private final String originalNote;
+        private int quantity;
+        private String note;
+        private int duplicateRows;
+
+        private DeltaLine(Long productId, String productName, BigDecimal unitPrice, int quantity, String note, boolean persisted) {
+            this.productId = productId;
+            this.productName = productName;
+            this.unitPrice = unitPrice;
+            this.persisted = persisted;
+            this.originalQuantity = quantity;
+            this.originalNote = note;
+            this.quantity = quantity;
+            this.note = note;
+        }
+
+        /**
+         * Aynı ürünün sonraki satırı: adet toplanır, not ilk dolu olandan alınır. Tekrarlı satır her zaman
+         * değişmiş sayılır ki fazlalar silinip tek satıra indirilsin.
+         */
+        private void mergeDuplicate(int rowQuantity, String rowNote) {
+            originalQuantity += rowQuantity;
+            quantity += rowQuantity;
+            if (note == null) {
+                note = rowNote;
+            }
+            duplicateRows++;
+        }
+
+        private boolean isChanged() {
+            return duplicateRows > 0 || quantity != originalQuantity || !Objects.equals(note, originalNote);
+        }
+
+        private OrderItemResponseDTO toResponseDTO(BigDecimal lineTotal) {
+            OrderItemResponseDTO dto = new OrderItemResponseDTO();
+            dto.setProductId(productId);
+            dto.setProductName(productName);
+            dto.setQuantity(quantity);
+            dto.setUnitPrice(unitPrice);
+            dto.setTotalPrice(lineTotal);
+            dto.setNote(note);
+            return dto;
+        }
+    }
+
     private User resolveUserFromAuth(Authentication auth) {
         if (auth == null) {
             throw new UserNotFoundException("Kimlik doğrulama yok");
@@ -483,36 +804,7 @@ public class OrderService {
     }
 
     private OrderResponseDTO buildOrderResponseDTO(Order order) {
-        OrderResponseDTO dto = new OrderResponseDTO();
-        dto.setOrderId(order.getId());
-        dto.setUserId(order.getUser().getId());
-        dto.setWaiterName(order.getUser().getName());
-        dto.setTableId(order.getTable().getId());
-        dto.setTableNumber(order.getTable().getTableNumber());
-        dto.setCreatedAt(order.getCreatedAt());
-        dto.setTotalPrice(order.getTotalPrice());
-        dto.setCompleted(order.isCompleted());
-        
-        // Debug logging
-        log.info("Building DTO for order {}: isCompleted={}, DTO completed={}", 
-                order.getId(), order.isCompleted(), dto.isCompleted());
-
-        List<OrderItemResponseDTO> itemResponses = (order.getItems() == null ? List.<OrderItem>of() : order.getItems())
-                .stream()
-                .map(item -> {
-                    OrderItemResponseDTO res = new OrderItemResponseDTO();
-                    res.setProductId(item.getProduct().getId());
-                    res.setProductName(item.getProduct().getName());
-                    res.setQuantity(item.getQuantity());
-                    res.setUnitPrice(item.getUnitPrice());
-                    res.setTotalPrice(item.getTotalPrice());
-                    res.setNote(item.getNote());
-                    return res;
-                })
-                .collect(Collectors.toList());
-
-        dto.setItems(itemResponses);
-        return dto;
+        return orderMapper.toResponseDTO(order);
     }
 
     // ---- Validasyonlar (create/update uçları için; upsert-sync bunları bilerek KULLANMIYOR) ----
@@ -582,7 +874,7 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public List<Long> getActiveTableIds() {
-        log.info("Aktif sipariş bulunan masa ID'leri getiriliyor");
+        log.debug("Aktif sipariş bulunan masa ID'leri getiriliyor");
         List<Order> activeOrders = orderRepository.findByIsCompleted(false);
         
         return activeOrders.stream()
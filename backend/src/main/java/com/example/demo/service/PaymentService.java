@@ -18,6 +18,7 @@ import com.example.demo.repository.OrderRepository;
 import com.example.demo.repository.PaymentRepository;
 import com.example.demo.repository.UserRepository;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -43,6 +44,7 @@ public class PaymentService {
     }
 
     // 💰 Ödeme kaydet (DTO kullanarak)
+    @Timed(value = "restaurant.payments.create", description = "Payment and order completion", histogram = true)
     public PaymentResponseDTO createPayment(PaymentRequestDTO dto) {
         Order order = orderRepository.findById(dto.getOrderId())
                 .orElseThrow(() -> new RuntimeException("Order not found with id: " + dto.getOrderId()));
@@ -59,11 +61,11 @@ public class PaymentService {
         Payment saved = paymentRepository.save(payment);
         
         // Ödeme yapıldıktan sonra order'ı tamamlanmış olarak işaretle
-        System.out.println("PAYMENT SERVICE: Order " + order.getId() + " is_completed öncesi: " + order.isCompleted());
+        log.debug("Order {} is_completed öncesi: {}", order.getId(), order.isCompleted());
         order.setCompleted(true);
         order.setUpdatedAt(LocalDateTime.now());
         Order updatedOrder = orderRepository.save(order);
-        System.out.println("PAYMENT SERVICE: Order " + updatedOrder.getId() + " is_completed sonrası: " + updatedOrder.isCompleted());
+        log.debug("Order {} is_completed sonrası: {}", updatedOrder.getId(), updatedOrder.isCompleted());
         
         // Create activity log
         ObjectNode details = activityLogService.createDetailsNode(
@@ -0,0 +1,119 @@
+package com.example.demo.service;
+
+import com.example.demo.enums.TopProductsPeriod;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * /api/analytics/performance-metrics için dönem bazında paralel toplama.
+ * Her dönem (DAILY/WEEKLY/MONTHLY/YEARLY) kendi virtual thread'inde AnalyticsService.getPeriodOverview ile
+ * hesaplanır; hepsi ortak bir son tarihe (deadline) kadar beklenir. Süresi dolan dönem iptal edilir ve
+ * cevapta timedOut olarak işaretlenir, diğerleri kısmi sonuç olarak döner.
+ * Böylece toplam süre dönemlerin toplamı değil en yavaş dönem olur.
+ */
+@Service
+@Slf4j
+public class PerformanceMetricsService {
+
+    private final AnalyticsService analyticsService;
+    private final long timeoutMs;
+    private final int topProductsLimit;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PerformanceMetricsService(AnalyticsService analyticsService,
+                                     @Value("${app.analytics.performance-metrics.timeout-ms:5000}") long timeoutMs,
+                                     @Value("${app.analytics.performance-metrics.top-products-limit:5}") int topProductsLimit) {
+        this.analyticsService = analyticsService;
+        this.timeoutMs = Math.max(1, timeoutMs);
+        this.topProductsLimit = topProductsLimit;
+    }
+
+    public Map<String, Object> getPerformanceMetrics() {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        Map<TopProductsPeriod, Future<Map<String, Object>>> futures = new EnumMap<>(TopProductsPeriod.class);
+        for (TopProductsPeriod period : TopProductsPeriod.values()) {
+            futures.put(period, executor.submit(() -> withMdc(mdc, () -> analyticsService.getPeriodOverview(period, topProductsLimit))));
+        }
+
+        Map<String, Object> metrics = new HashMap<>();
+        int timedOut = 0;
+        int failed = 0;
+        boolean partial = false;
+        for (Map.Entry<TopProductsPeriod, Future<Map<String, Object>>> e : futures.entrySet()) {
+            String key = e.getKey().name().toLowerCase();
+            Future<Map<String, Object>> future = e.getValue();
+            try {
+                Map<String, Object> periodMetrics = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                partial |= Boolean.TRUE.equals(periodMetrics.get("partial"));
+                metrics.put(key, periodMetrics);
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                timedOut++;
+                partial = true;
+                metrics.put(key, failedPeriod("TIMEOUT", "Period did not finish within " + timeoutMs + " ms"));
+            } catch (ExecutionException ex) {
+                failed++;
+                partial = true;
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                log.warn("Performance metrics for {} failed: {}", e.getKey(), cause.getMessage());
+                metrics.put(key, failedPeriod("ERROR", String.valueOf(cause.getMessage())));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(f -> f.cancel(true));
+                throw new IllegalStateException("Interrupted while collecting performance metrics", ex);
+            }
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        Map<String, Object> meta = new HashMap<>();
+        meta.put("partial", partial);
+        meta.put("timedOutPeriods", timedOut);
+        meta.put("failedPeriods", failed);
+        meta.put("timeoutMs", timeoutMs);
+        meta.put("elapsedMs", elapsedMs);
+        metrics.put("meta", meta);
+        if (partial) {
+            log.info("Performance metrics returned partial results in {} ms ({} timed out, {} failed)", elapsedMs, timedOut, failed);
+        }
+        return metrics;
+    }
+
+    private static Map<String, Object> failedPeriod(String code, String message) {
+        Map<String, Object> period = new HashMap<>();
+        for (String section : List.of("revenue", "categoryBreakdown", "employeePerformance", "topProducts")) {
+            period.put(section, null);
+        }
+        period.put("errors", Map.of("period", Map.of("code", code, "message", message)));
+        period.put("partial", true);
+        period.put("timedOut", "TIMEOUT".equals(code));
+        return period;
+    }
+
+    private static <T> T withMdc(Map<String, String> mdc, Callable<T> task) throws Exception {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            return task.call();
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
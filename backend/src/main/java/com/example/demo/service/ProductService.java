@@ -8,6 +8,7 @@ import com.example.demo.exception.product.InvalidProductDataException;
 import com.example.demo.exception.product.ProductAlreadyExistsException;
 import com.example.demo.exception.product.ProductNotFoundException;
 import com.example.demo.exception.product.ProductReferencedInOrder;
+import com.example.demo.mapper.ProductMapper;
 import com.example.demo.model.Order;
 import com.example.demo.model.OrderItem;
 import com.example.demo.model.Product;
@@ -36,6 +37,7 @@ public class ProductService {
     private final ActivityLogService activityLogService;
     private final UserRepository userRepository;
     private final ProductIngredientRepository productIngredientRepository;
+    private final ProductMapper productMapper;
 
     // Constructor injection - her iki repository burada enjekte edilir
     public ProductService(ProductRepository productRepository,
@@ -43,9 +45,11 @@ public class ProductService {
                           ActivityLogService activityLogService,
                           UserRepository userRepository,
                           ProductIngredientRepository productIngredientRepository,
-                          OrderRepository orderRepository) {
+                          OrderRepository orderRepository,
+                          ProductMapper productMapper) {
         this.productRepository = productRepository;
         this.orderRepository = orderRepository;
+        this.productMapper = productMapper;
         this.orderItemRepository = orderItemRepository;
         this.activityLogService = activityLogService;
         this.userRepository = userRepository;
@@ -53,14 +57,7 @@ public class ProductService {
     }
 
     private ProductResponseDto convertToResponseDto(Product product) {
-        ProductResponseDto dto = new ProductResponseDto();
-        dto.setId(product.getId());
-        dto.setName(product.getName());
-        dto.setDescription(product.getDescription());
-        dto.setPrice(product.getPrice());
-        dto.setIsActive(product.getIsActive());
-        dto.setCategory(product.getCategory() != null ? product.getCategory().name() : null);
-        return dto;
+        return productMapper.toResponseDto(product);
     }
 
     private Product convertToEntity(ProductRequestDto dto) {
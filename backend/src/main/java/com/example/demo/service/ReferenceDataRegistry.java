@@ -0,0 +1,297 @@
+package com.example.demo.service;
+
+import com.example.demo.enums.UserRolesEnum;
+import com.example.demo.event.ReferenceDataChangedEvent;
+import com.example.demo.event.ReferenceDataChangedEvent.Kind;
+import com.example.demo.model.RestaurantSettings;
+import com.example.demo.model.TableStatus;
+import com.example.demo.repository.RestaurantSettingsRepository;
+import com.example.demo.repository.RoleRepository;
+import com.example.demo.repository.TableStatusRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Masa durumları, roller ve restoran ayarları için bellek içi referans veri kaydı.
+ * Veriler açılışta değişmez map'lere yüklenir; sahibi olan servisler yazdıktan sonra ReferenceDataChangedEvent
+ * yayınlar ve ilgili tür commit sonrasında yeniden okunur. Okumalar veritabanına gitmez.
+ * Açılışta zorunlu seed satırları (durumlar, roller) yoksa uygulama başlamaz.
+ */
+@Service
+@Slf4j
+public class ReferenceDataRegistry {
+
+    static final List<String> REQUIRED_TABLE_STATUSES = List.of("AVAILABLE", "OCCUPIED", "RESERVED");
+    // İŞ KURALI: RESERVED daima ID=3
+    static final long RESERVED_STATUS_ID = 3L;
+
+    private final TableStatusRepository tableStatusRepository;
+    private final RoleRepository roleRepository;
+    private final RestaurantSettingsRepository restaurantSettingsRepository;
+    private final boolean selfCheckEnabled;
+
+    private volatile TableStatuses tableStatuses;
+    private volatile Roles roles;
+    private volatile Settings settings;
+
+    private final Map<Kind, KindStats> stats = new EnumMap<>(Kind.class);
+
+    public ReferenceDataRegistry(TableStatusRepository tableStatusRepository,
+                                 RoleRepository roleRepository,
+                                 RestaurantSettingsRepository restaurantSettingsRepository,
+                                 @Value("${app.reference-data.self-check:true}") boolean selfCheckEnabled) {
+        this.tableStatusRepository = tableStatusRepository;
+        this.roleRepository = roleRepository;
+        this.restaurantSettingsRepository = restaurantSettingsRepository;
+        this.selfCheckEnabled = selfCheckEnabled;
+        for (Kind kind : Kind.values()) {
+            stats.put(kind, new KindStats());
+        }
+    }
+
+    /**
+     * Açılışta tüm referans verileri yükler ve seed satırlarını doğrular.
+     * Diğer ApplicationReadyEvent yükleyicilerinden önce çalışır; doğrulama hatası uygulamanın başlamasını durdurur.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onApplicationReady() {
+        reloadAll();
+        if (selfCheckEnabled) {
+            List<String> problems = selfCheck();
+            if (!problems.isEmpty()) {
+                throw new IllegalStateException("Reference data self-check failed: " + String.join("; ", problems));
+            }
+        }
+        log.info("Reference data loaded: {} table status(es), {} role(s), restaurant settings {}",
+                tableStatuses().byId.size(), roles().byId.size(), settings().value != null ? "present" : "missing");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        reload(event.getKind());
+    }
+
+    public void reloadAll() {
+        for (Kind kind : Kind.values()) {
+            reload(kind);
+        }
+    }
+
+    public synchronized void reload(Kind kind) {
+        switch (kind) {
+            case TABLE_STATUSES -> tableStatuses = loadTableStatuses();
+            case ROLES -> roles = loadRoles();
+            case RESTAURANT_SETTINGS -> settings = loadSettings();
+        }
+        KindStats kindStats = stats.get(kind);
+        kindStats.loads.increment();
+        kindStats.lastLoadedAt = LocalDateTime.now();
+        log.debug("Reference data reloaded: {}", kind);
+    }
+
+    /**
+     * Zorunlu seed satırlarını kontrol eder ve bulunan sorunları döner (boş liste = sorun yok).
+     */
+    public List<String> selfCheck() {
+        List<String> problems = new ArrayList<>();
+        TableStatuses statuses = tableStatuses();
+        for (String name : REQUIRED_TABLE_STATUSES) {
+            if (!statuses.byName.containsKey(name)) {
+                problems.add("table status '" + name + "' is missing");
+            }
+        }
+        TableStatusEntry reserved = statuses.byName.get("RESERVED");
+        if (reserved != null && reserved.id() != RESERVED_STATUS_ID) {
+            problems.add("table status 'RESERVED' must have id " + RESERVED_STATUS_ID + " (found " + reserved.id() + ")");
+        }
+        // RoleMappingService rol id'lerini UserRolesEnum sırasından türetir
+        Roles currentRoles = roles();
+        for (UserRolesEnum role : UserRolesEnum.values()) {
+            RoleEntry entry = currentRoles.byName.get(role.name());
+            if (entry == null) {
+                problems.add("role '" + role.name() + "' is missing");
+            } else if (entry.id() != role.ordinal()) {
+                problems.add("role '" + role.name() + "' must have id " + role.ordinal() + " (found " + entry.id() + ")");
+            }
+        }
+        if (settings().value == null) {
+            // Ayarlar RestaurantSettingsService tarafından ilk okumada varsayılanla oluşturulur; hata sayılmaz
+            log.warn("Reference data self-check: no restaurant settings row, defaults will be created on first access");
+        }
+        return problems;
+    }
+
+    // ==================== TABLE STATUSES ====================
+
+    public Optional<TableStatusEntry> findTableStatus(Long id) {
+        return record(Kind.TABLE_STATUSES, id == null ? null : tableStatuses().byId.get(id));
+    }
+
+    public Optional<TableStatusEntry> findTableStatus(String name) {
+        return record(Kind.TABLE_STATUSES, name == null ? null : tableStatuses().byName.get(name));
+    }
+
+    public List<TableStatusEntry> getTableStatuses() {
+        stats.get(Kind.TABLE_STATUSES).hits.increment();
+        return tableStatuses().all;
+    }
+
+    // ==================== ROLES ====================
+
+    public Optional<RoleEntry> findRole(Long id) {
+        return record(Kind.ROLES, id == null ? null : roles().byId.get(id));
+    }
+
+    public Optional<RoleEntry> findRole(String name) {
+        return record(Kind.ROLES, name == null ? null : roles().byName.get(name));
+    }
+
+    // ==================== RESTAURANT SETTINGS ====================
+
+    public Optional<SettingsEntry> getRestaurantSettings() {
+        return record(Kind.RESTAURANT_SETTINGS, settings().value);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Map.Entry<Kind, KindStats> e : stats.entrySet()) {
+            long hits = e.getValue().hits.sum();
+            long misses = e.getValue().misses.sum();
+            Map<String, Object> kind = new LinkedHashMap<>();
+            kind.put("entries", size(e.getKey()));
+            kind.put("hits", hits);
+            kind.put("misses", misses);
+            kind.put("hitRatio", hits + misses == 0 ? 0.0 : Math.round(hits * 10000.0 / (hits + misses)) / 10000.0);
+            kind.put("loads", e.getValue().loads.sum());
+            kind.put("lastLoadedAt", e.getValue().lastLoadedAt);
+            result.put(e.getKey().name(), kind);
+        }
+        return result;
+    }
+
+    private int size(Kind kind) {
+        return switch (kind) {
+            case TABLE_STATUSES -> tableStatuses == null ? 0 : tableStatuses.byId.size();
+            case ROLES -> roles == null ? 0 : roles.byId.size();
+            case RESTAURANT_SETTINGS -> settings == null || settings.value == null ? 0 : 1;
+        };
+    }
+
+    private <T> Optional<T> record(Kind kind, T value) {
+        (value != null ? stats.get(kind).hits : stats.get(kind).misses).increment();
+        return Optional.ofNullable(value);
+    }
+
+    // Açılış yüklemesinden önce gelen okumalar (ör. başka bir ready listener) tembel yüklemeyi tetikler
+    private TableStatuses tableStatuses() {
+        TableStatuses current = tableStatuses;
+        if (current == null) {
+            reload(Kind.TABLE_STATUSES);
+            current = tableStatuses;
+        }
+        return current;
+    }
+
+    private Roles roles() {
+        Roles current = roles;
+        if (current == null) {
+            reload(Kind.ROLES);
+            current = roles;
+        }
+        return current;
+    }
+
+    private Settings settings() {
+        Settings current = settings;
+        if (current == null) {
+            reload(Kind.RESTAURANT_SETTINGS);
+            current = settings;
+        }
+        return current;
+    }
+
+    private TableStatuses loadTableStatuses() {
+        List<TableStatusEntry> all = tableStatusRepository.findAll().stream()
+                .map(s -> new TableStatusEntry(s.getId(), s.getName()))
+                .sorted(Comparator.comparing(TableStatusEntry::id))
+                .toList();
+        return new TableStatuses(all,
+                all.stream().collect(Collectors.toUnmodifiableMap(TableStatusEntry::id, Function.identity())),
+                all.stream().collect(Collectors.toUnmodifiableMap(TableStatusEntry::name, Function.identity(), (a, b) -> a)));
+    }
+
+    private Roles loadRoles() {
+        List<RoleEntry> all = roleRepository.findAll().stream()
+                .map(r -> new RoleEntry(r.getId(), r.getName()))
+                .toList();
+        return new Roles(
+                all.stream().collect(Collectors.toUnmodifiableMap(RoleEntry::id, Function.identity())),
+                all.stream().filter(r -> r.name() != null)
+                        .collect(Collectors.toUnmodifiableMap(RoleEntry::name, Function.identity(), (a, b) -> a)));
+    }
+
+    private Settings loadSettings() {
+        return new Settings(restaurantSettingsRepository.findSingleSettings().map(SettingsEntry::of).orElse(null));
+    }
+
+    public record TableStatusEntry(Long id, String name) {
+
+        /**
+         * Kayıttan bağımsız (detached) bir entity kopyası; çağıran değiştirse de önbellek etkilenmez.
+         */
+        public TableStatus toEntity() {
+            return new TableStatus(id, name, new HashSet<>());
+        }
+    }
+
+    public record RoleEntry(Long id, String name) { }
+
+    public record SettingsEntry(Long id, String restaurantName, LocalTime openTime, LocalTime closeTime,
+                                Integer lastReservationCutoffMinutes, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static SettingsEntry of(RestaurantSettings s) {
+            return new SettingsEntry(s.getId(), s.getRestaurantName(), s.getOpenTime(), s.getCloseTime(),
+                    s.getLastReservationCutoffMinutes(), s.getCreatedAt(), s.getUpdatedAt());
+        }
+
+        public RestaurantSettings toEntity() {
+            RestaurantSettings s = new RestaurantSettings();
+            s.setId(id);
+            s.setRestaurantName(restaurantName);
+            s.setOpenTime(openTime);
+            s.setCloseTime(closeTime);
+            s.setLastReservationCutoffMinutes(lastReservationCutoffMinutes);
+            s.setCreatedAt(createdAt);
+            s.setUpdatedAt(updatedAt);
+            return s;
+        }
+    }
+
+    private record TableStatuses(List<TableStatusEntry> all, Map<Long, TableStatusEntry> byId,
+                                 Map<String, TableStatusEntry> byName) { }
+
+    private record Roles(Map<Long, RoleEntry> byId, Map<String, RoleEntry> byName) { }
+
+    private record Settings(SettingsEntry value) { }
+
+    private static class KindStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private volatile LocalDateTime lastLoadedAt;
+    }
+}
@@ -0,0 +1,361 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.response.AvailabilitySlotDTO;
+import com.example.demo.dto.response.AvailableTableDTO;
+import com.example.demo.dto.response.TableAvailabilityResponseDTO;
+import com.example.demo.enums.ReservationStatusConstants;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.exception.reservation.ReservationValidationException;
+import com.example.demo.model.DiningTable;
+import com.example.demo.model.Reservation;
+import com.example.demo.repository.DiningTableRepository;
+import com.example.demo.repository.ReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Masa uygunluk motoru.
+ * Her masa için gün başına 96 bitlik (15 dakikalık dilimler) doluluk bitmap'i bellekte tutulur.
+ * Aktif (CONFIRMED/PENDING) bir rezervasyon [başlangıç, başlangıç + çakışma penceresi) aralığındaki dilimleri doldurur;
+ * böylece "bu saatte bu masa boş mu" sorusu birkaç bit kontrolüdür ve DB'ye gitmez.
+ * Bitmap'ler açılışta DB'den kurulur, ReservationChangedEvent ile commit sonrası güncellenir.
+ * Okuyucular kilit almaz: reload() yeni haritaları kenarda kurup tek bir volatile atamayla yayınlar,
+ * olay güncellemeleri ise masa başına değişmez bitmap'i ConcurrentHashMap'e yazar.
+ * Kesin çakışma kontrolü yine ReservationService.ensureNoConflicts() ve DB exclusion kısıtıdır.
+ */
+@Service
+@Slf4j
+public class ReservationAvailabilityService {
+
+    static final int SLOT_MINUTES = 15;
+    private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final List<Integer> ACTIVE_STATUS_IDS = List.of(ReservationStatusConstants.CONFIRMED, ReservationStatusConstants.PENDING);
+    // Reservation.isReservationTimeValid() ile aynı çalışma saatleri
+    private static final LocalTime FIRST_START = LocalTime.of(8, 0);
+    private static final LocalTime LAST_START = LocalTime.of(23, 0);
+    private static final int MAX_ALTERNATIVES = 6;
+
+    private final ReservationRepository reservationRepository;
+    private final DiningTableRepository diningTableRepository;
+
+    // Masa numarasına göre sıralı, değişmez liste
+    private volatile List<TableInfo> tables = List.of();
+    // tableId -> (epochDay -> 96 bit doluluk); her masa için değişmez harita, değişiklikte komple yenisi yazılır
+    private volatile Map<Long, Map<Long, long[]>> occupancy = new ConcurrentHashMap<>();
+    // Yalnızca yazarlar (synchronized) kullanır
+    private Map<Long, Booking> bookings = new HashMap<>();
+    private Map<Long, Set<Long>> bookingsByTable = new HashMap<>();
+    private volatile boolean loaded;
+
+    public ReservationAvailabilityService(ReservationRepository reservationRepository,
+                                          DiningTableRepository diningTableRepository) {
+        this.reservationRepository = reservationRepository;
+        this.diningTableRepository = diningTableRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Masa bilgilerini ve dünden itibaren tüm aktif rezervasyonları yeniden yükler.
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        refreshTables();
+        bookings = new HashMap<>();
+        bookingsByTable = new HashMap<>();
+        List<Reservation> active = reservationRepository.findByReservationDateGreaterThanEqualAndStatusIdIn(
+                LocalDate.now().minusDays(1), ACTIVE_STATUS_IDS);
+        for (Reservation reservation : active) {
+            if (reservation.getTable() != null && reservation.getReservationTime() != null) {
+                putBooking(new Booking(reservation.getId(), reservation.getTable().getId(),
+                        LocalDateTime.of(reservation.getReservationDate(), reservation.getReservationTime())));
+            }
+        }
+        Map<Long, Map<Long, long[]>> rebuilt = new ConcurrentHashMap<>();
+        for (Long tableId : bookingsByTable.keySet()) {
+            Map<Long, long[]> tableOccupancy = buildTable(tableId);
+            if (!tableOccupancy.isEmpty()) {
+                rebuilt.put(tableId, tableOccupancy);
+            }
+        }
+        // Okuyucular eski ya da yeni haritanın tamamını görür, yarım dolmuş olanı değil
+        occupancy = rebuilt;
+        loaded = true;
+        log.info("Availability engine loaded {} active reservations for {} tables in {} ms",
+                bookings.size(), tables.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Masa eklenmesi/kapasite veya salon değişiklikleri için periyodik yenileme
+     */
+    @Scheduled(fixedDelayString = "${app.reservations.availability.table-refresh-ms:300000}",
+            initialDelayString = "${app.reservations.availability.table-refresh-ms:300000}")
+    public void refreshTables() {
+        tables = diningTableRepository.findAll().stream()
+                .filter(t -> t.getCapacity() != null)
+                .map(TableInfo::of)
+                .sorted(Comparator.comparing(TableInfo::tableNumber, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onReservationChanged(ReservationChangedEvent event) {
+        if (!loaded) {
+            return; // reload() zaten güncel durumu okuyacak
+        }
+        Booking previous = removeBooking(event.getReservationId());
+        Booking current = null;
+        if (!event.isDeleted() && event.getTableId() != null && event.getReservationDate() != null
+                && event.getReservationTime() != null && ACTIVE_STATUS_IDS.contains(event.getStatusId())) {
+            current = new Booking(event.getReservationId(), event.getTableId(),
+                    LocalDateTime.of(event.getReservationDate(), event.getReservationTime()));
+            putBooking(current);
+        }
+        if (previous != null) {
+            rebuildTable(previous.tableId());
+        }
+        if (current != null && (previous == null || !previous.tableId().equals(current.tableId()))) {
+            rebuildTable(current.tableId());
+        }
+    }
+
+    /**
+     * İstenen saatte parti büyüklüğüne uyan boş masalar (en az boş sandalye bırakan önce)
+     * ve istenen saate en yakın alternatif dilimler.
+     */
+    public TableAvailabilityResponseDTO findAvailability(LocalDate date, LocalTime time, int partySize,
+                                                         Long salonId, int alternativesWindowMinutes) {
+        validate(date, partySize);
+        if (time == null) {
+            throw new ReservationValidationException("Rezervasyon saati zorunludur");
+        }
+        ensureLoaded();
+        List<TableInfo> candidates = candidateTables(partySize, salonId);
+
+        List<AvailableTableDTO> free = freeTables(candidates, LocalDateTime.of(date, time));
+
+        List<AvailabilitySlotDTO> alternatives = new ArrayList<>();
+        int maxSteps = Math.max(0, alternativesWindowMinutes) / SLOT_MINUTES;
+        LocalTime aligned = alignDown(time);
+        for (int step = 1; step <= maxSteps && alternatives.size() < MAX_ALTERNATIVES; step++) {
+            for (int sign : new int[]{-1, 1}) {
+                int offset = sign * step * SLOT_MINUTES;
+                int minute = aligned.toSecondOfDay() / 60 + offset;
+                if (minute < 0 || minute >= 24 * 60) {
+                    continue;
+                }
+                LocalTime candidateTime = LocalTime.ofSecondOfDay(minute * 60L);
+                if (!isBookable(date, candidateTime)) {
+                    continue;
+                }
+                List<AvailableTableDTO> slotTables = freeTables(candidates, LocalDateTime.of(date, candidateTime));
+                if (!slotTables.isEmpty() && alternatives.size() < MAX_ALTERNATIVES) {
+                    alternatives.add(slot(candidateTime, slotTables));
+                }
+            }
+        }
+
+        return TableAvailabilityResponseDTO.builder()
+                .date(date)
+                .time(time)
+                .partySize(partySize)
+                .salonId(salonId)
+                .tables(free)
+                .alternatives(alternatives)
+                .build();
+    }
+
+    /**
+     * Takvim görünümü için toplu sorgu: [from, to] aralığındaki her 15 dakikalık dilimde boş masalar.
+     */
+    public List<AvailabilitySlotDTO> findSlots(LocalDate date, int partySize, Long salonId, LocalTime from, LocalTime to) {
+        validate(date, partySize);
+        ensureLoaded();
+        LocalTime first = alignDown(from != null ? from : FIRST_START);
+        LocalTime last = to != null ? to : LAST_START;
+        if (last.isBefore(first)) {
+            throw new ReservationValidationException("Bitiş saati başlangıç saatinden önce olamaz");
+        }
+        List<TableInfo> candidates = candidateTables(partySize, salonId);
+
+        List<AvailabilitySlotDTO> slots = new ArrayList<>();
+        for (int minute = first.toSecondOfDay() / 60; minute <= last.toSecondOfDay() / 60; minute += SLOT_MINUTES) {
+            LocalTime slotTime = LocalTime.ofSecondOfDay(minute * 60L);
+            if (isBookable(date, slotTime)) {
+                slots.add(slot(slotTime, freeTables(candidates, LocalDateTime.of(date, slotTime))));
+            }
+        }
+        return slots;
+    }
+
+    private void validate(LocalDate date, int partySize) {
+        if (date == null) {
+            throw new ReservationValidationException("Rezervasyon tarihi zorunludur");
+        }
+        if (partySize < 1 || partySize > 20) {
+            throw new ReservationValidationException("Kişi sayısı 1-20 arasında olmalıdır");
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    private List<TableInfo> candidateTables(int partySize, Long salonId) {
+        return tables.stream()
+                .filter(t -> t.capacity() >= partySize)
+                .filter(t -> salonId == null || salonId.equals(t.salonId()))
+                .sorted(Comparator.comparingInt(TableInfo::capacity))
+                .toList();
+    }
+
+    private List<AvailableTableDTO> freeTables(List<TableInfo> candidates, LocalDateTime start) {
+        long first = firstSlot(start);
+        long end = endSlot(start);
+        Map<Long, Map<Long, long[]>> current = occupancy;
+        List<AvailableTableDTO> free = new ArrayList<>();
+        for (TableInfo table : candidates) {
+            if (isFree(current.get(table.id()), first, end)) {
+                free.add(table.toDto());
+            }
+        }
+        return free;
+    }
+
+    private static AvailabilitySlotDTO slot(LocalTime time, List<AvailableTableDTO> tables) {
+        return AvailabilitySlotDTO.builder()
+                .time(time)
+                .freeTableCount(tables.size())
+                .tables(tables)
+                .build();
+    }
+
+    private static boolean isBookable(LocalDate date, LocalTime time) {
+        if (time.isBefore(FIRST_START) || time.isAfter(LAST_START)) {
+            return false;
+        }
+        return !LocalDateTime.of(date, time).isBefore(LocalDateTime.now());
+    }
+
+    private static LocalTime alignDown(LocalTime time) {
+        int minute = time.toSecondOfDay() / 60;
+        return LocalTime.ofSecondOfDay((long) (minute - minute % SLOT_MINUTES) * 60);
+    }
+
+    // --- bitmap işlemleri ---
+
+    private static long firstSlot(LocalDateTime start) {
+        return start.toLocalDate().toEpochDay() * SLOTS_PER_DAY + start.toLocalTime().toSecondOfDay() / 60 / SLOT_MINUTES;
+    }
+
+    /**
+     * Rezervasyonun kapladığı son dilimden sonraki dilim (dahil değil). Hizalanmamış saatler bir sonraki dilime yuvarlanır.
+     */
+    private static long endSlot(LocalDateTime start) {
+        LocalDateTime end = start.plusMinutes(ReservationService.CONFLICT_WINDOW_MINUTES);
+        int minuteOfDay = end.toLocalTime().toSecondOfDay() / 60;
+        return end.toLocalDate().toEpochDay() * SLOTS_PER_DAY + (minuteOfDay + SLOT_MINUTES - 1) / SLOT_MINUTES;
+    }
+
+    private static boolean isFree(Map<Long, long[]> tableOccupancy, long first, long end) {
+        if (tableOccupancy == null) {
+            return true;
+        }
+        long[] day = null;
+        long currentDay = -1;
+        for (long slot = first; slot < end; slot++) {
+            long epochDay = slot / SLOTS_PER_DAY;
+            if (epochDay != currentDay) {
+                currentDay = epochDay;
+                day = tableOccupancy.get(epochDay);
+            }
+            int bit = (int) (slot % SLOTS_PER_DAY);
+            if (day != null && (day[bit >> 6] & (1L << (bit & 63))) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void putBooking(Booking booking) {
+        bookings.put(booking.reservationId(), booking);
+        bookingsByTable.computeIfAbsent(booking.tableId(), id -> new HashSet<>()).add(booking.reservationId());
+    }
+
+    private Booking removeBooking(Long reservationId) {
+        Booking removed = bookings.remove(reservationId);
+        if (removed != null) {
+            Set<Long> ids = bookingsByTable.get(removed.tableId());
+            if (ids != null) {
+                ids.remove(reservationId);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Masanın bitmap'ini aktif rezervasyonlarından yeniden kurar. Komşu rezervasyonlar aynı dilimi
+     * paylaşabildiği için tek rezervasyonun bitlerini silmek yerine masa baştan hesaplanır.
+     */
+    private void rebuildTable(Long tableId) {
+        Map<Long, long[]> rebuilt = buildTable(tableId);
+        if (rebuilt.isEmpty()) {
+            occupancy.remove(tableId);
+        } else {
+            occupancy.put(tableId, rebuilt);
+        }
+    }
+
+    private Map<Long, long[]> buildTable(Long tableId) {
+        Map<Long, long[]> rebuilt = new HashMap<>();
+        LocalDate oldest = LocalDate.now().minusDays(1);
+        for (Long reservationId : bookingsByTable.getOrDefault(tableId, Set.of())) {
+            Booking booking = bookings.get(reservationId);
+            if (booking.start().toLocalDate().isBefore(oldest)) {
+                continue;
+            }
+            long end = endSlot(booking.start());
+            for (long slot = firstSlot(booking.start()); slot < end; slot++) {
+                int bit = (int) (slot % SLOTS_PER_DAY);
+                rebuilt.computeIfAbsent(slot / SLOTS_PER_DAY, d -> new long[2])[bit >> 6] |= 1L << (bit & 63);
+            }
+        }
+        return rebuilt.isEmpty() ? Map.of() : Collections.unmodifiableMap(rebuilt);
+    }
+
+    private record Booking(Long reservationId, Long tableId, LocalDateTime start) { }
+
+    private record TableInfo(Long id, Integer tableNumber, int capacity, Long salonId, String salonName) {
+
+        static TableInfo of(DiningTable table) {
+            return new TableInfo(table.getId(), table.getTableNumber(), table.getCapacity(),
+                    table.getSalon() != null ? table.getSalon().getId() : null,
+                    table.getSalon() != null ? table.getSalon().getName() : null);
+        }
+
+        AvailableTableDTO toDto() {
+            return AvailableTableDTO.builder()
+                    .tableId(id)
+                    .tableNumber(tableNumber)
+                    .capacity(capacity)
+                    .salonId(salonId)
+                    .salonName(salonName)
+                    .build();
+        }
+    }
+}
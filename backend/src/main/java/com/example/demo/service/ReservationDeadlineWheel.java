@@ -0,0 +1,84 @@
+package com.example.demo.service;
+
+import java.util.*;
+
+/**
+ * Rezervasyon son tarihleri (grace deadline) için hashed timing wheel.
+ * Bir tick bir dakikadır; deadline'ı WHEEL_SIZE dakikadan uzak girdiler kovada birden fazla tur bekler.
+ * Ekleme/silme O(1), advance() sadece geçen tick'lerin kovalarına bakar.
+ */
+class ReservationDeadlineWheel {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final List<Set<Long>> buckets = new ArrayList<>(WHEEL_SIZE);
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private long currentTick;
+
+    ReservationDeadlineWheel(long startTick) {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            buckets.add(new HashSet<>());
+        }
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Girdiyi ekler veya günceller. Geçmiş deadline'lar bir sonraki tick'te düşer.
+     */
+    synchronized void schedule(Entry entry) {
+        remove(entry.reservationId());
+        long tick = Math.max(entry.deadlineTick(), currentTick + 1);
+        entries.put(entry.reservationId(), entry);
+        buckets.get(bucket(tick)).add(entry.reservationId());
+    }
+
+    synchronized Entry remove(Long reservationId) {
+        Entry removed = entries.remove(reservationId);
+        if (removed != null) {
+            // Geçmiş deadline'la eklenen girdi currentTick + 1 kovasında olabilir; ikisini de temizle
+            buckets.get(bucket(removed.deadlineTick())).remove(reservationId);
+            buckets.get(bucket(currentTick + 1)).remove(reservationId);
+        }
+        return removed;
+    }
+
+    /**
+     * Saati nowTick'e ilerletir ve süresi dolan girdileri tablodan çıkararak döner.
+     */
+    synchronized List<Entry> advance(long nowTick) {
+        List<Entry> due = new ArrayList<>();
+        if (nowTick <= currentTick) {
+            return due;
+        }
+        // Uzun bir duraklamadan sonra tüm tekerleği bir kez dolaşmak yeterli
+        long from = nowTick - currentTick >= WHEEL_SIZE ? nowTick - WHEEL_SIZE + 1 : currentTick + 1;
+        for (long tick = from; tick <= nowTick; tick++) {
+            Iterator<Long> it = buckets.get(bucket(tick)).iterator();
+            while (it.hasNext()) {
+                Entry entry = entries.get(it.next());
+                if (entry == null) {
+                    it.remove();
+                } else if (entry.deadlineTick() <= nowTick) {
+                    it.remove();
+                    entries.remove(entry.reservationId());
+                    due.add(entry);
+                }
+            }
+        }
+        currentTick = nowTick;
+        return due;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static int bucket(long tick) {
+        return (int) Math.floorMod(tick, (long) WHEEL_SIZE);
+    }
+
+    /**
+     * @param seated false: grace deadline (geldi mi?), true: gelmiş rezervasyonun bitişi (başlangıç + slot süresi)
+     */
+    record Entry(Long reservationId, Long tableId, long deadlineTick, boolean seated) { }
+}
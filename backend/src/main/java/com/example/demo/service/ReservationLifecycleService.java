@@ -0,0 +1,202 @@
+package com.example.demo.service;
+
+import com.example.demo.enums.ReservationStatusConstants;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.model.Reservation;
+import com.example.demo.repository.DiningTableRepository;
+import com.example.demo.repository.ReservationRepository;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Rezervasyon yaşam döngüsü süpürücüsü.
+ * Her aktif (CONFIRMED/PENDING) rezervasyon, başlangıç + grace süresinde düşecek şekilde bir timing wheel'e konur.
+ * Her tick'te süresi dolanlar toplu işlenir: masada sipariş açılmamışsa NO_SHOW; açılmışsa müşteri oturuyordur,
+ * rezervasyon aktif kalır ve slotun bitişinde (başlangıç + CONFLICT_WINDOW_MINUTES) ikinci kez tekerleğe girip COMPLETED olur.
+ * Durumlar ve masa serbest bırakma set tabanlı UPDATE'lerle yapılır, süpürme başına tek bir audit kaydı yazılır.
+ */
+@Service
+@Slf4j
+public class ReservationLifecycleService {
+
+    private static final List<Integer> ACTIVE_STATUS_IDS = List.of(ReservationStatusConstants.CONFIRMED, ReservationStatusConstants.PENDING);
+    // Masayı hiç kullanmamış rezervasyonlar; gelişte "önceki müşteri" sayılmaz
+    private static final List<Integer> UNSEATED_STATUS_IDS = List.of(ReservationStatusConstants.CANCELLED, ReservationStatusConstants.NO_SHOW);
+
+    private final ReservationRepository reservationRepository;
+    private final DiningTableRepository diningTableRepository;
+    private final ActivityLogService activityLogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int graceMinutes;
+    private final int arrivalLookbackMinutes;
+    private final ReservationDeadlineWheel wheel = new ReservationDeadlineWheel(tickOf(LocalDateTime.now()));
+
+    public ReservationLifecycleService(ReservationRepository reservationRepository,
+                                       DiningTableRepository diningTableRepository,
+                                       ActivityLogService activityLogService,
+                                       ApplicationEventPublisher eventPublisher,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${app.reservations.lifecycle.enabled:true}") boolean enabled,
+                                       @Value("${app.reservations.lifecycle.grace-minutes:30}") int graceMinutes,
+                                       @Value("${app.reservations.lifecycle.arrival-lookback-minutes:30}") int arrivalLookbackMinutes) {
+        this.reservationRepository = reservationRepository;
+        this.diningTableRepository = diningTableRepository;
+        this.activityLogService = activityLogService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.graceMinutes = graceMinutes;
+        this.arrivalLookbackMinutes = arrivalLookbackMinutes;
+    }
+
+    /**
+     * Açılışta tüm aktif rezervasyonları tekerleğe yükler. Kapalıyken süresi geçenler ilk tick'te işlenir.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        List<Reservation> active = reservationRepository.findByStatusIdIn(ACTIVE_STATUS_IDS);
+        for (Reservation reservation : active) {
+            if (reservation.getTable() != null) {
+                schedule(reservation.getId(), reservation.getTable().getId(),
+                        reservation.getReservationDate(), reservation.getReservationTime());
+            }
+        }
+        log.info("Reservation lifecycle sweeper scheduled {} active reservation(s), grace {} min", wheel.size(), graceMinutes);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.isDeleted() || !ACTIVE_STATUS_IDS.contains(event.getStatusId())) {
+            wheel.remove(event.getReservationId());
+        } else {
+            schedule(event.getReservationId(), event.getTableId(), event.getReservationDate(), event.getReservationTime());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.reservations.lifecycle.tick-ms:60000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        List<ReservationDeadlineWheel.Entry> due = wheel.advance(tickOf(LocalDateTime.now()));
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            List<ReservationDeadlineWheel.Entry> seated = transactionTemplate.execute(status -> sweep(due));
+            seated.forEach(wheel::schedule);
+        } catch (Exception e) {
+            log.error("Reservation sweep of {} reservation(s) failed, retrying next tick: {}", due.size(), e.getMessage(), e);
+            due.forEach(wheel::schedule);
+        }
+    }
+
+    /**
+     * @return gelmiş (oturan) rezervasyonların slot bitişi girdileri; commit'ten sonra tekerleğe konur
+     */
+    private List<ReservationDeadlineWheel.Entry> sweep(List<ReservationDeadlineWheel.Entry> due) {
+        Map<Long, ReservationDeadlineWheel.Entry> entryByReservation = due.stream()
+                .collect(Collectors.toMap(ReservationDeadlineWheel.Entry::reservationId, entry -> entry, (a, b) -> a));
+
+        // Hâlâ aktif olanları kilitle; arada elle değiştirilenler atlanır
+        List<Long> active = reservationRepository.lockActiveReservationIds(entryByReservation.keySet(), ACTIVE_STATUS_IDS);
+        if (active.isEmpty()) {
+            return List.of();
+        }
+        Map<Boolean, List<Long>> bySeated = active.stream()
+                .collect(Collectors.partitioningBy(id -> entryByReservation.get(id).seated()));
+
+        // Slotu biten oturan müşteriler tamamlanır
+        List<Long> completed = bySeated.get(true);
+
+        // Grace süresi dolanlar: sipariş açılmamışsa NO_SHOW, açılmışsa slotun bitişine ertelenir
+        List<Long> graceDue = bySeated.get(false);
+        List<Long> arrived = graceDue.isEmpty() ? List.of() : reservationRepository.findArrivedReservationIds(graceDue,
+                arrivalLookbackMinutes, graceMinutes, ReservationService.CONFLICT_WINDOW_MINUTES, UNSEATED_STATUS_IDS);
+        Set<Long> arrivedSet = new HashSet<>(arrived);
+        List<Long> noShow = graceDue.stream().filter(id -> !arrivedSet.contains(id)).toList();
+        List<ReservationDeadlineWheel.Entry> seatedUntilEnd = new ArrayList<>(arrived.size());
+        for (Long id : arrived) {
+            ReservationDeadlineWheel.Entry entry = entryByReservation.get(id);
+            long endTick = entry.deadlineTick() - graceMinutes + ReservationService.CONFLICT_WINDOW_MINUTES;
+            seatedUntilEnd.add(new ReservationDeadlineWheel.Entry(id, entry.tableId(), endTick, true));
+        }
+        if (completed.isEmpty() && noShow.isEmpty()) {
+            return seatedUntilEnd;
+        }
+
+        if (!completed.isEmpty()) {
+            reservationRepository.updateStatusByIds(completed, ReservationStatusConstants.COMPLETED);
+        }
+        if (!noShow.isEmpty()) {
+            reservationRepository.updateStatusByIds(noShow, ReservationStatusConstants.NO_SHOW);
+        }
+
+        Set<Long> tableIds = Stream.concat(completed.stream(), noShow.stream())
+                .map(id -> entryByReservation.get(id).tableId()).filter(Objects::nonNull).collect(Collectors.toSet());
+        int releasedTables = tableIds.isEmpty() ? 0 : diningTableRepository.releaseReservedTables(tableIds, ACTIVE_STATUS_IDS);
+
+        completed.forEach(id -> publishStatus(id, entryByReservation.get(id).tableId(), ReservationStatusConstants.COMPLETED));
+        noShow.forEach(id -> publishStatus(id, entryByReservation.get(id).tableId(), ReservationStatusConstants.NO_SHOW));
+
+        try {
+            ObjectNode details = activityLogService.createDetailsNode(
+                    "Reservation sweep: " + completed.size() + " completed, " + noShow.size() + " no-show, "
+                            + arrived.size() + " seated, " + releasedTables + " table(s) released",
+                    "graceMinutes", String.valueOf(graceMinutes),
+                    "releasedTables", String.valueOf(releasedTables));
+            ArrayNode completedIds = details.putArray("completedReservationIds");
+            completed.forEach(completedIds::add);
+            ArrayNode noShowIds = details.putArray("noShowReservationIds");
+            noShow.forEach(noShowIds::add);
+            activityLogService.logActivity("SWEEP", "RESERVATION", null, details);
+        } catch (Exception e) {
+            log.warn("Failed to write reservation sweep audit entry: {}", e.getMessage());
+        }
+        log.info("Reservation sweep: {} completed, {} no-show, {} seated, {} table(s) released",
+                completed.size(), noShow.size(), arrived.size(), releasedTables);
+        return seatedUntilEnd;
+    }
+
+    private void publishStatus(Long reservationId, Long tableId, Integer statusId) {
+        eventPublisher.publishEvent(new ReservationChangedEvent(this, reservationId, tableId, null, null, statusId, false));
+    }
+
+    private void schedule(Long reservationId, Long tableId, LocalDate date, LocalTime time) {
+        if (reservationId == null || date == null || time == null) {
+            return;
+        }
+        long deadline = tickOf(LocalDateTime.of(date, time).plusMinutes(graceMinutes));
+        wheel.schedule(new ReservationDeadlineWheel.Entry(reservationId, tableId, deadline, false));
+    }
+
+    private static long tickOf(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
@@ -1,58 +1,86 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.response.ReservationPageResponseDTO;
+import com.example.demo.dto.response.ReservationResponseDTO;
 import com.example.demo.enums.ReservationStatusConstants;
+import com.example.demo.event.ReservationChangedEvent;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.exception.diningtable.TableNotFoundException;
 import com.example.demo.exception.reservation.ReservationConflictException;
 import com.example.demo.exception.reservation.ReservationNotFoundException;
 import com.example.demo.exception.reservation.ReservationValidationException;
+import com.example.demo.mapper.ReservationMapper;
 import com.example.demo.model.DiningTable;
 import com.example.demo.model.Reservation;
 import com.example.demo.model.User;
 import com.example.demo.repository.DiningTableRepository;
 import com.example.demo.repository.ReservationRepository;
+import com.example.demo.repository.ReservationSearchRepository;
+import com.example.demo.repository.projection.ReservationListRow;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.service.DiningTableService;
+import com.example.demo.utils.TurkishText;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @Transactional
 public class ReservationService {
 
-    private static final int CONFLICT_WINDOW_MINUTES = 120; // +/- 2 saat
+    static final int CONFLICT_WINDOW_MINUTES = 120; // +/- 2 saat (V5 migration'daki reservation_slot uzunluğuyla aynı olmalı)
+    private static final List<Integer> ACTIVE_STATUS_IDS = List.of(ReservationStatusConstants.CONFIRMED, ReservationStatusConstants.PENDING);
+    private static final String SLOT_EXCLUSION_CONSTRAINT = "ex_reservations_table_slot";
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_AUTOCOMPLETE_SIZE = 25;
+    private static final String CONFLICT_MESSAGE = "Bu zaman aralığında aynı masa için çakışan rezervasyon bulunmaktadır";
 
     private final ReservationRepository reservationRepository;
     private final DiningTableRepository diningTableRepository;
     private final DiningTableService diningTableService;
     private final UserRepository userRepository;
     private final ActivityLogService activityLogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationMapper reservationMapper;
 
     public ReservationService(ReservationRepository reservationRepository,
                               DiningTableRepository diningTableRepository,
                               DiningTableService diningTableService,
                               UserRepository userRepository,
-                              ActivityLogService activityLogService) {
+                              ActivityLogService activityLogService,
+                              ApplicationEventPublisher eventPublisher,
+                              ReservationMapper reservationMapper) {
         this.reservationRepository = reservationRepository;
         this.diningTableRepository = diningTableRepository;
         this.diningTableService = diningTableService;
         this.userRepository = userRepository;
         this.activityLogService = activityLogService;
+        this.eventPublisher = eventPublisher;
+        this.reservationMapper = reservationMapper;
     }
 
+    @Timed(value = "restaurant.reservations.create", description = "Reservation validation and insert", histogram = true)
     public Reservation createReservation(Reservation reservation) {
-        System.out.println("=== DEBUG SERVICE: createReservation called with: " + reservation);
-        System.out.println("=== DEBUG SERVICE: reservationDate value: " + (reservation != null ? reservation.getReservationDate() : "NULL"));
-        System.out.println("=== DEBUG SERVICE: reservationTime value: " + (reservation != null ? reservation.getReservationTime() : "NULL"));
+        log.debug("createReservation called with: {}", reservation);
+        log.debug("ReservationDate value: {}", (reservation != null ? reservation.getReservationDate() : "NULL"));
+        log.debug("ReservationTime value: {}", (reservation != null ? reservation.getReservationTime() : "NULL"));
         
         if (reservation == null) {
             throw new ReservationValidationException("Rezervasyon verisi boş olamaz");
@@ -71,21 +99,21 @@ public class ReservationService {
         }
         
         // GÜÇLÜ MASA DOĞRULAMA - Masa gerçekten var mı kontrol et
-        System.out.println("=== DEBUG SERVICE: Validating table existence for ID: " + reservation.getTable().getId());
+        log.debug("Validating table existence for ID: {}", reservation.getTable().getId());
         DiningTable table = diningTableRepository.findById(reservation.getTable().getId())
                 .orElseThrow(() -> {
-                    System.err.println("=== ERROR: Table with ID " + reservation.getTable().getId() + " not found in database!");
+                    log.error("Table with ID {} not found in database!", reservation.getTable().getId());
                     return new TableNotFoundException("Masa bulunamadı! ID: " + reservation.getTable().getId() + 
                         ". Lütfen geçerli bir masa seçin.");
                 });
         
-        System.out.println("=== DEBUG SERVICE: Table found: " + table.getTableNumber() + " (ID: " + table.getId() + ")");
+        log.debug("Table found: {} (ID: {})", table.getTableNumber(), table.getId());
         
         if (table.getSalon() == null) {
             throw new ReservationValidationException("Masa bir salona bağlı olmalıdır");
         }
         
-        System.out.println("=== DEBUG SERVICE: About to validate date: " + reservation.getReservationDate() + " and time: " + reservation.getReservationTime());
+        log.debug("About to validate date: {} and time: {}", reservation.getReservationDate(), reservation.getReservationTime());
         
         // Tarih ve saat validasyonu
         if (!reservation.isReservationDateValid()) {
@@ -98,7 +126,7 @@ public class ReservationService {
         
         // ✅ Normalized string'i reservation'a set et
         reservation.setReservationTime(reservation.getReservationTime());
-        System.out.println("=== DEBUG SERVICE: Reservation time set to normalized string: " + reservation.getReservationTime());
+        log.debug("Reservation time set to normalized string: {}", reservation.getReservationTime());
         
         if (reservation.getStatusId() != null && !ReservationStatusConstants.isValidStatusId(reservation.getStatusId())) {
             throw new ReservationValidationException("Geçersiz rezervasyon durumu");
@@ -113,7 +141,8 @@ public class ReservationService {
         ensureNoConflicts(table, reservation.getReservationDate(), reservation.getReservationTime(), null);
 
         // Rezervasyonu kaydet
-        Reservation saved = reservationRepository.save(reservation);
+        Reservation saved = saveWithSlotGuard(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.changed(this, saved));
 
         // Masa durumunu güncelle (rezervasyon oluşturulduğunda masa rezerve olur)
         updateTableStatusBasedOnReservation(saved);
@@ -140,7 +169,8 @@ public class ReservationService {
                 .orElseThrow(() -> new ReservationNotFoundException("Reservation not found"));
 
         reservation.setStatusId(ReservationStatusConstants.CANCELLED);
-        Reservation updated = reservationRepository.save(reservation);
+        Reservation updated = saveWithSlotGuard(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.changed(this, updated));
 
         // Masa durumunu güncelle (iptal edildiğinde masa müsait olur)
         updateTableStatusBasedOnReservation(updated);
@@ -167,6 +197,7 @@ public class ReservationService {
 
         // Rezervasyonu sil
         reservationRepository.delete(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.deleted(this, reservationId));
 
         // Silme sonrası masada başka aktif rezervasyon var mı kontrol et
         if (tableId != null) {
@@ -179,9 +210,9 @@ public class ReservationService {
             if (!hasActiveReservation) {
                 // Başka aktif rezervasyon yoksa masayı AVAILABLE yap
                 diningTableService.updateTableStatus(tableId, "AVAILABLE");
-                System.out.println("=== DEBUG: Rezervasyon silindi, masa AVAILABLE yapıldı. Table ID: " + tableId);
+                log.debug("Rezervasyon silindi, masa AVAILABLE yapıldı. Table ID: {}", tableId);
             } else {
-                System.out.println("=== DEBUG: Rezervasyon silindi ama başka aktif rezervasyon var. Table ID: " + tableId);
+                log.debug("Rezervasyon silindi ama başka aktif rezervasyon var. Table ID: {}", tableId);
             }
         }
 
@@ -273,7 +304,8 @@ public class ReservationService {
             }
         }
 
-        Reservation saved = reservationRepository.save(existing);
+        Reservation saved = saveWithSlotGuard(existing);
+        eventPublisher.publishEvent(ReservationChangedEvent.changed(this, saved));
 
         try {
             ObjectNode details = activityLogService.createDetailsNode(
@@ -314,7 +346,8 @@ public class ReservationService {
                 .orElseThrow(() -> new ReservationNotFoundException("Reservation not found"));
 
         reservation.setStatusId(ReservationStatusConstants.COMPLETED);
-        Reservation updated = reservationRepository.save(reservation);
+        Reservation updated = saveWithSlotGuard(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.changed(this, updated));
 
         // Masa durumunu güncelle (tamamlandığında masa müsait olur)
         updateTableStatusBasedOnReservation(updated);
@@ -338,7 +371,8 @@ public class ReservationService {
                 .orElseThrow(() -> new ReservationNotFoundException("Reservation not found"));
 
         reservation.setStatusId(ReservationStatusConstants.NO_SHOW);
-        Reservation updated = reservationRepository.save(reservation);
+        Reservation updated = saveWithSlotGuard(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.changed(this, updated));
 
         // Masa durumunu güncelle (gelmedi olarak işaretlendiğinde masa müsait olur)
         updateTableStatusBasedOnReservation(updated);
@@ -358,13 +392,76 @@ public class ReservationService {
         return updated;
     }
 
+    /**
+     * Filtreli, cursor sayfalı rezervasyon listesi. Tek projection sorgusu; entity ve lazy ilişkiler yüklenmez.
+     */
+    @Transactional(readOnly = true)
+    public ReservationPageResponseDTO searchReservations(ReservationSearchRepository.Criteria criteria, String cursor, int limit) {
+        int safeLimit = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        if (criteria.fromDate() != null && criteria.toDate() != null && criteria.toDate().isBefore(criteria.fromDate())) {
+            throw new ReservationValidationException("Bitiş tarihi başlangıç tarihinden önce olamaz");
+        }
+
+        // Bir fazla satır okunur: varsa sonraki sayfa vardır
+        List<ReservationListRow> rows = reservationRepository.searchRows(criteria, decodeCursor(cursor), safeLimit + 1);
+        boolean hasMore = rows.size() > safeLimit;
+        List<ReservationListRow> page = hasMore ? rows.subList(0, safeLimit) : rows;
+
+        return ReservationPageResponseDTO.builder()
+                .items(page.stream().map(reservationMapper::toResponseDTO).collect(Collectors.toList()))
+                .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1)) : null)
+                .hasMore(hasMore)
+                .limit(safeLimit)
+                .build();
+    }
+
+    /**
+     * Kapıdaki host için müşteri otomatik tamamlama: ad, telefon veya e-posta parçasıyla arar (Türkçe harf duyarsız).
+     * Yaklaşan aktif rezervasyonlar önce, kalan yer geçmiş rezervasyonlarla (en yeni önce) doldurulur.
+     */
+    @Transactional(readOnly = true)
+    public List<ReservationResponseDTO> autocompleteReservations(String query, int limit) {
+        int safeLimit = Math.max(1, Math.min(limit, MAX_AUTOCOMPLETE_SIZE));
+        String trimmed = query == null ? "" : query.trim();
+        // Telefon sorgusu ise ("+90 555 ..."), arama metnindeki gibi sadece rakamlar
+        String folded = trimmed.matches("[+0-9()\\s-]+") ? trimmed.replaceAll("\\D", "") : TurkishText.fold(trimmed);
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(reservationRepository.autocompleteIds(folded, true, ACTIVE_STATUS_IDS, safeLimit));
+        if (ids.size() < safeLimit) {
+            ids.addAll(reservationRepository.autocompleteIds(folded, false, ACTIVE_STATUS_IDS, safeLimit - ids.size()));
+        }
+        return reservationRepository.findRowsByIds(ids).stream()
+                .map(reservationMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    private static String encodeCursor(ReservationListRow last) {
+        String raw = last.reservationDate() + "|" + last.reservationTime() + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ReservationSearchRepository.Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new ReservationSearchRepository.Cursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ReservationValidationException("Geçersiz sayfa imleci (cursor)");
+        }
+    }
+
     public List<Reservation> getReservationsByDateRange(LocalDate start, LocalDate end) {
-        return reservationRepository.findByReservationTimeBetween(start, LocalTime.of(0, 0), end, LocalTime.of(23, 59, 59));
+        return reservationRepository.findByReservationTimeBetween(start.atStartOfDay(), end.plusDays(1).atStartOfDay());
     }
 
     public List<Reservation> getTodayReservations() {
         LocalDate today = LocalDate.now();
-        return reservationRepository.findByReservationTimeBetween(today, LocalTime.of(0, 0), today, LocalTime.of(23, 59, 59));
+        return reservationRepository.findByReservationTimeBetween(today.atStartOfDay(), today.plusDays(1).atStartOfDay());
     }
 
     public List<Reservation> getReservationsByStatus(Integer statusId) {
@@ -393,7 +490,8 @@ public class ReservationService {
         
         for (Reservation reservation : activeReservations) {
             reservation.setStatusId(ReservationStatusConstants.COMPLETED);
-            Reservation updated = reservationRepository.save(reservation);
+            Reservation updated = saveWithSlotGuard(reservation);
+            eventPublisher.publishEvent(ReservationChangedEvent.changed(this, updated));
             completedReservations.add(updated);
             
             try {
@@ -427,27 +525,45 @@ public class ReservationService {
                         case ReservationStatusConstants.PENDING:
                             // Masa rezerve edildi
                             diningTableService.updateTableStatus(tableId, "RESERVED");
-                            System.out.println("=== DEBUG: Masa durumu RESERVED olarak güncellendi. Table ID: " + tableId);
+                            log.debug("Masa durumu RESERVED olarak güncellendi. Table ID: {}", tableId);
                             break;
                         case ReservationStatusConstants.CANCELLED:
                         case ReservationStatusConstants.COMPLETED:
                         case ReservationStatusConstants.NO_SHOW:
                             // Masa müsait hale geldi
                             diningTableService.updateTableStatus(tableId, "AVAILABLE");
-                            System.out.println("=== DEBUG: Masa durumu AVAILABLE olarak güncellendi. Table ID: " + tableId);
+                            log.debug("Masa durumu AVAILABLE olarak güncellendi. Table ID: {}", tableId);
                             break;
                         default:
-                            System.out.println("=== DEBUG: Bilinmeyen rezervasyon durumu: " + statusId);
+                            log.debug("Bilinmeyen rezervasyon durumu: {}", statusId);
                             break;
                     }
                 }
             }
         } catch (Exception e) {
-            System.err.println("=== ERROR: Masa durumu güncellenirken hata: " + e.getMessage());
+            log.error("Masa durumu güncellenirken hata: {}", e.getMessage());
             // Ana işlemi bozma, sadece log
         }
     }
 
+    /**
+     * Kaydeder ve hemen flush eder. ensureNoConflicts() ile kayıt arasında başka bir sunucu aynı slotu aldıysa
+     * ex_reservations_table_slot exclusion kısıtı insert/update'i reddeder; bu durum 409 olarak döner.
+     * Rezervasyon satırına yazan her yol (durum değişiklikleri dahil) buradan geçer; kısıtı tetikleyen yazma 500 olmaz.
+     */
+    private Reservation saveWithSlotGuard(Reservation reservation) {
+        try {
+            return reservationRepository.saveAndFlush(reservation);
+        } catch (DataIntegrityViolationException e) {
+            Throwable cause = e.getMostSpecificCause();
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())
+                    || String.valueOf(cause.getMessage()).contains(SLOT_EXCLUSION_CONSTRAINT)) {
+                throw new ReservationConflictException(CONFLICT_MESSAGE);
+            }
+            throw e;
+        }
+    }
+
     private void ensureNoConflicts(DiningTable table, LocalDate reservationDate, LocalTime reservationTime, Long excludeReservationId) {
         try {
             if (reservationDate == null) {
@@ -457,24 +573,17 @@ public class ReservationService {
                 throw new ReservationValidationException("Rezervasyon saati boş olamaz");
             }
             
-            // LocalDateTime oluştur (conflict check için)
-            LocalDateTime time = LocalDateTime.of(reservationDate, reservationTime);
-            System.out.println("=== DEBUG: Conflict check - created time: " + time + " from date: " + reservationDate + " and time: " + reservationTime);
-            
-            LocalDateTime start = time.minusMinutes(CONFLICT_WINDOW_MINUTES);
-            LocalDateTime end = time.plusMinutes(CONFLICT_WINDOW_MINUTES);
-
-            List<Reservation> conflicts = new ArrayList<>();
-            conflicts.addAll(reservationRepository.findByTableAndStatusIdAndDateTimeBetween(table, ReservationStatusConstants.CONFIRMED, start.toLocalDate(), start.toLocalTime(), end.toLocalDate(), end.toLocalTime()));
-            conflicts.addAll(reservationRepository.findByTableAndStatusIdAndDateTimeBetween(table, ReservationStatusConstants.PENDING, start.toLocalDate(), start.toLocalTime(), end.toLocalDate(), end.toLocalTime()));
-
-            if (excludeReservationId != null) {
-                conflicts.removeIf(r -> excludeReservationId.equals(r.getId()));
-            }
-
-            if (!conflicts.isEmpty()) {
-                throw new ReservationConflictException("Bu zaman aralığında aynı masa için çakışan rezervasyon bulunmaktadır");
+            // Rezervasyon [t, t + pencere) aralığını kaplar; kesişme ⇔ başlangıçlar arası fark < pencere
+            LocalDateTime slotStart = LocalDateTime.of(reservationDate, reservationTime);
+            LocalDateTime slotEnd = slotStart.plusMinutes(CONFLICT_WINDOW_MINUTES);
+
+            boolean conflict = reservationRepository.existsOverlappingSlot(table.getId(), ACTIVE_STATUS_IDS,
+                    slotStart, slotEnd, excludeReservationId != null ? excludeReservationId : -1L);
+            if (conflict) {
+                throw new ReservationConflictException(CONFLICT_MESSAGE);
             }
+        } catch (ReservationConflictException e) {
+            throw e;
         } catch (ReservationValidationException e) {
             throw e; // Kendi exception'ımızı tekrar fırlat
         } catch (Exception e) {
@@ -493,7 +602,7 @@ public class ReservationService {
     private String normalizeReservationTimeString(String input) {
         if (input == null) return null;
         
-        System.out.println("=== DEBUG: Normalizing input: '" + input + "'");
+        log.debug("Normalizing input: '{}'", input);
         
         String s = input
                 // Unicode spaces to standard space
@@ -551,7 +660,7 @@ public class ReservationService {
             }
         }
         
-        System.out.println("=== DEBUG: Normalized result: '" + s + "'");
+        log.debug("Normalized result: '{}'", s);
         return s;
     }
 }
@@ -2,10 +2,12 @@ package com.example.demo.service;
 
 import com.example.demo.dto.request.RestaurantSettingsRequestDTO;
 import com.example.demo.dto.response.RestaurantSettingsResponseDTO;
+import com.example.demo.event.ReferenceDataChangedEvent;
 import com.example.demo.model.RestaurantSettings;
 import com.example.demo.repository.RestaurantSettingsRepository;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,18 +20,27 @@ public class RestaurantSettingsService {
 	private final RestaurantSettingsRepository repository;
 	private final ModelMapper modelMapper;
 	private final ActivityLogService activityLogService;
+	private final ReferenceDataRegistry referenceDataRegistry;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public RestaurantSettingsService(RestaurantSettingsRepository repository, 
 	                               ModelMapper modelMapper,
-	                               ActivityLogService activityLogService) {
+	                               ActivityLogService activityLogService,
+	                               ReferenceDataRegistry referenceDataRegistry,
+	                               ApplicationEventPublisher eventPublisher) {
 		this.repository = repository;
 		this.modelMapper = modelMapper;
 		this.activityLogService = activityLogService;
+		this.referenceDataRegistry = referenceDataRegistry;
+		this.eventPublisher = eventPublisher;
 	}
 
+	/**
+	 * Settings are served from the in-memory ReferenceDataRegistry; the database is only hit
+	 * when no settings row exists yet (defaults are created then).
+	 */
 	public RestaurantSettingsResponseDTO getSettings() {
-		RestaurantSettings settings = repository.findSingleSettings().orElseGet(() -> createDefault());
-		return toResponse(settings);
+		return toResponse(getSettingsEntity());
 	}
 
 	/**
@@ -48,7 +59,10 @@ public class RestaurantSettingsService {
 	 * Get the RestaurantSettings entity directly (for internal use by other services)
 	 */
 	public RestaurantSettings getSettingsEntity() {
-		return repository.findSingleSettings().orElseGet(() -> createDefault());
+		// Detached copy: callers may read it freely without affecting the cached snapshot
+		return referenceDataRegistry.getRestaurantSettings()
+			.map(ReferenceDataRegistry.SettingsEntry::toEntity)
+			.orElseGet(() -> repository.findSingleSettings().orElseGet(() -> createDefault()));
 	}
 
 	/**
@@ -60,7 +74,9 @@ public class RestaurantSettingsService {
 		
 		// Update the timestamp to reflect this access
 		settings.setUpdatedAt(LocalDateTime.now());
-		return repository.save(settings);
+		RestaurantSettings saved = repository.save(settings);
+		publishSettingsChanged();
+		return saved;
 	}
 
 	/**
@@ -69,11 +85,11 @@ public class RestaurantSettingsService {
 	 */
 	@Transactional
 	public void enforceSingleRowConstraint() {
-		List<RestaurantSettings> allSettings = repository.findAll();
-		
-		if (allSettings.size() <= 1) {
+		// Cheap count first; rows are only loaded when there actually are duplicates
+		if (repository.count() <= 1) {
 			return; // No cleanup needed
 		}
+		List<RestaurantSettings> allSettings = repository.findAll();
 		
 		// Keep only the most recent settings
 		RestaurantSettings mostRecent = allSettings.stream()
@@ -90,6 +106,7 @@ public class RestaurantSettingsService {
 			// Update the timestamp of the kept settings to reflect the cleanup operation
 			mostRecent.setUpdatedAt(LocalDateTime.now());
 			repository.save(mostRecent);
+			publishSettingsChanged();
 			
 			// Log the cleanup
 			try {
@@ -122,6 +139,7 @@ public class RestaurantSettingsService {
 		
 		settings.setUpdatedAt(LocalDateTime.now());
 		RestaurantSettings saved = repository.save(settings);
+		publishSettingsChanged();
 		
 		// Log the timestamp refresh
 		try {
@@ -150,6 +168,7 @@ public class RestaurantSettingsService {
 				// Update timestamp to reflect the initialization check
 				existingSettings.setUpdatedAt(LocalDateTime.now());
 				repository.save(existingSettings);
+				publishSettingsChanged();
 			}
 		}
 	}
@@ -185,6 +204,7 @@ public class RestaurantSettingsService {
 		
 		existingSettings.setUpdatedAt(LocalDateTime.now());
 		RestaurantSettings saved = repository.save(existingSettings);
+		publishSettingsChanged();
 		return toResponse(saved);
 	}
 
@@ -243,6 +263,7 @@ public class RestaurantSettingsService {
 		
 		settings.setUpdatedAt(LocalDateTime.now());
 		RestaurantSettings saved = repository.save(settings);
+		publishSettingsChanged();
 		return toResponse(saved);
 	}
 
@@ -359,6 +380,7 @@ public class RestaurantSettingsService {
 		s.setUpdatedAt(LocalDateTime.now());
 		
 		RestaurantSettings saved = repository.save(s);
+		publishSettingsChanged();
 		
 		// Log the creation of default settings
 		try {
@@ -378,6 +400,11 @@ public class RestaurantSettingsService {
 		return saved;
 	}
 
+	// The in-memory ReferenceDataRegistry reloads the settings after commit
+	private void publishSettingsChanged() {
+		eventPublisher.publishEvent(new ReferenceDataChangedEvent(this, ReferenceDataChangedEvent.Kind.RESTAURANT_SETTINGS));
+	}
+
 	private RestaurantSettingsResponseDTO toResponse(RestaurantSettings entity) {
 		RestaurantSettingsResponseDTO dto = new RestaurantSettingsResponseDTO();
 		dto.setId(entity.getId());
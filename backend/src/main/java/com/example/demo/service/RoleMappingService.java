@@ -23,8 +23,11 @@ public class RoleMappingService {
         ROLE_NAME_TO_ID.put("cashier", 2L);
     }
 
-    public RoleMappingService(RoleRepository roleRepository) {
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    public RoleMappingService(RoleRepository roleRepository, ReferenceDataRegistry referenceDataRegistry) {
         this.roleRepository = roleRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     public Role getRoleByName(String roleName) {
@@ -33,7 +36,9 @@ public class RoleMappingService {
             throw new IllegalArgumentException("Invalid role name: " + roleName);
         }
 
-        return roleRepository.findById(roleId)
+        // Varlık kontrolü bellekteki kayıttan; dönen referans sorgu çalıştırmaz (UserRole için yalnızca id gerekir)
+        return referenceDataRegistry.findRole(roleId)
+                .map(role -> roleRepository.getReferenceById(role.id()))
                 .orElseThrow(() -> new RuntimeException("Role with ID " + roleId + " not found in database"));
     }
 
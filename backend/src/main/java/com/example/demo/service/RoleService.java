@@ -1,7 +1,9 @@
 package com.example.demo.service;
 
+import com.example.demo.event.ReferenceDataChangedEvent;
 import com.example.demo.model.Role;
 import com.example.demo.repository.RoleRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -10,14 +12,18 @@ import java.util.Optional;
 @Service
 public class RoleService {
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public RoleService(RoleRepository roleRepository) {
+    public RoleService(RoleRepository roleRepository, ApplicationEventPublisher eventPublisher) {
         this.roleRepository = roleRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     // CREATE: Yeni rol ekleme
     public Role createRole(Role role) {
-        return roleRepository.save(role);
+        Role saved = roleRepository.save(role);
+        publishRolesChanged();
+        return saved;
     }
 
     // READ: Tüm rolleri listeleme
@@ -35,7 +41,9 @@ public class RoleService {
         return roleRepository.findById(id)
             .map(role -> {
                 role.setName(updatedRole.getName());
-                return roleRepository.save(role);
+                Role saved = roleRepository.save(role);
+                publishRolesChanged();
+                return saved;
             })
             .orElseThrow(() -> new RuntimeException("Rol bulunamadı"));
     }
@@ -43,5 +51,11 @@ public class RoleService {
     // DELETE: Rol silme
     public void deleteRole(Long id) {
         roleRepository.deleteById(id);
+        publishRolesChanged();
+    }
+
+    // Bellekteki rol kaydı (ReferenceDataRegistry) yeniden yüklensin
+    private void publishRolesChanged() {
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(this, ReferenceDataChangedEvent.Kind.ROLES));
     }
 }
\ No newline at end of file
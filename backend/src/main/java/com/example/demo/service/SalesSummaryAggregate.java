@@ -0,0 +1,216 @@
+package com.example.demo.service;
+
+import com.example.demo.enums.ItemCategory;
+import com.example.demo.model.Order;
+import com.example.demo.model.OrderItem;
+import com.example.demo.model.Product;
+import com.example.demo.model.User;
+import com.example.demo.utils.HyperLogLog;
+import com.example.demo.utils.LongKeyedAccumulator;
+import com.example.demo.utils.MoneyCents;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Satış özeti için birleştirilebilir (mergeable) ara toplam.
+ * Bir günün siparişlerinden üretilen parçalar merge() ile haftalık/aylık/yıllık özete dönüştürülür.
+ * Entity referansı tutmaz; sadece id ve isimler saklanır, böylece transaction dışına taşınabilir.
+ * Tutarlar kuruş (long) olarak toplanır (MoneyCents); getter'lar BigDecimal'e kesin çevirir.
+ * Ürün / garson / kategori toplamları id (kategoride ordinal) anahtarlı LongKeyedAccumulator'larda tutulur;
+ * ProductTotals / EmployeeTotals nesneleri yalnızca çıktı alınırken üretilir.
+ */
+public class SalesSummaryAggregate {
+
+    // products: int [adet, sipariş sayısı], long [gelir kuruş]
+    private static final int P_QUANTITY = 0;
+    private static final int P_ORDER_COUNT = 1;
+    private static final int P_REVENUE = 0;
+    // employees: int [sipariş, satılan kalem], long [gelir kuruş]
+    private static final int E_ORDERS = 0;
+    private static final int E_ITEMS_SOLD = 1;
+    private static final int E_REVENUE = 0;
+    // categories: long [kuruş]; anahtar ordinal, kategorisiz ürün için -1
+    private static final int C_SALES = 0;
+    private static final long NO_CATEGORY = -1L;
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    private long totalRevenueCents;
+    private int totalOrders;
+    private int totalReservations;
+    private final HyperLogLog customers = new HyperLogLog();
+    private final LongKeyedAccumulator products = new LongKeyedAccumulator(2, 1, 64);
+    private final LongKeyedAccumulator salesByCategory = new LongKeyedAccumulator(0, 1, CATEGORIES.length + 1);
+    private final LongKeyedAccumulator employees = new LongKeyedAccumulator(2, 1);
+
+    /**
+     * @param customerKey siparişin müşteri kimliği (bkz. CustomerIdentityResolver)
+     */
+    public static SalesSummaryAggregate of(List<Order> orders, Function<Order, String> customerKey) {
+        SalesSummaryAggregate aggregate = new SalesSummaryAggregate();
+        orders.forEach(order -> aggregate.addOrder(order, customerKey.apply(order)));
+        return aggregate;
+    }
+
+    public void addOrder(Order order, String customerKey) {
+        customers.add(customerKey);
+        long orderCents = MoneyCents.of(order.getTotalAmount());
+        totalRevenueCents = MoneyCents.add(totalRevenueCents, orderCents);
+        totalOrders++;
+
+        int itemsInOrder = 0;
+        for (OrderItem item : order.getItems()) {
+            Product product = item.getProduct();
+            itemsInOrder += item.getQuantity();
+
+            int p = products.slot(product.getId());
+            products.labelIfAbsent(p, product.getName());
+            products.addInt(p, P_QUANTITY, item.getQuantity());
+            products.addInt(p, P_ORDER_COUNT, 1);
+            products.addLong(p, P_REVENUE, MoneyCents.of(item.getTotalPrice()));
+
+            // Kategori satışları ürünün güncel fiyatı üzerinden hesaplanır (mevcut rapor davranışı)
+            ItemCategory category = product.getCategory();
+            int c = salesByCategory.slot(category != null ? category.ordinal() : NO_CATEGORY);
+            salesByCategory.addLong(c, C_SALES, MoneyCents.times(MoneyCents.of(product.getPrice()), item.getQuantity()));
+        }
+
+        User user = order.getUser();
+        if (user != null) {
+            int e = employees.slot(user.getId());
+            employees.labelIfAbsent(e, user.getName());
+            employees.addInt(e, E_ORDERS, 1);
+            employees.addLong(e, E_REVENUE, orderCents);
+            employees.addInt(e, E_ITEMS_SOLD, itemsInOrder);
+        }
+    }
+
+    public void addReservations(int count) {
+        totalReservations += count;
+    }
+
+    /**
+     * Başka bir parçayı bu toplama ekler. İşlem birleşme sırasından bağımsızdır.
+     */
+    public SalesSummaryAggregate merge(SalesSummaryAggregate other) {
+        totalRevenueCents = MoneyCents.add(totalRevenueCents, other.totalRevenueCents);
+        totalOrders += other.totalOrders;
+        totalReservations += other.totalReservations;
+        customers.merge(other.customers);
+        products.merge(other.products);
+        salesByCategory.merge(other.salesByCategory);
+        employees.merge(other.employees);
+        return this;
+    }
+
+    public boolean hasOrders() {
+        return totalOrders > 0;
+    }
+
+    public BigDecimal getTotalRevenue() { return MoneyCents.toBigDecimal(totalRevenueCents); }
+    public long getTotalRevenueCents() { return totalRevenueCents; }
+    public int getTotalOrders() { return totalOrders; }
+    public int getTotalReservations() { return totalReservations; }
+    public int getTotalCustomers() { return (int) customers.estimate(); }
+    public byte[] getCustomerSketch() { return customers.toBytes(); }
+    public int getDistinctProductCount() { return products.size(); }
+
+    public Map<ItemCategory, BigDecimal> getSalesByCategory() {
+        Map<ItemCategory, BigDecimal> result = new HashMap<>();
+        for (int c = 0; c < salesByCategory.size(); c++) {
+            long key = salesByCategory.key(c);
+            result.put(key == NO_CATEGORY ? null : CATEGORIES[(int) key],
+                    MoneyCents.toBigDecimal(salesByCategory.getLong(c, C_SALES)));
+        }
+        return result;
+    }
+
+    public Optional<Long> getMostPopularProductId() {
+        int slot = products.maxByInt(P_QUANTITY);
+        return slot < 0 ? Optional.empty() : Optional.of(products.key(slot));
+    }
+
+    public Optional<Long> getLeastPopularProductId() {
+        int slot = products.minByInt(P_QUANTITY);
+        return slot < 0 ? Optional.empty() : Optional.of(products.key(slot));
+    }
+
+    /**
+     * Miktara göre azalan sırada ilk N ürün
+     */
+    public List<ProductTotals> getTopProducts(int limit) {
+        return IntStream.range(0, products.size()).boxed()
+                .sorted((a, b) -> Integer.compare(products.getInt(b, P_QUANTITY), products.getInt(a, P_QUANTITY)))
+                .limit(limit)
+                .map(slot -> new ProductTotals(products.key(slot), products.label(slot),
+                        products.getInt(slot, P_QUANTITY), products.getLong(slot, P_REVENUE),
+                        products.getInt(slot, P_ORDER_COUNT)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gelire göre azalan sırada çalışan istatistikleri
+     */
+    public List<EmployeeTotals> getEmployeesByRevenue() {
+        return IntStream.range(0, employees.size()).boxed()
+                .sorted((a, b) -> Long.compare(employees.getLong(b, E_REVENUE), employees.getLong(a, E_REVENUE)))
+                .map(slot -> new EmployeeTotals(employees.key(slot), employees.label(slot),
+                        employees.getInt(slot, E_ORDERS), employees.getLong(slot, E_REVENUE),
+                        employees.getInt(slot, E_ITEMS_SOLD)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Ürün bazlı toplamlar (top products JSON formatıyla birebir aynı alanlar)
+     */
+    public static class ProductTotals {
+        private final Long productId;
+        private final String productName;
+        private final int totalQuantity;
+        private final long totalRevenueCents;
+        private final int orderCount;
+
+        ProductTotals(Long productId, String productName, int totalQuantity, long totalRevenueCents, int orderCount) {
+            this.productId = productId;
+            this.productName = productName;
+            this.totalQuantity = totalQuantity;
+            this.totalRevenueCents = totalRevenueCents;
+            this.orderCount = orderCount;
+        }
+
+        public Long getProductId() { return productId; }
+        public String getProductName() { return productName; }
+        public int getTotalQuantity() { return totalQuantity; }
+        public BigDecimal getTotalRevenue() { return MoneyCents.toBigDecimal(totalRevenueCents); }
+        public int getOrderCount() { return orderCount; }
+    }
+
+    /**
+     * Çalışan (garson) bazlı toplamlar
+     */
+    public static class EmployeeTotals {
+        private final Long employeeId;
+        private final String employeeName;
+        private final int totalOrders;
+        private final long totalRevenueCents;
+        private final int totalItemsSold;
+
+        EmployeeTotals(Long employeeId, String employeeName, int totalOrders, long totalRevenueCents, int totalItemsSold) {
+            this.employeeId = employeeId;
+            this.employeeName = employeeName;
+            this.totalOrders = totalOrders;
+            this.totalRevenueCents = totalRevenueCents;
+            this.totalItemsSold = totalItemsSold;
+        }
+
+        public Long getEmployeeId() { return employeeId; }
+        public String getEmployeeName() { return employeeName; }
+        public int getTotalOrders() { return totalOrders; }
+        public BigDecimal getTotalRevenue() { return MoneyCents.toBigDecimal(totalRevenueCents); }
+        public long getTotalRevenueCents() { return totalRevenueCents; }
+        public int getTotalItemsSold() { return totalItemsSold; }
+    }
+}
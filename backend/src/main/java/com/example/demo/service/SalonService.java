@@ -1,15 +1,19 @@
 package com.example.demo.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.dto.request.SalonRequestDTO;
 import com.example.demo.dto.response.SalonResponseDTO;
+import com.example.demo.event.FloorPlanChangedEvent;
 import com.example.demo.exception.salon.SalonAlreadyExistsException;
 import com.example.demo.exception.salon.SalonDeleteException;
 import com.example.demo.exception.salon.SalonNotFoundException;
@@ -32,14 +36,13 @@ public class SalonService {
     private final SalonRepository salonRepository;
     private final ModelMapper modelMapper;
     private final ActivityLogService activityLogService;
+    private final FloorStateService floorStateService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<SalonResponseDTO> getAllSalons() {
         log.info("Tüm salonlar getiriliyor.");
-        List<Salon> salons = salonRepository.findAll();
-        return salons.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return floorStateService.getSalons();
     }
 
     @Transactional(readOnly = true)
@@ -69,6 +72,7 @@ public class SalonService {
 
         activityLogService.logActivity("CREATE", "SALON", savedSalon.getId(),
                 "Yeni salon oluşturuldu: " + savedSalon.getName());
+        eventPublisher.publishEvent(FloorPlanChangedEvent.salons(this, savedSalon.getId()));
 
         log.info("Salon başarıyla oluşturuldu - ID: {}, Ad: {}", savedSalon.getId(), savedSalon.getName());
         return convertToResponseDto(savedSalon);
@@ -95,6 +99,7 @@ public class SalonService {
 
         activityLogService.logActivity("UPDATE", "SALON", updatedSalon.getId(),
                 "Salon güncellendi: " + updatedSalon.getName());
+        eventPublisher.publishEvent(FloorPlanChangedEvent.salons(this, updatedSalon.getId()));
 
         log.info("Salon başarıyla güncellendi - ID: {}, Ad: {}", updatedSalon.getId(), updatedSalon.getName());
         return convertToResponseDto(updatedSalon);
@@ -133,6 +138,7 @@ public class SalonService {
 
         activityLogService.logActivity("DELETE", "SALON", id,
                 "Salon silindi: " + salon.getName());
+        eventPublisher.publishEvent(FloorPlanChangedEvent.salons(this, id));
 
         log.info("Salon başarıyla silindi - ID: {}, Ad: {}", id, salon.getName());
     }
@@ -177,43 +183,12 @@ public class SalonService {
 
     /**
      * Salon bazında ve toplam restoran doluluk oranını hesaplar.
+     * Bellekteki salon krokisi snapshot'ından okunur (salon.getDiningTables() lazy koleksiyonlarına dokunulmaz).
      * @return Map içinde "salons" ve "totalRestaurantOccupancy" bilgileri döner.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<String, Object> getOccupancyReport() {
-        List<Salon> salons = salonRepository.findAll();
-
-        final int[] totalTables = {0};
-        final long[] totalOccupied = {0};
-
-        List<SalonResponseDTO> salonReports = salons.stream().map(salon -> {
-            SalonResponseDTO dto = convertToResponseDto(salon);
-
-            int salonTotalTables = salon.getDiningTables().size();
-            long salonOccupiedTables = salon.getDiningTables().stream()
-                    .filter(table -> table.isOccupied())
-                    .count();
-
-            dto.setTotalTables(salonTotalTables);
-            dto.setOccupiedTables((int) salonOccupiedTables);
-            dto.setOccupancyRate(salonTotalTables > 0
-                    ? (salonOccupiedTables * 100.0) / salonTotalTables
-                    : 0.0);
-
-            totalTables[0] += salonTotalTables;
-            totalOccupied[0] += salonOccupiedTables;
-
-            return dto;
-        }).collect(Collectors.toList());
-
-        double totalOccupancyRate = totalTables[0] > 0
-                ? (totalOccupied[0] * 100.0) / totalTables[0]
-                : 0.0;
-
-        return Map.of(
-                "salons", salonReports,
-                "totalRestaurantOccupancy", totalOccupancyRate
-        );
+        return floorStateService.getOccupancyReport();
     }
      public void updateSalonCapacity(Salon salon) {
         int totalCapacity = salon.getDiningTables().stream()
@@ -221,6 +196,32 @@ public class SalonService {
                 .sum();
         salon.setCapacity(totalCapacity);
     }
+    /**
+     * Toplu masa işlemlerinden sonra etkilenen salonların kapasite ve masa sayısını tek UPDATE ile yeniden hesaplar.
+     * Masa başına updateSalonCapacity çağırmak yerine batch başına bir kez kullanılır.
+     */
+    public void recalculateSalonStats(Collection<Long> salonIds) {
+        if (salonIds.isEmpty()) {
+            return;
+        }
+        int updated = salonRepository.recalculateStats(salonIds);
+        log.info("Salon istatistikleri yeniden hesaplandı: {} salon", updated);
+    }
+
+    /**
+     * Verilen salonların hepsinin var olduğunu tek sorguyla doğrular.
+     */
+    @Transactional(readOnly = true)
+    public void requireSalonsExist(Collection<Long> salonIds) {
+        List<Long> found = salonRepository.findAllById(salonIds).stream().map(Salon::getId).toList();
+        salonIds.stream()
+                .filter(id -> !found.contains(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new SalonNotFoundException("Salon bulunamadı - ID: " + id);
+                });
+    }
+
         public Salon saveSalon(Salon salon) {
         return salonRepository.save(salon);
     }
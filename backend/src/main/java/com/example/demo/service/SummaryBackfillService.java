@@ -0,0 +1,205 @@
+package com.example.demo.service;
+
+import com.example.demo.model.SummaryBackfillCheckpoint;
+import com.example.demo.repository.DailySalesSummaryRepository;
+import com.example.demo.repository.SummaryBackfillCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Özet (summary) üretimini uygulama açılışını bloklamadan arka planda çalıştırır.
+ * Her iş summary_backfill_checkpoints tablosuna yazılır; yeniden başlatmada
+ * DONE olmayan işler kaldığı yerden devam eder.
+ */
+@Service
+@Slf4j
+public class SummaryBackfillService {
+
+    public enum BackfillState { IDLE, WARMING, READY }
+
+    private final DailySalesSummaryJobService dailySalesSummaryJobService;
+    private final DailySalesSummaryRepository dailySalesSummaryRepository;
+    private final SummaryBackfillCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final ExecutorService executor;
+    private final ExecutorService coordinator;
+
+    private volatile BackfillState state = BackfillState.IDLE;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private final AtomicInteger totalTasks = new AtomicInteger();
+    private final AtomicInteger completedTasks = new AtomicInteger();
+    private final AtomicInteger failedTasks = new AtomicInteger();
+    // max-attempts'i doldurmuş, bu çalıştırmada denenmeyen FAILED checkpoint'ler
+    private final AtomicInteger exhaustedTasks = new AtomicInteger();
+
+    public SummaryBackfillService(DailySalesSummaryJobService dailySalesSummaryJobService,
+                                  DailySalesSummaryRepository dailySalesSummaryRepository,
+                                  SummaryBackfillCheckpointRepository checkpointRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.analytics.backfill.parallelism:2}") int parallelism,
+                                  @Value("${app.analytics.backfill.max-attempts:3}") int maxAttempts) {
+        this.dailySalesSummaryJobService = dailySalesSummaryJobService;
+        this.dailySalesSummaryRepository = dailySalesSummaryRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelism = Math.max(1, parallelism);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.parallelism, r -> {
+            Thread t = new Thread(r, "summary-backfill-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.coordinator = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "summary-backfill-planner");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Backfill'i arka planda başlatır ve hemen döner.
+     * Planlama (hangi özetlerin gerektiği) da arka planda yapılır; böylece açılış süresi sipariş geçmişine bağlı değildir.
+     */
+    public synchronized void start(Supplier<List<SummaryBackfillCheckpoint>> planner) {
+        if (state == BackfillState.WARMING) {
+            log.info("Summary backfill already running, ignoring start request");
+            return;
+        }
+        state = BackfillState.WARMING;
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        totalTasks.set(0);
+        completedTasks.set(0);
+        failedTasks.set(0);
+        exhaustedTasks.set(0);
+
+        CompletableFuture.runAsync(() -> runBackfill(planner), coordinator)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.error("Summary backfill aborted: {}", error.getMessage(), error);
+                    }
+                    finishedAt = LocalDateTime.now();
+                    state = BackfillState.READY;
+                    log.info("Summary backfill finished: {} done, {} failed, {} total",
+                            completedTasks.get(), failedTasks.get(), totalTasks.get());
+                });
+    }
+
+    private void runBackfill(Supplier<List<SummaryBackfillCheckpoint>> planner) {
+        // Yeni işleri checkpoint tablosuna kaydet (zaten varsa dokunma)
+        for (SummaryBackfillCheckpoint planned : planner.get()) {
+            if (checkpointRepository.findByReportTypeAndPeriodEndDate(
+                    planned.getReportType(), planned.getPeriodEndDate()).isEmpty()) {
+                checkpointRepository.save(planned);
+            }
+        }
+
+        // Önceki çalıştırmadan kalanlar dahil tüm tamamlanmamış işler
+        List<SummaryBackfillCheckpoint> unfinished = checkpointRepository
+                .findByStatusNotOrderByPeriodEndDateAsc(SummaryBackfillCheckpoint.STATUS_DONE);
+        List<SummaryBackfillCheckpoint> pending = unfinished.stream()
+                .filter(c -> c.getAttempts() < maxAttempts)
+                .toList();
+        exhaustedTasks.set(unfinished.size() - pending.size());
+        totalTasks.set(pending.size());
+        log.info("Summary backfill planned {} task(s) with parallelism {}", pending.size(), parallelism);
+
+        // Kısa dönemler önce: DAILY/WEEKLY dakikalar süren YEARLY'yi beklemesin
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        pending.stream()
+                .sorted((a, b) -> Integer.compare(typeWeight(a.getReportType()), typeWeight(b.getReportType())))
+                .forEach(c -> futures.add(CompletableFuture.runAsync(() -> runTask(c), executor)));
+        futures.forEach(CompletableFuture::join);
+    }
+
+    private void runTask(SummaryBackfillCheckpoint checkpoint) {
+        String type = checkpoint.getReportType();
+        try {
+            boolean exists = dailySalesSummaryRepository
+                    .findByReportDateAndReportType(checkpoint.getPeriodEndDate(), type).isPresent();
+            if (!exists) {
+                // Lazy koleksiyonlar (order.items) için her iş kendi transaction'ında çalışır
+                transactionTemplate.executeWithoutResult(status -> dailySalesSummaryJobService.generateSalesSummary(
+                        checkpoint.getPeriodStartDate(), checkpoint.getPeriodEndDate(), type));
+            }
+            checkpoint.setStatus(SummaryBackfillCheckpoint.STATUS_DONE);
+            checkpoint.setLastError(null);
+            completedTasks.incrementAndGet();
+            log.info("Backfilled {} summary for {} to {}", type, checkpoint.getPeriodStartDate(), checkpoint.getPeriodEndDate());
+        } catch (Exception e) {
+            checkpoint.setStatus(SummaryBackfillCheckpoint.STATUS_FAILED);
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            checkpoint.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+            failedTasks.incrementAndGet();
+            log.error("Failed to backfill {} summary for {} to {}: {}", type,
+                    checkpoint.getPeriodStartDate(), checkpoint.getPeriodEndDate(), message);
+        } finally {
+            checkpoint.setAttempts(checkpoint.getAttempts() + 1);
+            checkpointRepository.save(checkpoint);
+        }
+    }
+
+    private int typeWeight(String reportType) {
+        switch (reportType) {
+            case "DAILY": return 0;
+            case "WEEKLY": return 1;
+            case "MONTHLY": return 2;
+            default: return 3;
+        }
+    }
+
+    public boolean isWarming() {
+        return state == BackfillState.WARMING;
+    }
+
+    public BackfillState getState() {
+        return state;
+    }
+
+    /**
+     * İlerleme bilgisini döner (endpoint ve "warming" cevapları için).
+     * Yalnızca bellekteki sayaçlardan okunur: warming sırasında özet isteyen her istek bunu çağırır, DB'ye gitmemeli.
+     */
+    public Map<String, Object> getProgress() {
+        Map<String, Object> progress = new HashMap<>();
+        int total = totalTasks.get();
+        int done = completedTasks.get();
+        int failed = failedTasks.get();
+        progress.put("state", state.name());
+        progress.put("parallelism", parallelism);
+        progress.put("totalTasks", total);
+        progress.put("completedTasks", done);
+        progress.put("failedTasks", failed);
+        progress.put("percentComplete", total == 0 ? 100 : ((done + failed) * 100) / total);
+        progress.put("startedAt", startedAt);
+        progress.put("finishedAt", finishedAt);
+        progress.put("pendingCheckpoints", Math.max(0, total - done - failed));
+        progress.put("failedCheckpoints", failed + exhaustedTasks.get());
+        return progress;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.analytics.AnalyticsValidationException;
+import com.example.demo.model.Reservation;
+import com.example.demo.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Çok dönemli özet üretimi planlayıcısı.
+ * Tarih aralığı ve rapor tiplerini bağımsız gün bölümlerine (partition) ayırır, her günü
+ * sınırlı bir virtual-thread havuzunda kendi read-only transaction'ında toplar,
+ * ardından günlük parçaları birleştirerek (merge) DAILY/WEEKLY/MONTHLY/YEARLY özetlerini yazar.
+ */
+@Service
+@Slf4j
+public class SummaryGenerationPlanner {
+
+    public static final Set<String> SUPPORTED_TYPES = Set.of("DAILY", "WEEKLY", "MONTHLY", "YEARLY");
+
+    private final OrderRepository orderRepository;
+    private final DailySalesSummaryJobService dailySalesSummaryJobService;
+    private final CustomerIdentityResolver customerIdentityResolver;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int parallelism;
+    private final int maxRangeDays;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+    private final Duration jobRetention;
+    private final int maxJobs;
+
+    public SummaryGenerationPlanner(OrderRepository orderRepository,
+                                    DailySalesSummaryJobService dailySalesSummaryJobService,
+                                    CustomerIdentityResolver customerIdentityResolver,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.analytics.generation.parallelism:4}") int parallelism,
+                                    @Value("${app.analytics.generation.max-range-days:1100}") int maxRangeDays,
+                                    @Value("${app.analytics.generation.job-retention-minutes:60}") long jobRetentionMinutes,
+                                    @Value("${app.analytics.generation.max-jobs:100}") int maxJobs) {
+        this.orderRepository = orderRepository;
+        this.dailySalesSummaryJobService = dailySalesSummaryJobService;
+        this.customerIdentityResolver = customerIdentityResolver;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Aynı anda açık DB bağlantısı sayısını sınırlar (Hikari havuzunu tüketmemek için)
+        this.parallelism = Math.max(1, parallelism);
+        this.permits = new Semaphore(this.parallelism);
+        this.maxRangeDays = maxRangeDays;
+        this.jobRetention = Duration.ofMinutes(jobRetentionMinutes);
+        this.maxJobs = Math.max(1, maxJobs);
+    }
+
+    /**
+     * Yeni bir toplu üretim işi başlatır ve iş kimliğini hemen döner.
+     */
+    public GenerationJob submit(LocalDate startDate, LocalDate endDate, Set<String> reportTypes) {
+        validate(startDate, endDate, reportTypes);
+
+        List<PeriodTarget> targets = planTargets(startDate, endDate, reportTypes);
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), startDate, endDate, new TreeSet<>(reportTypes));
+        job.totalSummaries = targets.size();
+        evictFinishedJobs();
+        jobs.put(job.id, job);
+
+        executor.submit(() -> run(job, targets));
+        log.info("Submitted summary generation job {} for {} to {} ({}), {} summaries",
+                job.id, startDate, endDate, reportTypes, targets.size());
+        return job;
+    }
+
+    public Optional<GenerationJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public List<GenerationJob> getJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing((GenerationJob j) -> j.submittedAt).reversed())
+                .toList();
+    }
+
+    /**
+     * Biten işler job-retention-minutes boyunca sorgulanabilir; sonra silinir. Kayıt sayısı max-jobs'u aşarsa
+     * en eski biten işler daha erken silinir (çalışan işler hiç silinmez).
+     */
+    private void evictFinishedJobs() {
+        LocalDateTime expiry = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(expiry));
+        int excess = jobs.size() + 1 - maxJobs;
+        if (excess > 0) {
+            jobs.values().stream()
+                    .filter(job -> job.finishedAt != null)
+                    .sorted(Comparator.comparing((GenerationJob job) -> job.finishedAt))
+                    .limit(excess)
+                    .toList()
+                    .forEach(job -> jobs.remove(job.id));
+        }
+    }
+
+    private void validate(LocalDate startDate, LocalDate endDate, Set<String> reportTypes) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new AnalyticsValidationException("endDate must not be before startDate", startDate + " - " + endDate, "dateRange");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxRangeDays) {
+            throw new AnalyticsValidationException("range must not exceed " + maxRangeDays + " days",
+                    startDate + " - " + endDate, "dateRange");
+        }
+        if (reportTypes == null || reportTypes.isEmpty() || !SUPPORTED_TYPES.containsAll(reportTypes)) {
+            throw new AnalyticsValidationException("DAILY, WEEKLY, MONTHLY, or YEARLY", reportTypes, "reportTypes");
+        }
+    }
+
+    /**
+     * Aralıkla kesişen her dönem için bir hedef üretir (hafta Pazartesi-Pazar, ay ve yıl takvim sınırlarıyla).
+     * Henüz başlamamış dönemler atlanır: verisi olmadığından sıfır değerli özet yazılır ve gerçek üretimin yerini tutardı.
+     */
+    List<PeriodTarget> planTargets(LocalDate startDate, LocalDate endDate, Set<String> reportTypes) {
+        List<PeriodTarget> targets = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (String type : reportTypes) {
+            LocalDate cursor = periodStart(type, startDate);
+            while (!cursor.isAfter(endDate) && !cursor.isAfter(today)) {
+                LocalDate periodEnd = periodEnd(type, cursor);
+                targets.add(new PeriodTarget(type, cursor, periodEnd));
+                cursor = periodEnd.plusDays(1);
+            }
+        }
+        return targets;
+    }
+
+    private LocalDate periodStart(String type, LocalDate date) {
+        switch (type) {
+            case "WEEKLY": return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case "MONTHLY": return date.withDayOfMonth(1);
+            case "YEARLY": return date.withDayOfYear(1);
+            default: return date;
+        }
+    }
+
+    private LocalDate periodEnd(String type, LocalDate start) {
+        switch (type) {
+            case "WEEKLY": return start.plusDays(6);
+            case "MONTHLY": return start.with(TemporalAdjusters.lastDayOfMonth());
+            case "YEARLY": return start.with(TemporalAdjusters.lastDayOfYear());
+            default: return start;
+        }
+    }
+
+    private void run(GenerationJob job, List<PeriodTarget> targets) {
+        job.status = JobStatus.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        try {
+            // 1) Tüm hedeflerin kapsadığı günler: her gün bağımsız bir bölüm
+            LocalDate today = LocalDate.now();
+            SortedSet<LocalDate> days = new TreeSet<>();
+            for (PeriodTarget target : targets) {
+                for (LocalDate d = target.start(); !d.isAfter(target.end()) && !d.isAfter(today); d = d.plusDays(1)) {
+                    days.add(d);
+                }
+            }
+            job.totalPartitions = days.size();
+
+            // 2) Fan-out: her gün kendi read-only transaction'ında toplanır
+            Map<LocalDate, Future<SalesSummaryAggregate>> partitions = new HashMap<>();
+            for (LocalDate day : days) {
+                partitions.put(day, executor.submit(() -> aggregateDay(job, day)));
+            }
+            Map<LocalDate, SalesSummaryAggregate> partials = new HashMap<>();
+            for (Map.Entry<LocalDate, Future<SalesSummaryAggregate>> entry : partitions.entrySet()) {
+                partials.put(entry.getKey(), entry.getValue().get());
+            }
+
+            // 3) Merge + yazma: her dönem günlük parçaların birleşimidir
+            for (PeriodTarget target : targets) {
+                SalesSummaryAggregate merged = new SalesSummaryAggregate();
+                for (LocalDate d = target.start(); !d.isAfter(target.end()); d = d.plusDays(1)) {
+                    SalesSummaryAggregate partial = partials.get(d);
+                    if (partial != null) {
+                        merged.merge(partial);
+                    }
+                }
+                try {
+                    dailySalesSummaryJobService.saveAggregate(target.start(), target.end(), target.reportType(), merged);
+                    job.writtenSummaries.incrementAndGet();
+                } catch (Exception e) {
+                    job.addError(target.reportType() + " " + target.start() + " - " + target.end() + ": " + e.getMessage());
+                }
+            }
+            job.status = job.errors.isEmpty() ? JobStatus.COMPLETED : JobStatus.COMPLETED_WITH_ERRORS;
+        } catch (Exception e) {
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            log.error("Summary generation job {} failed: {}", job.id, cause.getMessage(), cause);
+            job.addError(cause.getMessage());
+            job.status = JobStatus.FAILED;
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            log.info("Summary generation job {} finished with status {} in {} ms", job.id, job.status,
+                    ChronoUnit.MILLIS.between(job.startedAt, job.finishedAt));
+        }
+    }
+
+    private SalesSummaryAggregate aggregateDay(GenerationJob job, LocalDate day) throws InterruptedException {
+        permits.acquire();
+        try {
+            SalesSummaryAggregate aggregate = readOnlyTransaction.execute(status -> {
+                List<Reservation> reservations = dailySalesSummaryJobService.findIdentityReservations(day, day);
+                SalesSummaryAggregate partial = SalesSummaryAggregate.of(
+                        orderRepository.findWithItemsByCreatedAtRange(day.atStartOfDay(), day.plusDays(1).atStartOfDay()),
+                        customerIdentityResolver.forReservations(reservations));
+                partial.addReservations(dailySalesSummaryJobService.countReservations(day, day));
+                return partial;
+            });
+            job.completedPartitions.incrementAndGet();
+            return aggregate;
+        } finally {
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    record PeriodTarget(String reportType, LocalDate start, LocalDate end) { }
+
+    public enum JobStatus { QUEUED, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, FAILED }
+
+    /**
+     * Toplu üretim işinin durumu (bellekte tutulur)
+     */
+    public static class GenerationJob {
+        private final String id;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Set<String> reportTypes;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile int totalPartitions;
+        private volatile int totalSummaries;
+        private final AtomicInteger completedPartitions = new AtomicInteger();
+        private final AtomicInteger writtenSummaries = new AtomicInteger();
+        private final List<String> errors = new CopyOnWriteArrayList<>();
+
+        GenerationJob(String id, LocalDate startDate, LocalDate endDate, Set<String> reportTypes) {
+            this.id = id;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.reportTypes = reportTypes;
+        }
+
+        void addError(String error) {
+            errors.add(error);
+        }
+
+        public String getId() { return id; }
+        public JobStatus getStatus() { return status; }
+
+        public Map<String, Object> toStatusMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put("jobId", id);
+            map.put("status", status.name());
+            map.put("startDate", startDate);
+            map.put("endDate", endDate);
+            map.put("reportTypes", reportTypes);
+            map.put("submittedAt", submittedAt);
+            map.put("startedAt", startedAt);
+            map.put("finishedAt", finishedAt);
+            map.put("totalPartitions", totalPartitions);
+            map.put("completedPartitions", completedPartitions.get());
+            map.put("totalSummaries", totalSummaries);
+            map.put("writtenSummaries", writtenSummaries.get());
+            map.put("errors", errors);
+            return map;
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package com.example.demo.service;
 
+import com.example.demo.event.ReferenceDataChangedEvent;
 import com.example.demo.exception.diningtable.TableStatusNotFoundException;
 import com.example.demo.model.TableStatus;
 import com.example.demo.repository.TableStatusRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * TableStatus (Masa Durumu) entity'si için servis sınıfı.
  * Masa durumlarını yönetmek için iş mantığını içerir.
+ * Okumalar ReferenceDataRegistry'den yapılır ve kayıttan bağımsız entity kopyaları döner;
+ * yazmalardan sonra kayıt commit sonrasında yenilenir.
  */
 @Slf4j
 @Service
@@ -21,32 +30,45 @@ import java.util.List;
 public class TableStatusService {
 
     private final TableStatusRepository tableStatusRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Tüm masa durumlarını getirir.
      *
      * @return Tüm TableStatus nesnelerinin listesi
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<TableStatus> getAllTableStatuses() {
         log.info("Tüm masa durumları getiriliyor.");
-        return tableStatusRepository.findAll();
+        return referenceDataRegistry.getTableStatuses().stream()
+                .map(ReferenceDataRegistry.TableStatusEntry::toEntity)
+                .toList();
     }
     @Transactional
     public TableStatus createStatus(TableStatus status) {
-        return tableStatusRepository.save(status);
+        TableStatus saved = tableStatusRepository.save(status);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(this, ReferenceDataChangedEvent.Kind.TABLE_STATUSES));
+        return saved;
     }
 
     @Transactional
     public TableStatus updateStatus(Long id, TableStatus status) {
-        TableStatus existing = getStatusById(id);
+        // Önbellek kopyası değil, yönetilen entity güncellenir
+        TableStatus existing = tableStatusRepository.findById(id)
+                .orElseThrow(() -> new TableStatusNotFoundException("ID ile masa durumu bulunamadı: " + id));
         existing.setName(status.getName());
-        return tableStatusRepository.save(existing);
+        TableStatus saved = tableStatusRepository.save(existing);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(this, ReferenceDataChangedEvent.Kind.TABLE_STATUSES));
+        return saved;
     }
 
     @Transactional
     public void deleteStatus(Long id) {
-        TableStatus existing = getStatusById(id);
+        TableStatus existing = tableStatusRepository.findById(id)
+                .orElseThrow(() -> new TableStatusNotFoundException("ID ile masa durumu bulunamadı: " + id));
         tableStatusRepository.delete(existing);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(this, ReferenceDataChangedEvent.Kind.TABLE_STATUSES));
     }
 
     /**
@@ -56,9 +78,11 @@ public class TableStatusService {
      * @return Bulunan TableStatus nesnesi
      * @throws TableStatusNotFoundException Eğer masa durumu bulunamazsa
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TableStatus getStatusById(Long id) {
-        log.info("ID ile masa durumu getiriliyor: id={}", id);
-        return tableStatusRepository.findById(id)
+        log.debug("ID ile masa durumu getiriliyor: id={}", id);
+        return referenceDataRegistry.findTableStatus(id)
+                .map(ReferenceDataRegistry.TableStatusEntry::toEntity)
                 .orElseThrow(() -> new TableStatusNotFoundException("ID ile masa durumu bulunamadı: " + id));
     }
 
@@ -70,9 +94,23 @@ public class TableStatusService {
      * @return Bulunan TableStatus nesnesi
      * @throws TableStatusNotFoundException Eğer masa durumu bulunamazsa
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TableStatus getStatusByName(String name) {
-        log.info("Ad ile masa durumu getiriliyor: name={}", name);
-        return tableStatusRepository.findByName(name)
+        log.debug("Ad ile masa durumu getiriliyor: name={}", name);
+        return referenceDataRegistry.findTableStatus(name)
+                .map(ReferenceDataRegistry.TableStatusEntry::toEntity)
                 .orElseThrow(() -> new TableStatusNotFoundException("Ad ile masa durumu bulunamadı: " + name));
     }
+
+    /**
+     * Verilen id'lerdeki masa durumlarını döner; toplu işlemlerde satır başına lookup yapılmaz.
+     *
+     * @throws TableStatusNotFoundException id'lerden biri bulunamazsa
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<Long, TableStatus> getStatusesByIds(Collection<Long> ids) {
+        return ids.stream()
+                .map(this::getStatusById)
+                .collect(Collectors.toMap(TableStatus::getId, Function.identity()));
+    }
 }
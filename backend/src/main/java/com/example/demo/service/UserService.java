@@ -16,10 +16,10 @@ import com.example.demo.dto.request.UserRequestDTO;
 import com.example.demo.model.Role;
 import com.example.demo.model.UserRole;
 import com.example.demo.model.UserRoleId;
-import org.modelmapper.ModelMapper;
 import com.example.demo.exception.user.UserNotFoundException;
 import com.example.demo.exception.user.UserAlreadyExistsException;
 import com.example.demo.exception.user.UserPhotoNotFoundException;
+import com.example.demo.mapper.UserMapper;
 
 @Service
 public class UserService {
@@ -28,18 +28,18 @@ public class UserService {
     private final BCryptPasswordEncoder passwordEncoder;
     private final ActivityLogService activityLogService;
     private final RoleMappingService roleMappingService;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
 
     public UserService(UserRepository userRepository,
                        BCryptPasswordEncoder passwordEncoder,
                        ActivityLogService activityLogService,
                        RoleMappingService roleMappingService,
-                       ModelMapper modelMapper) {
+                       UserMapper userMapper) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.activityLogService = activityLogService;
         this.roleMappingService = roleMappingService;
-        this.modelMapper = modelMapper;
+        this.userMapper = userMapper;
     }
 
     @Transactional
@@ -52,7 +52,7 @@ public class UserService {
         Role role = roleMappingService.getRoleByName(userRequestDTO.getRoleName());
 
         // Create user
-        User user = modelMapper.map(userRequestDTO, User.class);
+        User user = userMapper.toEntity(userRequestDTO);
         user.setPassword(userRequestDTO.getPassword());
         User createdUser = createUser(user);
 
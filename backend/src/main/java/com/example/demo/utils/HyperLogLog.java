@@ -0,0 +1,165 @@
+package com.example.demo.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tekil eleman sayısı için HyperLogLog taslağı (sketch).
+ * Ekleme O(1)'dir, iki taslak register bazında max alınarak birleştirilir (günlük -> haftalık/aylık/yıllık).
+ * Varsayılan hassasiyet p=12: 4096 register, standart hata ~%1.6.
+ *
+ * Serileştirme formatı:
+ *  - seyrek (sparse): [1][p][(index:u16, değer:u8)...]  az dolu taslaklar için (tipik günlük özet)
+ *  - yoğun (dense):   [2][p][register dizisi]
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 12;
+
+    private static final byte FORMAT_SPARSE = 1;
+    private static final byte FORMAT_DENSE = 2;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("HyperLogLog precision must be between 4 and 16: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Serileştirilmiş taslağı okur. null veya boş dizi için boş taslak döner.
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < 2) {
+            return new HyperLogLog();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte format = buffer.get();
+        HyperLogLog hll = new HyperLogLog(buffer.get());
+        if (format == FORMAT_DENSE) {
+            buffer.get(hll.registers);
+        } else if (format == FORMAT_SPARSE) {
+            while (buffer.remaining() >= 3) {
+                int index = buffer.getShort() & 0xFFFF;
+                hll.registers[index] = buffer.get();
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown HyperLogLog format: " + format);
+        }
+        return hll;
+    }
+
+    public void add(String value) {
+        if (value != null) {
+            addHash(hash(value));
+        }
+    }
+
+    public void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        long rest = hash << precision;
+        int rank = rest == 0 ? 64 - precision + 1 : Long.numberOfLeadingZeros(rest) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * Diğer taslağı bu taslağa ekler (register bazında max). Sıradan bağımsızdır.
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge HyperLogLog sketches with different precision: "
+                    + precision + " vs " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        // Küçük kümelerde linear counting çok daha isabetlidir
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public byte[] toBytes() {
+        int nonZero = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                nonZero++;
+            }
+        }
+        if (nonZero * 3 < registers.length) {
+            ByteBuffer buffer = ByteBuffer.allocate(2 + nonZero * 3);
+            buffer.put(FORMAT_SPARSE).put((byte) precision);
+            for (int i = 0; i < registers.length; i++) {
+                if (registers[i] != 0) {
+                    buffer.putShort((short) i).put(registers[i]);
+                }
+            }
+            return buffer.array();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(2 + registers.length);
+        buffer.put(FORMAT_DENSE).put((byte) precision).put(registers);
+        return buffer.array();
+    }
+
+    private static double alpha(int m) {
+        switch (m) {
+            case 16: return 0.673;
+            case 32: return 0.697;
+            case 64: return 0.709;
+            default: return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+
+    /**
+     * 64 bit FNV-1a + murmur3 fmix64 (bitlerin düzgün dağılması için)
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.demo.utils;
+
+import java.util.Arrays;
+
+/**
+ * long anahtarlı (ürün id, kullanıcı id, kategori ordinal) toplam tablosu: açık adresleme (linear probing),
+ * değerler int/long kolon dizilerinde tutulur. HashMap<Long, X> yerine özet üretiminde kullanılır;
+ * anahtar kutulama, Entry nesnesi ve satır başına toplam nesnesi yoktur, değerler yerinde artırılır.
+ *
+ * - Satırlar ekleme sırasıyla yoğun (dense) indekslerde tutulur: 0..size()-1 arası dolaşmak deterministiktir
+ *   ve hash tablosuna bakmaz.
+ * - Toplamalar taşmada ArithmeticException fırlatır (Math.addExact).
+ * - Her satıra isteğe bağlı bir etiket (ürün / garson adı) bağlanabilir.
+ * - Thread-safe değildir; her parça tek thread'de doldurulur, sonra merge edilir.
+ */
+public final class LongKeyedAccumulator {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int intColumns;
+    private final int longColumns;
+
+    // Hash tablosu: yoğun indeks + 1 (0 = boş)
+    private int[] table;
+    private int mask;
+
+    private long[] keys;
+    private int[] ints;
+    private long[] longs;
+    private String[] labels;
+    private int size;
+
+    public LongKeyedAccumulator(int intColumns, int longColumns) {
+        this(intColumns, longColumns, DEFAULT_CAPACITY);
+    }
+
+    public LongKeyedAccumulator(int intColumns, int longColumns, int expectedSize) {
+        if (intColumns < 0 || longColumns < 0) {
+            throw new IllegalArgumentException("Column counts must not be negative");
+        }
+        this.intColumns = intColumns;
+        this.longColumns = longColumns;
+        int capacity = Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) - 1) << 1);
+        this.table = new int[capacity * 2]; // doluluk <= %50
+        this.mask = table.length - 1;
+        this.keys = new long[capacity];
+        this.ints = new int[capacity * intColumns];
+        this.longs = new long[capacity * longColumns];
+        this.labels = new String[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Anahtarın satır indeksi; yoksa sıfır değerlerle eklenir.
+     */
+    public int slot(long key) {
+        int position = mix(key) & mask;
+        while (true) {
+            int entry = table[position];
+            if (entry == 0) {
+                return insert(key, position);
+            }
+            if (keys[entry - 1] == key) {
+                return entry - 1;
+            }
+            position = (position + 1) & mask;
+        }
+    }
+
+    /**
+     * Anahtarın satır indeksi, yoksa -1.
+     */
+    public int find(long key) {
+        int position = mix(key) & mask;
+        while (true) {
+            int entry = table[position];
+            if (entry == 0) {
+                return -1;
+            }
+            if (keys[entry - 1] == key) {
+                return entry - 1;
+            }
+            position = (position + 1) & mask;
+        }
+    }
+
+    public long key(int slot) {
+        return keys[slot];
+    }
+
+    public String label(int slot) {
+        return labels[slot];
+    }
+
+    /**
+     * Etiket yalnızca boşsa atanır (ilk görülen ad kalır).
+     */
+    public void labelIfAbsent(int slot, String label) {
+        if (labels[slot] == null) {
+            labels[slot] = label;
+        }
+    }
+
+    public int getInt(int slot, int column) {
+        return ints[slot * intColumns + column];
+    }
+
+    public long getLong(int slot, int column) {
+        return longs[slot * longColumns + column];
+    }
+
+    public void addInt(int slot, int column, int delta) {
+        int index = slot * intColumns + column;
+        ints[index] = Math.addExact(ints[index], delta);
+    }
+
+    public void addLong(int slot, int column, long delta) {
+        int index = slot * longColumns + column;
+        longs[index] = Math.addExact(longs[index], delta);
+    }
+
+    /**
+     * Diğer tablonun tüm satırlarını kolon kolon bu tabloya ekler. Kolon sayıları aynı olmalıdır.
+     */
+    public LongKeyedAccumulator merge(LongKeyedAccumulator other) {
+        if (other.intColumns != intColumns || other.longColumns != longColumns) {
+            throw new IllegalArgumentException("Column layout mismatch");
+        }
+        for (int source = 0; source < other.size; source++) {
+            int target = slot(other.keys[source]);
+            for (int c = 0; c < intColumns; c++) {
+                addInt(target, c, other.ints[source * intColumns + c]);
+            }
+            for (int c = 0; c < longColumns; c++) {
+                addLong(target, c, other.longs[source * longColumns + c]);
+            }
+            labelIfAbsent(target, other.labels[source]);
+        }
+        return this;
+    }
+
+    /**
+     * int kolonu en büyük satır (eşitlikte ilk eklenen), boşsa -1
+     */
+    public int maxByInt(int column) {
+        int best = -1;
+        for (int slot = 0; slot < size; slot++) {
+            if (best < 0 || getInt(slot, column) > getInt(best, column)) {
+                best = slot;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * int kolonu en küçük satır (eşitlikte ilk eklenen), boşsa -1
+     */
+    public int minByInt(int column) {
+        int best = -1;
+        for (int slot = 0; slot < size; slot++) {
+            if (best < 0 || getInt(slot, column) < getInt(best, column)) {
+                best = slot;
+            }
+        }
+        return best;
+    }
+
+    private int insert(long key, int position) {
+        if (size == keys.length) {
+            grow();
+            position = mix(key) & mask;
+            while (table[position] != 0) {
+                position = (position + 1) & mask;
+            }
+        }
+        int slot = size++;
+        keys[slot] = key;
+        table[position] = slot + 1;
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        ints = Arrays.copyOf(ints, capacity * intColumns);
+        longs = Arrays.copyOf(longs, capacity * longColumns);
+        labels = Arrays.copyOf(labels, capacity);
+        table = new int[capacity * 2];
+        mask = table.length - 1;
+        for (int slot = 0; slot < size; slot++) {
+            int position = mix(keys[slot]) & mask;
+            while (table[position] != 0) {
+                position = (position + 1) & mask;
+            }
+            table[position] = slot + 1;
+        }
+    }
+
+    // Ardışık id'ler tabloda kümelenmesin diye (Fibonacci hashing)
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Bellek içi para toplamları için sabit noktalı (kuruş cinsinden long) aritmetik.
+ * Özet üretimi ve anlık sayaçlar binlerce sipariş/kalem toplar; her adımda yeni BigDecimal üretmek yerine
+ * kuruşlar long olarak toplanır, BigDecimal'e yalnızca kalıcılık/JSON sınırında çevrilir.
+ *
+ * - Dönüşümler kesindir: 2 haneden fazla kesirli (kuruş altı) değerler ArithmeticException fırlatır,
+ *   sessizce yuvarlanmaz. Para kolonlarının hepsi numeric(10,2) olduğundan normalde oluşmaz.
+ * - Toplama / çarpma taşmada ArithmeticException fırlatır (Math.*Exact).
+ * - null değerler BDH'deki gibi sıfır sayılır.
+ */
+public final class MoneyCents {
+
+    public static final int SCALE = 2;
+
+    private MoneyCents() {}
+
+    // --- BigDecimal <-> kuruş ---
+
+    /**
+     * Kesin dönüşüm: 12.5 -> 1250, 12.345 -> ArithmeticException
+     */
+    public static long of(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    /**
+     * JSON özetlerindeki metin değerler ("1250.40", "0")
+     */
+    public static long parse(String amount) {
+        if (amount == null || amount.isBlank()) {
+            return 0L;
+        }
+        return of(new BigDecimal(amount.trim()));
+    }
+
+    /**
+     * 1250 -> 12.50 (scale 2, kesin)
+     */
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static String format(long cents) {
+        return toBigDecimal(cents).toPlainString();
+    }
+
+    // --- Aritmetik ---
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long times(long cents, long quantity) {
+        return Math.multiplyExact(cents, quantity);
+    }
+
+    /**
+     * Ortalama (ör. ortalama sipariş tutarı): BigDecimal yolundaki divide(n, 2, HALF_UP) ile aynı sonuç.
+     * count <= 0 ise sıfır.
+     */
+    public static BigDecimal average(long cents, long count) {
+        if (count <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return toBigDecimal(cents).divide(BigDecimal.valueOf(count), SCALE, RoundingMode.HALF_UP);
+    }
+}
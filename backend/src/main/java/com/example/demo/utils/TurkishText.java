@@ -0,0 +1,36 @@
+package com.example.demo.utils;
+
+import java.util.Locale;
+
+/**
+ * Türkçe karakterleri arama için katlar (fold): İ/I/ı -> i, Ğ/ğ -> g, Ü/ü -> u, Ş/ş -> s, Ö/ö -> o, Ç/ç -> c,
+ * ardından küçük harfe çevirir. DB tarafındaki tr_fold() fonksiyonu (V7 migration) ile birebir aynı sonucu üretir;
+ * böylece "ISIL", "ışıl" ve "Işıl" aynı arama anahtarına düşer.
+ */
+public final class TurkishText {
+
+    private static final String FROM = "İIıĞğÜüŞşÖöÇç";
+    private static final String TO = "iiigguussoocc";
+
+    private TurkishText() {}
+
+    public static String fold(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder folded = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            int index = FROM.indexOf(c);
+            folded.append(index >= 0 ? TO.charAt(index) : c);
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * LIKE kalıbında özel anlamı olan karakterleri kaçışlar (ESCAPE '\').
+     */
+    public static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -6,7 +6,10 @@ import com.example.demo.model.DiningTable;
 import com.example.demo.model.TableStatus;
 import com.example.demo.repository.DiningTableRepository;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * DiningTable (Masa) validasyon işlemlerini yöneten sınıf
@@ -23,6 +26,28 @@ public class DiningTableValidator {
         }
     }
 
+    /**
+     * Toplu masa oluşturma validasyonu. Alan kontrolleri masa başına, benzersizlik kontrolü
+     * (istek içi tekrarlar dahil) tüm batch için tek sorguyla yapılır.
+     */
+    public static void validateBulkCreateDiningTables(List<DiningTableRequestDto> diningTableDtos, DiningTableRepository diningTableRepository) {
+        if (diningTableDtos == null || diningTableDtos.isEmpty()) {
+            throw DiningTableException.validationError("En az bir masa gönderilmelidir.");
+        }
+        Set<Integer> tableNumbers = new HashSet<>();
+        for (DiningTableRequestDto dto : diningTableDtos) {
+            validateBasicFields(dto);
+            if (!tableNumbers.add(dto.getTableNumber())) {
+                throw TableNumberException.duplicateTableNumberInRequest(dto.getTableNumber());
+            }
+        }
+
+        List<Integer> existing = diningTableRepository.findExistingTableNumbers(tableNumbers);
+        if (!existing.isEmpty()) {
+            throw TableNumberException.tableNumbersAlreadyExist(existing.stream().sorted().toList());
+        }
+    }
+
     public static void validateUpdateDiningTable(Long id, DiningTableRequestDto diningTableDto, DiningTableRepository diningTableRepository) {
         validateBasicFields(diningTableDto);
 
@@ -17,8 +17,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 public class ReservationValidator {
 
@@ -27,8 +28,6 @@ public class ReservationValidator {
     private final UserRepository userRepository;
     private final RestaurantSettingsService restaurantSettingsService;
 
-    private static final int RESERVATION_DURATION_MINUTES = 120;
-
     @Autowired
     public ReservationValidator(ReservationRepository reservationRepository,
                                 DiningTableRepository diningTableRepository,
@@ -100,7 +99,7 @@ public class ReservationValidator {
 
     private void validateTimeConstraints(Reservation reservation) {
         try {
-            System.out.println("=== DEBUG: Validating reservation date: " + reservation.getReservationDate() + " and time: " + reservation.getReservationTime());
+            log.debug("Validating reservation date: {} and time: {}", reservation.getReservationDate(), reservation.getReservationTime());
             
             LocalDate reservationDate = reservation.getReservationDate();
             LocalTime reservationTime = reservation.getReservationTime();
@@ -139,7 +138,7 @@ public class ReservationValidator {
                 throw new IllegalArgumentException("Son rezervasyon saati: " + lastReservationTime);
             }
         } catch (Exception e) {
-            System.out.println("=== DEBUG: Validation error: " + e.getMessage());
+            log.debug("Validation error: {}", e.getMessage());
             throw new IllegalArgumentException("Rezervasyon zamanı doğrulanamadı: " + e.getMessage());
         }
     }
@@ -154,31 +153,14 @@ public class ReservationValidator {
                 throw new IllegalArgumentException("Rezervasyon tarihi ve saati boş olamaz");
             }
 
-            LocalDateTime reservationDateTime = LocalDateTime.of(reservationDate, reservationTime);
-
             DiningTable table = diningTableRepository.findById(tableId)
                     .orElseThrow(() -> new IllegalArgumentException("Masa bulunamadı: " + tableId));
 
             if (!"AVAILABLE".equals(table.getStatus().getName())) {
                 throw new IllegalArgumentException("Masa müsait değil. Mevcut durum: " + table.getStatus().getName());
             }
-
-            LocalDateTime reservationStart = reservationDateTime;
-            LocalDateTime reservationEnd = reservationStart.plusMinutes(RESERVATION_DURATION_MINUTES);
-
-            List<Reservation> overlappingReservations = reservationRepository
-                    .findByTableAndStatusIdAndDateTimeBetween(
-                            table,
-                            ReservationStatusConstants.CONFIRMED,
-                            reservationStart.toLocalDate(),
-                            reservationStart.toLocalTime(),
-                            reservationEnd.toLocalDate(),
-                            reservationEnd.toLocalTime()
-                    );
-
-            if (!overlappingReservations.isEmpty()) {
-                throw new IllegalArgumentException("Bu saatte zaten rezervasyon bulunmaktadır");
-            }
+            // Slot çakışması burada sorgulanmaz: ReservationService.ensureNoConflicts() tek indeksli sorguyla
+            // (existsOverlappingSlot) bakar, yarışları da exclusion constraint (23P01 -> 409) yakalar
         } catch (Exception e) {
             throw new IllegalArgumentException("Rezervasyon zamanı doğrulanamadı: " + e.getMessage());
         }
@@ -205,23 +187,14 @@ public class ReservationValidator {
                 throw new IllegalArgumentException("Rezervasyon tarihi ve saati boş olamaz");
             }
             
-            LocalDateTime reservationDateTime = LocalDateTime.of(reservationDate, reservationTime);
-            LocalDateTime startOfDay = reservationDate.atStartOfDay();
-            LocalDateTime endOfDay = reservationDate.atTime(23, 59, 59);
-            
-            List<Reservation> dailyReservations = reservationRepository
-                    .findByReservationTimeBetween(reservationDate, LocalTime.MIN, reservationDate, LocalTime.MAX);
-            
-            // Eğer bu bir güncelleme ise, kendi rezervasyonunu hariç tut
-            if (reservation.getId() != null) {
-                dailyReservations = dailyReservations.stream()
-                        .filter(r -> !r.getId().equals(reservation.getId()))
-                        .toList();
-            }
+            // Günün rezervasyonları yüklenmeden sayılır; güncellemede kendi rezervasyonu hariç tutulur
+            long dailyReservationCount = reservationRepository.countByReservationTimeBetween(
+                    reservationDate.atStartOfDay(), reservationDate.plusDays(1).atStartOfDay(),
+                    reservation.getId() != null ? reservation.getId() : -1L);
             
             // Günlük maksimum rezervasyon sayısı kontrolü (örnek: 50)
             int maxDailyReservations = 50;
-            if (dailyReservations.size() >= maxDailyReservations) {
+            if (dailyReservationCount >= maxDailyReservations) {
                 throw new IllegalArgumentException("Günlük maksimum rezervasyon sayısına ulaşılmıştır");
             }
         } catch (Exception e) {
@@ -0,0 +1,3 @@
+-- V1 id'yi SERIAL (integer) açtı; RestaurantSettings entity'si Long (bigint) eşler ve ddl-auto=validate bunu reddeder.
+-- Kolon zaten bigint ise (Hibernate ile kurulmuş veritabanları) değişiklik yapılmaz.
+ALTER TABLE restaurant_settings ALTER COLUMN id TYPE BIGINT;
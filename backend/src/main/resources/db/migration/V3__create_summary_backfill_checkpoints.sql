@@ -0,0 +1,14 @@
+-- Arka plan özet üretimi için ilerleme tablosu (yeniden başlatmada kaldığı yerden devam eder)
+CREATE TABLE IF NOT EXISTS summary_backfill_checkpoints (
+    id BIGSERIAL PRIMARY KEY,
+    report_type VARCHAR(20) NOT NULL,
+    period_start_date DATE NOT NULL,
+    period_end_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT uq_summary_backfill_type_end UNIQUE (report_type, period_end_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_summary_backfill_status ON summary_backfill_checkpoints(status);
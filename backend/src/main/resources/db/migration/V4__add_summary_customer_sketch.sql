@@ -0,0 +1,2 @@
+-- Tekil müşteri sayımı için HyperLogLog taslağı (seyrek/yoğun ikili format, bkz. utils.HyperLogLog)
+ALTER TABLE daily_sales_summary ADD COLUMN IF NOT EXISTS customer_sketch BYTEA;
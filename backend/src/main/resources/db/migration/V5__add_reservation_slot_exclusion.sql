@@ -0,0 +1,29 @@
+-- Rezervasyon çakışma kontrolü: masa başına tek GiST probu + DB seviyesinde çift rezervasyon engeli
+-- Her rezervasyon [başlangıç, başlangıç + 120 dk) aralığını kaplar; iki aralık kesişiyorsa
+-- başlangıç saatleri arasındaki fark 120 dakikadan azdır (ReservationService.CONFLICT_WINDOW_MINUTES ile aynı).
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS reservation_slot TSRANGE
+    GENERATED ALWAYS AS (
+        tsrange(reservation_date + reservation_time,
+                reservation_date + reservation_time + INTERVAL '120 minutes', '[)')
+    ) STORED;
+
+-- Mevcut veride çakışan aktif (CONFIRMED=1, PENDING=5) rezervasyon varsa kısıt eklenemez; önce elle düzeltilmeli
+DO $$
+DECLARE
+    overlap_count INTEGER;
+BEGIN
+    SELECT COUNT(*) INTO overlap_count
+    FROM reservations a
+    JOIN reservations b ON a.table_id = b.table_id AND a.id < b.id
+    WHERE a.status_id IN (1, 5) AND b.status_id IN (1, 5)
+      AND a.reservation_slot && b.reservation_slot;
+    IF overlap_count > 0 THEN
+        RAISE EXCEPTION 'reservations contains % overlapping active reservation pair(s); resolve them before applying V5', overlap_count;
+    END IF;
+END $$;
+
+ALTER TABLE reservations ADD CONSTRAINT ex_reservations_table_slot
+    EXCLUDE USING gist (table_id WITH =, reservation_slot WITH &&)
+    WHERE (status_id IN (1, 5));
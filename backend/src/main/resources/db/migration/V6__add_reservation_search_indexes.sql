@@ -0,0 +1,13 @@
+-- Rezervasyon arama (GET /api/reservations/search) için keyset sayfalama ve filtre indeksleri
+-- Sıralama anahtarı (reservation_date, reservation_time, id): cursor koşulu tek range scan olur
+CREATE INDEX IF NOT EXISTS idx_reservations_keyset ON reservations(reservation_date, reservation_time, id);
+
+-- Masa / durum filtreli listeler aynı sırayla okunur
+CREATE INDEX IF NOT EXISTS idx_reservations_table_keyset ON reservations(table_id, reservation_date, reservation_time, id);
+CREATE INDEX IF NOT EXISTS idx_reservations_status_keyset ON reservations(status_id, reservation_date, reservation_time, id);
+
+-- Ad öneki araması: LOWER(customer_name) LIKE 'abc%'
+CREATE INDEX IF NOT EXISTS idx_reservations_customer_name_prefix ON reservations(LOWER(customer_name) text_pattern_ops);
+
+-- (reservation_date, reservation_time) indeksi keyset indeksinin önekidir
+DROP INDEX IF EXISTS idx_reservations_date_time;
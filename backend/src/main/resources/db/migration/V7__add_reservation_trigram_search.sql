@@ -0,0 +1,24 @@
+-- Rezervasyon müşteri araması: Türkçe katlama + pg_trgm GIN indeksi
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- utils.TurkishText.fold() ile aynı: önce Türkçe harfler ASCII'ye, sonra küçük harf (collation'dan bağımsız)
+CREATE OR REPLACE FUNCTION tr_fold(value TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT lower(translate(value, 'İIıĞğÜüŞşÖöÇç', 'iiigguussoocc'))
+$$;
+
+-- Ad, telefon (sadece rakamlar) ve e-posta tek bir katlanmış arama metninde
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS search_text TEXT
+    GENERATED ALWAYS AS (
+        tr_fold(customer_name) || ' ' ||
+        regexp_replace(coalesce(customer_phone, ''), '[^0-9]', '', 'g') || ' ' ||
+        tr_fold(coalesce(email, ''))
+    ) STORED;
+
+-- 3+ karakterli sorgular: içerir (LIKE '%abc%') araması trigram indeksiyle
+CREATE INDEX IF NOT EXISTS idx_reservations_search_trgm ON reservations USING gin (search_text gin_trgm_ops);
+
+-- 1-2 karakterli sorgular ve /search ad öneki filtresi: katlanmış ad üzerinde önek araması
+CREATE INDEX IF NOT EXISTS idx_reservations_customer_name_fold ON reservations (tr_fold(customer_name) text_pattern_ops);
+DROP INDEX IF EXISTS idx_reservations_customer_name_prefix;
@@ -0,0 +1,11 @@
+-- Rezervasyon zamanı tek bir timestamp kolonunda: tarih + saat ayrı tutulduğu için aralık sorguları
+-- (date > a OR (date = a AND time >= b)) AND (...) şeklinde OR'lu yazılıyordu ve index range scan'e dönüşemiyordu.
+-- reservation_at, reservation_date + reservation_time'dan üretilir; mevcut satırlar ADD COLUMN sırasında doldurulur.
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS reservation_at TIMESTAMP
+    GENERATED ALWAYS AS (reservation_date + reservation_time) STORED;
+
+-- Gün / tarih aralığı sorguları ve özet job'larının sayımları: reservation_at >= :from AND reservation_at < :to
+CREATE INDEX IF NOT EXISTS idx_reservations_reservation_at ON reservations(reservation_at);
+
+-- Masa bazlı aralık sorguları (ReservationValidator çakışma kontrolü)
+CREATE INDEX IF NOT EXISTS idx_reservations_table_reservation_at ON reservations(table_id, reservation_at);
@@ -0,0 +1,11 @@
+-- Kasiyer sipariş listesi (GET /api/orders/search) için keyset sayfalama ve filtre indeksleri
+-- Sıralama anahtarı (created_at, id): cursor koşulu tek range scan olur, DESC sıra indeksi geriye okur
+CREATE INDEX IF NOT EXISTS idx_orders_keyset ON orders(created_at, id);
+
+-- Tamamlanma / masa / garson filtreli listeler aynı sırayla okunur
+CREATE INDEX IF NOT EXISTS idx_orders_completed_keyset ON orders(is_completed, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_orders_table_keyset ON orders(table_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_orders_user_keyset ON orders(user_id, created_at, id);
+
+-- Sayfadaki siparişlerin kalemleri: order_id IN (...)
+CREATE INDEX IF NOT EXISTS idx_order_items_order_id ON order_items(order_id);
@@ -0,0 +1,18 @@
+package com.example.demo.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Dashboard ucunun SQL bütçesi (app.sql-budget.endpoints ile aynı değer). Masalar salon krokisi
+ * snapshot'ından geldiği için masa sayısı bütçeyi etkilememeli.
+ */
+class DashboardSqlBudgetTest extends SqlBudgetTestSupport {
+
+    @Test
+    void dashboardStaysWithinBudget() throws Exception {
+        assertWithinBudget("GET /api/dashboard", 10, ADMIN, get("/api/dashboard"));
+        assertWithinBudget("GET /api/dashboard", 10, WAITER, get("/api/dashboard"));
+    }
+}
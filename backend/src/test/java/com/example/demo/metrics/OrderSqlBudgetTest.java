@@ -0,0 +1,92 @@
+package com.example.demo.metrics;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Garson akışındaki sipariş uçlarının SQL bütçeleri (app.sql-budget.endpoints ile aynı değerler).
+ * Her test kendi masasını kullanır; sıra önemli değildir.
+ */
+class OrderSqlBudgetTest extends SqlBudgetTestSupport {
+
+    private static final String THREE_ITEMS = """
+            {"tableId": %d, "items": [
+              {"productId": 1, "quantity": 2},
+              {"productId": 2, "quantity": 1, "note": "az pişmiş"},
+              {"productId": 3, "quantity": 3}
+            ]}""";
+
+    @Test
+    void upsertSyncStaysWithinBudget() throws Exception {
+        assertWithinBudget("POST /api/orders/upsert-sync", 40, WAITER, post("/api/orders/upsert-sync")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(THREE_ITEMS.formatted(1)));
+
+        // Açık siparişin güncellenmesi: kalem ekleme, çıkarma ve adet değişikliği birlikte
+        assertWithinBudget("POST /api/orders/upsert-sync", 40, WAITER, post("/api/orders/upsert-sync")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"tableId": 1, "items": [
+                          {"productId": 1, "quantity": 1},
+                          {"productId": 3, "quantity": 3},
+                          {"productId": 4, "quantity": 2}
+                        ]}"""));
+    }
+
+    @Test
+    void itemDeltaStaysWithinBudget() throws Exception {
+        MvcResult order = openOrder(2);
+
+        assertWithinBudget("PATCH /api/orders/{id}/items", 20, WAITER, patch("/api/orders/{id}/items", orderId(order))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"version": %d, "operations": [
+                          {"type": "ADD", "productId": 1, "quantity": 1},
+                          {"type": "SET_QUANTITY", "productId": 3, "quantity": 1},
+                          {"type": "REMOVE", "productId": 2},
+                          {"type": "ADD", "productId": 4, "quantity": 1, "note": "kaymaklı"}
+                        ]}""".formatted(version(order))));
+    }
+
+    @Test
+    void finalizeStaysWithinBudget() throws Exception {
+        MvcResult order = openOrder(3);
+
+        assertWithinBudget("POST /api/orders/{id}/finalize", 40, ADMIN, post("/api/orders/{id}/finalize", orderId(order)));
+    }
+
+    @Test
+    void readEndpointsStayWithinBudget() throws Exception {
+        MvcResult order = openOrder(4);
+
+        assertWithinBudget("GET /api/orders/{id}", 6, WAITER, get("/api/orders/{id}", orderId(order)));
+        assertWithinBudget("GET /api/orders/table/{tableId}/open", 8, WAITER, get("/api/orders/table/{tableId}/open", 4));
+        assertWithinBudget("GET /api/orders/active-table-ids", 4, WAITER, get("/api/orders/active-table-ids"));
+        assertWithinBudget("GET /api/orders/search", 5, ADMIN, get("/api/orders/search")
+                .param("isCompleted", "false")
+                .param("tableId", "4"));
+    }
+
+    private MvcResult openOrder(long tableId) throws Exception {
+        return mockMvc.perform(post("/api/orders/upsert-sync")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(WAITER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(THREE_ITEMS.formatted(tableId)))
+                .andReturn();
+    }
+
+    private static long orderId(MvcResult result) throws Exception {
+        return ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.orderId")).longValue();
+    }
+
+    private static long version(MvcResult result) throws Exception {
+        return ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.version")).longValue();
+    }
+}
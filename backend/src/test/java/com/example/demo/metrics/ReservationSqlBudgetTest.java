@@ -0,0 +1,47 @@
+package com.example.demo.metrics;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Rezervasyon uçlarının SQL bütçeleri (app.sql-budget.endpoints ile aynı değerler).
+ */
+class ReservationSqlBudgetTest extends SqlBudgetTestSupport {
+
+    private static final String RESERVATION = """
+            {"tableId": %d, "customerName": "Ayşe Yılmaz", "customerPhone": "05321234567",
+             "reservationDate": "%s", "reservationTime": "%s", "personCount": 3,
+             "email": "ayse@example.com", "createdBy": 1}""";
+
+    @Test
+    void createStaysWithinBudget() throws Exception {
+        assertWithinBudget("POST /api/reservations", 20, ADMIN, post("/api/reservations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(RESERVATION.formatted(5, LocalDate.now().plusDays(1), "19:00")));
+    }
+
+    @Test
+    void readEndpointsStayWithinBudget() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/reservations")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(ADMIN))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RESERVATION.formatted(6, LocalDate.now().plusDays(2), "20:00")))
+                .andReturn();
+        long id = ((Number) JsonPath.read(created.getResponse().getContentAsString(), "$.id")).longValue();
+
+        assertWithinBudget("GET /api/reservations/{id}", 5, WAITER, get("/api/reservations/{id}", id));
+        assertWithinBudget("GET /api/reservations/today", 6, WAITER, get("/api/reservations/today"));
+        assertWithinBudget("GET /api/reservations/search", 5, WAITER, get("/api/reservations/search")
+                .param("startDate", LocalDate.now().toString())
+                .param("endDate", LocalDate.now().plusDays(7).toString())
+                .param("name", "ayşe"));
+    }
+}
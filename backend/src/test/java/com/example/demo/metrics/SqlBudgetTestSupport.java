@@ -0,0 +1,93 @@
+package com.example.demo.metrics;
+
+import com.example.demo.security.CustomUserDetailsService;
+import com.example.demo.security.JwtUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uç nokta SQL bütçesi testlerinin ortak altyapısı. Uygulama tek bir PostgreSQL container'ına karşı
+ * (Flyway: test tabanı + db/migration, sql-budget/migration/afterMigrate.sql seed) ve strict modda çalışır:
+ * bütçeyi aşan istek 500 döner. Her istek gerçek bir JWT ile gönderilir; JWT filtresindeki kullanıcı sorgusu da
+ * bütçeye dahildir. İstek başına ifade sayısı SqlStatementMetricsFilter'ın restaurant.http.sql.statements
+ * özetinden okunur.
+ * Testler "sql-budget" etiketlidir ve yalnızca mvn -Psql-budget ile çalışır; Docker yoksa atlanmaz, hata verir.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("sql-budget")
+@Tag("sql-budget")
+abstract class SqlBudgetTestSupport {
+
+    static final String ADMIN = "admin@test.local";
+    static final String WAITER = "waiter@test.local";
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        // Bütün test sınıfları aynı Spring context'ini ve container'ı paylaşır
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    protected String bearer(String email) {
+        return "Bearer " + jwtUtil.generateToken(userDetailsService.loadUserByUsername(email));
+    }
+
+    /**
+     * İsteği email kullanıcısıyla gönderir, 2xx döndüğünü ve ifade sayısının bütçeyi aşmadığını doğrular.
+     * endpoint, app.sql-budget.endpoints'teki anahtarla aynı biçimdedir: "GET /api/orders/{id}".
+     */
+    protected MvcResult assertWithinBudget(String endpoint, int budget, String email, MockHttpServletRequestBuilder request) throws Exception {
+        String method = endpoint.substring(0, endpoint.indexOf(' '));
+        String uri = endpoint.substring(endpoint.indexOf(' ') + 1);
+        DistributionSummary before = statements(method, uri);
+        long countBefore = before == null ? 0 : before.count();
+        double totalBefore = before == null ? 0 : before.totalAmount();
+
+        MvcResult result = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, bearer(email))).andReturn();
+
+        assertThat(result.getResponse().getStatus())
+                .as("%s -> %s", endpoint, result.getResponse().getContentAsString())
+                .isBetween(200, 299);
+        DistributionSummary after = statements(method, uri);
+        assertThat(after).as("restaurant.http.sql.statements of %s", endpoint).isNotNull();
+        assertThat(after.count()).as("requests recorded for %s", endpoint).isEqualTo(countBefore + 1);
+        long count = Math.round(after.totalAmount() - totalBefore);
+        assertThat(count).as("SQL statements of %s", endpoint).isLessThanOrEqualTo(budget);
+        return result;
+    }
+
+    private DistributionSummary statements(String method, String uri) {
+        return meterRegistry.find("restaurant.http.sql.statements").tag("method", method).tag("uri", uri).summary();
+    }
+}
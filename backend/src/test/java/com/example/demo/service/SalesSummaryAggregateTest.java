@@ -0,0 +1,185 @@
+package com.example.demo.service;
+
+import com.example.demo.enums.ItemCategory;
+import com.example.demo.model.Order;
+import com.example.demo.model.OrderItem;
+import com.example.demo.model.Product;
+import com.example.demo.model.User;
+import com.example.demo.utils.MoneyCents;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Kuruş (long) toplayan SalesSummaryAggregate'in, özetin eski BigDecimal hesaplarıyla aynı sonuçları
+ * verdiğini rastgele sipariş kümelerinde doğrular; parçalardan merge() edilen özet de aynı olmalıdır.
+ */
+class SalesSummaryAggregateTest {
+
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    @Test
+    void centsTotalsMatchBigDecimalTotals() {
+        Random random = new Random(7);
+        for (int round = 0; round < 300; round++) {
+            List<Order> orders = randomOrders(random, 1 + random.nextInt(400), 1 + random.nextInt(60), 1 + random.nextInt(15));
+            BigDecimalTotals expected = BigDecimalTotals.of(orders);
+
+            assertMatches(expected, SalesSummaryAggregate.of(orders, SalesSummaryAggregateTest::customerKey));
+            assertMatches(expected, mergedInParts(random, orders));
+        }
+    }
+
+    @Test
+    void subCentLineAmountIsRejected() {
+        // Order.getTotalAmount kendisi 2 haneye yuvarlar; kalem tutarları ise olduğu gibi okunur
+        List<Order> orders = randomOrders(new Random(3), 1, 1, 1);
+        orders.get(0).getItems().get(0).setTotalPrice(new BigDecimal("10.005"));
+
+        assertThatThrownBy(() -> SalesSummaryAggregate.of(orders, SalesSummaryAggregateTest::customerKey))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    /**
+     * Haftalık/aylık özetlerin günlerden birleşmesi gibi: parçalara böl, karışık sırayla birleştir
+     */
+    private static SalesSummaryAggregate mergedInParts(Random random, List<Order> orders) {
+        List<SalesSummaryAggregate> parts = new ArrayList<>();
+        int cut = 0;
+        while (cut < orders.size()) {
+            int next = Math.min(orders.size(), cut + 1 + random.nextInt(50));
+            parts.add(SalesSummaryAggregate.of(orders.subList(cut, next), SalesSummaryAggregateTest::customerKey));
+            cut = next;
+        }
+        Collections.shuffle(parts, random);
+        SalesSummaryAggregate merged = new SalesSummaryAggregate();
+        parts.forEach(merged::merge);
+        return merged;
+    }
+
+    private static void assertMatches(BigDecimalTotals expected, SalesSummaryAggregate aggregate) {
+        assertThat(aggregate.getTotalOrders()).isEqualTo(expected.totalOrders);
+        assertThat(aggregate.getTotalRevenue()).isEqualByComparingTo(expected.totalRevenue);
+        assertThat(MoneyCents.average(aggregate.getTotalRevenueCents(), aggregate.getTotalOrders()))
+                .isEqualTo(expected.averageOrderValue());
+
+        Map<ItemCategory, BigDecimal> categories = aggregate.getSalesByCategory();
+        assertThat(categories.keySet()).isEqualTo(expected.salesByCategory.keySet());
+        expected.salesByCategory.forEach((category, revenue) ->
+                assertThat(categories.get(category)).as("category %s", category).isEqualByComparingTo(revenue));
+
+        List<SalesSummaryAggregate.ProductTotals> products = aggregate.getTopProducts(Integer.MAX_VALUE);
+        assertThat(products).hasSize(expected.productRevenue.size());
+        for (SalesSummaryAggregate.ProductTotals product : products) {
+            assertThat(product.getTotalRevenue()).as("product %s", product.getProductId())
+                    .isEqualByComparingTo(expected.productRevenue.get(product.getProductId()));
+        }
+
+        List<SalesSummaryAggregate.EmployeeTotals> employees = aggregate.getEmployeesByRevenue();
+        assertThat(employees).hasSize(expected.employeeRevenue.size());
+        for (int i = 0; i < employees.size(); i++) {
+            SalesSummaryAggregate.EmployeeTotals employee = employees.get(i);
+            BigDecimal revenue = expected.employeeRevenue.get(employee.getEmployeeId());
+            assertThat(employee.getTotalRevenue()).as("employee %s", employee.getEmployeeId()).isEqualByComparingTo(revenue);
+            assertThat(MoneyCents.average(employee.getTotalRevenueCents(), employee.getTotalOrders()))
+                    .as("employee average %s", employee.getEmployeeId())
+                    .isEqualTo(revenue.divide(BigDecimal.valueOf(employee.getTotalOrders()), 2, RoundingMode.HALF_UP));
+            if (i > 0) {
+                assertThat(employees.get(i - 1).getTotalRevenue()).isGreaterThanOrEqualTo(employee.getTotalRevenue());
+            }
+        }
+    }
+
+    private static String customerKey(Order order) {
+        return "user:" + order.getUser().getId();
+    }
+
+    private static List<Order> randomOrders(Random random, int count, int productCount, int waiterCount) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            Product product = new Product();
+            product.setId((long) i + 1);
+            product.setName("Ürün " + (i + 1));
+            product.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            product.setPrice(BigDecimal.valueOf(500 + random.nextInt(120_000), 2));
+            products.add(product);
+        }
+        List<User> waiters = new ArrayList<>();
+        for (int i = 0; i < waiterCount; i++) {
+            User waiter = new User();
+            waiter.setId((long) i + 1);
+            waiter.setName("Garson " + (i + 1));
+            waiters.add(waiter);
+        }
+
+        List<Order> result = new ArrayList<>(count);
+        for (int o = 0; o < count; o++) {
+            Order order = new Order();
+            order.setId((long) o + 1);
+            order.setUser(waiters.get(random.nextInt(waiters.size())));
+            BigDecimal total = BigDecimal.ZERO;
+            int lines = 1 + random.nextInt(8);
+            for (int l = 0; l < lines; l++) {
+                Product product = products.get(random.nextInt(products.size()));
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProduct(product);
+                item.setQuantity(1 + random.nextInt(4));
+                // Fiyat snapshot'ı: ürün fiyatı sonradan değişmiş olabilir (kategori toplamı güncel fiyattan)
+                item.setUnitPrice(random.nextInt(10) == 0
+                        ? product.getPrice().add(BigDecimal.valueOf(random.nextInt(2_000), 2))
+                        : product.getPrice());
+                item.setTotalPrice(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+                order.getItems().add(item);
+                total = total.add(item.getTotalPrice());
+            }
+            order.setTotalPrice(total);
+            result.add(order);
+        }
+        return result;
+    }
+
+    /**
+     * Kuruşa geçmeden önceki SalesSummaryAggregate'in para hesapları (BigDecimal)
+     */
+    private static final class BigDecimalTotals {
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        int totalOrders;
+        final Map<Long, BigDecimal> productRevenue = new HashMap<>();
+        final Map<ItemCategory, BigDecimal> salesByCategory = new HashMap<>();
+        final Map<Long, BigDecimal> employeeRevenue = new HashMap<>();
+
+        static BigDecimalTotals of(List<Order> orders) {
+            BigDecimalTotals totals = new BigDecimalTotals();
+            for (Order order : orders) {
+                BigDecimal orderAmount = order.getTotalAmount();
+                totals.totalRevenue = totals.totalRevenue.add(orderAmount);
+                totals.totalOrders++;
+                for (OrderItem item : order.getItems()) {
+                    Product product = item.getProduct();
+                    totals.productRevenue.merge(product.getId(), item.getTotalPrice(), BigDecimal::add);
+                    BigDecimal categoryTotal = product.getPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+                    totals.salesByCategory.merge(product.getCategory(), categoryTotal, BigDecimal::add);
+                }
+                totals.employeeRevenue.merge(order.getUser().getId(), orderAmount, BigDecimal::add);
+            }
+            return totals;
+        }
+
+        BigDecimal averageOrderValue() {
+            return totalOrders > 0
+                    ? totalRevenue.divide(BigDecimal.valueOf(totalOrders), 2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+        }
+    }
+}
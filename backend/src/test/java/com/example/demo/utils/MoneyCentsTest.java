@@ -0,0 +1,109 @@
+package com.example.demo.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MoneyCents'in BigDecimal yoluyla aynı sonucu verdiğini sabit tohumlu rastgele girdilerle doğrular:
+ * scale 2 dönüşümleri, çok kalemli toplamlar, ortalama yuvarlaması ve taşma.
+ */
+class MoneyCentsTest {
+
+    private static final int ROUNDS = 10_000;
+
+    @Test
+    void convertsScaleTwoAmountsExactly() {
+        Random random = new Random(11);
+        for (int i = 0; i < ROUNDS; i++) {
+            // numeric(10,2) aralığı; scale 0, 1 ve 2 değerler ile sondaki sıfırlar (12.500) dahil
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(-99_999_999_99L, 99_999_999_99L), 2);
+            BigDecimal written = amount.setScale(random.nextInt(4), RoundingMode.DOWN).setScale(random.nextInt(3) + 2);
+
+            long cents = MoneyCents.of(written);
+
+            assertThat(MoneyCents.toBigDecimal(cents)).isEqualByComparingTo(written);
+            assertThat(MoneyCents.toBigDecimal(cents).scale()).isEqualTo(MoneyCents.SCALE);
+            assertThat(MoneyCents.parse(written.toPlainString())).isEqualTo(cents);
+            assertThat(MoneyCents.format(cents)).isEqualTo(written.setScale(MoneyCents.SCALE).toPlainString());
+        }
+    }
+
+    @Test
+    void rejectsSubCentAmountsInsteadOfRounding() {
+        Random random = new Random(13);
+        for (int i = 0; i < ROUNDS; i++) {
+            long thousandths = random.nextLong(-1_000_000_000L, 1_000_000_000L);
+            if (thousandths % 10 == 0) {
+                thousandths++;
+            }
+            BigDecimal amount = BigDecimal.valueOf(thousandths, 3);
+
+            assertThatThrownBy(() -> MoneyCents.of(amount)).isInstanceOf(ArithmeticException.class);
+        }
+    }
+
+    @Test
+    void treatsNullAndBlankAsZero() {
+        assertThat(MoneyCents.of(null)).isZero();
+        assertThat(MoneyCents.parse(null)).isZero();
+        assertThat(MoneyCents.parse(" ")).isZero();
+        assertThat(MoneyCents.parse(" 12.5 ")).isEqualTo(1250);
+    }
+
+    @Test
+    void sumsOfManyLinesMatchBigDecimal() {
+        Random random = new Random(17);
+        for (int round = 0; round < 200; round++) {
+            BigDecimal expected = BigDecimal.ZERO;
+            long cents = 0;
+            int lines = 1 + random.nextInt(5_000);
+            for (int i = 0; i < lines; i++) {
+                BigDecimal price = BigDecimal.valueOf(1 + random.nextInt(200_000), 2);
+                int quantity = 1 + random.nextInt(20);
+
+                expected = expected.add(price.multiply(BigDecimal.valueOf(quantity)));
+                cents = MoneyCents.add(cents, MoneyCents.times(MoneyCents.of(price), quantity));
+            }
+
+            assertThat(MoneyCents.toBigDecimal(cents)).isEqualByComparingTo(expected);
+        }
+    }
+
+    @Test
+    void averageRoundsHalfUpLikeBigDecimal() {
+        Random random = new Random(19);
+        for (int i = 0; i < ROUNDS; i++) {
+            long cents = random.nextLong(0, 10_000_000_000L);
+            long count = 1 + random.nextInt(i % 2 == 0 ? 10 : 100_000);
+            BigDecimal expected = BigDecimal.valueOf(cents, 2).divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+
+            assertThat(MoneyCents.average(cents, count)).isEqualTo(expected);
+        }
+        // Tam yarım: 0.05 / 2 = 0.025 -> 0.03
+        assertThat(MoneyCents.average(5, 2)).isEqualTo(new BigDecimal("0.03"));
+        assertThat(MoneyCents.average(1234, 0)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void overflowRaisesArithmeticException() {
+        Random random = new Random(23);
+        for (int i = 0; i < ROUNDS; i++) {
+            long a = random.nextLong(Long.MAX_VALUE / 2 + 1, Long.MAX_VALUE);
+            long b = random.nextLong(Long.MAX_VALUE - a + 2, Long.MAX_VALUE);
+            long quantity = 2 + random.nextInt(1_000);
+            long price = random.nextLong(Long.MAX_VALUE / quantity + 1, Long.MAX_VALUE);
+
+            assertThatThrownBy(() -> MoneyCents.add(a, b)).isInstanceOf(ArithmeticException.class);
+            assertThatThrownBy(() -> MoneyCents.add(-a, -b)).isInstanceOf(ArithmeticException.class);
+            assertThatThrownBy(() -> MoneyCents.times(price, quantity)).isInstanceOf(ArithmeticException.class);
+        }
+        BigDecimal tooLarge = BigDecimal.valueOf(Long.MAX_VALUE, 2).add(new BigDecimal("0.01"));
+        assertThatThrownBy(() -> MoneyCents.of(tooLarge)).isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,173 @@
+-- SQL bütçesi testleri için taban şema: db/migration'dan önce var olan tablolar (V1..V9 bunları oluşturmaz,
+-- üzerine kurulur). Rezervasyonlar V2 öncesi hâlinde (reservation_time metin) tutulur ki gerçek migration'lar
+-- sırasıyla uygulanabilsin. Test profili ddl-auto=validate ile çalışır: entity'lerle uyuşmazlık context'i düşürür.
+
+CREATE TABLE table_statuses (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE roles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) UNIQUE
+);
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(20),
+    photo_blob BYTEA,
+    is_active BOOLEAN,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL REFERENCES users,
+    role_id BIGINT NOT NULL REFERENCES roles,
+    PRIMARY KEY (role_id, user_id)
+);
+
+CREATE TABLE reset_tokens (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users,
+    token VARCHAR(255) NOT NULL UNIQUE,
+    token_type VARCHAR(255) NOT NULL
+        CHECK (token_type IN ('PASSWORD_RESET', 'EMAIL_VERIFICATION', 'ACCOUNT_ACTIVATION')),
+    used BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE salons (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    capacity INTEGER NOT NULL,
+    total_tables INTEGER NOT NULL
+);
+
+CREATE TABLE dining_tables (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    table_number INTEGER UNIQUE,
+    capacity INTEGER,
+    status_id BIGINT NOT NULL REFERENCES table_statuses,
+    salon_id BIGINT REFERENCES salons
+);
+
+CREATE TABLE products (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    price NUMERIC(10,2) NOT NULL,
+    category VARCHAR(255),
+    is_active BOOLEAN
+);
+
+CREATE TABLE stocks (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    unit VARCHAR(255) NOT NULL CHECK (unit IN ('L', 'KG', 'ADET')),
+    stock_quantity NUMERIC(10,4) NOT NULL,
+    min_quantity NUMERIC(10,4) NOT NULL
+);
+
+CREATE TABLE product_ingredients (
+    product_id BIGINT NOT NULL REFERENCES products,
+    stock_id BIGINT NOT NULL REFERENCES stocks,
+    quantity_per_unit NUMERIC(10,4),
+    PRIMARY KEY (product_id, stock_id)
+);
+
+CREATE TABLE stock_movements (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    stock_id BIGINT NOT NULL REFERENCES stocks,
+    change NUMERIC(10,4) NOT NULL,
+    reason VARCHAR(255) NOT NULL,
+    note VARCHAR(500),
+    timestamp TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE stock_movement_summary (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    stock_id BIGINT NOT NULL REFERENCES stocks,
+    movement_date DATE NOT NULL,
+    quantity INTEGER NOT NULL
+);
+
+CREATE TABLE orders (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    table_id BIGINT REFERENCES dining_tables,
+    user_id BIGINT REFERENCES users,
+    total_price NUMERIC(10,2) NOT NULL,
+    is_completed BOOLEAN NOT NULL,
+    version BIGINT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE order_items (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id BIGINT REFERENCES orders,
+    product_id BIGINT REFERENCES products,
+    quantity INTEGER NOT NULL,
+    unit_price NUMERIC(10,2) NOT NULL,
+    total_price NUMERIC(10,2) NOT NULL,
+    note VARCHAR(500)
+);
+
+CREATE TABLE payments (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id BIGINT NOT NULL REFERENCES orders,
+    cashier_id BIGINT NOT NULL REFERENCES users,
+    amount NUMERIC(10,2) NOT NULL,
+    method VARCHAR(10) NOT NULL CHECK (method IN ('CASH', 'POS')),
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+-- V2, reservation_time'ı 'yyyy-MM-dd HH:mm' metninden reservation_date + reservation_time'a böler
+CREATE TABLE reservations (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_name VARCHAR(100) NOT NULL,
+    customer_phone VARCHAR(255) NOT NULL,
+    email VARCHAR(255),
+    reservation_time VARCHAR(255) NOT NULL,
+    person_count INTEGER CHECK (person_count >= 1 AND person_count <= 20),
+    special_requests VARCHAR(500),
+    status_id INTEGER NOT NULL,
+    table_id BIGINT NOT NULL REFERENCES dining_tables,
+    created_by BIGINT NOT NULL REFERENCES users,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE activity_logs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT REFERENCES users,
+    action_type VARCHAR(255) NOT NULL,
+    entity_type VARCHAR(255) NOT NULL,
+    entity_id BIGINT,
+    details JSONB,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+-- customer_sketch V4 ile eklenir
+CREATE TABLE daily_sales_summary (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    report_date DATE NOT NULL,
+    report_type VARCHAR(255) NOT NULL,
+    period_start_date DATE,
+    period_end_date DATE,
+    total_orders INTEGER,
+    total_revenue NUMERIC(38,2),
+    average_order_value NUMERIC(38,2),
+    total_customers INTEGER,
+    total_reservations INTEGER,
+    top_products_count INTEGER,
+    most_popular_item_id BIGINT REFERENCES products,
+    least_popular_item_id BIGINT REFERENCES products,
+    top_products_json TEXT,
+    sales_by_category TEXT,
+    employee_performance TEXT,
+    CONSTRAINT uq_daily_sales_summary_date_type UNIQUE (report_date, report_type)
+);
@@ -0,0 +1,36 @@
+-- SQL bütçesi testleri için seed (Flyway afterMigrate callback'i, bütün migration'lardan sonra çalışır):
+-- referans veriler (ReferenceDataRegistry self-check'i) ve küçük bir salon.
+-- Rol id'leri UserRolesEnum sırasıdır, RESERVED masa durumu daima 3'tür.
+INSERT INTO table_statuses (id, name) VALUES (1, 'AVAILABLE'), (2, 'OCCUPIED'), (3, 'RESERVED');
+INSERT INTO roles (id, name) VALUES (0, 'admin'), (1, 'waiter'), (2, 'cashier');
+
+INSERT INTO restaurant_settings (restaurant_name, open_time, close_time, last_reservation_cutoff_minutes, created_at, updated_at)
+VALUES ('Test Restoran', '09:00', '23:30', 60, now(), now());
+
+INSERT INTO users (id, name, email, password_hash, is_active, created_at) VALUES
+    (1, 'Admin', 'admin@test.local', 'x', true, now()),
+    (2, 'Garson', 'waiter@test.local', 'x', true, now());
+INSERT INTO user_roles (user_id, role_id) VALUES (1, 0), (2, 1);
+
+INSERT INTO salons (id, name, capacity, total_tables) VALUES (1, 'Ana Salon', 24, 6);
+INSERT INTO dining_tables (id, table_number, status_id, capacity, salon_id) VALUES
+    (1, 1, 1, 4, 1), (2, 2, 1, 4, 1), (3, 3, 1, 4, 1), (4, 4, 1, 4, 1), (5, 5, 1, 4, 1), (6, 6, 1, 4, 1);
+
+INSERT INTO products (id, name, price, is_active, category) VALUES
+    (1, 'Mercimek Çorbası', 90.00, true, 'appetizer'),
+    (2, 'Izgara Köfte', 320.00, true, 'main_dishes'),
+    (3, 'Ayran', 40.00, true, 'drinks'),
+    (4, 'Künefe', 180.00, true, 'desserts');
+
+INSERT INTO stocks (id, name, unit, stock_quantity, min_quantity) VALUES
+    (1, 'Mercimek', 'KG', 100000, 10), (2, 'Kıyma', 'KG', 100000, 10), (3, 'Yoğurt', 'L', 100000, 10);
+INSERT INTO product_ingredients (product_id, stock_id, quantity_per_unit) VALUES
+    (1, 1, 0.1000), (2, 2, 0.1800), (3, 3, 0.2000), (4, 3, 0.0500);
+
+-- Açık id'lerle eklenen tablolarda identity sayaçları ileri alınır
+SELECT setval(pg_get_serial_sequence('users', 'id'), 100);
+SELECT setval(pg_get_serial_sequence('salons', 'id'), 100);
+SELECT setval(pg_get_serial_sequence('dining_tables', 'id'), 100);
+SELECT setval(pg_get_serial_sequence('products', 'id'), 100);
+SELECT setval(pg_get_serial_sequence('table_statuses', 'id'), 100);
+SELECT setval(pg_get_serial_sequence('roles', 'id'), 100);